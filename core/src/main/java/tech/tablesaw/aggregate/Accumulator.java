@@ -0,0 +1,37 @@
+package tech.tablesaw.aggregate;
+
+import tech.tablesaw.columns.Column;
+
+/**
+ * The running state of an {@link AggregateFunction} computed over many groups of rows at once.
+ *
+ * <p>The rows of a column are fed in ascending row order, each with the id of the group it belongs
+ * to, and the state of every group is kept in primitive arrays indexed by group id. Memory use
+ * therefore depends on the number of groups, not on the number of rows. Two accumulators of the
+ * same function that have seen consecutive ranges of rows can be merged, so a column can be split
+ * into ranges that are accumulated separately.
+ *
+ * @param <OUT> the type of the results, as returned by {@link AggregateFunction#summarize(Column)}
+ */
+public interface Accumulator<OUT> {
+
+  /**
+   * Adds the values of the rows from fromRow (inclusive) to toRow (exclusive) of the given column,
+   * each to the group given for that row in groupIds
+   */
+  void accumulate(Column<?> column, int[] groupIds, int fromRow, int toRow);
+
+  /** Adds every row of the given column to the group given for that row in groupIds */
+  default void accumulate(Column<?> column, int[] groupIds) {
+    accumulate(column, groupIds, 0, column.size());
+  }
+
+  /**
+   * Folds the state of another accumulator for the same function and the same groups into this one.
+   * The rows seen by the other accumulator must all come after the rows seen by this one.
+   */
+  void merge(Accumulator<OUT> other);
+
+  /** Returns the value of the function over the rows added to the given group */
+  OUT result(int group);
+}
@@ -0,0 +1,479 @@
+package tech.tablesaw.aggregate;
+
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.numbers.DoubleColumnType;
+
+/**
+ * The {@link Accumulator}s behind the pre-defined functions in {@link AggregateFunctions}. Numeric
+ * accumulators skip missing values, which read as NaN, exactly as the functions themselves do.
+ */
+final class Accumulators {
+
+  private Accumulators() {}
+
+  /** Returns an accumulator for the sum of the values in each group */
+  static Accumulator<Double> sum(int groupCount) {
+    return new Sums(groupCount, false);
+  }
+
+  /** Returns an accumulator for the sum of the squares of the values in each group */
+  static Accumulator<Double> sumOfSquares(int groupCount) {
+    return new Sums(groupCount, true);
+  }
+
+  /** Returns an accumulator for the mean of the values in each group */
+  static Accumulator<Double> mean(int groupCount) {
+    return new Mean(groupCount);
+  }
+
+  /** Returns an accumulator for the smallest value in each group */
+  static Accumulator<Double> min(int groupCount) {
+    return new Extremes(groupCount) {
+      @Override
+      public Double result(int group) {
+        return counts[group] == 0 ? DoubleColumnType.missingValueIndicator() : mins[group];
+      }
+    };
+  }
+
+  /** Returns an accumulator for the largest value in each group */
+  static Accumulator<Double> max(int groupCount) {
+    return new Extremes(groupCount) {
+      @Override
+      public Double result(int group) {
+        return counts[group] == 0 ? DoubleColumnType.missingValueIndicator() : maxes[group];
+      }
+    };
+  }
+
+  /** Returns an accumulator for the difference between the largest and smallest value of a group */
+  static Accumulator<Double> range(int groupCount) {
+    return new Extremes(groupCount) {
+      @Override
+      public Double result(int group) {
+        return counts[group] == 0
+            ? DoubleColumnType.missingValueIndicator()
+            : maxes[group] - mins[group];
+      }
+    };
+  }
+
+  /** Returns an accumulator for the sample variance of the values in each group */
+  static Accumulator<Double> variance(int groupCount) {
+    return new Moments(groupCount) {
+      @Override
+      public Double result(int group) {
+        return sampleVariance(group);
+      }
+    };
+  }
+
+  /** Returns an accumulator for the sample standard deviation of the values in each group */
+  static Accumulator<Double> stdDev(int groupCount) {
+    return new Moments(groupCount) {
+      @Override
+      public Double result(int group) {
+        return Math.sqrt(sampleVariance(group));
+      }
+    };
+  }
+
+  /** Returns an accumulator for the population variance of the values in each group */
+  static Accumulator<Double> populationVariance(int groupCount) {
+    return new Moments(groupCount) {
+      @Override
+      public Double result(int group) {
+        return counts[group] == 0
+            ? DoubleColumnType.missingValueIndicator()
+            : squaredDeviations(group) / counts[group];
+      }
+    };
+  }
+
+  /** Returns an accumulator for the first value in each group, which may be missing */
+  static Accumulator<Double> first(int groupCount) {
+    return new Positional(groupCount, false);
+  }
+
+  /** Returns an accumulator for the last value in each group, which may be missing */
+  static Accumulator<Double> last(int groupCount) {
+    return new Positional(groupCount, true);
+  }
+
+  /** Returns an accumulator for the number of non-missing values in each group */
+  static Accumulator<Integer> countNonMissing(int groupCount) {
+    return new Count(groupCount, Counted.NON_MISSING);
+  }
+
+  /** Returns an accumulator for the number of missing values in each group */
+  static Accumulator<Integer> countMissing(int groupCount) {
+    return new Count(groupCount, Counted.MISSING);
+  }
+
+  /** Returns an accumulator for the number of values in each group, including missing values */
+  static Accumulator<Integer> countWithMissing(int groupCount) {
+    return new Count(groupCount, Counted.ALL);
+  }
+
+  /**
+   * A running sum, or sum of squares, of the values added to each group. The values are summed in
+   * row order without compensation, like {@link AggregateFunctions#sum} does, and a group without
+   * values sums to 0.
+   */
+  private static final class Sums implements Accumulator<Double> {
+
+    private final boolean squared;
+    private final double[] sums;
+
+    Sums(int groupCount, boolean squared) {
+      this.squared = squared;
+      this.sums = new double[groupCount];
+    }
+
+    @Override
+    public void accumulate(Column<?> column, int[] groupIds, int fromRow, int toRow) {
+      NumericColumn<?> numbers = (NumericColumn<?>) column;
+      for (int row = fromRow; row < toRow; row++) {
+        double value = numbers.getDouble(row);
+        if (!Double.isNaN(value)) {
+          sums[groupIds[row]] += squared ? value * value : value;
+        }
+      }
+    }
+
+    @Override
+    public void merge(Accumulator<Double> other) {
+      Sums that = (Sums) other;
+      for (int group = 0; group < sums.length; group++) {
+        sums[group] += that.sums[group];
+      }
+    }
+
+    @Override
+    public Double result(int group) {
+      return sums[group];
+    }
+  }
+
+  /**
+   * The mean of the values added to each group, computed exactly as {@link
+   * org.apache.commons.math3.stat.StatUtils#mean(double[])} computes it for the group's values in
+   * row order: their sum divided by their count, corrected by the mean of their differences from
+   * that quotient. That takes two passes over the rows, so only the range of rows added is kept,
+   * and the means are computed when a result is first asked for.
+   */
+  private static final class Mean implements Accumulator<Double> {
+
+    private final int groupCount;
+    private NumericColumn<?> column;
+    private int[] groupIds;
+    private int fromRow;
+    private int toRow;
+    private double[] means;
+
+    Mean(int groupCount) {
+      this.groupCount = groupCount;
+    }
+
+    @Override
+    public void accumulate(Column<?> column, int[] groupIds, int fromRow, int toRow) {
+      add((NumericColumn<?>) column, groupIds, fromRow, toRow);
+    }
+
+    /** Extends the range of rows added, which the rows given must follow on from */
+    private void add(NumericColumn<?> column, int[] groupIds, int fromRow, int toRow) {
+      if (this.column == null) {
+        this.column = column;
+        this.groupIds = groupIds;
+        this.fromRow = fromRow;
+      } else if (column != this.column || groupIds != this.groupIds || fromRow != this.toRow) {
+        throw new IllegalArgumentException(
+            "The rows added to a mean accumulator must follow on from the rows added before");
+      }
+      this.toRow = toRow;
+      means = null;
+    }
+
+    @Override
+    public void merge(Accumulator<Double> other) {
+      Mean that = (Mean) other;
+      if (that.column != null) {
+        add(that.column, that.groupIds, that.fromRow, that.toRow);
+      }
+    }
+
+    @Override
+    public Double result(int group) {
+      if (means == null) {
+        means = means();
+      }
+      return means[group];
+    }
+
+    private double[] means() {
+      double[] sums = new double[groupCount];
+      int[] counts = new int[groupCount];
+      for (int row = fromRow; row < toRow; row++) {
+        double value = column.getDouble(row);
+        if (!Double.isNaN(value)) {
+          sums[groupIds[row]] += value;
+          counts[groupIds[row]]++;
+        }
+      }
+      double[] means = new double[groupCount];
+      for (int group = 0; group < groupCount; group++) {
+        means[group] =
+            counts[group] == 0
+                ? DoubleColumnType.missingValueIndicator()
+                : sums[group] / counts[group];
+      }
+      double[] corrections = new double[groupCount];
+      for (int row = fromRow; row < toRow; row++) {
+        double value = column.getDouble(row);
+        if (!Double.isNaN(value)) {
+          corrections[groupIds[row]] += value - means[groupIds[row]];
+        }
+      }
+      for (int group = 0; group < groupCount; group++) {
+        if (counts[group] > 0) {
+          means[group] += corrections[group] / counts[group];
+        }
+      }
+      return means;
+    }
+  }
+
+  /** The smallest and largest value added to each group */
+  private abstract static class Extremes implements Accumulator<Double> {
+
+    final double[] mins;
+    final double[] maxes;
+    final int[] counts;
+
+    Extremes(int groupCount) {
+      this.mins = new double[groupCount];
+      this.maxes = new double[groupCount];
+      this.counts = new int[groupCount];
+    }
+
+    @Override
+    public void accumulate(Column<?> column, int[] groupIds, int fromRow, int toRow) {
+      NumericColumn<?> numbers = (NumericColumn<?>) column;
+      for (int row = fromRow; row < toRow; row++) {
+        double value = numbers.getDouble(row);
+        if (!Double.isNaN(value)) {
+          add(groupIds[row], value, value, 1);
+        }
+      }
+    }
+
+    private void add(int group, double min, double max, int count) {
+      if (counts[group] == 0) {
+        mins[group] = min;
+        maxes[group] = max;
+      } else {
+        mins[group] = Math.min(mins[group], min);
+        maxes[group] = Math.max(maxes[group], max);
+      }
+      counts[group] += count;
+    }
+
+    @Override
+    public void merge(Accumulator<Double> other) {
+      Extremes that = (Extremes) other;
+      for (int group = 0; group < counts.length; group++) {
+        if (that.counts[group] > 0) {
+          add(group, that.mins[group], that.maxes[group], that.counts[group]);
+        }
+      }
+    }
+  }
+
+  /**
+   * The count of the values added to each group, with the sum of their differences from the first
+   * value of the group and the sum of the squares of those differences. Both sums are compensated
+   * for rounding, so the variance comes out as accurate as when computed in two passes.
+   */
+  private abstract static class Moments implements Accumulator<Double> {
+
+    final int[] counts;
+
+    /** The first value of each group, which the others are taken relative to */
+    private final double[] shifts;
+
+    private final double[] deviations;
+    private final double[] deviationErrors;
+    private final double[] squares;
+    private final double[] squareErrors;
+
+    Moments(int groupCount) {
+      this.counts = new int[groupCount];
+      this.shifts = new double[groupCount];
+      this.deviations = new double[groupCount];
+      this.deviationErrors = new double[groupCount];
+      this.squares = new double[groupCount];
+      this.squareErrors = new double[groupCount];
+    }
+
+    @Override
+    public void accumulate(Column<?> column, int[] groupIds, int fromRow, int toRow) {
+      NumericColumn<?> numbers = (NumericColumn<?>) column;
+      for (int row = fromRow; row < toRow; row++) {
+        double value = numbers.getDouble(row);
+        if (!Double.isNaN(value)) {
+          int group = groupIds[row];
+          if (counts[group]++ == 0) {
+            shifts[group] = value;
+          } else {
+            double deviation = value - shifts[group];
+            addCompensated(deviations, deviationErrors, group, deviation);
+            addCompensated(squares, squareErrors, group, deviation * deviation);
+          }
+        }
+      }
+    }
+
+    @Override
+    public void merge(Accumulator<Double> other) {
+      Moments that = (Moments) other;
+      for (int group = 0; group < counts.length; group++) {
+        int otherCount = that.counts[group];
+        if (otherCount == 0) {
+          continue;
+        }
+        if (counts[group] == 0) {
+          shifts[group] = that.shifts[group];
+        }
+        // Move the other sums from the other shift to this one
+        double shift = that.shifts[group] - shifts[group];
+        double otherDeviations = that.deviations[group] + that.deviationErrors[group];
+        double otherSquares = that.squares[group] + that.squareErrors[group];
+        addCompensated(deviations, deviationErrors, group, otherDeviations);
+        addCompensated(deviations, deviationErrors, group, otherCount * shift);
+        addCompensated(squares, squareErrors, group, otherSquares);
+        addCompensated(squares, squareErrors, group, 2 * shift * otherDeviations);
+        addCompensated(squares, squareErrors, group, otherCount * shift * shift);
+        counts[group] += otherCount;
+      }
+    }
+
+    /** Returns the sum of the squared differences between the values of a group and their mean */
+    double squaredDeviations(int group) {
+      double sum = deviations[group] + deviationErrors[group];
+      double sumOfSquares = squares[group] + squareErrors[group];
+      return Math.max(0.0, sumOfSquares - sum * sum / counts[group]);
+    }
+
+    /** Returns the bias-corrected variance, which is 0 for a single value */
+    double sampleVariance(int group) {
+      int count = counts[group];
+      if (count == 0) {
+        return DoubleColumnType.missingValueIndicator();
+      }
+      return count == 1 ? 0.0 : squaredDeviations(group) / (count - 1);
+    }
+  }
+
+  /** The first or the last value seen in each group */
+  private static final class Positional implements Accumulator<Double> {
+
+    private final boolean last;
+    private final double[] values;
+    private final boolean[] seen;
+
+    Positional(int groupCount, boolean last) {
+      this.last = last;
+      this.values = new double[groupCount];
+      this.seen = new boolean[groupCount];
+    }
+
+    @Override
+    public void accumulate(Column<?> column, int[] groupIds, int fromRow, int toRow) {
+      NumericColumn<?> numbers = (NumericColumn<?>) column;
+      for (int row = fromRow; row < toRow; row++) {
+        int group = groupIds[row];
+        if (last || !seen[group]) {
+          values[group] = numbers.getDouble(row);
+          seen[group] = true;
+        }
+      }
+    }
+
+    @Override
+    public void merge(Accumulator<Double> other) {
+      Positional that = (Positional) other;
+      for (int group = 0; group < values.length; group++) {
+        if (that.seen[group] && (last || !seen[group])) {
+          values[group] = that.values[group];
+          seen[group] = true;
+        }
+      }
+    }
+
+    @Override
+    public Double result(int group) {
+      return seen[group] ? values[group] : DoubleColumnType.missingValueIndicator();
+    }
+  }
+
+  /** The values counted by a {@link Count} */
+  private enum Counted {
+    ALL,
+    MISSING,
+    NON_MISSING
+  }
+
+  /** The number of rows of each group, of all rows or only of the missing or non-missing ones */
+  private static final class Count implements Accumulator<Integer> {
+
+    private final Counted counted;
+    private final int[] counts;
+
+    Count(int groupCount, Counted counted) {
+      this.counted = counted;
+      this.counts = new int[groupCount];
+    }
+
+    @Override
+    public void accumulate(Column<?> column, int[] groupIds, int fromRow, int toRow) {
+      if (counted == Counted.ALL) {
+        for (int row = fromRow; row < toRow; row++) {
+          counts[groupIds[row]]++;
+        }
+        return;
+      }
+      boolean missing = counted == Counted.MISSING;
+      for (int row = fromRow; row < toRow; row++) {
+        if (column.isMissing(row) == missing) {
+          counts[groupIds[row]]++;
+        }
+      }
+    }
+
+    @Override
+    public void merge(Accumulator<Integer> other) {
+      Count that = (Count) other;
+      for (int group = 0; group < counts.length; group++) {
+        counts[group] += that.counts[group];
+      }
+    }
+
+    @Override
+    public Integer result(int group) {
+      return counts[group];
+    }
+  }
+
+  /**
+   * Adds a value to the running sum of a group with Neumaier's compensated summation, keeping the
+   * low-order bits lost from the sum in errors
+   */
+  private static void addCompensated(double[] sums, double[] errors, int group, double value) {
+    double sum = sums[group];
+    double total = sum + value;
+    errors[group] +=
+        Math.abs(sum) >= Math.abs(value) ? (sum - total) + value : (value - total) + sum;
+    sums[group] = total;
+  }
+}
@@ -28,6 +28,15 @@ public abstract class AggregateFunction<INCOL extends Column<?>, OUT> {
     return functionName();
   }
 
+  /**
+   * Returns a new accumulator that computes this function for the given number of groups in a
+   * single pass over a column, or null if the function needs all the values of a group at once. The
+   * accumulator gives the same results as {@link #summarize(Column)}, up to rounding.
+   */
+  public Accumulator<OUT> accumulator(int groupCount) {
+    return null;
+  }
+
   /** Returns true if the given {@link ColumnType} is compatible with this function */
   public abstract boolean isCompatibleColumn(ColumnType type);
 
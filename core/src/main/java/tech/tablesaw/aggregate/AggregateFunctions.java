@@ -181,6 +181,11 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return column.isEmpty() ? DoubleColumnType.missingValueIndicator() : column.getDouble(0);
         }
+
+        @Override
+        public Accumulator<Double> accumulator(int groupCount) {
+          return Accumulators.first(groupCount);
+        }
       };
 
   /**
@@ -196,6 +201,11 @@ public class AggregateFunctions {
               ? DoubleColumnType.missingValueIndicator()
               : column.getDouble(column.size() - 1);
         }
+
+        @Override
+        public Accumulator<Double> accumulator(int groupCount) {
+          return Accumulators.last(groupCount);
+        }
       };
 
   /**
@@ -239,6 +249,11 @@ public class AggregateFunctions {
         public Integer summarize(Column<?> column) {
           return column.size() - column.countMissing();
         }
+
+        @Override
+        public Accumulator<Integer> accumulator(int groupCount) {
+          return Accumulators.countNonMissing(groupCount);
+        }
       };
 
   /**
@@ -258,6 +273,11 @@ public class AggregateFunctions {
         public Integer summarize(Column<?> column) {
           return column.countMissing();
         }
+
+        @Override
+        public Accumulator<Integer> accumulator(int groupCount) {
+          return Accumulators.countMissing(groupCount);
+        }
       };
 
   /**
@@ -284,6 +304,11 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.mean(removeMissing(column));
         }
+
+        @Override
+        public Accumulator<Double> accumulator(int groupCount) {
+          return Accumulators.mean(groupCount);
+        }
       };
 
   /**
@@ -311,6 +336,11 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.sum(removeMissing(column));
         }
+
+        @Override
+        public Accumulator<Double> accumulator(int groupCount) {
+          return Accumulators.sum(groupCount);
+        }
       };
 
   /**
@@ -337,6 +367,11 @@ public class AggregateFunctions {
         public Integer summarize(Column<?> column) {
           return column.size();
         }
+
+        @Override
+        public Accumulator<Integer> accumulator(int groupCount) {
+          return Accumulators.countWithMissing(groupCount);
+        }
       };
 
   /**
@@ -416,6 +451,11 @@ public class AggregateFunctions {
           double[] data = removeMissing(column);
           return StatUtils.max(data) - StatUtils.min(data);
         }
+
+        @Override
+        public Accumulator<Double> accumulator(int groupCount) {
+          return Accumulators.range(groupCount);
+        }
       };
 
   /**
@@ -429,6 +469,11 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.min(removeMissing(column));
         }
+
+        @Override
+        public Accumulator<Double> accumulator(int groupCount) {
+          return Accumulators.min(groupCount);
+        }
       };
 
   /**
@@ -442,6 +487,11 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.max(removeMissing(column));
         }
+
+        @Override
+        public Accumulator<Double> accumulator(int groupCount) {
+          return Accumulators.max(groupCount);
+        }
       };
 
   /**
@@ -481,6 +531,11 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.populationVariance(removeMissing(column));
         }
+
+        @Override
+        public Accumulator<Double> accumulator(int groupCount) {
+          return Accumulators.populationVariance(groupCount);
+        }
       };
 
   /**
@@ -538,6 +593,11 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return StatUtils.sumSq(removeMissing(column));
         }
+
+        @Override
+        public Accumulator<Double> accumulator(int groupCount) {
+          return Accumulators.sumOfSquares(groupCount);
+        }
       };
 
   /**
@@ -563,6 +623,11 @@ public class AggregateFunctions {
           double[] values = removeMissing(column);
           return StatUtils.variance(values);
         }
+
+        @Override
+        public Accumulator<Double> accumulator(int groupCount) {
+          return Accumulators.variance(groupCount);
+        }
       };
 
   /**
@@ -576,6 +641,11 @@ public class AggregateFunctions {
         public Double summarize(NumericColumn<?> column) {
           return Math.sqrt(StatUtils.variance(removeMissing(column)));
         }
+
+        @Override
+        public Accumulator<Double> accumulator(int groupCount) {
+          return Accumulators.stdDev(groupCount);
+        }
       };
 
   /** @deprecated use {@link #stdDev} instead */
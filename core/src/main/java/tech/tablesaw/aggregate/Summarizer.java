@@ -18,8 +18,10 @@ import static tech.tablesaw.api.QuerySupport.numberColumn;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import tech.tablesaw.api.CategoricalColumn;
@@ -49,6 +51,8 @@ public class Summarizer {
   private final List<String> summarizedColumns = new ArrayList<>();
   private final AggregateFunction<?, ?>[] reductions;
   private static final String GROUP_COL_TEMP_NAME = "_temp_group_col_";
+  private int parallelism = 1;
+  private ForkJoinPool pool;
 
   /**
    * Returns an object capable of summarizing the given column in the given sourceTable, by applying
@@ -146,6 +150,37 @@ public class Summarizer {
     this.reductions = functions;
   }
 
+  /**
+   * Sets the number of threads used to compute grouped summaries. With more than one, the rows are
+   * split into ranges that are accumulated concurrently on a pool created for each summary, and the
+   * partial results are merged at the end. Only functions with an {@link Accumulator}, like sum,
+   * mean, min, max and variance, run in parallel; others, like median, are computed group by group
+   * on the calling thread. The default is 1.
+   *
+   * @param parallelism The maximum number of threads to use
+   * @return this summarizer
+   */
+  public Summarizer parallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException(
+          "The parallelism must be at least 1, but was " + parallelism);
+    }
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * Computes grouped summaries on the given pool, using as many threads as its parallelism. This
+   * takes precedence over {@link #parallelism(int)}. The pool is not shut down by the summarizer.
+   *
+   * @param pool The pool to run on, or null to go back to using {@link #parallelism(int)}
+   * @return this summarizer
+   */
+  public Summarizer pool(ForkJoinPool pool) {
+    this.pool = pool;
+    return this;
+  }
+
   /**
    * Similar in intent to the SQL "group by" statement, it produces a table with one row for each
    * subgroup of the output data containing the result of applying the summary functions to the
@@ -315,13 +350,17 @@ public class Summarizer {
     ArrayListMultimap<String, AggregateFunction<?, ?>> reductionMultimap =
         getAggregateFunctionMultimap();
 
-    for (String name : reductionMultimap.keys()) {
-      List<AggregateFunction<?, ?>> reductions = reductionMultimap.get(name);
-      Table groupTable = group.aggregate(name, reductions.toArray(new AggregateFunction<?, ?>[0]));
-      groupTable = groupTable.where(selectionFunction);
-      if (!groupTable.isEmpty()) {
-        results.add(groupTable);
+    ForkJoinPool summaryPool = summaryPool();
+    try {
+      for (String name : reductionMultimap.keySet()) {
+        Table groupTable = aggregate(group, name, reductionMultimap.get(name), summaryPool);
+        groupTable = groupTable.where(selectionFunction);
+        if (!groupTable.isEmpty()) {
+          results.add(groupTable);
+        }
       }
+    } finally {
+      shutdownIfOwned(summaryPool);
     }
     return combineTables(results);
   }
@@ -366,13 +405,46 @@ public class Summarizer {
     ArrayListMultimap<String, AggregateFunction<?, ?>> reductionMultimap =
         getAggregateFunctionMultimap();
 
-    for (String name : reductionMultimap.keys()) {
-      List<AggregateFunction<?, ?>> reductions = reductionMultimap.get(name);
-      results.add(group.aggregate(name, reductions.toArray(new AggregateFunction<?, ?>[0])));
+    ForkJoinPool summaryPool = summaryPool();
+    try {
+      for (String name : reductionMultimap.keySet()) {
+        results.add(aggregate(group, name, reductionMultimap.get(name), summaryPool));
+      }
+    } finally {
+      shutdownIfOwned(summaryPool);
     }
     return combineTables(results);
   }
 
+  /** Applies the given functions to the named column of every slice in the group */
+  private Table aggregate(
+      TableSliceGroup group,
+      String columnName,
+      List<AggregateFunction<?, ?>> functions,
+      ForkJoinPool summaryPool) {
+    ListMultimap<String, AggregateFunction<?, ?>> columnFunctions = ArrayListMultimap.create();
+    columnFunctions.putAll(columnName, functions);
+    return group.aggregate(columnFunctions, summaryPool);
+  }
+
+  /**
+   * Returns the pool to compute a summary on: the configured one, a new one if more than one thread
+   * was asked for, or null to run on the calling thread
+   */
+  private ForkJoinPool summaryPool() {
+    if (pool != null) {
+      return pool;
+    }
+    return parallelism == 1 ? null : new ForkJoinPool(parallelism);
+  }
+
+  /** Shuts down the given pool if it was created for a single summary */
+  private void shutdownIfOwned(ForkJoinPool summaryPool) {
+    if (summaryPool != null && summaryPool != pool) {
+      summaryPool.shutdown();
+    }
+  }
+
   private ArrayListMultimap<String, AggregateFunction<?, ?>> getAggregateFunctionMultimap() {
     ArrayListMultimap<String, AggregateFunction<?, ?>> reductionMultimap =
         ArrayListMultimap.create();
@@ -347,6 +347,20 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
     return new BooleanColumn(name(), data.clone());
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public BooleanColumn take(int[] rowIds) {
+    final BooleanColumn c = this.emptyCopy();
+    c.data.size(rowIds.length);
+    final byte[] target = c.data.elements();
+    final byte missing = BooleanColumnType.missingValueIndicator();
+    for (int i = 0; i < rowIds.length; i++) {
+      int row = rowIds[i];
+      target[i] = row < 0 ? missing : data.getByte(row);
+    }
+    return c;
+  }
+
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
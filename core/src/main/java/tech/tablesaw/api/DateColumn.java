@@ -39,6 +39,7 @@ import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.BlockStatistics;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.dates.DateColumnFormatter;
 import tech.tablesaw.columns.dates.DateColumnType;
@@ -58,6 +59,10 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
   /** The data held in this column in its integer encoding form. See {@link PackedLocalDate} */
   protected IntArrayList data;
 
+  /** Lets range filters skip or accept whole blocks of rows */
+  private final BlockStatistics statistics =
+      new BlockStatistics(this::size, this::getIntInternal, this::isMissing);
+
   /** A comparator for the encoded dates. Note that the ints compared are the column indexes */
   private final IntComparator comparator =
       (r1, r2) -> {
@@ -144,6 +149,20 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
     return c;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public DateColumn take(int[] rowIds) {
+    final DateColumn c = this.emptyCopy();
+    c.data.size(rowIds.length);
+    final int[] target = c.data.elements();
+    final int missing = DateColumnType.missingValueIndicator();
+    for (int i = 0; i < rowIds.length; i++) {
+      int row = rowIds[i];
+      target[i] = row < 0 ? missing : data.getInt(row);
+    }
+    return c;
+  }
+
   public DateColumn appendInternal(int f) {
     data.add(f);
     return this;
@@ -151,6 +170,7 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
 
   public DateColumn set(int index, int value) {
     data.set(index, value);
+    statistics.invalidate(index);
     return this;
   }
 
@@ -226,6 +246,7 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
   @Override
   public void clear() {
     data.clear();
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
@@ -260,12 +281,36 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
   @Override
   public void sortAscending() {
     data.sort(IntComparators.NATURAL_COMPARATOR);
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(IntComparators.OPPOSITE_COMPARATOR);
+    statistics.invalidateAll();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isBetweenIncluding(int lowValue, int highValue) {
+    int missing = DateColumnType.missingValueIndicator();
+    boolean includeMissing = lowValue <= missing && missing <= highValue;
+    int[] values = data.elements();
+    int size = size();
+    return Selection.fromWords(
+        size,
+        statistics.words(
+            block -> statistics.overlap(block, lowValue, highValue, includeMissing),
+            from -> {
+              long word = 0;
+              for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+                int value = values[i];
+                // the non-short-circuit operators leave no branch to mispredict
+                word |= (value >= lowValue & value <= highValue ? 1L : 0L) << (i - from);
+              }
+              return word;
+            }));
   }
 
   /** {@inheritDoc} */
@@ -41,6 +41,7 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.BlockStatistics;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.datetimes.DateTimeColumnFormatter;
 import tech.tablesaw.columns.datetimes.DateTimeColumnType;
@@ -60,6 +61,10 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
   /** The dateTime values held in this column, in their {@link PackedLocalDateTime} format */
   protected LongArrayList data;
 
+  /** Lets range filters skip or accept whole blocks of rows */
+  private final BlockStatistics statistics =
+      new BlockStatistics(this::size, this::getLongInternal, this::isMissing);
+
   /** A comparator for this column. Note that the ints compared are the column indexes */
   private final IntComparator comparator =
       (r1, r2) -> {
@@ -157,6 +162,20 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
     return c;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public DateTimeColumn take(int[] rowIds) {
+    final DateTimeColumn c = this.emptyCopy();
+    c.data.size(rowIds.length);
+    final long[] target = c.data.elements();
+    final long missing = DateTimeColumnType.missingValueIndicator();
+    for (int i = 0; i < rowIds.length; i++) {
+      int row = rowIds[i];
+      target[i] = row < 0 ? missing : data.getLong(row);
+    }
+    return c;
+  }
+
   /** {@inheritDoc} */
   @Override
   public DateTimeColumn removeMissing() {
@@ -320,18 +339,46 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
   @Override
   public void clear() {
     data.clear();
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
     data.sort(LongComparators.NATURAL_COMPARATOR);
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(LongComparators.OPPOSITE_COMPARATOR);
+    statistics.invalidateAll();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isBetweenIncluding(long lowPackedDateTime, long highPackedDateTime) {
+    long missing = DateTimeColumnType.missingValueIndicator();
+    boolean includeMissing = lowPackedDateTime <= missing && missing <= highPackedDateTime;
+    long[] values = data.elements();
+    int size = size();
+    return Selection.fromWords(
+        size,
+        statistics.words(
+            block ->
+                statistics.overlap(block, lowPackedDateTime, highPackedDateTime, includeMissing),
+            from -> {
+              long word = 0;
+              for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+                long value = values[i];
+                // the non-short-circuit operators leave no branch to mispredict
+                word |=
+                    (value >= lowPackedDateTime & value <= highPackedDateTime ? 1L : 0L)
+                        << (i - from);
+              }
+              return word;
+            }));
   }
 
   /** {@inheritDoc} */
@@ -605,6 +652,7 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
 
   public DateTimeColumn set(int index, long value) {
     data.set(index, value);
+    statistics.invalidate(index);
     return this;
   }
 
@@ -15,6 +15,7 @@ import java.util.function.DoublePredicate;
 import java.util.function.DoubleSupplier;
 import java.util.stream.DoubleStream;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.BlockStatistics;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
 import tech.tablesaw.columns.numbers.FloatColumnType;
@@ -30,6 +31,11 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
 
   protected final DoubleArrayList data;
 
+  /** Lets range filters skip or accept whole blocks of rows */
+  private final BlockStatistics statistics =
+      new BlockStatistics(
+          this::size, row -> BlockStatistics.doubleKey(getDouble(row)), this::isMissing);
+
   protected DoubleColumn(String name, DoubleArrayList data) {
     super(DoubleColumnType.instance(), name, DoubleColumnType.DEFAULT_PARSER);
     setPrintFormatter(NumberColumnFormatter.floatingPointDefault());
@@ -57,6 +63,7 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
   @Override
   public void clear() {
     data.clear();
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
@@ -166,15 +173,58 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
     return results;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Selection eval(DoublePredicate predicate) {
+    int size = size();
+    return Selection.fromWords(
+        size,
+        from -> {
+          long word = 0;
+          for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+            if (predicate.test(getDouble(i))) {
+              word |= 1L << (i - from);
+            }
+          }
+          return word;
+        });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isBetweenInclusive(double start, double end) {
+    double[] values = data.elements();
+    int size = size();
+    return Selection.fromWords(
+        size,
+        statistics.words(
+            block -> statistics.overlap(block, start, end, BlockStatistics::doubleOfKey),
+            from -> {
+              long word = 0;
+              for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+                double value = values[i];
+                // the non-short-circuit operators leave no branch to mispredict
+                word |= (value >= start & value <= end ? 1L : 0L) << (i - from);
+              }
+              return word;
+            }));
+  }
+
   public Selection isIn(final double... doubles) {
-    final Selection results = new BitmapBackedSelection();
-    final DoubleRBTreeSet doubleSet = new DoubleRBTreeSet(doubles);
-    for (int i = 0; i < size(); i++) {
-      if (doubleSet.contains(getDouble(i))) {
-        results.add(i);
-      }
-    }
-    return results;
+    final DoubleOpenHashSet doubleSet = new DoubleOpenHashSet(doubles);
+    final double[] values = data.elements();
+    final int size = size();
+    return Selection.fromWords(
+        size,
+        from -> {
+          long word = 0;
+          for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+            if (doubleSet.contains(values[i])) {
+              word |= 1L << (i - from);
+            }
+          }
+          return word;
+        });
   }
 
   /** {@inheritDoc} */
@@ -187,6 +237,20 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
     return c;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public DoubleColumn take(int[] rowIds) {
+    final DoubleColumn c = this.emptyCopy();
+    c.data.size(rowIds.length);
+    final double[] target = c.data.elements();
+    final double missing = DoubleColumnType.missingValueIndicator();
+    for (int i = 0; i < rowIds.length; i++) {
+      int row = rowIds[i];
+      target[i] = row < 0 ? missing : data.getDouble(row);
+    }
+    return c;
+  }
+
   /** {@inheritDoc} */
   @Override
   public DoubleColumn unique() {
@@ -337,6 +401,7 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
 
   public DoubleColumn set(int i, double val) {
     data.set(i, val);
+    statistics.invalidate(i);
     return this;
   }
 
@@ -460,12 +525,14 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
   @Override
   public void sortAscending() {
     data.sort(DoubleComparators.NATURAL_COMPARATOR);
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(DoubleComparators.OPPOSITE_COMPARATOR);
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
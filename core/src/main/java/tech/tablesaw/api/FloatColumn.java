@@ -7,8 +7,10 @@ import java.nio.ByteBuffer;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.function.DoublePredicate;
 import java.util.stream.Stream;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.BlockStatistics;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.numbers.FloatColumnType;
 import tech.tablesaw.columns.numbers.NumberColumnFormatter;
@@ -20,6 +22,11 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
 
   protected final FloatArrayList data;
 
+  /** Lets range filters skip or accept whole blocks of rows */
+  private final BlockStatistics statistics =
+      new BlockStatistics(
+          this::size, row -> BlockStatistics.doubleKey(getFloat(row)), this::isMissing);
+
   private FloatColumn(String name, FloatArrayList data) {
     super(FloatColumnType.instance(), name, FloatColumnType.DEFAULT_PARSER);
     setPrintFormatter(NumberColumnFormatter.floatingPointDefault());
@@ -96,6 +103,20 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
     return c;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public FloatColumn take(int[] rowIds) {
+    final FloatColumn c = this.emptyCopy();
+    c.data.size(rowIds.length);
+    final float[] target = c.data.elements();
+    final float missing = FloatColumnType.missingValueIndicator();
+    for (int i = 0; i < rowIds.length; i++) {
+      int row = rowIds[i];
+      target[i] = row < 0 ? missing : data.getFloat(row);
+    }
+    return c;
+  }
+
   public Selection isNotIn(final float... numbers) {
     final Selection results = new BitmapBackedSelection();
     results.addRange(0, size());
@@ -103,15 +124,58 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
     return results;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Selection eval(DoublePredicate predicate) {
+    int size = size();
+    return Selection.fromWords(
+        size,
+        from -> {
+          long word = 0;
+          for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+            if (predicate.test(getDouble(i))) {
+              word |= 1L << (i - from);
+            }
+          }
+          return word;
+        });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isBetweenInclusive(double start, double end) {
+    float[] values = data.elements();
+    int size = size();
+    return Selection.fromWords(
+        size,
+        statistics.words(
+            block -> statistics.overlap(block, start, end, BlockStatistics::doubleOfKey),
+            from -> {
+              long word = 0;
+              for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+                float value = values[i];
+                // the non-short-circuit operators leave no branch to mispredict
+                word |= (value >= start & value <= end ? 1L : 0L) << (i - from);
+              }
+              return word;
+            }));
+  }
+
   public Selection isIn(final float... numbers) {
-    final Selection results = new BitmapBackedSelection();
-    final FloatRBTreeSet doubleSet = new FloatRBTreeSet(numbers);
-    for (int i = 0; i < size(); i++) {
-      if (doubleSet.contains(getFloat(i))) {
-        results.add(i);
-      }
-    }
-    return results;
+    final FloatOpenHashSet floatSet = new FloatOpenHashSet(numbers);
+    final float[] values = data.elements();
+    final int size = size();
+    return Selection.fromWords(
+        size,
+        from -> {
+          long word = 0;
+          for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+            if (floatSet.contains(values[i])) {
+              word |= 1L << (i - from);
+            }
+          }
+          return word;
+        });
   }
 
   /** {@inheritDoc} */
@@ -124,6 +188,7 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
   @Override
   public void clear() {
     data.clear();
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
@@ -257,6 +322,7 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
 
   public FloatColumn set(int i, float val) {
     data.set(i, val);
+    statistics.invalidate(i);
     return this;
   }
 
@@ -368,12 +434,14 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
   @Override
   public void sortAscending() {
     data.sort(FloatComparators.NATURAL_COMPARATOR);
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(FloatComparators.OPPOSITE_COMPARATOR);
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
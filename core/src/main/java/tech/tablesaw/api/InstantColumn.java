@@ -43,6 +43,7 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.BlockStatistics;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.instant.InstantColumnFormatter;
 import tech.tablesaw.columns.instant.InstantColumnType;
@@ -65,6 +66,10 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
 
   protected LongArrayList data;
 
+  /** Lets range filters skip or accept whole blocks of rows */
+  private final BlockStatistics statistics =
+      new BlockStatistics(this::size, this::getLongInternal, this::isMissing);
+
   private final IntComparator comparator =
       (r1, r2) -> {
         long f1 = getPackedDateTime(r1);
@@ -161,6 +166,20 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
     return c;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public InstantColumn take(int[] rowIds) {
+    final InstantColumn c = this.emptyCopy();
+    c.data.size(rowIds.length);
+    final long[] target = c.data.elements();
+    final long missing = InstantColumnType.missingValueIndicator();
+    for (int i = 0; i < rowIds.length; i++) {
+      int row = rowIds[i];
+      target[i] = row < 0 ? missing : data.getLong(row);
+    }
+    return c;
+  }
+
   /** {@inheritDoc} */
   @Override
   public InstantColumn removeMissing() {
@@ -317,18 +336,46 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
   @Override
   public void clear() {
     data.clear();
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
     data.sort(LongComparators.NATURAL_COMPARATOR);
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(LongComparators.OPPOSITE_COMPARATOR);
+    statistics.invalidateAll();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isBetweenIncluding(long lowPackedDateTime, long highPackedDateTime) {
+    long missing = InstantColumnType.missingValueIndicator();
+    boolean includeMissing = lowPackedDateTime <= missing && missing <= highPackedDateTime;
+    long[] values = data.elements();
+    int size = size();
+    return Selection.fromWords(
+        size,
+        statistics.words(
+            block ->
+                statistics.overlap(block, lowPackedDateTime, highPackedDateTime, includeMissing),
+            from -> {
+              long word = 0;
+              for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+                long value = values[i];
+                // the non-short-circuit operators leave no branch to mispredict
+                word |=
+                    (value >= lowPackedDateTime & value <= highPackedDateTime ? 1L : 0L)
+                        << (i - from);
+              }
+              return word;
+            }));
   }
 
   /** {@inheritDoc} */
@@ -609,6 +656,7 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
 
   public InstantColumn set(int index, long value) {
     data.set(index, value);
+    statistics.invalidate(index);
     return this;
   }
 
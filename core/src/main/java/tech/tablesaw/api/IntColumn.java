@@ -8,8 +8,10 @@ import java.nio.ByteBuffer;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.function.DoublePredicate;
 import java.util.stream.IntStream;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.BlockStatistics;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
 import tech.tablesaw.columns.numbers.IntColumnType;
@@ -23,6 +25,10 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
 
   protected final IntArrayList data;
 
+  /** Lets range filters skip or accept whole blocks of rows */
+  private final BlockStatistics statistics =
+      new BlockStatistics(this::size, this::getInt, this::isMissing);
+
   protected IntColumn(final String name, IntArrayList data) {
     super(IntColumnType.instance(), name, IntColumnType.DEFAULT_PARSER);
     setPrintFormatter(NumberColumnFormatter.ints());
@@ -96,6 +102,7 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
   @Override
   public void clear() {
     data.clear();
+    statistics.invalidateAll();
   }
 
   public static boolean valueIsMissing(int value) {
@@ -123,6 +130,20 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
     return c;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public IntColumn take(int[] rowIds) {
+    final IntColumn c = this.emptyCopy();
+    c.data.size(rowIds.length);
+    final int[] target = c.data.elements();
+    final int missing = IntColumnType.missingValueIndicator();
+    for (int i = 0; i < rowIds.length; i++) {
+      int row = rowIds[i];
+      target[i] = row < 0 ? missing : data.getInt(row);
+    }
+    return c;
+  }
+
   /** {@inheritDoc} */
   @Override
   public IntColumn unique() {
@@ -254,6 +275,7 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
 
   public IntColumn set(int i, int val) {
     data.set(i, val);
+    statistics.invalidate(i);
     return this;
   }
 
@@ -385,12 +407,14 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
   @Override
   public void sortAscending() {
     data.sort(IntComparators.NATURAL_COMPARATOR);
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(IntComparators.OPPOSITE_COMPARATOR);
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
@@ -486,15 +510,59 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
     return result;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Selection eval(DoublePredicate predicate) {
+    int size = size();
+    return Selection.fromWords(
+        size,
+        from -> {
+          long word = 0;
+          for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+            if (predicate.test(getDouble(i))) {
+              word |= 1L << (i - from);
+            }
+          }
+          return word;
+        });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isBetweenInclusive(double start, double end) {
+    int[] values = data.elements();
+    int size = size();
+    int missing = IntColumnType.missingValueIndicator();
+    return Selection.fromWords(
+        size,
+        statistics.words(
+            block -> statistics.overlap(block, start, end, key -> key),
+            from -> {
+              long word = 0;
+              for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+                int value = values[i];
+                // the non-short-circuit operators leave no branch to mispredict
+                word |= (value != missing & value >= start & value <= end ? 1L : 0L) << (i - from);
+              }
+              return word;
+            }));
+  }
+
   public Selection isIn(final int... numbers) {
-    final Selection results = new BitmapBackedSelection();
-    final IntRBTreeSet intSet = new IntRBTreeSet(numbers);
-    for (int i = 0; i < size(); i++) {
-      if (intSet.contains(getInt(i))) {
-        results.add(i);
-      }
-    }
-    return results;
+    final IntOpenHashSet intSet = new IntOpenHashSet(numbers);
+    final int[] values = data.elements();
+    final int size = size();
+    return Selection.fromWords(
+        size,
+        from -> {
+          long word = 0;
+          for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+            if (intSet.contains(values[i])) {
+              word |= 1L << (i - from);
+            }
+          }
+          return word;
+        });
   }
 
   public Selection isNotIn(final int... numbers) {
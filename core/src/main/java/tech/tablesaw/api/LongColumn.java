@@ -10,8 +10,10 @@ import java.time.ZoneOffset;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.function.DoublePredicate;
 import java.util.stream.LongStream;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.BlockStatistics;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
 import tech.tablesaw.columns.numbers.LongColumnType;
@@ -24,6 +26,10 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
 
   protected final LongArrayList data;
 
+  /** Lets range filters skip or accept whole blocks of rows */
+  private final BlockStatistics statistics =
+      new BlockStatistics(this::size, this::getLong, this::isMissing);
+
   private LongColumn(String name, LongArrayList data) {
     super(LongColumnType.instance(), name, LongColumnType.DEFAULT_PARSER);
     setPrintFormatter(NumberColumnFormatter.ints());
@@ -100,6 +106,7 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
   @Override
   public void clear() {
     data.clear();
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
@@ -119,15 +126,73 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
     return c;
   }
 
-  public Selection isIn(final long... numbers) {
-    final Selection results = new BitmapBackedSelection();
-    final LongRBTreeSet intSet = new LongRBTreeSet(numbers);
-    for (int i = 0; i < size(); i++) {
-      if (intSet.contains(getLong(i))) {
-        results.add(i);
-      }
+  /** {@inheritDoc} */
+  @Override
+  public LongColumn take(int[] rowIds) {
+    final LongColumn c = this.emptyCopy();
+    c.data.size(rowIds.length);
+    final long[] target = c.data.elements();
+    final long missing = LongColumnType.missingValueIndicator();
+    for (int i = 0; i < rowIds.length; i++) {
+      int row = rowIds[i];
+      target[i] = row < 0 ? missing : data.getLong(row);
     }
-    return results;
+    return c;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection eval(DoublePredicate predicate) {
+    int size = size();
+    return Selection.fromWords(
+        size,
+        from -> {
+          long word = 0;
+          for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+            if (predicate.test(getDouble(i))) {
+              word |= 1L << (i - from);
+            }
+          }
+          return word;
+        });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isBetweenInclusive(double start, double end) {
+    long[] values = data.elements();
+    int size = size();
+    long missing = LongColumnType.missingValueIndicator();
+    return Selection.fromWords(
+        size,
+        statistics.words(
+            block -> statistics.overlap(block, start, end, key -> key),
+            from -> {
+              long word = 0;
+              for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+                long value = values[i];
+                // the non-short-circuit operators leave no branch to mispredict
+                word |= (value != missing & value >= start & value <= end ? 1L : 0L) << (i - from);
+              }
+              return word;
+            }));
+  }
+
+  public Selection isIn(final long... numbers) {
+    final LongOpenHashSet longSet = new LongOpenHashSet(numbers);
+    final long[] values = data.elements();
+    final int size = size();
+    return Selection.fromWords(
+        size,
+        from -> {
+          long word = 0;
+          for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+            if (longSet.contains(values[i])) {
+              word |= 1L << (i - from);
+            }
+          }
+          return word;
+        });
   }
 
   public Selection isNotIn(final long... numbers) {
@@ -295,6 +360,7 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
 
   public LongColumn set(int i, long val) {
     data.set(i, val);
+    statistics.invalidate(i);
     return this;
   }
 
@@ -433,12 +499,14 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
   @Override
   public void sortAscending() {
     data.sort(LongComparators.NATURAL_COMPARATOR);
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(LongComparators.OPPOSITE_COMPARATOR);
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
@@ -5,6 +5,7 @@ import static tech.tablesaw.columns.numbers.NumberPredicates.isMissing;
 import static tech.tablesaw.columns.numbers.NumberPredicates.isNotMissing;
 
 import it.unimi.dsi.fastutil.doubles.DoubleComparator;
+import it.unimi.dsi.fastutil.doubles.DoubleOpenHashSet;
 import java.text.NumberFormat;
 import java.util.Collection;
 import java.util.Optional;
@@ -77,13 +78,22 @@ public interface NumericColumn<T extends Number>
   /** {@inheritDoc} */
   @Override
   default Selection isIn(Collection<Number> numbers) {
-    final Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      if (numbers.contains(getDouble(i))) {
-        results.add(i);
-      }
+    final DoubleOpenHashSet doubleSet = new DoubleOpenHashSet(numbers.size());
+    for (Number number : numbers) {
+      doubleSet.add(number.doubleValue());
     }
-    return results;
+    final int size = size();
+    return Selection.fromWords(
+        size,
+        from -> {
+          long word = 0;
+          for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+            if (doubleSet.contains(getDouble(i))) {
+              word |= 1L << (i - from);
+            }
+          }
+          return word;
+        });
   }
 
   /** {@inheritDoc} */
@@ -2,7 +2,7 @@ package tech.tablesaw.api;
 
 import com.google.common.base.Preconditions;
 import com.google.common.primitives.Shorts;
-import it.unimi.dsi.fastutil.ints.IntRBTreeSet;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.shorts.ShortArrayList;
 import it.unimi.dsi.fastutil.shorts.ShortArrays;
 import it.unimi.dsi.fastutil.shorts.ShortComparators;
@@ -14,8 +14,10 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.function.DoublePredicate;
 import java.util.stream.Stream;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.BlockStatistics;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
 import tech.tablesaw.columns.numbers.NumberColumnFormatter;
@@ -29,6 +31,10 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
 
   protected final ShortArrayList data;
 
+  /** Lets range filters skip or accept whole blocks of rows */
+  private final BlockStatistics statistics =
+      new BlockStatistics(this::size, this::getShort, this::isMissing);
+
   protected ShortColumn(final String name, ShortArrayList data) {
     super(ShortColumnType.instance(), name, ShortColumnType.DEFAULT_PARSER);
     setPrintFormatter(NumberColumnFormatter.ints());
@@ -98,15 +104,73 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
     return c;
   }
 
-  public Selection isIn(final int... numbers) {
-    final Selection results = new BitmapBackedSelection();
-    final IntRBTreeSet intSet = new IntRBTreeSet(numbers);
-    for (int i = 0; i < size(); i++) {
-      if (intSet.contains(getInt(i))) {
-        results.add(i);
-      }
+  /** {@inheritDoc} */
+  @Override
+  public ShortColumn take(int[] rowIds) {
+    final ShortColumn c = this.emptyCopy();
+    c.data.size(rowIds.length);
+    final short[] target = c.data.elements();
+    final short missing = ShortColumnType.missingValueIndicator();
+    for (int i = 0; i < rowIds.length; i++) {
+      int row = rowIds[i];
+      target[i] = row < 0 ? missing : data.getShort(row);
     }
-    return results;
+    return c;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection eval(DoublePredicate predicate) {
+    int size = size();
+    return Selection.fromWords(
+        size,
+        from -> {
+          long word = 0;
+          for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+            if (predicate.test(getDouble(i))) {
+              word |= 1L << (i - from);
+            }
+          }
+          return word;
+        });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection isBetweenInclusive(double start, double end) {
+    short[] values = data.elements();
+    int size = size();
+    short missing = ShortColumnType.missingValueIndicator();
+    return Selection.fromWords(
+        size,
+        statistics.words(
+            block -> statistics.overlap(block, start, end, key -> key),
+            from -> {
+              long word = 0;
+              for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+                short value = values[i];
+                // the non-short-circuit operators leave no branch to mispredict
+                word |= (value != missing & value >= start & value <= end ? 1L : 0L) << (i - from);
+              }
+              return word;
+            }));
+  }
+
+  public Selection isIn(final int... numbers) {
+    final IntOpenHashSet intSet = new IntOpenHashSet(numbers);
+    final short[] values = data.elements();
+    final int size = size();
+    return Selection.fromWords(
+        size,
+        from -> {
+          long word = 0;
+          for (int i = from, to = Math.min(from + Long.SIZE, size); i < to; i++) {
+            if (intSet.contains(values[i])) {
+              word |= 1L << (i - from);
+            }
+          }
+          return word;
+        });
   }
 
   public Selection isNotIn(final int... numbers) {
@@ -126,6 +190,7 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
   @Override
   public void clear() {
     data.clear();
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
@@ -272,6 +337,7 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
 
   public ShortColumn set(int i, short val) {
     data.set(i, val);
+    statistics.invalidate(i);
     return this;
   }
 
@@ -410,12 +476,14 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
   @Override
   public void sortAscending() {
     data.sort(ShortComparators.NATURAL_COMPARATOR);
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(ShortComparators.OPPOSITE_COMPARATOR);
+    statistics.invalidateAll();
   }
 
   /** {@inheritDoc} */
@@ -25,6 +25,9 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
@@ -413,6 +416,16 @@ public class StringColumn extends AbstractStringColumn<StringColumn> {
     return newCol;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Only the dictionary keys are gathered. The strings themselves are shared with this column.
+   */
+  @Override
+  public StringColumn take(int[] rowIds) {
+    return new StringColumn(name(), lookupTable.take(rowIds));
+  }
+
   /** {@inheritDoc} */
   @Override
   public StringColumn append(Column<String> column) {
@@ -423,6 +436,21 @@ public class StringColumn extends AbstractStringColumn<StringColumn> {
         type(),
         column.name(),
         column.type());
+    if (column instanceof StringColumn) {
+      DictionaryMap otherLookupTable = ((StringColumn) column).lookupTable;
+      while (true) {
+        try {
+          lookupTable.append(otherLookupTable);
+          return this;
+        } catch (NoKeysAvailableException ex) {
+          DictionaryMap promoted = lookupTable.promoteYourself();
+          if (promoted == lookupTable) {
+            throw new IllegalStateException(ex);
+          }
+          lookupTable = promoted;
+        }
+      }
+    }
     final int size = column.size();
     for (int i = 0; i < size; i++) {
       append(column.getString(i));
@@ -534,6 +562,54 @@ public class StringColumn extends AbstractStringColumn<StringColumn> {
     return results;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Unless most of the values are distinct, the predicate is tested once for each distinct
+   * value, and the rows are then selected by their dictionary keys
+   */
+  @Override
+  public Selection eval(Predicate<String> predicate) {
+    if (countUnique() > size() / 2) {
+      return super.eval(predicate);
+    }
+    return lookupTable.selectMatching(predicate);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection eval(BiPredicate<String, String> predicate, String value) {
+    return eval(string -> predicate.test(string, value));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection eval(BiPredicate<String, Integer> predicate, Integer value) {
+    return eval(string -> predicate.test(string, value));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The function is applied once for each distinct value, and the rows of the new column keep
+   * the dictionary keys of this one wherever the new values stay distinct
+   */
+  @Override
+  public StringColumn mapStrings(String name, Function<String, String> function) {
+    DictionaryMap map = lookupTable;
+    while (true) {
+      try {
+        return new StringColumn(name, map.mapValues(function));
+      } catch (NoKeysAvailableException ex) {
+        DictionaryMap promoted = map.promoteYourself();
+        if (promoted == map) {
+          throw new IllegalStateException(ex);
+        }
+        map = promoted;
+      }
+    }
+  }
+
   public int firstIndexOf(String value) {
     return lookupTable.firstIndexOf(value);
   }
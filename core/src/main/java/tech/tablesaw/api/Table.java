@@ -34,6 +34,7 @@ import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.roaringbitmap.RoaringBitmap;
 import tech.tablesaw.aggregate.AggregateFunction;
@@ -80,6 +81,9 @@ public class Table extends Relation implements Iterable<Row> {
   public static final String MELT_VARIABLE_COLUMN_NAME = "variable";
   public static final String MELT_VALUE_COLUMN_NAME = "value";
 
+  /** The number of cells below which {@link #take(int[])} gathers the columns one at a time */
+  private static final long PARALLEL_TAKE_CELLS = 1 << 16;
+
   /** Returns a new table */
   private Table() {}
 
@@ -504,16 +508,8 @@ public class Table extends Relation implements Iterable<Row> {
    * @param rows A Selection defining the rows to copy
    * @param newTable The table to copy the rows into
    */
-  @SuppressWarnings({"rawtypes", "unchecked"})
   public void copyRowsToTable(Selection rows, Table newTable) {
-    for (int columnIndex = 0; columnIndex < this.columnCount(); columnIndex++) {
-      Column oldColumn = this.column(columnIndex);
-      int r = 0;
-      for (int i : rows) {
-        newTable.column(columnIndex).set(r, oldColumn, i);
-        r++;
-      }
-    }
+    copyRowsToTable(rows.toArray(), newTable);
   }
 
   /**
@@ -523,14 +519,32 @@ public class Table extends Relation implements Iterable<Row> {
   public void copyRowsToTable(int[] rows, Table newTable) {
     for (int columnIndex = 0; columnIndex < columnCount(); columnIndex++) {
       Column oldColumn = column(columnIndex);
+      Column newColumn = newTable.column(columnIndex);
       int r = 0;
       for (int i : rows) {
-        newTable.column(columnIndex).set(r, oldColumn, i);
+        newColumn.set(r, oldColumn, i);
         r++;
       }
     }
   }
 
+  /**
+   * Returns a new table holding the rows at the given row numbers, in the order given. Row numbers
+   * may repeat, and a negative row number gives a row of missing values. Large tables have their
+   * columns gathered in parallel.
+   *
+   * @param rowIds the row numbers of the rows to take
+   */
+  public Table take(int[] rowIds) {
+    Column<?>[] taken = new Column<?>[columnCount()];
+    IntStream columnIndexes = IntStream.range(0, columnCount());
+    if (columnCount() > 1 && (long) rowIds.length * columnCount() >= PARALLEL_TAKE_CELLS) {
+      columnIndexes = columnIndexes.parallel();
+    }
+    columnIndexes.forEach(i -> taken[i] = column(i).take(rowIds));
+    return new Table(name(), taken);
+  }
+
   /**
    * Returns {@code true} if the row @rowNumber in table1 holds the same data as the row at
    * rowNumber in table2
@@ -710,13 +724,9 @@ public class Table extends Relation implements Iterable<Row> {
 
   /** Returns a copy of this table sorted using the given comparator */
   private Table sortOn(IntComparator rowComparator) {
-    Table newTable = emptyCopy(rowCount());
-
     int[] newRows = rows();
     IntArrays.mergeSort(newRows, rowComparator);
-
-    copyRowsToTable(newRows, newTable);
-    return newTable;
+    return take(newRows);
   }
 
   /** Returns a copy of this table sorted using the given comparator */
@@ -827,9 +837,7 @@ public class Table extends Relation implements Iterable<Row> {
 
   /** Returns a table containing the rows contained in the given Selection */
   public Table where(Selection selection) {
-    Table newTable = this.emptyCopy(selection.size());
-    copyRowsToTable(selection, newTable);
-    return newTable;
+    return take(selection.toArray());
   }
 
   /** Returns a new Table made by applying the given function to this table */
@@ -850,9 +858,7 @@ public class Table extends Relation implements Iterable<Row> {
     Selection opposite = new BitmapBackedSelection();
     opposite.addRange(0, rowCount());
     opposite.andNot(selection);
-    Table newTable = this.emptyCopy(opposite.size());
-    copyRowsToTable(opposite, newTable);
-    return newTable;
+    return take(opposite.toArray());
   }
 
   /**
@@ -947,9 +953,7 @@ public class Table extends Relation implements Iterable<Row> {
     }
     Selection notMissing = Selection.withRange(0, rowCount());
     notMissing.andNot(missing);
-    Table temp = emptyCopy(notMissing.size());
-    copyRowsToTable(notMissing, temp);
-    return temp;
+    return take(notMissing.toArray());
   }
 
   /**
@@ -356,6 +356,18 @@ public class TextColumn extends AbstractStringColumn<TextColumn> {
     return newCol;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public TextColumn take(int[] rowIds) {
+    List<String> taken = new ArrayList<>(rowIds.length);
+    for (int row : rowIds) {
+      taken.add(row < 0 ? TextColumnType.missingValueIndicator() : values.get(row));
+    }
+    TextColumn c = create(name());
+    c.values = taken;
+    return c;
+  }
+
   /** {@inheritDoc} */
   @Override
   public TextColumn append(Column<String> column) {
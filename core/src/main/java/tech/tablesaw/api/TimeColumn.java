@@ -137,6 +137,20 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
     return c;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public TimeColumn take(int[] rowIds) {
+    final TimeColumn c = this.emptyCopy();
+    c.data.size(rowIds.length);
+    final int[] target = c.data.elements();
+    final int missing = TimeColumnType.missingValueIndicator();
+    for (int i = 0; i < rowIds.length; i++) {
+      int row = rowIds[i];
+      target[i] = row < 0 ? missing : data.getInt(row);
+    }
+    return c;
+  }
+
   /** {@inheritDoc} */
   @Override
   public TimeColumn lag(int n) {
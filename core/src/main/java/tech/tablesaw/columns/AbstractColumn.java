@@ -166,6 +166,13 @@ public abstract class AbstractColumn<C extends Column<T>, T> implements Column<T
     return (C) Column.super.subset(rows);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public C take(int[] rowIds) {
+    return (C) Column.super.take(rowIds);
+  }
+
   /** {@inheritDoc} */
   @Override
   @SuppressWarnings({"unchecked", "rawtypes"})
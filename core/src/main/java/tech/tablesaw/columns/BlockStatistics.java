@@ -0,0 +1,243 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * The smallest and largest value and the number of missing values in each block of {@link
+ * #BLOCK_ROWS} consecutive rows of a column. Range filters use them to skip the blocks where no row
+ * can match, and to select every row of the blocks where all rows match, scanning only the blocks
+ * in between. This pays off when the values are roughly ordered, as in time-ordered tables.
+ *
+ * <p>Values are compared as the long keys the column gives for them, which must be ordered like the
+ * values. The statistics are brought up to date when they are consulted: rows appended since then
+ * are added to the last blocks, and the blocks in which the column {@link #invalidate invalidated}
+ * a row are computed again.
+ */
+public class BlockStatistics {
+
+  /** The number of rows in a block, which is also the number of rows in a bitmap container */
+  public static final int BLOCK_ROWS = 1 << 16;
+
+  /** How the rows of a block relate to a range of values */
+  public enum Overlap {
+    /** No row of the block is in the range */
+    NONE,
+    /** Some rows of the block may be in the range */
+    SOME,
+    /** Every row of the block is in the range */
+    ALL
+  }
+
+  private final IntSupplier size;
+  private final IntToLongFunction key;
+  private final IntPredicate isMissing;
+
+  private long[] min = new long[0];
+  private long[] max = new long[0];
+  private int[] missingCount = new int[0];
+
+  /** The number of rows the statistics cover */
+  private int rows;
+
+  /** The blocks whose statistics must be computed again */
+  private final BitSet stale = new BitSet();
+
+  /**
+   * Constructs statistics for a column of the given size, whose rows have the given keys unless
+   * they are missing
+   */
+  public BlockStatistics(IntSupplier size, IntToLongFunction key, IntPredicate isMissing) {
+    this.size = size;
+    this.key = key;
+    this.isMissing = isMissing;
+  }
+
+  /** Records that the value in the given row was replaced */
+  public synchronized void invalidate(int row) {
+    if (row < rows) {
+      stale.set(row / BLOCK_ROWS);
+    }
+  }
+
+  /** Records that any of the values may have been replaced or reordered */
+  public synchronized void invalidateAll() {
+    rows = 0;
+    stale.clear();
+  }
+
+  /** Returns the number of blocks, after bringing the statistics up to date with the column */
+  public synchronized int update() {
+    int newRows = size.getAsInt();
+    if (newRows < rows) {
+      invalidateAll();
+    }
+    int blocks = (newRows + BLOCK_ROWS - 1) / BLOCK_ROWS;
+    if (blocks > min.length) {
+      int capacity = Math.max(blocks, min.length * 2);
+      min = Arrays.copyOf(min, capacity);
+      max = Arrays.copyOf(max, capacity);
+      missingCount = Arrays.copyOf(missingCount, capacity);
+    }
+    for (int block = stale.nextSetBit(0); block >= 0; block = stale.nextSetBit(block + 1)) {
+      int start = block * BLOCK_ROWS;
+      add(block, start, Math.min(start + BLOCK_ROWS, rows));
+    }
+    stale.clear();
+    for (int start = rows; start < newRows; start = (start / BLOCK_ROWS + 1) * BLOCK_ROWS) {
+      int block = start / BLOCK_ROWS;
+      if (start % BLOCK_ROWS == 0) {
+        add(block, start, Math.min(start + BLOCK_ROWS, newRows));
+      } else {
+        extend(block, start, Math.min((block + 1) * BLOCK_ROWS, newRows));
+      }
+    }
+    rows = newRows;
+    return blocks;
+  }
+
+  /** Computes the statistics of the given block from the rows from start to end */
+  private void add(int block, int start, int end) {
+    min[block] = Long.MAX_VALUE;
+    max[block] = Long.MIN_VALUE;
+    missingCount[block] = 0;
+    extend(block, start, end);
+  }
+
+  /** Adds the rows from start to end to the statistics of the given block */
+  private void extend(int block, int start, int end) {
+    long blockMin = min[block];
+    long blockMax = max[block];
+    int blockMissing = missingCount[block];
+    for (int row = start; row < end; row++) {
+      if (isMissing.test(row)) {
+        blockMissing++;
+      } else {
+        long value = key.applyAsLong(row);
+        blockMin = Math.min(blockMin, value);
+        blockMax = Math.max(blockMax, value);
+      }
+    }
+    min[block] = blockMin;
+    max[block] = blockMax;
+    missingCount[block] = blockMissing;
+  }
+
+  /**
+   * Returns the smallest key in the given block, which is meaningless if all its rows are missing
+   */
+  public synchronized long min(int block) {
+    return min[block];
+  }
+
+  /**
+   * Returns the largest key in the given block, which is meaningless if all its rows are missing
+   */
+  public synchronized long max(int block) {
+    return max[block];
+  }
+
+  /** Returns the number of missing values in the given block */
+  public synchronized int missingCount(int block) {
+    return missingCount[block];
+  }
+
+  /** Returns the number of rows in the given block */
+  public synchronized int rowCount(int block) {
+    return Math.min(BLOCK_ROWS, rows - block * BLOCK_ROWS);
+  }
+
+  /**
+   * Returns how the rows of the given block relate to the rows whose keys are between low and high
+   * inclusive, and to the missing rows if includeMissing is true
+   */
+  public synchronized Overlap overlap(int block, long low, long high, boolean includeMissing) {
+    int present = rowCount(block) - missingCount[block];
+    boolean allPresent = present == 0 || (min[block] >= low && max[block] <= high);
+    boolean nonePresent = present == 0 || max[block] < low || min[block] > high;
+    return overlap(block, allPresent, nonePresent, includeMissing);
+  }
+
+  /**
+   * Returns how the rows of the given block relate to the rows whose values, as given for a key by
+   * the value function, are between low and high inclusive. Missing rows are never in the range.
+   * The value function must be ordered like the keys.
+   */
+  public synchronized Overlap overlap(
+      int block, double low, double high, LongToDoubleFunction value) {
+    int present = rowCount(block) - missingCount[block];
+    double blockMin = value.applyAsDouble(min[block]);
+    double blockMax = value.applyAsDouble(max[block]);
+    boolean allPresent = present == 0 || (blockMin >= low && blockMax <= high);
+    boolean nonePresent = present == 0 || !(blockMax >= low && blockMin <= high);
+    return overlap(block, allPresent, nonePresent, false);
+  }
+
+  private Overlap overlap(
+      int block, boolean allPresent, boolean nonePresent, boolean includeMissing) {
+    boolean noneMissing = missingCount[block] == 0;
+    if (allPresent && (noneMissing || includeMissing)) {
+      return Overlap.ALL;
+    }
+    if (nonePresent && (noneMissing || !includeMissing)) {
+      return Overlap.NONE;
+    }
+    return Overlap.SOME;
+  }
+
+  /**
+   * Returns the words of a selection of the rows of the column, as {@link
+   * tech.tablesaw.selection.Selection#fromWords} takes them. The words of the blocks that the
+   * overlap function finds wholly in or out of a range are made without looking at their rows, and
+   * the others are taken from the scan function.
+   */
+  public IntToLongFunction words(IntFunction<Overlap> overlap, IntToLongFunction scan) {
+    int blocks = update();
+    int rowCount = rows;
+    Overlap[] overlaps = new Overlap[blocks];
+    for (int block = 0; block < blocks; block++) {
+      overlaps[block] = overlap.apply(block);
+    }
+    return from -> {
+      switch (overlaps[from / BLOCK_ROWS]) {
+        case NONE:
+          return 0L;
+        case ALL:
+          int count = Math.min(Long.SIZE, rowCount - from);
+          return count == Long.SIZE ? -1L : (1L << count) - 1;
+        default:
+          return scan.applyAsLong(from);
+      }
+    };
+  }
+
+  /** Returns the key of a double value, whose order as a long is that of the value */
+  public static long doubleKey(double value) {
+    long bits = Double.doubleToRawLongBits(value);
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  /** Returns the double value of a key made by {@link #doubleKey(double)} */
+  public static double doubleOfKey(long key) {
+    return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+  }
+}
@@ -449,6 +449,25 @@ public interface Column<T> extends Iterable<T>, Comparator<T> {
     return c;
   }
 
+  /**
+   * Returns a column of the same type holding the values at the given row numbers, in the order
+   * given. Row numbers may repeat, and a negative row number gives a missing value.
+   *
+   * <p>Unlike {@link #subset(int[])}, which appends one value at a time, implementations are
+   * expected to fill the new column's backing storage directly.
+   */
+  default Column<T> take(int[] rowIds) {
+    final Column<T> c = this.emptyCopy();
+    for (final int row : rowIds) {
+      if (row < 0) {
+        c.appendMissing();
+      } else {
+        c.append(this, row);
+      }
+    }
+    return c;
+  }
+
   /**
    * Returns a new Column of the same type sorted according to the provided Comparator
    *
@@ -194,20 +194,28 @@ public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpe
   }
 
   default Selection isAfter(int value) {
-    return eval(PackedLocalDate::isAfter, value);
+    if (value == Integer.MAX_VALUE) {
+      return new BitmapBackedSelection();
+    }
+    return isBetweenIncluding(value + 1, Integer.MAX_VALUE);
   }
 
   default Selection isAfter(LocalDate value) {
-    int packed = PackedLocalDate.pack(value);
-    return eval(PackedLocalDate::isAfter, packed);
+    return isAfter(PackedLocalDate.pack(value));
   }
 
   default Selection isBefore(int value) {
-    return eval(PackedLocalDate::isBefore, value);
+    if (value == Integer.MIN_VALUE) {
+      return new BitmapBackedSelection();
+    }
+    return isBetweenIncluding(Integer.MIN_VALUE, value - 1);
   }
 
   default Selection isBetweenExcluding(int lowValue, int highValue) {
-    return eval(PackedLocalDate::isAfter, lowValue).and(eval(PackedLocalDate::isBefore, highValue));
+    if (lowValue == Integer.MAX_VALUE || highValue == Integer.MIN_VALUE) {
+      return new BitmapBackedSelection();
+    }
+    return isBetweenIncluding(lowValue + 1, highValue - 1);
   }
 
   default Selection isBetweenExcluding(LocalDate lowValue, LocalDate highValue) {
@@ -218,9 +226,14 @@ public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpe
     return isBetweenIncluding(PackedLocalDate.pack(lowValue), PackedLocalDate.pack(highValue));
   }
 
+  /**
+   * Returns the rows whose packed dates are at least lowValue and at most highValue. A missing
+   * value compares as the missing value indicator, which is smaller than any packed date. The other
+   * comparisons with a single date are expressed as this one, so a column that can find its rows
+   * faster only needs to override this method
+   */
   default Selection isBetweenIncluding(int lowValue, int highValue) {
-    return eval(PackedLocalDate::isOnOrAfter, lowValue)
-        .and(eval(PackedLocalDate::isOnOrBefore, highValue));
+    return eval((int value) -> value >= lowValue && value <= highValue);
   }
 
   default Selection isBefore(LocalDate value) {
@@ -228,13 +241,11 @@ public interface DateFilters extends Column<LocalDate>, DateAndDateTimeFilterSpe
   }
 
   default Selection isOnOrBefore(LocalDate value) {
-    int packed = PackedLocalDate.pack(value);
-    return eval(PackedLocalDate::isOnOrBefore, packed);
+    return isBetweenIncluding(Integer.MIN_VALUE, PackedLocalDate.pack(value));
   }
 
   default Selection isOnOrAfter(LocalDate value) {
-    int packed = PackedLocalDate.pack(value);
-    return eval(isGreaterThanOrEqualTo, packed);
+    return isBetweenIncluding(PackedLocalDate.pack(value), Integer.MAX_VALUE);
   }
 
   default Selection isEqualTo(LocalDate value) {
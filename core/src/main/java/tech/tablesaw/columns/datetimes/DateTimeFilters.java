@@ -15,7 +15,7 @@ public interface DateTimeFilters
     extends TemporalFilters<LocalDateTime>, DateTimeFilterSpec<Selection> {
 
   default Selection isAfter(LocalDateTime value) {
-    return eval(isGreaterThan, PackedLocalDateTime.pack(value));
+    return isAfter(PackedLocalDateTime.pack(value));
   }
 
   default Selection isAfter(LocalDate value) {
@@ -27,11 +27,11 @@ public interface DateTimeFilters
   }
 
   default Selection isOnOrAfter(LocalDateTime value) {
-    return eval(isGreaterThanOrEqualTo, PackedLocalDateTime.pack(value));
+    return isBetweenIncluding(PackedLocalDateTime.pack(value), Long.MAX_VALUE);
   }
 
   default Selection isBefore(LocalDateTime value) {
-    return eval(isLessThan, PackedLocalDateTime.pack(value));
+    return isBefore(PackedLocalDateTime.pack(value));
   }
 
   default Selection isBefore(LocalDate value) {
@@ -43,7 +43,7 @@ public interface DateTimeFilters
   }
 
   default Selection isOnOrBefore(LocalDateTime value) {
-    return eval(isLessThanOrEqualTo, PackedLocalDateTime.pack(value));
+    return isBetweenIncluding(Long.MIN_VALUE, PackedLocalDateTime.pack(value));
   }
 
   default Selection isAfter(DateTimeColumn column) {
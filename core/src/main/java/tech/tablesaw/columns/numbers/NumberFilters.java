@@ -14,11 +14,6 @@
 
 package tech.tablesaw.columns.numbers;
 
-import static tech.tablesaw.columns.numbers.NumberPredicates.isNegative;
-import static tech.tablesaw.columns.numbers.NumberPredicates.isNonNegative;
-import static tech.tablesaw.columns.numbers.NumberPredicates.isPositive;
-import static tech.tablesaw.columns.numbers.NumberPredicates.isZero;
-
 import java.util.Collection;
 import java.util.function.BiPredicate;
 import java.util.function.DoublePredicate;
@@ -34,35 +29,50 @@ public interface NumberFilters extends NumberFilterSpec<Selection> {
   Selection eval(BiPredicate<Number, Number> predicate, Number value);
 
   default Selection isEqualTo(double d) {
-    return eval(NumberPredicates.isEqualTo(d));
+    return isBetweenInclusive(d, d);
   }
 
   default Selection isNotEqualTo(double d) {
-    return eval(NumberPredicates.isNotEqualTo(d));
+    // missing values are never equal to d, so they are selected here
+    Selection results = new BitmapBackedSelection();
+    results.addRange(0, size());
+    results.andNot(isEqualTo(d));
+    return results;
   }
 
   default Selection isBetweenExclusive(double start, double end) {
-    return eval(NumberPredicates.isBetweenExclusive(start, end));
+    return isBetweenInclusive(Math.nextUp(start), Math.nextDown(end));
   }
 
+  /**
+   * Returns the rows whose values are at least start and at most end. Missing values are never
+   * selected. The other range comparisons are expressed as this one, so a column that can scan its
+   * values faster than {@link #eval(DoublePredicate)} only needs to override this method
+   */
   default Selection isBetweenInclusive(double start, double end) {
     return eval(NumberPredicates.isBetweenInclusive(start, end));
   }
 
   default Selection isGreaterThan(double f) {
-    return eval(NumberPredicates.isGreaterThan(f));
+    if (f == Double.POSITIVE_INFINITY) {
+      return new BitmapBackedSelection();
+    }
+    return isBetweenInclusive(Math.nextUp(f), Double.POSITIVE_INFINITY);
   }
 
   default Selection isGreaterThanOrEqualTo(double f) {
-    return eval(NumberPredicates.isGreaterThanOrEqualTo(f));
+    return isBetweenInclusive(f, Double.POSITIVE_INFINITY);
   }
 
   default Selection isLessThan(double f) {
-    return eval(NumberPredicates.isLessThan(f));
+    if (f == Double.NEGATIVE_INFINITY) {
+      return new BitmapBackedSelection();
+    }
+    return isBetweenInclusive(Double.NEGATIVE_INFINITY, Math.nextDown(f));
   }
 
   default Selection isLessThanOrEqualTo(double f) {
-    return eval(NumberPredicates.isLessThanOrEqualTo(f));
+    return isBetweenInclusive(Double.NEGATIVE_INFINITY, f);
   }
 
   Selection isIn(Collection<Number> numbers);
@@ -70,33 +80,26 @@ public interface NumberFilters extends NumberFilterSpec<Selection> {
   Selection isNotIn(Collection<Number> numbers);
 
   default Selection isZero() {
-    return eval(isZero);
+    return isEqualTo(0);
   }
 
   default Selection isPositive() {
-    return eval(isPositive);
+    return isGreaterThan(0);
   }
 
   default Selection isNegative() {
-    return eval(isNegative);
+    return isLessThan(0);
   }
 
   default Selection isNonNegative() {
-    return eval(isNonNegative);
+    return isGreaterThanOrEqualTo(0);
   }
 
   // TODO(lwhite): see section in Effective Java on double point comparisons.
   default Selection isCloseTo(Number target, Number margin) {
-    Selection results = new BitmapBackedSelection();
-    for (int i = 0; i < size(); i++) {
-      double targetValue = target.doubleValue();
-      double marginValue = margin.doubleValue();
-      double val = getDouble(i);
-      if (val > targetValue - marginValue && val < targetValue + marginValue) {
-        results.add(i);
-      }
-    }
-    return results;
+    double targetValue = target.doubleValue();
+    double marginValue = margin.doubleValue();
+    return isBetweenExclusive(targetValue - marginValue, targetValue + marginValue);
   }
 
   Selection isMissing();
@@ -11,6 +11,7 @@ import it.unimi.dsi.fastutil.bytes.ByteArrays;
 import it.unimi.dsi.fastutil.bytes.ByteComparator;
 import it.unimi.dsi.fastutil.bytes.ByteListIterator;
 import it.unimi.dsi.fastutil.bytes.ByteOpenHashSet;
+import it.unimi.dsi.fastutil.ints.Int2ByteOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ByteOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectSet;
 import java.nio.ByteBuffer;
@@ -23,6 +24,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.roaringbitmap.RoaringBitmap;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.StringColumn;
@@ -233,8 +237,134 @@ public class ByteDictionaryMap implements DictionaryMap {
     return results;
   }
 
+  @Override
+  public Selection selectMatching(Predicate<String> predicate) {
+    // Test each distinct value once. A key's outcome is kept at its offset from
+    // DEFAULT_RETURN_VALUE, which is never a key, so that slot is free for MISSING_VALUE
+    boolean[] matches = new boolean[nextIndex.get() - DEFAULT_RETURN_VALUE + 1];
+    boolean anyMatches = false;
+    for (Byte2ObjectMap.Entry<String> entry : keyToValue.byte2ObjectEntrySet()) {
+      byte key = entry.getByteKey();
+      if (predicate.test(entry.getValue())) {
+        matches[key == MISSING_VALUE ? 0 : key - DEFAULT_RETURN_VALUE] = true;
+        anyMatches = true;
+      }
+    }
+    if (!anyMatches) {
+      return new BitmapBackedSelection();
+    }
+
+    int[] rows = new int[values.size()];
+    int count = 0;
+    for (int i = 0; i < values.size(); i++) {
+      byte key = values.getByte(i);
+      if (matches[key == MISSING_VALUE ? 0 : key - DEFAULT_RETURN_VALUE]) {
+        rows[count++] = i;
+      }
+    }
+    RoaringBitmap bitmap = new RoaringBitmap();
+    bitmap.addN(rows, 0, count);
+    return new BitmapBackedSelection(bitmap);
+  }
+
+  @Override
+  public DictionaryMap mapValues(Function<String, String> function)
+      throws NoKeysAvailableException {
+    // Map each distinct value once. A key whose new value was already produced for another key is
+    // replaced by that key. Replacements are kept at the key's offset from DEFAULT_RETURN_VALUE,
+    // which is never a key, so that slot is free for MISSING_VALUE
+    byte[] newKeys = new byte[nextIndex.get() - DEFAULT_RETURN_VALUE + 1];
+    boolean remapped = false;
+    int mappedNextIndex = nextIndex.get();
+    Byte2ObjectOpenHashMap<String> mappedKeyToValue = new Byte2ObjectOpenHashMap<>();
+    Object2ByteOpenHashMap<String> mappedValueToKey = new Object2ByteOpenHashMap<>();
+    mappedValueToKey.defaultReturnValue(DEFAULT_RETURN_VALUE);
+    Byte2IntOpenHashMap mappedKeyToCount = new Byte2IntOpenHashMap();
+    for (Byte2ObjectMap.Entry<String> entry : keyToValue.byte2ObjectEntrySet()) {
+      byte key = entry.getByteKey();
+      String value = function.apply(entry.getValue());
+      if (value == null) {
+        value = StringColumnType.missingValueIndicator();
+      }
+      byte newKey = mappedValueToKey.getByte(value);
+      if (newKey == DEFAULT_RETURN_VALUE) {
+        if (StringColumnType.missingValueIndicator().equals(value)) {
+          newKey = MISSING_VALUE;
+        } else if (key != MISSING_VALUE) {
+          newKey = key;
+        } else {
+          // the missing value was mapped to a new value, which needs a key of its own
+          if (++mappedNextIndex >= Byte.MAX_VALUE) {
+            String msg =
+                String.format(
+                    "String column can only contain %d unique values. Column has more.",
+                    MAX_UNIQUE);
+            throw new NoKeysAvailableException(msg);
+          }
+          newKey = (byte) mappedNextIndex;
+        }
+        mappedKeyToValue.put(newKey, value);
+        mappedValueToKey.put(value, newKey);
+      }
+      mappedKeyToCount.addTo(newKey, keyToCount.get(key));
+      newKeys[key == MISSING_VALUE ? 0 : key - DEFAULT_RETURN_VALUE] = newKey;
+      remapped |= newKey != key;
+    }
+
+    byte[] keys = values.toByteArray();
+    if (remapped) {
+      for (int i = 0; i < keys.length; i++) {
+        byte key = keys[i];
+        keys[i] = newKeys[key == MISSING_VALUE ? 0 : key - DEFAULT_RETURN_VALUE];
+      }
+    }
+    return new ByteDictionaryBuilder()
+        .setNextIndex(mappedNextIndex)
+        .setKeyToValue(mappedKeyToValue)
+        .setValueToKey(mappedValueToKey)
+        .setKeyToCount(mappedKeyToCount)
+        .setValues(keys)
+        .build();
+  }
+
   @Override
   public void append(String value) throws NoKeysAvailableException {
+    byte key = keyFor(value);
+    values.add(key);
+    keyToCount.addTo(key, 1);
+  }
+
+  /**
+   * Appends all the values of the other map. Each distinct key of the other map is looked up in
+   * this one only once, and fails up front, without appending anything, if this map could run out
+   * of keys.
+   */
+  @Override
+  public void append(DictionaryMap other) throws NoKeysAvailableException {
+    if ((long) nextIndex.get() + other.countUnique() >= Byte.MAX_VALUE) {
+      String msg =
+          String.format(
+              "String column can only contain %d unique values. Column has more.", MAX_UNIQUE);
+      throw new NoKeysAvailableException(msg);
+    }
+    Int2ByteOpenHashMap keys = new Int2ByteOpenHashMap();
+    keys.defaultReturnValue(DEFAULT_RETURN_VALUE);
+    int size = other.size();
+    values.ensureCapacity(values.size() + size);
+    for (int i = 0; i < size; i++) {
+      int otherKey = other.getKeyForIndex(i);
+      byte key = keys.get(otherKey);
+      if (key == DEFAULT_RETURN_VALUE) {
+        key = keyFor(other.getValueForKey(otherKey));
+        keys.put(otherKey, key);
+      }
+      values.add(key);
+      keyToCount.addTo(key, 1);
+    }
+  }
+
+  /** Returns the key of the given value, adding the value to the dictionary if it is new */
+  private byte keyFor(String value) throws NoKeysAvailableException {
     byte key;
     if (value == null || StringColumnType.missingValueIndicator().equals(value)) {
       key = MISSING_VALUE;
@@ -246,8 +376,7 @@ public class ByteDictionaryMap implements DictionaryMap {
       key = getValueId();
       put(key, value);
     }
-    values.add(key);
-    keyToCount.addTo(key, 1);
+    return key;
   }
 
   private byte getValueId() throws NoKeysAvailableException {
@@ -420,6 +549,47 @@ public class ByteDictionaryMap implements DictionaryMap {
     return getKeyForIndex(rowNumber) == MISSING_VALUE;
   }
 
+  @Override
+  public DictionaryMap take(int[] rowIds) {
+    // Gather the keys, counting how often each one occurs. A key's count is kept at its offset
+    // from DEFAULT_RETURN_VALUE, which is never a key, so that slot is free for MISSING_VALUE
+    byte[] keys = new byte[rowIds.length];
+    int[] counts = new int[nextIndex.get() - DEFAULT_RETURN_VALUE + 1];
+    for (int i = 0; i < rowIds.length; i++) {
+      int row = rowIds[i];
+      byte key = row < 0 ? MISSING_VALUE : values.getByte(row);
+      keys[i] = key;
+      counts[key == MISSING_VALUE ? 0 : key - DEFAULT_RETURN_VALUE]++;
+    }
+
+    // Keep only the dictionary entries for the keys that are still used
+    Byte2ObjectOpenHashMap<String> takenKeyToValue = new Byte2ObjectOpenHashMap<>();
+    Object2ByteOpenHashMap<String> takenValueToKey = new Object2ByteOpenHashMap<>();
+    takenValueToKey.defaultReturnValue(DEFAULT_RETURN_VALUE);
+    Byte2IntOpenHashMap takenKeyToCount = new Byte2IntOpenHashMap();
+    for (Byte2ObjectMap.Entry<String> entry : keyToValue.byte2ObjectEntrySet()) {
+      byte key = entry.getByteKey();
+      int count = counts[key == MISSING_VALUE ? 0 : key - DEFAULT_RETURN_VALUE];
+      if (count > 0) {
+        takenKeyToValue.put(key, entry.getValue());
+        takenValueToKey.put(entry.getValue(), key);
+        takenKeyToCount.put(key, count);
+      }
+    }
+    if (counts[0] > 0) {
+      takenKeyToValue.put(MISSING_VALUE, StringColumnType.missingValueIndicator());
+      takenValueToKey.put(StringColumnType.missingValueIndicator(), MISSING_VALUE);
+      takenKeyToCount.put(MISSING_VALUE, counts[0]);
+    }
+    return new ByteDictionaryBuilder()
+        .setNextIndex(nextIndex.get())
+        .setKeyToValue(takenKeyToValue)
+        .setValueToKey(takenValueToKey)
+        .setKeyToCount(takenKeyToCount)
+        .setValues(keys)
+        .build();
+  }
+
   @Override
   public DictionaryMap promoteYourself() {
 
@@ -5,6 +5,8 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.selection.BitmapBackedSelection;
@@ -71,8 +73,28 @@ public interface DictionaryMap {
 
   Selection selectIsIn(Collection<String> strings);
 
+  /**
+   * Returns the rows whose values satisfy the given predicate, which is tested once for each
+   * distinct value rather than once for each row
+   */
+  Selection selectMatching(Predicate<String> predicate);
+
+  /**
+   * Returns a new map holding the result of applying the function to each value of this one. The
+   * function is applied once for each distinct value, and a null result is treated as missing.
+   *
+   * @throws NoKeysAvailableException if the new map needs more keys than this type of map has
+   */
+  DictionaryMap mapValues(Function<String, String> function) throws NoKeysAvailableException;
+
   void append(String value) throws NoKeysAvailableException;
 
+  /**
+   * Appends all the values of the other map, looking each of its distinct values up only once.
+   * Nothing is appended if this map runs out of keys.
+   */
+  void append(DictionaryMap other) throws NoKeysAvailableException;
+
   void set(int rowIndex, String stringValue) throws NoKeysAvailableException;
 
   void clear();
@@ -106,5 +128,12 @@ public interface DictionaryMap {
 
   DictionaryMap promoteYourself();
 
+  /**
+   * Returns a new map of the same kind holding the keys at the given row numbers, in the order
+   * given, where a negative row number gives a missing value. The strings are not copied, and only
+   * the dictionary entries that are still used are kept.
+   */
+  DictionaryMap take(int[] rowIds);
+
   int nextKeyWithoutIncrementing();
 }
@@ -23,6 +23,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.roaringbitmap.RoaringBitmap;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.StringColumn;
@@ -236,8 +239,134 @@ public class IntDictionaryMap implements DictionaryMap {
     return results;
   }
 
+  @Override
+  public Selection selectMatching(Predicate<String> predicate) {
+    // Test each distinct value once. A key's outcome is kept at its offset from
+    // DEFAULT_RETURN_VALUE, which is never a key, so that slot is free for MISSING_VALUE
+    boolean[] matches = new boolean[nextIndex.get() - DEFAULT_RETURN_VALUE + 1];
+    boolean anyMatches = false;
+    for (Int2ObjectMap.Entry<String> entry : keyToValue.int2ObjectEntrySet()) {
+      int key = entry.getIntKey();
+      if (predicate.test(entry.getValue())) {
+        matches[key == MISSING_VALUE ? 0 : key - DEFAULT_RETURN_VALUE] = true;
+        anyMatches = true;
+      }
+    }
+    if (!anyMatches) {
+      return new BitmapBackedSelection();
+    }
+
+    int[] rows = new int[values.size()];
+    int count = 0;
+    for (int i = 0; i < values.size(); i++) {
+      int key = values.getInt(i);
+      if (matches[key == MISSING_VALUE ? 0 : key - DEFAULT_RETURN_VALUE]) {
+        rows[count++] = i;
+      }
+    }
+    RoaringBitmap bitmap = new RoaringBitmap();
+    bitmap.addN(rows, 0, count);
+    return new BitmapBackedSelection(bitmap);
+  }
+
+  @Override
+  public DictionaryMap mapValues(Function<String, String> function)
+      throws NoKeysAvailableException {
+    // Map each distinct value once. A key whose new value was already produced for another key is
+    // replaced by that key. Replacements are kept at the key's offset from DEFAULT_RETURN_VALUE,
+    // which is never a key, so that slot is free for MISSING_VALUE
+    int[] newKeys = new int[nextIndex.get() - DEFAULT_RETURN_VALUE + 1];
+    boolean remapped = false;
+    int mappedNextIndex = nextIndex.get();
+    Int2ObjectOpenHashMap<String> mappedKeyToValue = new Int2ObjectOpenHashMap<>();
+    Object2IntOpenHashMap<String> mappedValueToKey = new Object2IntOpenHashMap<>();
+    mappedValueToKey.defaultReturnValue(DEFAULT_RETURN_VALUE);
+    Int2IntOpenHashMap mappedKeyToCount = new Int2IntOpenHashMap();
+    for (Int2ObjectMap.Entry<String> entry : keyToValue.int2ObjectEntrySet()) {
+      int key = entry.getIntKey();
+      String value = function.apply(entry.getValue());
+      if (value == null) {
+        value = StringColumnType.missingValueIndicator();
+      }
+      int newKey = mappedValueToKey.getInt(value);
+      if (newKey == DEFAULT_RETURN_VALUE) {
+        if (StringColumnType.missingValueIndicator().equals(value)) {
+          newKey = MISSING_VALUE;
+        } else if (key != MISSING_VALUE) {
+          newKey = key;
+        } else {
+          // the missing value was mapped to a new value, which needs a key of its own
+          if (++mappedNextIndex >= Integer.MAX_VALUE) {
+            String msg =
+                String.format(
+                    "String column can only contain %d unique values. Column has more.",
+                    MAX_UNIQUE);
+            throw new NoKeysAvailableException(msg);
+          }
+          newKey = mappedNextIndex;
+        }
+        mappedKeyToValue.put(newKey, value);
+        mappedValueToKey.put(value, newKey);
+      }
+      mappedKeyToCount.addTo(newKey, keyToCount.get(key));
+      newKeys[key == MISSING_VALUE ? 0 : key - DEFAULT_RETURN_VALUE] = newKey;
+      remapped |= newKey != key;
+    }
+
+    int[] keys = values.toIntArray();
+    if (remapped) {
+      for (int i = 0; i < keys.length; i++) {
+        int key = keys[i];
+        keys[i] = newKeys[key == MISSING_VALUE ? 0 : key - DEFAULT_RETURN_VALUE];
+      }
+    }
+    return new IntDictionaryBuilder()
+        .setNextIndex(mappedNextIndex)
+        .setKeyToValue(mappedKeyToValue)
+        .setValueToKey(mappedValueToKey)
+        .setKeyToCount(mappedKeyToCount)
+        .setValues(keys)
+        .build();
+  }
+
   @Override
   public void append(String value) throws NoKeysAvailableException {
+    int key = keyFor(value);
+    values.add(key);
+    keyToCount.addTo(key, 1);
+  }
+
+  /**
+   * Appends all the values of the other map. Each distinct key of the other map is looked up in
+   * this one only once, and fails up front, without appending anything, if this map could run out
+   * of keys.
+   */
+  @Override
+  public void append(DictionaryMap other) throws NoKeysAvailableException {
+    if ((long) nextIndex.get() + other.countUnique() >= Integer.MAX_VALUE) {
+      String msg =
+          String.format(
+              "String column can only contain %d unique values. Column has more.", MAX_UNIQUE);
+      throw new NoKeysAvailableException(msg);
+    }
+    Int2IntOpenHashMap keys = new Int2IntOpenHashMap();
+    keys.defaultReturnValue(DEFAULT_RETURN_VALUE);
+    int size = other.size();
+    values.ensureCapacity(values.size() + size);
+    for (int i = 0; i < size; i++) {
+      int otherKey = other.getKeyForIndex(i);
+      int key = keys.get(otherKey);
+      if (key == DEFAULT_RETURN_VALUE) {
+        key = keyFor(other.getValueForKey(otherKey));
+        keys.put(otherKey, key);
+      }
+      values.add(key);
+      keyToCount.addTo(key, 1);
+    }
+  }
+
+  /** Returns the key of the given value, adding the value to the dictionary if it is new */
+  private int keyFor(String value) throws NoKeysAvailableException {
     int key;
     if (value == null || StringColumnType.missingValueIndicator().equals(value)) {
       key = MISSING_VALUE;
@@ -249,8 +378,7 @@ public class IntDictionaryMap implements DictionaryMap {
       key = getValueId();
       put(key, value);
     }
-    values.add(key);
-    keyToCount.addTo(key, 1);
+    return key;
   }
 
   private int getValueId() throws NoKeysAvailableException {
@@ -415,6 +543,47 @@ public class IntDictionaryMap implements DictionaryMap {
     return getKeyForIndex(rowNumber) == MISSING_VALUE;
   }
 
+  @Override
+  public DictionaryMap take(int[] rowIds) {
+    // Gather the keys, counting how often each one occurs. A key's count is kept at its offset
+    // from DEFAULT_RETURN_VALUE, which is never a key, so that slot is free for MISSING_VALUE
+    int[] keys = new int[rowIds.length];
+    int[] counts = new int[nextIndex.get() - DEFAULT_RETURN_VALUE + 1];
+    for (int i = 0; i < rowIds.length; i++) {
+      int row = rowIds[i];
+      int key = row < 0 ? MISSING_VALUE : values.getInt(row);
+      keys[i] = key;
+      counts[key == MISSING_VALUE ? 0 : key - DEFAULT_RETURN_VALUE]++;
+    }
+
+    // Keep only the dictionary entries for the keys that are still used
+    Int2ObjectOpenHashMap<String> takenKeyToValue = new Int2ObjectOpenHashMap<>();
+    Object2IntOpenHashMap<String> takenValueToKey = new Object2IntOpenHashMap<>();
+    takenValueToKey.defaultReturnValue(DEFAULT_RETURN_VALUE);
+    Int2IntOpenHashMap takenKeyToCount = new Int2IntOpenHashMap();
+    for (Int2ObjectMap.Entry<String> entry : keyToValue.int2ObjectEntrySet()) {
+      int key = entry.getIntKey();
+      int count = counts[key == MISSING_VALUE ? 0 : key - DEFAULT_RETURN_VALUE];
+      if (count > 0) {
+        takenKeyToValue.put(key, entry.getValue());
+        takenValueToKey.put(entry.getValue(), key);
+        takenKeyToCount.put(key, count);
+      }
+    }
+    if (counts[0] > 0) {
+      takenKeyToValue.put(MISSING_VALUE, StringColumnType.missingValueIndicator());
+      takenValueToKey.put(StringColumnType.missingValueIndicator(), MISSING_VALUE);
+      takenKeyToCount.put(MISSING_VALUE, counts[0]);
+    }
+    return new IntDictionaryBuilder()
+        .setNextIndex(nextIndex.get())
+        .setKeyToValue(takenKeyToValue)
+        .setValueToKey(takenValueToKey)
+        .setKeyToCount(takenKeyToCount)
+        .setValues(keys)
+        .build();
+  }
+
   @Override
   public DictionaryMap promoteYourself() {
     return this;
@@ -20,6 +20,7 @@ import com.google.common.base.Strings;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.FloatColumn;
@@ -37,29 +38,24 @@ import tech.tablesaw.util.StringUtils;
  */
 public interface StringMapFunctions extends Column<String> {
 
-  default StringColumn upperCase() {
-    StringColumn newColumn = StringColumn.create(this.name() + "[ucase]");
-
+  /**
+   * Returns a StringColumn with the given name that holds the result of applying the function to
+   * the value in each row of this column. A null result is treated as missing
+   */
+  default StringColumn mapStrings(String name, Function<String, String> function) {
+    StringColumn newColumn = StringColumn.create(name);
     for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      if (value == null) {
-        newColumn.append(StringColumnType.missingValueIndicator());
-      } else {
-        newColumn.append(value.toUpperCase());
-      }
+      newColumn.append(function.apply(getString(r)));
     }
     return newColumn;
   }
 
-  default StringColumn lowerCase() {
-
-    StringColumn newColumn = StringColumn.create(name() + "[lcase]");
+  default StringColumn upperCase() {
+    return mapStrings(name() + "[ucase]", String::toUpperCase);
+  }
 
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(value.toLowerCase());
-    }
-    return newColumn;
+  default StringColumn lowerCase() {
+    return mapStrings(name() + "[lcase]", String::toLowerCase);
   }
 
   /**
@@ -75,14 +71,7 @@ public interface StringMapFunctions extends Column<String> {
    * </pre>
    */
   default StringColumn capitalize() {
-
-    StringColumn newColumn = StringColumn.create(name() + "[titleCase]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(StringUtils.capitalize(value));
-    }
-    return newColumn;
+    return mapStrings(name() + "[titleCase]", StringUtils::capitalize);
   }
 
   /**
@@ -97,57 +86,24 @@ public interface StringMapFunctions extends Column<String> {
    * @return the new StringColumn
    */
   default StringColumn repeat(int times) {
-
-    StringColumn newColumn = StringColumn.create(String.format("%s [rep %d]", name(), times));
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(StringUtils.repeat(value, times));
-    }
-    return newColumn;
+    return mapStrings(
+        String.format("%s [rep %d]", name(), times), value -> StringUtils.repeat(value, times));
   }
 
   default StringColumn trim() {
-
-    StringColumn newColumn = StringColumn.create(name() + "[trim]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(value.trim());
-    }
-    return newColumn;
+    return mapStrings(name() + "[trim]", String::trim);
   }
 
   default StringColumn replaceAll(String regex, String replacement) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[repl]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(value.replaceAll(regex, replacement));
-    }
-    return newColumn;
+    return mapStrings(name() + "[repl]", value -> value.replaceAll(regex, replacement));
   }
 
   default StringColumn replaceFirst(String regex, String replacement) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[repl]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(value.replaceFirst(regex, replacement));
-    }
-    return newColumn;
+    return mapStrings(name() + "[repl]", value -> value.replaceFirst(regex, replacement));
   }
 
   default StringColumn substring(int start, int end) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[sub]");
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(value.substring(start, end));
-    }
-    return newColumn;
+    return mapStrings(name() + "[sub]", value -> value.substring(start, end));
   }
 
   /**
@@ -157,14 +113,7 @@ public interface StringMapFunctions extends Column<String> {
    *     start
    */
   default StringColumn substring(int start) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[sub]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(value.substring(start));
-    }
-    return newColumn;
+    return mapStrings(name() + "[sub]", value -> value.substring(start));
   }
 
   /**
@@ -175,22 +124,12 @@ public interface StringMapFunctions extends Column<String> {
    */
   default StringColumn abbreviate(int maxWidth) {
     final String defaultAbbrevMarker = "...";
-
-    StringColumn newColumn = StringColumn.create(name() + "[abbr]");
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(StringUtils.abbreviate(value, defaultAbbrevMarker, maxWidth));
-    }
-    return newColumn;
+    return mapStrings(
+        name() + "[abbr]", value -> StringUtils.abbreviate(value, defaultAbbrevMarker, maxWidth));
   }
 
   default StringColumn format(String formatString) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[formatted]");
-    for (int r = 0; r < size(); r++) {
-      newColumn.append(String.format(formatString, getString(r)));
-    }
-    return newColumn;
+    return mapStrings(name() + "[formatted]", value -> String.format(formatString, value));
   }
 
   /**
@@ -248,25 +187,11 @@ public interface StringMapFunctions extends Column<String> {
   }
 
   default StringColumn padEnd(int minLength, char padChar) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[pad]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(Strings.padEnd(value, minLength, padChar));
-    }
-    return newColumn;
+    return mapStrings(name() + "[pad]", value -> Strings.padEnd(value, minLength, padChar));
   }
 
   default StringColumn padStart(int minLength, char padChar) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[pad]");
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      newColumn.append(Strings.padStart(value, minLength, padChar));
-    }
-    return newColumn;
+    return mapStrings(name() + "[pad]", value -> Strings.padStart(value, minLength, padChar));
   }
 
   default StringColumn commonPrefix(Column<String> column2) {
@@ -366,34 +291,25 @@ public interface StringMapFunctions extends Column<String> {
    * @return the new column
    */
   default StringColumn replaceAll(String[] regexArray, String replacement) {
-
-    StringColumn newColumn = StringColumn.create(name() + "[repl]", this.size());
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      for (String regex : regexArray) {
-        value = value.replaceAll(regex, replacement);
-      }
-      newColumn.set(r, value);
-    }
-    return newColumn;
+    return mapStrings(
+        name() + "[repl]",
+        value -> {
+          for (String regex : regexArray) {
+            value = value.replaceAll(regex, replacement);
+          }
+          return value;
+        });
   }
 
   default StringColumn tokenizeAndSort(String separator) {
-    StringColumn newColumn = StringColumn.create(name() + "[sorted]", this.size());
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-
-      Splitter splitter = Splitter.on(separator);
-      splitter = splitter.trimResults();
-      splitter = splitter.omitEmptyStrings();
-      List<String> tokens = new ArrayList<>(splitter.splitToList(value));
-      Collections.sort(tokens);
-      value = String.join(separator, tokens);
-      newColumn.set(r, value);
-    }
-    return newColumn;
+    Splitter splitter = Splitter.on(separator).trimResults().omitEmptyStrings();
+    return mapStrings(
+        name() + "[sorted]",
+        value -> {
+          List<String> tokens = new ArrayList<>(splitter.splitToList(value));
+          Collections.sort(tokens);
+          return String.join(separator, tokens);
+        });
   }
 
   default DoubleColumn countTokens(String separator) {
@@ -470,35 +386,21 @@ public interface StringMapFunctions extends Column<String> {
    * @return a {@link StringColumn}
    */
   default StringColumn tokenizeAndSort() {
-    StringColumn newColumn = StringColumn.create(name() + "[sorted]", this.size());
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-      Splitter splitter = Splitter.on(CharMatcher.whitespace());
-      splitter = splitter.trimResults();
-      splitter = splitter.omitEmptyStrings();
-      List<String> tokens = new ArrayList<>(splitter.splitToList(value));
-      Collections.sort(tokens);
-      value = String.join(" ", tokens);
-      newColumn.set(r, value);
-    }
-    return newColumn;
+    Splitter splitter = Splitter.on(CharMatcher.whitespace()).trimResults().omitEmptyStrings();
+    return mapStrings(
+        name() + "[sorted]",
+        value -> {
+          List<String> tokens = new ArrayList<>(splitter.splitToList(value));
+          Collections.sort(tokens);
+          return String.join(" ", tokens);
+        });
   }
 
   default StringColumn tokenizeAndRemoveDuplicates(String separator) {
-    StringColumn newColumn = StringColumn.create(name() + "[without duplicates]", this.size());
-
-    for (int r = 0; r < size(); r++) {
-      String value = getString(r);
-
-      Splitter splitter = Splitter.on(separator);
-      splitter = splitter.trimResults();
-      splitter = splitter.omitEmptyStrings();
-      List<String> tokens = new ArrayList<>(splitter.splitToList(value));
-
-      String result = tokens.stream().distinct().collect(Collectors.joining(separator));
-      newColumn.set(r, result);
-    }
-    return newColumn;
+    Splitter splitter = Splitter.on(separator).trimResults().omitEmptyStrings();
+    return mapStrings(
+        name() + "[without duplicates]",
+        value ->
+            splitter.splitToList(value).stream().distinct().collect(Collectors.joining(separator)));
   }
 }
@@ -71,21 +71,44 @@ public interface TemporalFilters<T extends Temporal>
   }
 
   default Selection isBetweenExcluding(long lowPackedDateTime, long highPackedDateTime) {
-    return eval(PackedInstant::isAfter, lowPackedDateTime)
-        .and(eval(PackedInstant::isBefore, highPackedDateTime));
+    if (lowPackedDateTime == Long.MAX_VALUE || highPackedDateTime == Long.MIN_VALUE) {
+      return new BitmapBackedSelection();
+    }
+    return isBetweenIncluding(lowPackedDateTime + 1, highPackedDateTime - 1);
   }
 
+  /**
+   * Returns the rows whose packed values are at least lowPackedDateTime and at most
+   * highPackedDateTime. A missing value compares as the missing value indicator, which is smaller
+   * than any other packed value. The other comparisons with a single value are expressed as this
+   * one, so a column that can find its rows faster only needs to override this method
+   */
   default Selection isBetweenIncluding(long lowPackedDateTime, long highPackedDateTime) {
-    return eval(PackedInstant::isOnOrAfter, lowPackedDateTime)
-        .and(eval(PackedInstant::isOnOrBefore, highPackedDateTime));
+    return eval((long value) -> value >= lowPackedDateTime && value <= highPackedDateTime);
   }
 
   default Selection isAfter(Instant value) {
-    return eval(isGreaterThan, PackedInstant.pack(value));
+    return isAfter(PackedInstant.pack(value));
   }
 
   default Selection isBefore(Instant value) {
-    return eval(isLessThan, PackedInstant.pack(value));
+    return isBefore(PackedInstant.pack(value));
+  }
+
+  /** Returns the rows whose packed values are greater than the given one */
+  default Selection isAfter(long packedDateTime) {
+    if (packedDateTime == Long.MAX_VALUE) {
+      return new BitmapBackedSelection();
+    }
+    return isBetweenIncluding(packedDateTime + 1, Long.MAX_VALUE);
+  }
+
+  /** Returns the rows whose packed values are less than the given one */
+  default Selection isBefore(long packedDateTime) {
+    if (packedDateTime == Long.MIN_VALUE) {
+      return new BitmapBackedSelection();
+    }
+    return isBetweenIncluding(Long.MIN_VALUE, packedDateTime - 1);
   }
 
   default Selection isEqualTo(Instant value) {
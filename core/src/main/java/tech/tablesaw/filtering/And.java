@@ -2,12 +2,19 @@ package tech.tablesaw.filtering;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.function.Function;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.selection.Selection;
 
+/**
+ * Selects the rows that pass all of its arguments. The arguments are applied from the cheapest to
+ * the most costly, each one only to the rows that passed the ones before it, and none are applied
+ * once no rows are left.
+ */
 @Beta
-public class And implements Function<Table, Selection> {
+public class And implements RowFilter {
 
   private Function<Table, Selection>[] arguments;
 
@@ -16,15 +23,30 @@ public class And implements Function<Table, Selection> {
     Preconditions.checkNotNull(arguments, "The arguments to And must be non-null");
     Preconditions.checkArgument(
         arguments.length > 0, "The arguments to And must be an array of length 1 or greater");
-    this.arguments = arguments;
+    this.arguments = arguments.clone();
+    Arrays.sort(this.arguments, Comparator.comparingInt(RowFilter::cost));
   }
 
   @Override
   public Selection apply(Table table) {
     Selection result = arguments[0].apply(table);
-    for (int i = 1; i < arguments.length; i++) {
-      result.and(arguments[i].apply(table));
+    for (int i = 1; i < arguments.length && !result.isEmpty(); i++) {
+      result = RowFilter.apply(arguments[i], table, result);
     }
     return result;
   }
+
+  @Override
+  public Selection apply(Table table, Selection candidates) {
+    Selection result = RowFilter.apply(arguments[0], table, candidates);
+    for (int i = 1; i < arguments.length && !result.isEmpty(); i++) {
+      result = RowFilter.apply(arguments[i], table, result);
+    }
+    return result;
+  }
+
+  @Override
+  public int cost() {
+    return Arrays.stream(arguments).mapToInt(RowFilter::cost).sum();
+  }
 }
@@ -1,10 +1,14 @@
 package tech.tablesaw.filtering;
 
 import com.google.common.annotations.Beta;
+import it.unimi.dsi.fastutil.doubles.DoubleOpenHashSet;
+import it.unimi.dsi.fastutil.doubles.DoubleSet;
 import java.util.Collection;
+import java.util.function.DoublePredicate;
 import java.util.function.Function;
 import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.numbers.NumberPredicates;
 import tech.tablesaw.selection.Selection;
 
 @Beta
@@ -17,72 +21,83 @@ public class DeferredNumberColumn extends DeferredColumn
 
   @Override
   public Function<Table, Selection> isEqualTo(double other) {
-    return table -> table.numberColumn(name()).isEqualTo(other);
+    return filter(column -> column.isEqualTo(other), NumberPredicates.isEqualTo(other));
   }
 
   @Override
   public Function<Table, Selection> isBetweenExclusive(double start, double end) {
-    return table -> table.numberColumn(name()).isBetweenExclusive(start, end);
+    return filter(
+        column -> column.isBetweenExclusive(start, end),
+        NumberPredicates.isBetweenExclusive(start, end));
   }
 
   @Override
   public Function<Table, Selection> isBetweenInclusive(double start, double end) {
-    return table -> table.numberColumn(name()).isBetweenInclusive(start, end);
+    return filter(
+        column -> column.isBetweenInclusive(start, end),
+        NumberPredicates.isBetweenInclusive(start, end));
   }
 
   @Override
   public Function<Table, Selection> isGreaterThan(double f) {
-    return table -> table.numberColumn(name()).isGreaterThan(f);
+    return filter(column -> column.isGreaterThan(f), NumberPredicates.isGreaterThan(f));
   }
 
   @Override
   public Function<Table, Selection> isGreaterThanOrEqualTo(double f) {
-    return table -> table.numberColumn(name()).isGreaterThanOrEqualTo(f);
+    return filter(
+        column -> column.isGreaterThanOrEqualTo(f), NumberPredicates.isGreaterThanOrEqualTo(f));
   }
 
   @Override
   public Function<Table, Selection> isLessThan(double f) {
-    return table -> table.numberColumn(name()).isLessThan(f);
+    return filter(column -> column.isLessThan(f), NumberPredicates.isLessThan(f));
   }
 
   @Override
   public Function<Table, Selection> isLessThanOrEqualTo(double f) {
-    return table -> table.numberColumn(name()).isLessThanOrEqualTo(f);
+    return filter(column -> column.isLessThanOrEqualTo(f), NumberPredicates.isLessThanOrEqualTo(f));
   }
 
   @Override
   public Function<Table, Selection> isIn(Collection<Number> numbers) {
-    return table -> table.numberColumn(name()).isIn(numbers);
+    DoubleSet values = doubleSet(numbers);
+    return filter(column -> column.isIn(numbers), values::contains);
   }
 
   @Override
   public Function<Table, Selection> isNotIn(Collection<Number> numbers) {
-    return table -> table.numberColumn(name()).isNotIn(numbers);
+    DoubleSet values = doubleSet(numbers);
+    return filter(column -> column.isNotIn(numbers), value -> !values.contains(value));
   }
 
   @Override
   public Function<Table, Selection> isZero() {
-    return table -> table.numberColumn(name()).isZero();
+    return filter(column -> column.isZero(), NumberPredicates.isZero);
   }
 
   @Override
   public Function<Table, Selection> isPositive() {
-    return table -> table.numberColumn(name()).isPositive();
+    return filter(column -> column.isPositive(), NumberPredicates.isPositive);
   }
 
   @Override
   public Function<Table, Selection> isNegative() {
-    return table -> table.numberColumn(name()).isNegative();
+    return filter(column -> column.isNegative(), NumberPredicates.isNegative);
   }
 
   @Override
   public Function<Table, Selection> isNonNegative() {
-    return table -> table.numberColumn(name()).isNonNegative();
+    return filter(column -> column.isNonNegative(), NumberPredicates.isNonNegative);
   }
 
   @Override
   public Function<Table, Selection> isCloseTo(Number target, Number margin) {
-    return table -> table.numberColumn(name()).isCloseTo(target, margin);
+    double targetValue = target.doubleValue();
+    double marginValue = margin.doubleValue();
+    return filter(
+        column -> column.isCloseTo(target, margin),
+        NumberPredicates.isBetweenExclusive(targetValue - marginValue, targetValue + marginValue));
   }
 
   @Override
@@ -114,4 +129,27 @@ public class DeferredNumberColumn extends DeferredColumn
   public Function<Table, Selection> isLessThanOrEqualTo(NumericColumn<?> d) {
     return table -> table.numberColumn(name()).isLessThanOrEqualTo(d);
   }
+
+  /**
+   * Returns a filter that applies the wholeColumn function to the column when most rows are
+   * candidates, and otherwise tests the values of the candidates one by one
+   */
+  private RowFilter filter(
+      Function<NumericColumn<?>, Selection> wholeColumn, DoublePredicate rowTest) {
+    return RowFilter.of(
+        table -> wholeColumn.apply(table.numberColumn(name())),
+        table -> {
+          NumericColumn<?> column = table.numberColumn(name());
+          return row -> rowTest.test(column.getDouble(row));
+        },
+        RowFilter.LOW_COST);
+  }
+
+  private static DoubleSet doubleSet(Collection<Number> numbers) {
+    DoubleSet values = new DoubleOpenHashSet(numbers.size());
+    for (Number number : numbers) {
+      values.add(number.doubleValue());
+    }
+    return values;
+  }
 }
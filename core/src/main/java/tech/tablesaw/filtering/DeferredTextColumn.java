@@ -1,10 +1,17 @@
 package tech.tablesaw.filtering;
 
 import com.google.common.annotations.Beta;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.strings.StringPredicates;
 import tech.tablesaw.selection.Selection;
 
 @Beta
@@ -17,87 +24,98 @@ public class DeferredTextColumn extends DeferredColumn
 
   @Override
   public Function<Table, Selection> isEmptyString() {
-    return table -> table.textColumn(name()).isEmptyString();
+    return filter(column -> column.isEmptyString(), StringPredicates.isEmpty);
   }
 
   @Override
   public Function<Table, Selection> startsWith(String string) {
-    return table -> table.textColumn(name()).startsWith(string);
+    return filter(column -> column.startsWith(string), value -> value.startsWith(string));
   }
 
   @Override
   public Function<Table, Selection> endsWith(String string) {
-    return table -> table.textColumn(name()).endsWith(string);
+    return filter(column -> column.endsWith(string), value -> value.endsWith(string));
   }
 
   @Override
   public Function<Table, Selection> containsString(String string) {
-    return table -> table.textColumn(name()).containsString(string);
+    return filter(column -> column.containsString(string), value -> value.contains(string));
   }
 
   @Override
   public Function<Table, Selection> matchesRegex(String string) {
-    return table -> table.textColumn(name()).matchesRegex(string);
+    Pattern pattern = Pattern.compile(string);
+    return filter(
+        column -> column.matchesRegex(string),
+        value -> pattern.matcher(value).matches(),
+        RowFilter.HIGH_COST);
   }
 
   @Override
   public Function<Table, Selection> isAlpha() {
-    return table -> table.textColumn(name()).isAlpha();
+    return filter(column -> column.isAlpha(), StringPredicates.isAlpha);
   }
 
   @Override
   public Function<Table, Selection> isNumeric() {
-    return table -> table.textColumn(name()).isNumeric();
+    return filter(column -> column.isNumeric(), StringPredicates.isNumeric);
   }
 
   @Override
   public Function<Table, Selection> isAlphaNumeric() {
-    return table -> table.textColumn(name()).isAlphaNumeric();
+    return filter(column -> column.isAlphaNumeric(), StringPredicates.isAlphaNumeric);
   }
 
   @Override
   public Function<Table, Selection> isUpperCase() {
-    return table -> table.textColumn(name()).isUpperCase();
+    return filter(column -> column.isUpperCase(), StringPredicates.isUpperCase);
   }
 
   @Override
   public Function<Table, Selection> isLowerCase() {
-    return table -> table.textColumn(name()).isLowerCase();
+    return filter(column -> column.isLowerCase(), StringPredicates.isLowerCase);
   }
 
   @Override
   public Function<Table, Selection> lengthEquals(int stringLength) {
-    return table -> table.textColumn(name()).lengthEquals(stringLength);
+    return filter(
+        column -> column.lengthEquals(stringLength), value -> value.length() == stringLength);
   }
 
   @Override
   public Function<Table, Selection> isShorterThan(int stringLength) {
-    return table -> table.textColumn(name()).isShorterThan(stringLength);
+    return filter(
+        column -> column.isShorterThan(stringLength), value -> value.length() < stringLength);
   }
 
   @Override
   public Function<Table, Selection> isLongerThan(int stringLength) {
-    return table -> table.textColumn(name()).isLongerThan(stringLength);
+    return filter(
+        column -> column.isLongerThan(stringLength), value -> value.length() > stringLength);
   }
 
   @Override
   public Function<Table, Selection> isIn(String... strings) {
-    return table -> table.textColumn(name()).isIn(strings);
+    Set<String> values = new HashSet<>(Arrays.asList(strings));
+    return filter(column -> column.isIn(strings), values::contains);
   }
 
   @Override
   public Function<Table, Selection> isIn(Collection<String> strings) {
-    return table -> table.textColumn(name()).isIn(strings);
+    Set<String> values = new HashSet<>(strings);
+    return filter(column -> column.isIn(strings), values::contains);
   }
 
   @Override
   public Function<Table, Selection> isNotIn(String... strings) {
-    return table -> table.textColumn(name()).isNotIn(strings);
+    Set<String> values = new HashSet<>(Arrays.asList(strings));
+    return filter(column -> column.isNotIn(strings), value -> !values.contains(value));
   }
 
   @Override
   public Function<Table, Selection> isNotIn(Collection<String> strings) {
-    return table -> table.textColumn(name()).isNotIn(strings);
+    Set<String> values = new HashSet<>(strings);
+    return filter(column -> column.isNotIn(strings), value -> !values.contains(value));
   }
 
   @Override
@@ -122,11 +140,30 @@ public class DeferredTextColumn extends DeferredColumn
 
   @Override
   public Function<Table, Selection> isEqualTo(String string) {
-    return table -> table.textColumn(name()).isEqualTo(string);
+    return filter(column -> column.isEqualTo(string), string::equals);
   }
 
   @Override
   public Function<Table, Selection> isNotEqualTo(String string) {
-    return table -> table.textColumn(name()).isNotEqualTo(string);
+    return filter(column -> column.isNotEqualTo(string), value -> !value.equals(string));
+  }
+
+  /**
+   * Returns a filter that applies the wholeColumn function to the column when most rows are
+   * candidates, and otherwise tests the values of the candidates one by one
+   */
+  private RowFilter filter(Function<TextColumn, Selection> wholeColumn, Predicate<String> rowTest) {
+    return filter(wholeColumn, rowTest, RowFilter.DEFAULT_COST);
+  }
+
+  private RowFilter filter(
+      Function<TextColumn, Selection> wholeColumn, Predicate<String> rowTest, int cost) {
+    return RowFilter.of(
+        table -> wholeColumn.apply(table.textColumn(name())),
+        table -> {
+          TextColumn column = table.textColumn(name());
+          return row -> rowTest.test(column.get(row));
+        },
+        cost);
   }
 }
@@ -3,10 +3,11 @@ package tech.tablesaw.filtering;
 import com.google.common.annotations.Beta;
 import java.util.function.Function;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 @Beta
-public class Not implements Function<Table, Selection> {
+public class Not implements RowFilter {
 
   private Function<Table, Selection> argument;
 
@@ -18,4 +19,15 @@ public class Not implements Function<Table, Selection> {
   public Selection apply(Table table) {
     return argument.apply(table).flip(0, table.rowCount());
   }
+
+  @Override
+  public Selection apply(Table table, Selection candidates) {
+    Selection result = new BitmapBackedSelection().or(candidates);
+    return result.andNot(RowFilter.apply(argument, table, candidates));
+  }
+
+  @Override
+  public int cost() {
+    return RowFilter.cost(argument);
+  }
 }
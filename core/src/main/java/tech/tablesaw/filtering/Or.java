@@ -2,12 +2,20 @@ package tech.tablesaw.filtering;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.function.Function;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
+/**
+ * Selects the rows that pass any of its arguments. The arguments are applied from the cheapest to
+ * the most costly, each one only to the rows that none of the ones before it selected, and none are
+ * applied once every row is selected.
+ */
 @Beta
-public class Or implements Function<Table, Selection> {
+public class Or implements RowFilter {
 
   private Function<Table, Selection>[] arguments;
 
@@ -16,15 +24,36 @@ public class Or implements Function<Table, Selection> {
     Preconditions.checkNotNull(arguments, "The arguments to Or must be non-null");
     Preconditions.checkArgument(
         arguments.length > 0, "The arguments to Or must be an array of length 1 or greater");
-    this.arguments = arguments;
+    this.arguments = arguments.clone();
+    Arrays.sort(this.arguments, Comparator.comparingInt(RowFilter::cost));
   }
 
   @Override
   public Selection apply(Table table) {
     Selection result = arguments[0].apply(table);
-    for (int i = 1; i < arguments.length; i++) {
-      result.or(arguments[i].apply(table));
+    Selection remaining = Selection.withRange(0, table.rowCount()).andNot(result);
+    return applyToRemaining(table, result, remaining);
+  }
+
+  @Override
+  public Selection apply(Table table, Selection candidates) {
+    Selection result = RowFilter.apply(arguments[0], table, candidates);
+    Selection remaining = new BitmapBackedSelection().or(candidates).andNot(result);
+    return applyToRemaining(table, result, remaining);
+  }
+
+  /** Adds the rows that the arguments after the first select among the remaining ones */
+  private Selection applyToRemaining(Table table, Selection result, Selection remaining) {
+    for (int i = 1; i < arguments.length && !remaining.isEmpty(); i++) {
+      Selection selected = RowFilter.apply(arguments[i], table, remaining);
+      result.or(selected);
+      remaining.andNot(selected);
     }
     return result;
   }
+
+  @Override
+  public int cost() {
+    return Arrays.stream(arguments).mapToInt(RowFilter::cost).sum();
+  }
 }
@@ -0,0 +1,107 @@
+package tech.tablesaw.filtering;
+
+import com.google.common.annotations.Beta;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * A filter that can test only some of the rows of a table. {@link And}, {@link Or} and {@link Not}
+ * pass the rows that are still in question down to their arguments, so that a filter that follows a
+ * selective one tests only the rows that filter kept.
+ */
+@Beta
+public interface RowFilter extends Function<Table, Selection> {
+
+  /** The cost of a filter that compares numbers */
+  int LOW_COST = 1;
+
+  /** The cost of a filter about which nothing is known */
+  int DEFAULT_COST = 4;
+
+  /** The cost of a filter that matches regular expressions */
+  int HIGH_COST = 16;
+
+  /**
+   * Filters made by {@link #of} apply to the whole table when at least one in this many rows is a
+   * candidate, since testing every row of a column at once is faster than looking rows up one by
+   * one
+   */
+  int WHOLE_TABLE_FRACTION = 8;
+
+  /**
+   * Returns the rows among the candidates that pass this filter. The candidates are not modified.
+   */
+  Selection apply(Table table, Selection candidates);
+
+  /** {@inheritDoc} */
+  @Override
+  default Selection apply(Table table) {
+    return apply(table, Selection.withRange(0, table.rowCount()));
+  }
+
+  /**
+   * Returns a rough cost of testing a row with this filter, relative to the constants of this
+   * interface. The arguments of {@link And} and {@link Or} are applied in order of cost.
+   */
+  default int cost() {
+    return DEFAULT_COST;
+  }
+
+  /**
+   * Returns the rows among the candidates that pass the given filter. A filter that is not a
+   * RowFilter is applied to the whole table.
+   */
+  static Selection apply(Function<Table, Selection> filter, Table table, Selection candidates) {
+    if (filter instanceof RowFilter) {
+      return ((RowFilter) filter).apply(table, candidates);
+    }
+    return filter.apply(table).and(candidates);
+  }
+
+  /** Returns the cost of the given filter, see {@link #cost()} */
+  static int cost(Function<Table, Selection> filter) {
+    return filter instanceof RowFilter ? ((RowFilter) filter).cost() : DEFAULT_COST;
+  }
+
+  /**
+   * Returns a filter that applies the wholeTable function when most rows are candidates, and
+   * otherwise tests each candidate with the test the rowTest function makes for the table
+   */
+  static RowFilter of(
+      Function<Table, Selection> wholeTable, Function<Table, IntPredicate> rowTest, int cost) {
+    return new RowFilter() {
+      @Override
+      public Selection apply(Table table) {
+        return wholeTable.apply(table);
+      }
+
+      @Override
+      public Selection apply(Table table, Selection candidates) {
+        if ((long) candidates.size() * WHOLE_TABLE_FRACTION >= table.rowCount()) {
+          return wholeTable.apply(table).and(candidates);
+        }
+        IntPredicate test = rowTest.apply(table);
+        int[] rows = new int[candidates.size()];
+        int count = 0;
+        IntIterator iterator = candidates.iterator();
+        while (iterator.hasNext()) {
+          int row = iterator.nextInt();
+          if (test.test(row)) {
+            rows[count++] = row;
+          }
+        }
+        return new BitmapBackedSelection(Arrays.copyOf(rows, count));
+      }
+
+      @Override
+      public int cost() {
+        return cost;
+      }
+    };
+  }
+}
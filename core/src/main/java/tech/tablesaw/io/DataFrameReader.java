@@ -29,6 +29,7 @@ import java.util.Optional;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.io.csv.CsvReadOptions;
 import tech.tablesaw.io.csv.CsvReader;
+import tech.tablesaw.io.jdbc.SqlReadOptions;
 import tech.tablesaw.io.jdbc.SqlResultSetReader;
 
 public class DataFrameReader {
@@ -160,6 +161,10 @@ public class DataFrameReader {
     return SqlResultSetReader.read(resultSet);
   }
 
+  public Table db(ResultSet resultSet, SqlReadOptions options) throws SQLException {
+    return SqlResultSetReader.read(resultSet, options);
+  }
+
   public Table db(ResultSet resultSet, String tableName) throws SQLException {
     Table table = SqlResultSetReader.read(resultSet);
     table.setName(tableName);
@@ -20,9 +20,13 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.sql.Connection;
+import java.sql.SQLException;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.io.csv.CsvWriteOptions;
 import tech.tablesaw.io.csv.CsvWriter;
+import tech.tablesaw.io.jdbc.SqlTableWriter;
+import tech.tablesaw.io.jdbc.SqlWriteOptions;
 
 public class DataFrameWriter {
 
@@ -71,6 +75,10 @@ public class DataFrameWriter {
     return writer.toString();
   }
 
+  public void db(Connection connection, SqlWriteOptions options) throws SQLException {
+    SqlTableWriter.write(table, connection, options);
+  }
+
   // legacy methods left for backwards compatibility
 
   public void csv(String file) {
@@ -1,8 +1,16 @@
 package tech.tablesaw.io;
 
+import static tech.tablesaw.api.ColumnType.DOUBLE;
+import static tech.tablesaw.api.ColumnType.FLOAT;
+import static tech.tablesaw.api.ColumnType.INTEGER;
+import static tech.tablesaw.api.ColumnType.LONG;
+import static tech.tablesaw.api.ColumnType.SHORT;
 import static tech.tablesaw.api.ColumnType.SKIP;
+import static tech.tablesaw.api.ColumnType.STRING;
+import static tech.tablesaw.api.ColumnType.TEXT;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
 import com.univocity.parsers.common.AbstractParser;
@@ -15,6 +23,10 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tech.tablesaw.api.ColumnType;
@@ -27,6 +39,10 @@ public abstract class FileReader {
   private static Logger logger = LoggerFactory.getLogger(FileReader.class);
   private static final int UNLIMITED_SAMPLE_SIZE = -1;
 
+  /** The next wider type of each numeric type, used when a value doesn't fit a detected type */
+  private static final Map<ColumnType, ColumnType> WIDER_TYPES =
+      ImmutableMap.of(SHORT, INTEGER, INTEGER, LONG, LONG, DOUBLE, FLOAT, DOUBLE);
+
   /**
    * @deprecated Use {@link #getColumnTypes(Reader, ReadOptions, int, AbstractParser, String[])} }
    */
@@ -77,17 +93,28 @@ public abstract class FileReader {
             },
             options);
 
-    // If there are columnTypes configured by the user use them
+    applyConfiguredColumnTypes(columnTypes, options, columnNames);
+    return columnTypes;
+  }
+
+  /**
+   * Replaces the detected type of each column for which the user configured a type, and returns
+   * true for each column whose type was detected
+   */
+  private boolean[] applyConfiguredColumnTypes(
+      ColumnType[] columnTypes, ReadOptions options, String[] columnNames) {
+    boolean[] detected = new boolean[columnTypes.length];
     for (int i = 0; i < columnTypes.length; i++) {
       boolean hasColumnName = columnNames != null && i < columnNames.length;
       Optional<ColumnType> configuredColumnType =
           options.columnTypeReadOptions().columnType(i, hasColumnName ? columnNames[i] : null);
       if (configuredColumnType.isPresent()) {
         columnTypes[i] = configuredColumnType.get();
+      } else {
+        detected[i] = true;
       }
     }
-
-    return columnTypes;
+    return detected;
   }
 
   private String cleanName(String name) {
@@ -170,20 +197,187 @@ public abstract class FileReader {
       AbstractParser<?> parser,
       int sampleSize) {
     parser.beginParsing(reader);
-    Table table = Table.create(options.tableName());
-
     List<String> headerRow =
         Lists.newArrayList(getColumnNames(options, columnTypeReadOptions, parser));
+    ColumnType[] types = selectColumnTypes(headerRow, columnTypeReadOptions);
+    Table table = createTable(options, headerRow, types);
+
+    if (!headerOnly) {
+      int[] columnIndexes = selectColumnIndexes(headerRow, types);
+      addRows(
+          options,
+          types,
+          parser::parseNext,
+          table,
+          columnIndexes,
+          sampleSize,
+          options.header() ? 1 : 0,
+          null);
+    }
+
+    return table;
+  }
+
+  /**
+   * Parses an input that has been split into chunks, each on a thread of the given pool. Every
+   * chunk must begin at the start of a row, and only the first holds the header, if there is one.
+   * The rows of each chunk are parsed into a table of their own, and these are appended in order,
+   * so the result is the same as when the whole input is parsed at once. The row numbers reported
+   * in errors count from the start of the chunk the row is in.
+   *
+   * @param chunks a supplier of a reader over each chunk of the input, in order
+   * @param parsers supplies a new parser for each chunk
+   */
+  protected Table parseRows(
+      ReadOptions options,
+      List<Supplier<Reader>> chunks,
+      ReadOptions.ColumnTypeReadOptions columnTypeReadOptions,
+      Supplier<AbstractParser<?>> parsers,
+      ForkJoinPool pool) {
+    AbstractParser<?> headerParser = parsers.get();
+    headerParser.beginParsing(chunks.get(0).get());
+    Table table;
+    ColumnType[] types;
+    int[] columnIndexes;
+    try {
+      List<String> headerRow =
+          Lists.newArrayList(getColumnNames(options, columnTypeReadOptions, headerParser));
+      types = selectColumnTypes(headerRow, columnTypeReadOptions);
+      table = createTable(options, headerRow, types);
+      columnIndexes = selectColumnIndexes(headerRow, types);
+    } catch (RuntimeException e) {
+      headerParser.stopParsing();
+      throw e;
+    }
+
+    Table[] fragments = new Table[chunks.size()];
+    List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks.size());
+    for (int i = 0; i < chunks.size(); i++) {
+      int chunk = i;
+      tasks.add(
+          ForkJoinTask.adapt(
+              () -> {
+                AbstractParser<?> parser = chunk == 0 ? headerParser : parsers.get();
+                if (chunk > 0) {
+                  parser.beginParsing(chunks.get(chunk).get());
+                }
+                try {
+                  Table fragment = table.emptyCopy();
+                  int firstRowNumber = chunk == 0 && options.header() ? 1 : 0;
+                  addRows(
+                      options,
+                      types,
+                      parser::parseNext,
+                      fragment,
+                      columnIndexes,
+                      -1,
+                      firstRowNumber,
+                      null);
+                  fragments[chunk] = fragment;
+                } finally {
+                  parser.stopParsing();
+                }
+              }));
+    }
+    pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+
+    for (Table fragment : fragments) {
+      table.append(fragment);
+    }
+    return table;
+  }
+
+  /**
+   * Parses the rows of the input in a single pass, detecting the types of the columns from the
+   * first detectionRows rows only. Those rows are held in memory while the types are detected, and
+   * parsing then continues with the rest of the input. When a later value can't be parsed as the
+   * detected type of its column, the column is widened to a type that can hold it: SHORT to INTEGER
+   * to LONG to DOUBLE, FLOAT to DOUBLE, and any other type to STRING. The values already read are
+   * converted to the wider type, except that a column widened to STRING keeps the text of the
+   * detectionRows rows as it was read. Columns whose type was given in the options are never
+   * widened.
+   */
+  protected Table parseRowsDetectingTypes(
+      ReadOptions options,
+      Reader reader,
+      AbstractParser<?> parser,
+      int detectionRows,
+      int sampleSize) {
+    parser.beginParsing(reader);
+    String[] headerNames =
+        options.header() ? getColumnNames(options, options.columnTypeReadOptions(), parser) : null;
+
+    List<String[]> firstRows = new ArrayList<>();
+    String[] nextRow;
+    while (firstRows.size() < detectionRows && (nextRow = parser.parseNext()) != null) {
+      firstRows.add(nextRow);
+    }
+    ColumnTypeDetector detector = new ColumnTypeDetector(options.columnTypesToDetect());
+    ColumnType[] detectedTypes = detector.detectColumnTypes(firstRows.iterator(), options);
+    boolean[] detected = applyConfiguredColumnTypes(detectedTypes, options, headerNames);
+    ReadOptions.ColumnTypeReadOptions columnTypeReadOptions =
+        detectedTypes.length > 0
+            ? ReadOptions.ColumnTypeReadOptions.of(detectedTypes)
+            : options.columnTypeReadOptions();
+
+    List<String> headerRow =
+        Lists.newArrayList(
+            headerNames != null
+                ? headerNames
+                : getColumnNames(options, columnTypeReadOptions, parser));
+    ColumnType[] types = selectColumnTypes(headerRow, columnTypeReadOptions);
+    Table table = createTable(options, headerRow, types);
+    int[] columnIndexes = selectColumnIndexes(headerRow, types);
+
+    RawText[] widenable = new RawText[columnIndexes.length];
+    for (int i = 0; i < columnIndexes.length; i++) {
+      int columnIndex = columnIndexes[i];
+      if (columnIndex < detected.length && detected[columnIndex]) {
+        widenable[i] = new RawText(0, detectionRows);
+      }
+    }
+
+    boolean moreRows = firstRows.size() == detectionRows;
+    Supplier<String[]> rows =
+        new Supplier<String[]>() {
+          private int nextBufferedRow = 0;
+
+          @Override
+          public String[] get() {
+            if (nextBufferedRow < firstRows.size()) {
+              // let the buffered row be collected once it has been added
+              return firstRows.set(nextBufferedRow++, null);
+            }
+            return moreRows ? parser.parseNext() : null;
+          }
+        };
+    addRows(
+        options,
+        types,
+        rows,
+        table,
+        columnIndexes,
+        sampleSize,
+        options.header() ? 1 : 0,
+        widenable);
+    return table;
+  }
 
-    @SuppressWarnings({"UnstableApiUsage", "OptionalGetWithoutIsPresent"})
-    ColumnType[] types =
-        Streams.mapWithIndex(
-                headerRow.stream(),
-                (columnName, idx) -> columnTypeReadOptions.columnType((int) idx, columnName))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .toArray(ColumnType[]::new);
+  /** Returns the type of each column in the header row, including those to skip */
+  @SuppressWarnings({"UnstableApiUsage", "OptionalGetWithoutIsPresent"})
+  private ColumnType[] selectColumnTypes(
+      List<String> headerRow, ReadOptions.ColumnTypeReadOptions columnTypeReadOptions) {
+    return Streams.mapWithIndex(
+            headerRow.stream(),
+            (columnName, idx) -> columnTypeReadOptions.columnType((int) idx, columnName))
+        .filter(Optional::isPresent)
+        .map(Optional::get)
+        .toArray(ColumnType[]::new);
+  }
 
+  /** Returns an empty table with a column for each type that is not SKIP */
+  private Table createTable(ReadOptions options, List<String> headerRow, ColumnType[] types) {
+    Table table = Table.create(options.tableName());
     for (int x = 0; x < types.length; x++) {
       if (types[x] != SKIP) {
         String columnName = cleanName(headerRow.get(x));
@@ -194,36 +388,40 @@ public abstract class FileReader {
         table.addColumns(newColumn);
       }
     }
+    return table;
+  }
 
-    if (!headerOnly) {
-      String[] columnNames = selectColumnNames(headerRow, types);
-      int[] columnIndexes = new int[columnNames.length];
-      for (int i = 0; i < columnIndexes.length; i++) {
-        // get the index in the original table, which includes skipped fields
-        columnIndexes[i] = headerRow.indexOf(columnNames[i]);
-      }
-      addRows(options, types, parser, table, columnIndexes, sampleSize);
+  /** Returns the index in the source, which includes skipped fields, of each column to read */
+  private int[] selectColumnIndexes(List<String> headerRow, ColumnType[] types) {
+    String[] columnNames = selectColumnNames(headerRow, types);
+    int[] columnIndexes = new int[columnNames.length];
+    for (int i = 0; i < columnIndexes.length; i++) {
+      columnIndexes[i] = headerRow.indexOf(columnNames[i]);
     }
-
-    return table;
+    return columnIndexes;
   }
 
+  /**
+   * Appends the rows given by the supplier, until it returns null, to the table. The values of the
+   * columns that have an entry in widenable, which may be null, widen their column when they can't
+   * be parsed, and the entry keeps the text of their first values.
+   */
   private void addRows(
       ReadOptions options,
       ColumnType[] types,
-      AbstractParser<?> reader,
+      Supplier<String[]> rows,
       Table table,
       int[] columnIndexes,
-      int sampleSize) {
+      int sampleSize,
+      int firstRowNumber,
+      RawText[] widenable) {
 
     String[] nextLine;
     Map<String, AbstractColumnParser<?>> parserMap = getParserMap(options, table);
 
     Random random = new Random(0);
     // Add the rows
-    for (int rowNumber = options.header() ? 1 : 0;
-        (nextLine = reader.parseNext()) != null;
-        rowNumber++) {
+    for (int rowNumber = firstRowNumber; (nextLine = rows.get()) != null; rowNumber++) {
       // validation
       if (options.skipRowsWithInvalidColumnCount()
           && options.header()
@@ -259,13 +457,22 @@ public abstract class FileReader {
 
       int samplesCount = table.rowCount();
       if (sampleSize < 0 || samplesCount < sampleSize) {
-        addValuesToColumns(table, columnIndexes, nextLine, parserMap, rowNumber, -1);
+        addValuesToColumns(
+            table, columnIndexes, nextLine, parserMap, rowNumber, -1, options, widenable);
       } else {
         // find a row index to replace
         int randomIndex = random.nextInt(samplesCount + 1);
         // replace index if it is smaller than numSamples, otherwise ignore it.
         if (randomIndex < sampleSize) {
-          addValuesToColumns(table, columnIndexes, nextLine, parserMap, rowNumber, randomIndex);
+          addValuesToColumns(
+              table,
+              columnIndexes,
+              nextLine,
+              parserMap,
+              rowNumber,
+              randomIndex,
+              options,
+              widenable);
         }
       }
     }
@@ -277,25 +484,89 @@ public abstract class FileReader {
       String[] nextLine,
       Map<String, AbstractColumnParser<?>> parserMap,
       int rowNumber,
-      int rowIndex) {
+      int rowIndex,
+      ReadOptions options,
+      RawText[] widenable) {
     // append each column that we're including (not skipping)
+    Map<Integer, Column<?>> widenedColumns = null;
     int cellIndex = 0;
     for (int columnIndex : columnIndexes) {
       Column<?> column = table.column(cellIndex);
       AbstractColumnParser<?> parser = parserMap.get(column.name());
-      try {
-        String value = nextLine[columnIndex];
-        if (rowIndex >= 0) {
-          column.set(rowIndex, value, parser);
-        } else {
-          column.appendCell(value, parser);
+      RawText rawText = widenable == null ? null : widenable[cellIndex];
+      while (true) {
+        try {
+          String value = nextLine[columnIndex];
+          if (rowIndex >= 0) {
+            column.set(rowIndex, value, parser);
+          } else {
+            column.appendCell(value, parser);
+          }
+          if (rawText != null) {
+            rawText.set(rowIndex >= 0 ? rowIndex : column.size() - 1, value);
+          }
+          break;
+        } catch (Exception e) {
+          ColumnType widerType =
+              rawText != null ? widerType(column.type(), nextLine[columnIndex], options) : null;
+          if (widerType == null) {
+            throw new AddCellToColumnException(
+                e, columnIndex, rowNumber, table.columnNames(), nextLine);
+          }
+          column = widen(column, widerType, options, rawText);
+          parser = widerType.customParser(options);
+          parserMap.put(column.name(), parser);
+          if (widenedColumns == null) {
+            widenedColumns = new TreeMap<>();
+          }
+          widenedColumns.put(cellIndex, column);
         }
-      } catch (Exception e) {
-        throw new AddCellToColumnException(
-            e, columnIndex, rowNumber, table.columnNames(), nextLine);
       }
       cellIndex++;
     }
+    // replace the widened columns once the row is complete, so all the columns have the same size,
+    // inserting them in order of their positions
+    if (widenedColumns != null) {
+      for (Column<?> widened : widenedColumns.values()) {
+        table.removeColumns(widened.name());
+      }
+      widenedColumns.forEach(table::insertColumn);
+    }
+  }
+
+  /**
+   * Returns the narrowest type wider than the given type that can parse the given value, or null if
+   * the type can't be widened
+   */
+  static ColumnType widerType(ColumnType type, String value, ReadOptions options) {
+    ColumnType widerType = type;
+    do {
+      if (widerType == STRING || widerType == TEXT) {
+        return null;
+      }
+      widerType = WIDER_TYPES.getOrDefault(widerType, STRING);
+    } while (!widerType.customParser(options).canParse(value));
+    return widerType;
+  }
+
+  /**
+   * Returns a copy of the given column with the given type, converting each of its values. When the
+   * type is STRING or TEXT, the rows whose text was kept in rawText, which may be null, get that
+   * text, and the other rows get their values printed without formatting.
+   */
+  static Column<?> widen(Column<?> column, ColumnType type, ReadOptions options, RawText rawText) {
+    Column<?> widened = type.create(column.name());
+    AbstractColumnParser<?> parser = type.customParser(options);
+    boolean keepText = rawText != null && (type == STRING || type == TEXT);
+    for (int row = 0; row < column.size(); row++) {
+      if (column.isMissing(row)) {
+        widened.appendMissing();
+      } else {
+        String text = keepText ? rawText.get(row) : null;
+        widened.appendCell(text != null ? text : column.getUnformattedString(row), parser);
+      }
+    }
+    return widened;
   }
 
   private Map<String, AbstractColumnParser<?>> getParserMap(ReadOptions options, Table table) {
@@ -0,0 +1,41 @@
+package tech.tablesaw.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The text of the first values read into a column whose type was detected. Widening the column to a
+ * string type gives those values as they were read, rather than as its detected type prints them,
+ * so that "1/2/2020" stays "1/2/2020" instead of becoming "2020-01-02". Only the rows that types
+ * are detected from are kept, so the memory held is bounded by the detection prefix.
+ */
+final class RawText {
+
+  private final int firstRow;
+  private final int limit;
+  private final List<String> values = new ArrayList<>();
+
+  /** Constructs a holder for the text of at most limit rows, starting at the given row */
+  RawText(int firstRow, int limit) {
+    this.firstRow = firstRow;
+    this.limit = limit;
+  }
+
+  /** Records the text of the value at the given row, if that row is among those kept */
+  void set(int row, String value) {
+    int index = row - firstRow;
+    if (index < 0 || index >= limit) {
+      return;
+    }
+    while (values.size() <= index) {
+      values.add(null);
+    }
+    values.set(index, value);
+  }
+
+  /** Returns the text of the value at the given row, or null if it wasn't kept */
+  String get(int row) {
+    int index = row - firstRow;
+    return index >= 0 && index < values.size() ? values.get(index) : null;
+  }
+}
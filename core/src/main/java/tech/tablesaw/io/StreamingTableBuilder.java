@@ -0,0 +1,266 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io;
+
+import static tech.tablesaw.api.ColumnType.SKIP;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.Column;
+
+/**
+ * Builds a table from rows of string values that a reader gives one at a time, so that the reader
+ * need not hold the rows of its input. The types of the columns that the options don't give are
+ * detected from the first rows, which are held until then, and each later value is appended to its
+ * column as it comes. A column that later meets a value its detected type can't hold is widened, as
+ * by {@link FileReader}.
+ *
+ * <p>Columns may first appear in any row, and are missing in the rows before. The type of a column
+ * that has no value in the rows it is detected from is detected from its first value instead.
+ */
+public class StreamingTableBuilder {
+
+  private final ReadOptions options;
+  private final int typeDetectionRows;
+  private final ColumnTypeDetector detector;
+
+  /** Tells the missing values, which don't help to detect a type */
+  private final AbstractColumnParser<?> missingValues;
+
+  private final List<String> names = new ArrayList<>();
+  private final Map<String, Integer> indexes = new HashMap<>();
+  private final List<ColumnSlot> slots = new ArrayList<>();
+
+  /** The values of the row being built, by column index */
+  private String[] row = new String[0];
+
+  /** The first rows, held while the types are detected from them, or null once they are */
+  private List<String[]> detectionRows = new ArrayList<>();
+
+  /** The number of rows given, including those held for detection */
+  private int rowNumber = 0;
+
+  /** The number of rows appended to the columns */
+  private int rowCount = 0;
+
+  /** A column, which is made once its type is known */
+  private static final class ColumnSlot {
+    private Column<?> column;
+    private AbstractColumnParser<?> parser;
+    private boolean skipped;
+    private boolean widenable;
+
+    /** The text of the first values of a widenable column, or null */
+    private RawText rawText;
+  }
+
+  /**
+   * Constructs a builder for a table with the name and column types of the given options, which
+   * detects the types from the given number of first rows, or from all the rows if it is 0
+   */
+  public StreamingTableBuilder(ReadOptions options, int typeDetectionRows) {
+    if (typeDetectionRows < 0) {
+      throw new IllegalArgumentException(
+          "The number of type detection rows can't be negative, but was " + typeDetectionRows);
+    }
+    this.options = options;
+    this.typeDetectionRows = typeDetectionRows;
+    List<ColumnType> types = options.columnTypesToDetect();
+    this.detector = new ColumnTypeDetector(types);
+    this.missingValues = types.get(types.size() - 1).customParser(options);
+  }
+
+  /** Returns the index of the column with the given name, adding the column if there is none */
+  public int column(String name) {
+    Integer index = indexes.get(name);
+    if (index != null) {
+      return index;
+    }
+    index = names.size();
+    names.add(name);
+    indexes.put(name, index);
+    ColumnSlot slot = new ColumnSlot();
+    slots.add(slot);
+    if (detectionRows == null) {
+      Optional<ColumnType> configured = configuredType(index);
+      if (configured.isPresent()) {
+        make(slot, index, configured.get(), false);
+      }
+    }
+    return index;
+  }
+
+  /** Returns the names of the columns, in the order in which they were added */
+  public List<String> columnNames() {
+    return Collections.unmodifiableList(names);
+  }
+
+  /** Sets the value of the given column in the row being built. A value not set is missing */
+  public void set(int column, String value) {
+    if (column >= row.length) {
+      row = Arrays.copyOf(row, Math.max(names.size(), column + 1));
+    }
+    row[column] = value;
+  }
+
+  /** Ends the row being built, and starts the next */
+  public void endRow() {
+    if (detectionRows != null) {
+      detectionRows.add(Arrays.copyOf(row, names.size()));
+      if (detectionRows.size() == typeDetectionRows) {
+        detectTypes();
+      }
+    } else {
+      append(row);
+    }
+    Arrays.fill(row, null);
+    rowNumber++;
+  }
+
+  /** Returns the table of the rows given, which has no columns if no rows were given */
+  public Table build() {
+    if (detectionRows != null) {
+      detectTypes();
+    }
+    Table table = Table.create(options.tableName());
+    if (rowCount == 0) {
+      return table;
+    }
+    for (int i = 0; i < slots.size(); i++) {
+      ColumnSlot slot = slots.get(i);
+      if (!slot.skipped && slot.column == null) {
+        // the column has no values, so it gets the type detected for no values
+        make(slot, i, detect(null), true);
+      }
+      if (!slot.skipped) {
+        table.addColumns(slot.column);
+      }
+    }
+    return table;
+  }
+
+  /** Detects the types of the columns from the rows held, and appends those rows */
+  private void detectTypes() {
+    List<String[]> rows = detectionRows;
+    detectionRows = null;
+    int width = names.size();
+    ColumnType[] detected = new ColumnType[0];
+    if (!rows.isEmpty()) {
+      List<String[]> padded = new ArrayList<>(rows.size());
+      for (String[] values : rows) {
+        padded.add(Arrays.copyOf(values, width));
+      }
+      detected = detector.detectColumnTypes(padded.iterator(), options);
+    }
+    boolean[] hasValues = new boolean[width];
+    for (String[] values : rows) {
+      for (int i = 0; i < values.length; i++) {
+        hasValues[i] |= !missingValues.isMissing(values[i]);
+      }
+    }
+    for (int i = 0; i < width; i++) {
+      Optional<ColumnType> configured = configuredType(i);
+      if (configured.isPresent()) {
+        make(slots.get(i), i, configured.get(), false);
+      } else if (hasValues[i]) {
+        make(slots.get(i), i, detected[i], true);
+      }
+    }
+    for (int i = 0; i < rows.size(); i++) {
+      // let the held row be collected once it has been appended
+      append(rows.set(i, null));
+    }
+  }
+
+  /** Appends the given values to the columns */
+  private void append(String[] values) {
+    for (int i = 0; i < slots.size(); i++) {
+      ColumnSlot slot = slots.get(i);
+      String value = i < values.length ? values[i] : null;
+      if (slot.skipped) {
+        continue;
+      }
+      if (slot.column == null) {
+        if (missingValues.isMissing(value)) {
+          continue;
+        }
+        make(slot, i, detect(value), true);
+      }
+      appendValue(slot, i, value, values);
+    }
+    rowCount++;
+  }
+
+  private void appendValue(ColumnSlot slot, int index, String value, String[] values) {
+    while (true) {
+      try {
+        slot.column.appendCell(value, slot.parser);
+        if (slot.rawText != null) {
+          slot.rawText.set(slot.column.size() - 1, value);
+        }
+        return;
+      } catch (Exception e) {
+        ColumnType widerType =
+            slot.widenable ? FileReader.widerType(slot.column.type(), value, options) : null;
+        if (widerType == null) {
+          throw new AddCellToColumnException(e, index, rowNumber, new ArrayList<>(names), values);
+        }
+        slot.column = FileReader.widen(slot.column, widerType, options, slot.rawText);
+        slot.parser = widerType.customParser(options);
+      }
+    }
+  }
+
+  /**
+   * Makes the column of the given slot with the given type, missing in the rows already appended
+   */
+  private void make(ColumnSlot slot, int index, ColumnType type, boolean widenable) {
+    if (type == SKIP) {
+      slot.skipped = true;
+      return;
+    }
+    slot.column = type.create(names.get(index));
+    slot.parser = type.customParser(options);
+    slot.widenable = widenable;
+    slot.rawText = widenable ? new RawText(rowCount, typeDetectionRows) : null;
+    for (int i = 0; i < rowCount; i++) {
+      slot.column.appendMissing();
+    }
+  }
+
+  /** Returns the type detected for a column that holds the given value only */
+  private ColumnType detect(String value) {
+    return detector
+        .detectColumnTypes(Collections.singletonList(new String[] {value}).iterator(), options)[0];
+  }
+
+  /** Returns the type that the options give for the column with the given index, if any */
+  private Optional<ColumnType> configuredType(int index) {
+    ReadOptions.ColumnTypeReadOptions columnTypes = options.columnTypeReadOptions();
+    ColumnType[] byIndex = columnTypes.columnTypes();
+    if (byIndex != null && index >= byIndex.length) {
+      return Optional.empty();
+    }
+    return columnTypes.columnType(index, names.get(index));
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.csv;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Splits a delimited text file into byte ranges of about the same size that each begin at the start
+ * of a record, so that the ranges can be parsed independently.
+ *
+ * <p>A record ends at a line feed that is not inside a quoted field. Whether a line feed is inside
+ * quotes depends on the number of quote characters before it in the whole file, so each range is
+ * first scanned on its own, concurrently, for its number of quotes and for its first line feed
+ * after an even and after an odd number of quotes. The count of quotes before each range then tells
+ * which of the two line feeds ends a record. An escaped quote is written as two quotes, which
+ * leaves the count even, so this only works when the quote is its own escape character, and for
+ * encodings in which the bytes of a line feed and a quote never occur within another character.
+ */
+final class CsvChunks {
+
+  /** Files are not split into ranges smaller than this */
+  static final int MIN_CHUNK_BYTES = 1 << 20;
+
+  private static final int BUFFER_BYTES = 1 << 16;
+
+  private CsvChunks() {}
+
+  /**
+   * Returns the offsets at which the given file should be split into about chunkCount ranges. The
+   * first offset is 0 and the last is the length of the file; there may be fewer ranges than asked
+   * for if the file is small or has long records.
+   */
+  static long[] split(File file, byte quote, int chunkCount, ForkJoinPool pool) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      long length = channel.size();
+      int rangeCount = (int) Math.max(1, Math.min(chunkCount, length / MIN_CHUNK_BYTES));
+      long[] starts = new long[rangeCount + 1];
+      for (int i = 0; i <= rangeCount; i++) {
+        starts[i] = length * i / rangeCount;
+      }
+
+      RangeScan[] scans = new RangeScan[rangeCount];
+      List<ForkJoinTask<?>> tasks = new ArrayList<>(rangeCount);
+      for (int i = 0; i < rangeCount; i++) {
+        int range = i;
+        tasks.add(
+            ForkJoinTask.adapt(
+                () -> {
+                  try {
+                    scans[range] = scan(channel, starts[range], starts[range + 1], quote);
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                }));
+      }
+      try {
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+
+      List<Long> offsets = new ArrayList<>(rangeCount + 1);
+      offsets.add(0L);
+      long quotesBefore = 0;
+      for (int i = 0; i < rangeCount; i++) {
+        if (i > 0) {
+          long lineFeed =
+              quotesBefore % 2 == 0 ? scans[i].firstLineFeedAtEven : scans[i].firstLineFeedAtOdd;
+          if (lineFeed >= 0 && lineFeed + 1 < length) {
+            offsets.add(lineFeed + 1);
+          }
+        }
+        quotesBefore += scans[i].quotes;
+      }
+      offsets.add(length);
+      return offsets.stream().mapToLong(Long::longValue).toArray();
+    }
+  }
+
+  /**
+   * Counts the quotes between from (inclusive) and to (exclusive) and finds the first line feeds
+   */
+  private static RangeScan scan(FileChannel channel, long from, long to, byte quote)
+      throws IOException {
+    RangeScan scan = new RangeScan();
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+    long position = from;
+    while (position < to) {
+      buffer.clear();
+      buffer.limit((int) Math.min(BUFFER_BYTES, to - position));
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        break;
+      }
+      byte[] bytes = buffer.array();
+      for (int i = 0; i < read; i++) {
+        byte b = bytes[i];
+        if (b == quote) {
+          scan.quotes++;
+        } else if (b == '\n') {
+          if (scan.quotes % 2 == 0) {
+            if (scan.firstLineFeedAtEven < 0) {
+              scan.firstLineFeedAtEven = position + i;
+            }
+          } else if (scan.firstLineFeedAtOdd < 0) {
+            scan.firstLineFeedAtOdd = position + i;
+          }
+        }
+      }
+      position += read;
+    }
+    return scan;
+  }
+
+  /** What a scan of one range found, with line feeds given as offsets in the file, or -1 */
+  private static final class RangeScan {
+    private long quotes;
+    private long firstLineFeedAtEven = -1;
+    private long firstLineFeedAtOdd = -1;
+  }
+}
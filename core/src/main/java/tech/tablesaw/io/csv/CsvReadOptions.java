@@ -40,6 +40,8 @@ public class CsvReadOptions extends ReadOptions {
   private final Character commentPrefix;
   private final boolean lineSeparatorDetectionEnabled;
   private final int sampleSize;
+  private final int parallelism;
+  private final int typeDetectionRows;
 
   private CsvReadOptions(CsvReadOptions.Builder builder) {
     super(builder);
@@ -51,6 +53,8 @@ public class CsvReadOptions extends ReadOptions {
     commentPrefix = builder.commentPrefix;
     lineSeparatorDetectionEnabled = builder.lineSeparatorDetectionEnabled;
     sampleSize = builder.sampleSize;
+    parallelism = builder.parallelism;
+    typeDetectionRows = builder.typeDetectionRows;
   }
 
   public static Builder builder(Source source) {
@@ -86,7 +90,8 @@ public class CsvReadOptions extends ReadOptions {
    *
    * <p>If you have a large amount of data, you can do one of the following: 1. Use the method
    * taking a File instead of a stream, or 2. Provide the array of column types as an option. If you
-   * provide the columnType array, we skip type detection and can avoid reading the entire file
+   * provide the columnType array, we skip type detection and can avoid reading the entire file, or
+   * 3. Detect the types from the first rows only with {@link Builder#typeDetectionRows(int)}
    */
   public static Builder builder(InputStream stream) {
     return new Builder(stream);
@@ -97,7 +102,8 @@ public class CsvReadOptions extends ReadOptions {
    *
    * <p>If you have a large amount of data, you can do one of the following: 1. Use the method
    * taking a File instead of a reader, or 2. Provide the array of column types as an option. If you
-   * provide the columnType array, we skip type detection and can avoid reading the entire file
+   * provide the columnType array, we skip type detection and can avoid reading the entire file, or
+   * 3. Detect the types from the first rows only with {@link Builder#typeDetectionRows(int)}
    */
   public static Builder builder(Reader reader) {
     return new Builder(reader);
@@ -108,7 +114,8 @@ public class CsvReadOptions extends ReadOptions {
    *
    * <p>If you have a large amount of data, you can do one of the following: 1. Use the method
    * taking a File instead of a reader, or 2. Provide the array of column types as an option. If you
-   * provide the columnType array, we skip type detection and can avoid reading the entire file
+   * provide the columnType array, we skip type detection and can avoid reading the entire file, or
+   * 3. Detect the types from the first rows only with {@link Builder#typeDetectionRows(int)}
    */
   public static Builder builder(InputStreamReader reader) {
     return new Builder(reader);
@@ -154,6 +161,14 @@ public class CsvReadOptions extends ReadOptions {
     return sampleSize;
   }
 
+  public int parallelism() {
+    return parallelism;
+  }
+
+  public int typeDetectionRows() {
+    return typeDetectionRows;
+  }
+
   public static class Builder extends ReadOptions.Builder {
 
     private Character separator;
@@ -164,6 +179,8 @@ public class CsvReadOptions extends ReadOptions {
     private Character commentPrefix;
     private boolean lineSeparatorDetectionEnabled = true;
     private int sampleSize = -1;
+    private int parallelism = 1;
+    private int typeDetectionRows = 0;
 
     protected Builder(Source source) {
       super(source);
@@ -262,6 +279,43 @@ public class CsvReadOptions extends ReadOptions {
       return this;
     }
 
+    /**
+     * Sets the number of threads used to parse a file. With more than one, the file is split into
+     * ranges of bytes that begin at the start of a row, and the ranges are parsed concurrently and
+     * concatenated in order. This only applies when reading from a File in an encoding such as
+     * UTF-8 or ISO-8859-1, without sampling, a comment prefix, or an escape character other than
+     * the quote; otherwise the file is read on one thread. The default is 1.
+     *
+     * @param parallelism The maximum number of threads to use
+     */
+    public Builder parallelism(int parallelism) {
+      if (parallelism < 1) {
+        throw new IllegalArgumentException(
+            "The parallelism must be at least 1, but was " + parallelism);
+      }
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Detects the types of the columns not given in the options from the first rows of the input
+     * only, and reads the whole input in a single pass. Only those first rows are held in memory
+     * while the types are detected, so an InputStream or Reader is never buffered in full. A column
+     * that later meets a value its detected type can't hold is widened, for example from INTEGER to
+     * LONG or DOUBLE, or to STRING. The default, 0, detects the types from the whole input in a
+     * separate pass. Files read with a parallelism above 1 always use a separate pass.
+     *
+     * @param rowCount The number of rows to detect the column types from
+     */
+    public Builder typeDetectionRows(int rowCount) {
+      if (rowCount < 0) {
+        throw new IllegalArgumentException(
+            "The number of type detection rows can't be negative, but was " + rowCount);
+      }
+      this.typeDetectionRows = rowCount;
+      return this;
+    }
+
     @Override
     public CsvReadOptions build() {
       return new CsvReadOptions(this);
@@ -14,13 +14,25 @@
 
 package tech.tablesaw.io.csv;
 
+import com.google.common.io.ByteStreams;
 import com.google.common.io.CharStreams;
 import com.univocity.parsers.common.AbstractParser;
 import com.univocity.parsers.csv.CsvFormat;
 import com.univocity.parsers.csv.CsvParser;
 import com.univocity.parsers.csv.CsvParserSettings;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 import javax.annotation.concurrent.Immutable;
 import org.apache.commons.math3.util.Pair;
 import tech.tablesaw.api.ColumnType;
@@ -32,6 +44,9 @@ public class CsvReader extends FileReader implements DataReader<CsvReadOptions>
 
   private static final CsvReader INSTANCE = new CsvReader();
 
+  /** Splitting a file finer than the number of threads evens out differences between the ranges */
+  private static final int CHUNKS_PER_THREAD = 4;
+
   static {
     register(Table.defaultReaderRegistry);
   }
@@ -56,11 +71,7 @@ public class CsvReader extends FileReader implements DataReader<CsvReadOptions>
     ReadOptions.ColumnTypeReadOptions columnTypeReadOptions = options.columnTypeReadOptions();
     byte[] bytesCache = null;
 
-    boolean need2ParseFile =
-        !columnTypeReadOptions.hasColumnTypeForAllColumns()
-            && (!options.header()
-                || !columnTypeReadOptions.hasColumnTypeForAllColumnsIfHavingColumnNames());
-    if (need2ParseFile) {
+    if (needsTypeDetection(options)) {
       Reader reader = source.createReader(null);
       if (source.file() == null) {
         String s = CharStreams.toString(reader);
@@ -79,6 +90,30 @@ public class CsvReader extends FileReader implements DataReader<CsvReadOptions>
     return Pair.create(source.createReader(bytesCache), columnTypeReadOptions);
   }
 
+  /** Returns true if the types of some columns are not given in the options */
+  private boolean needsTypeDetection(CsvReadOptions options) {
+    ReadOptions.ColumnTypeReadOptions columnTypeReadOptions = options.columnTypeReadOptions();
+    return !columnTypeReadOptions.hasColumnTypeForAllColumns()
+        && (!options.header()
+            || !columnTypeReadOptions.hasColumnTypeForAllColumnsIfHavingColumnNames());
+  }
+
+  /** Reads the source in a single pass, detecting the column types from its first rows */
+  private Table readDetectingTypes(CsvReadOptions options) throws IOException {
+    Reader reader = options.source().createReader(null);
+    AbstractParser<?> parser = csvParser(options);
+    try {
+      return parseRowsDetectingTypes(
+          options, reader, parser, options.typeDetectionRows(), options.sampleSize());
+    } finally {
+      if (options.source().reader() == null) {
+        // the client closes a reader it opened itself
+        parser.stopParsing();
+        reader.close();
+      }
+    }
+  }
+
   public Table read(CsvReadOptions options) {
     try {
       return read(options, false);
@@ -88,11 +123,22 @@ public class CsvReader extends FileReader implements DataReader<CsvReadOptions>
   }
 
   private Table read(CsvReadOptions options, boolean headerOnly) throws IOException {
+    if (!headerOnly
+        && options.typeDetectionRows() > 0
+        && needsTypeDetection(options)
+        && !canReadInParallel(options)) {
+      return readDetectingTypes(options);
+    }
     Pair<Reader, ReadOptions.ColumnTypeReadOptions> pair =
         getReaderAndColumnTypes(options.source(), options);
     Reader reader = pair.getKey();
     ReadOptions.ColumnTypeReadOptions columnTypeReadOptions = pair.getValue();
 
+    if (!headerOnly && canReadInParallel(options)) {
+      reader.close();
+      return readInParallel(options, columnTypeReadOptions);
+    }
+
     AbstractParser<?> parser = csvParser(options);
 
     try {
@@ -109,6 +155,72 @@ public class CsvReader extends FileReader implements DataReader<CsvReadOptions>
     }
   }
 
+  /**
+   * Returns true if the file to read can be split into ranges of rows by looking for line feeds
+   * outside of quotes, as {@link CsvChunks} does
+   */
+  private boolean canReadInParallel(CsvReadOptions options) {
+    Source source = options.source();
+    Character quote = options.quoteChar() == null ? '"' : options.quoteChar();
+    return options.parallelism() > 1
+        && source.file() != null
+        && options.sampleSize() < 0
+        && options.commentPrefix() == null
+        && (options.escapeChar() == null || options.escapeChar().equals(quote))
+        && (options.lineEnding() == null || options.lineEnding().endsWith("\n"))
+        && quote < 0x80
+        && isAsciiCompatible(source.getCharset());
+  }
+
+  /**
+   * Returns true if the given charset encodes ASCII characters as single bytes that never occur
+   * within the encoding of another character
+   */
+  private static boolean isAsciiCompatible(Charset charset) {
+    if (charset == null) {
+      return false;
+    }
+    String name = charset.name();
+    return charset.equals(StandardCharsets.UTF_8)
+        || charset.equals(StandardCharsets.US_ASCII)
+        || name.startsWith("ISO-8859-")
+        || name.startsWith("windows-125");
+  }
+
+  /** Reads the file named in the options by parsing ranges of its rows on several threads */
+  private Table readInParallel(
+      CsvReadOptions options, ReadOptions.ColumnTypeReadOptions columnTypeReadOptions)
+      throws IOException {
+    Source source = options.source();
+    byte quote = (byte) (options.quoteChar() == null ? '"' : options.quoteChar().charValue());
+    ForkJoinPool pool = new ForkJoinPool(options.parallelism());
+    try {
+      long[] offsets =
+          CsvChunks.split(source.file(), quote, options.parallelism() * CHUNKS_PER_THREAD, pool);
+      List<Supplier<Reader>> chunks = new ArrayList<>(offsets.length - 1);
+      for (int i = 0; i < offsets.length - 1; i++) {
+        long start = offsets[i];
+        long length = offsets[i + 1] - start;
+        chunks.add(() -> chunkReader(source, start, length));
+      }
+      return parseRows(options, chunks, columnTypeReadOptions, () -> csvParser(options), pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /** Returns a reader over length bytes of the source file, beginning at the given offset */
+  private static Reader chunkReader(Source source, long start, long length) {
+    try {
+      FileChannel channel = FileChannel.open(source.file().toPath(), StandardOpenOption.READ);
+      channel.position(start);
+      InputStream chunk = ByteStreams.limit(Channels.newInputStream(channel), length);
+      return new InputStreamReader(chunk, source.getCharset());
+    } catch (IOException e) {
+      throw new RuntimeIOException(e);
+    }
+  }
+
   /**
    * Returns a string representation of the column types in file {@code csvFilename}, as determined
    * by the type-detection algorithm
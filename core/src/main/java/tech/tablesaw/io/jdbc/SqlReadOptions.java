@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.jdbc;
+
+import com.google.common.base.Preconditions;
+
+/** Specifies options for reading tables from a JDBC result set with {@link SqlResultSetReader} */
+public class SqlReadOptions {
+
+  private static final int DEFAULT_BATCH_SIZE = 10_000;
+
+  private int fetchSize = 0;
+  private long maxRows = Long.MAX_VALUE;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+
+  public static SqlReadOptions defaultOptions() {
+    return new SqlReadOptions();
+  }
+
+  /**
+   * Hints to the driver how many rows to fetch from the database at a time. Many drivers fetch
+   * every row of a result at once unless told otherwise. 0, the default, leaves the driver's own
+   * setting as it is
+   *
+   * <p>Reading an already executed {@link java.sql.ResultSet} can only set the fetch size on the
+   * result set, which is too late for drivers that decide how to fetch when the query is executed.
+   * PostgreSQL's driver, for one, has then already fetched every row. To have the fetch size apply,
+   * read with {@link SqlResultSetReader#read(java.sql.Statement, String, SqlReadOptions)} or {@link
+   * SqlResultSetReader#readBatches(java.sql.Statement, String, SqlReadOptions)}, which set it on
+   * the statement before executing the query, or call {@link java.sql.Statement#setFetchSize(int)}
+   * yourself. PostgreSQL also fetches a result in parts only when auto-commit is off on the
+   * connection.
+   */
+  public SqlReadOptions fetchSize(int fetchSize) {
+    Preconditions.checkArgument(fetchSize >= 0);
+    this.fetchSize = fetchSize;
+    return this;
+  }
+
+  /** Reads at most the given number of rows of the result set */
+  public SqlReadOptions maxRows(long maxRows) {
+    Preconditions.checkArgument(maxRows >= 0);
+    this.maxRows = maxRows;
+    return this;
+  }
+
+  /**
+   * Sets the number of rows in each table returned by {@link
+   * SqlResultSetReader#readBatches(java.sql.ResultSet, SqlReadOptions)}
+   */
+  public SqlReadOptions batchSize(int batchSize) {
+    Preconditions.checkArgument(batchSize > 0);
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  public long getMaxRows() {
+    return maxRows;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+}
@@ -19,9 +19,16 @@ import com.google.common.collect.ImmutableMap;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.DoubleColumn;
@@ -87,8 +94,138 @@ public class SqlResultSetReader {
    * @throws SQLException if there is a problem detected in the database
    */
   public static Table read(ResultSet resultSet) throws SQLException {
+    return read(resultSet, SqlReadOptions.defaultOptions());
+  }
+
+  /**
+   * Returns a new table constructed from the given result set, reading rows with the fetch size and
+   * up to the maximum number of rows given in the options
+   *
+   * @throws SQLException if there is a problem detected in the database
+   */
+  public static Table read(ResultSet resultSet, SqlReadOptions options) throws SQLException {
+    applyFetchSize(resultSet, options);
+    Table table = createTable(resultSet.getMetaData());
+    readRows(resultSet, table, options.getMaxRows());
+    return table;
+  }
 
+  /**
+   * Returns a new table holding the results of the given query, which is executed with the given
+   * statement after the fetch size of the options is set on it, so that drivers which settle how to
+   * fetch a result when executing its query fetch the rows in parts
+   *
+   * @throws SQLException if there is a problem detected in the database
+   */
+  public static Table read(Statement statement, String query, SqlReadOptions options)
+      throws SQLException {
+    applyFetchSize(statement, options);
+    try (ResultSet resultSet = statement.executeQuery(query)) {
+      return read(resultSet, options);
+    }
+  }
+
+  /**
+   * Returns a stream of tables constructed from the given result set, each holding the next batch
+   * of rows, of the batch size given in the options. Only the current batch is held in memory, so
+   * result sets too large to read into a single table can be processed a batch at a time. The last
+   * table may hold fewer rows, and no table is returned for an empty result set. Rows are read from
+   * the result set as the stream is consumed; a {@link SQLException} thrown meanwhile is rethrown
+   * as the cause of an {@link IllegalStateException}.
+   *
+   * @throws SQLException if there is a problem detected in the database
+   */
+  public static Stream<Table> readBatches(ResultSet resultSet, SqlReadOptions options)
+      throws SQLException {
+    applyFetchSize(resultSet, options);
     ResultSetMetaData metaData = resultSet.getMetaData();
+    Table empty = createTable(metaData);
+    Iterator<Table> batches =
+        new Iterator<Table>() {
+          private long remaining = options.getMaxRows();
+          private Table next;
+
+          @Override
+          public boolean hasNext() {
+            if (next == null && remaining > 0) {
+              Table batch = empty.emptyCopy();
+              try {
+                remaining -=
+                    readRows(resultSet, batch, Math.min(remaining, options.getBatchSize()));
+              } catch (SQLException e) {
+                throw new IllegalStateException(e);
+              }
+              if (batch.rowCount() < options.getBatchSize()) {
+                remaining = 0;
+              }
+              if (!batch.isEmpty()) {
+                next = batch;
+              }
+            }
+            return next != null;
+          }
+
+          @Override
+          public Table next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            Table batch = next;
+            next = null;
+            return batch;
+          }
+        };
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
+
+  /**
+   * Returns a stream of tables holding the results of the given query in batches, as {@link
+   * #readBatches(ResultSet, SqlReadOptions)} does. The query is executed with the given statement
+   * after the fetch size of the options is set on it. Closing the stream closes the result set it
+   * reads, so the stream should be used in a try-with-resources statement; a {@link SQLException}
+   * thrown by closing it is rethrown as the cause of an {@link IllegalStateException}.
+   *
+   * @throws SQLException if there is a problem detected in the database
+   */
+  public static Stream<Table> readBatches(Statement statement, String query, SqlReadOptions options)
+      throws SQLException {
+    applyFetchSize(statement, options);
+    ResultSet resultSet = statement.executeQuery(query);
+    Stream<Table> batches;
+    try {
+      batches = readBatches(resultSet, options);
+    } catch (SQLException | RuntimeException e) {
+      resultSet.close();
+      throw e;
+    }
+    return batches.onClose(
+        () -> {
+          try {
+            resultSet.close();
+          } catch (SQLException e) {
+            throw new IllegalStateException(e);
+          }
+        });
+  }
+
+  private static void applyFetchSize(Statement statement, SqlReadOptions options)
+      throws SQLException {
+    if (options.getFetchSize() > 0) {
+      statement.setFetchSize(options.getFetchSize());
+    }
+  }
+
+  private static void applyFetchSize(ResultSet resultSet, SqlReadOptions options)
+      throws SQLException {
+    if (options.getFetchSize() > 0) {
+      resultSet.setFetchSize(options.getFetchSize());
+    }
+  }
+
+  /** Returns an empty table with a column of the matching type for each column of the results */
+  private static Table createTable(ResultSetMetaData metaData) throws SQLException {
     Table table = Table.create();
 
     // Setup the columns and add to the table
@@ -105,30 +242,106 @@ public class SqlResultSetReader {
       Column<?> newColumn = type.create(metaData.getColumnLabel(i));
       table.addColumns(newColumn);
     }
+    return table;
+  }
 
-    // Add the rows
-    while (resultSet.next()) {
-      for (int i = 1; i <= metaData.getColumnCount(); i++) {
-        Column<?> column =
-            table.column(i - 1); // subtract 1 because results sets originate at 1 not 0
-        if (column instanceof ShortColumn) {
-          appendToColumn(column, resultSet, resultSet.getShort(i));
-        } else if (column instanceof IntColumn) {
-          appendToColumn(column, resultSet, resultSet.getInt(i));
-        } else if (column instanceof LongColumn) {
-          appendToColumn(column, resultSet, resultSet.getLong(i));
-        } else if (column instanceof FloatColumn) {
-          appendToColumn(column, resultSet, resultSet.getFloat(i));
-        } else if (column instanceof DoubleColumn) {
-          appendToColumn(column, resultSet, resultSet.getDouble(i));
-        } else if (column instanceof BooleanColumn) {
-          appendToColumn(column, resultSet, resultSet.getBoolean(i));
+  /**
+   * Appends up to maxRows rows of the result set to the columns of the table, and returns the
+   * number of rows appended
+   */
+  private static long readRows(ResultSet resultSet, Table table, long maxRows) throws SQLException {
+    ValueReader[] readers = new ValueReader[table.columnCount()];
+    for (int c = 0; c < readers.length; c++) {
+      readers[c] = valueReader(table.column(c));
+    }
+    long rows = 0;
+    while (rows < maxRows && resultSet.next()) {
+      for (int c = 0; c < readers.length; c++) {
+        readers[c].append(resultSet, c + 1); // add 1 because results sets originate at 1 not 0
+      }
+      rows++;
+    }
+    return rows;
+  }
+
+  /** Appends the value in a column of the current row of a result set */
+  @FunctionalInterface
+  private interface ValueReader {
+    void append(ResultSet resultSet, int index) throws SQLException;
+  }
+
+  /**
+   * Returns a reader that appends values to the given column. Primitive values are read with the
+   * matching getter of the result set, and appended without boxing them.
+   */
+  private static ValueReader valueReader(Column<?> column) {
+    if (column instanceof ShortColumn) {
+      ShortColumn shorts = (ShortColumn) column;
+      return (resultSet, index) -> {
+        short value = resultSet.getShort(index);
+        if (resultSet.wasNull()) {
+          shorts.appendMissing();
         } else {
-          column.appendObj(resultSet.getObject(i));
+          shorts.append(value);
         }
-      }
+      };
     }
-    return table;
+    if (column instanceof IntColumn) {
+      IntColumn ints = (IntColumn) column;
+      return (resultSet, index) -> {
+        int value = resultSet.getInt(index);
+        if (resultSet.wasNull()) {
+          ints.appendMissing();
+        } else {
+          ints.append(value);
+        }
+      };
+    }
+    if (column instanceof LongColumn) {
+      LongColumn longs = (LongColumn) column;
+      return (resultSet, index) -> {
+        long value = resultSet.getLong(index);
+        if (resultSet.wasNull()) {
+          longs.appendMissing();
+        } else {
+          longs.append(value);
+        }
+      };
+    }
+    if (column instanceof FloatColumn) {
+      FloatColumn floats = (FloatColumn) column;
+      return (resultSet, index) -> {
+        float value = resultSet.getFloat(index);
+        if (resultSet.wasNull()) {
+          floats.appendMissing();
+        } else {
+          floats.append(value);
+        }
+      };
+    }
+    if (column instanceof DoubleColumn) {
+      DoubleColumn doubles = (DoubleColumn) column;
+      return (resultSet, index) -> {
+        double value = resultSet.getDouble(index);
+        if (resultSet.wasNull()) {
+          doubles.appendMissing();
+        } else {
+          doubles.append(value);
+        }
+      };
+    }
+    if (column instanceof BooleanColumn) {
+      BooleanColumn booleans = (BooleanColumn) column;
+      return (resultSet, index) -> {
+        boolean value = resultSet.getBoolean(index);
+        if (resultSet.wasNull()) {
+          booleans.appendMissing();
+        } else {
+          booleans.append(value);
+        }
+      };
+    }
+    return (resultSet, index) -> column.appendObj(resultSet.getObject(index));
   }
 
   protected static void appendToColumn(Column<?> column, ResultSet resultSet, Object value)
@@ -0,0 +1,295 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.jdbc;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+
+/**
+ * Writes a table to a database table through a JDBC connection, inserting its rows in batches with
+ * a prepared statement
+ */
+public class SqlTableWriter {
+
+  private static final Pattern PLAIN_IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+  // Maps from Tablesaw column types to the JDBC types their values are written as
+  private static final Map<ColumnType, Integer> TABLESAW_TYPE_TO_SQL_TYPE = initializeMap();
+
+  // Maps from Tablesaw column types to the SQL types of the columns created to hold them
+  private static final Map<ColumnType, String> TABLESAW_TYPE_TO_SQL_TYPE_NAME = initializeNameMap();
+
+  private static Map<ColumnType, Integer> initializeMap() {
+    return new HashMap<>(
+        new ImmutableMap.Builder<ColumnType, Integer>()
+            .put(ColumnType.BOOLEAN, Types.BOOLEAN)
+            .put(ColumnType.SHORT, Types.SMALLINT)
+            .put(ColumnType.INTEGER, Types.INTEGER)
+            .put(ColumnType.LONG, Types.BIGINT)
+            .put(ColumnType.FLOAT, Types.REAL)
+            .put(ColumnType.DOUBLE, Types.DOUBLE)
+            .put(ColumnType.LOCAL_DATE, Types.DATE)
+            .put(ColumnType.LOCAL_TIME, Types.TIME)
+            .put(ColumnType.LOCAL_DATE_TIME, Types.TIMESTAMP)
+            .put(ColumnType.INSTANT, Types.TIMESTAMP)
+            .put(ColumnType.STRING, Types.VARCHAR)
+            .put(ColumnType.TEXT, Types.VARCHAR)
+            .build());
+  }
+
+  private static Map<ColumnType, String> initializeNameMap() {
+    return new HashMap<>(
+        new ImmutableMap.Builder<ColumnType, String>()
+            .put(ColumnType.BOOLEAN, "BOOLEAN")
+            .put(ColumnType.SHORT, "SMALLINT")
+            .put(ColumnType.INTEGER, "INTEGER")
+            .put(ColumnType.LONG, "BIGINT")
+            .put(ColumnType.FLOAT, "REAL")
+            .put(ColumnType.DOUBLE, "DOUBLE PRECISION")
+            .put(ColumnType.LOCAL_DATE, "DATE")
+            .put(ColumnType.LOCAL_TIME, "TIME")
+            .put(ColumnType.LOCAL_DATE_TIME, "TIMESTAMP")
+            .put(ColumnType.INSTANT, "TIMESTAMP")
+            .build());
+  }
+
+  /**
+   * Change or add the SQL type of the database columns created for columns of the given type, such
+   * as "NUMERIC(12, 2)" for double columns. String and text columns are created as VARCHAR columns
+   * long enough for their longest value unless a type is mapped for them
+   *
+   * @param columnType a tablesaw column type
+   * @param sqlType the SQL type to use in CREATE TABLE statements
+   */
+  public static void mapColumnTypeToSqlType(ColumnType columnType, String sqlType) {
+    TABLESAW_TYPE_TO_SQL_TYPE_NAME.put(columnType, sqlType);
+  }
+
+  /**
+   * Writes the rows of the given table to the database table given in the options, creating it
+   * first if the options say so
+   *
+   * @throws SQLException if there is a problem detected in the database
+   */
+  public static void write(Table table, Connection connection, SqlWriteOptions options)
+      throws SQLException {
+    Preconditions.checkArgument(
+        options.getTableName() != null || !Strings.isNullOrEmpty(table.name()),
+        "A name is needed for the database table");
+    String tableName =
+        options.getTableName() == null ? quoted(table.name()) : options.getTableName();
+
+    if (options.isCreateTable()) {
+      try (Statement statement = connection.createStatement()) {
+        statement.execute(createTableSql(table, tableName));
+      }
+    }
+
+    ValueBinder[] binders = new ValueBinder[table.columnCount()];
+    for (int c = 0; c < binders.length; c++) {
+      binders[c] = valueBinder(table.column(c));
+    }
+
+    boolean autoCommit = connection.getAutoCommit();
+    if (options.isCommitEachBatch()) {
+      connection.setAutoCommit(false);
+    }
+    try (PreparedStatement statement = connection.prepareStatement(insertSql(table, tableName))) {
+      int batched = 0;
+      for (int row = 0; row < table.rowCount(); row++) {
+        for (int c = 0; c < binders.length; c++) {
+          binders[c].bind(statement, c + 1, row); // add 1 because parameters originate at 1 not 0
+        }
+        statement.addBatch();
+        if (++batched == options.getBatchSize()) {
+          executeBatch(connection, statement, options);
+          batched = 0;
+        }
+      }
+      if (batched > 0) {
+        executeBatch(connection, statement, options);
+      }
+    } catch (SQLException e) {
+      if (options.isCommitEachBatch()) {
+        // roll back the failed batch, which restoring auto-commit below would otherwise commit
+        try {
+          connection.rollback();
+        } catch (SQLException rollbackFailure) {
+          e.addSuppressed(rollbackFailure);
+        }
+      }
+      throw e;
+    } finally {
+      if (options.isCommitEachBatch()) {
+        connection.setAutoCommit(autoCommit);
+      }
+    }
+  }
+
+  private static void executeBatch(
+      Connection connection, PreparedStatement statement, SqlWriteOptions options)
+      throws SQLException {
+    statement.executeBatch();
+    if (options.isCommitEachBatch()) {
+      connection.commit();
+    }
+  }
+
+  /** Returns the CREATE TABLE statement for a database table to hold the given table */
+  static String createTableSql(Table table, String tableName) {
+    StringJoiner columns = new StringJoiner(", ", "CREATE TABLE " + tableName + " (", ")");
+    for (Column<?> column : table.columns()) {
+      columns.add(quoted(column.name()) + " " + sqlTypeName(column));
+    }
+    return columns.toString();
+  }
+
+  private static String insertSql(Table table, String tableName) {
+    StringJoiner names = new StringJoiner(", ", "INSERT INTO " + tableName + " (", ")");
+    StringJoiner parameters = new StringJoiner(", ", " VALUES (", ")");
+    for (Column<?> column : table.columns()) {
+      names.add(quoted(column.name()));
+      parameters.add("?");
+    }
+    return names.toString() + parameters.toString();
+  }
+
+  private static String sqlTypeName(Column<?> column) {
+    String name = TABLESAW_TYPE_TO_SQL_TYPE_NAME.get(column.type());
+    if (name != null) {
+      return name;
+    }
+    if (column.type() == ColumnType.STRING || column.type() == ColumnType.TEXT) {
+      int length = 1;
+      for (int row = 0; row < column.size(); row++) {
+        length = Math.max(length, column.getString(row).length());
+      }
+      return "VARCHAR(" + length + ")";
+    }
+    throw new IllegalArgumentException(
+        "No SQL type found for " + column.type() + " as specified for column " + column.name());
+  }
+
+  /**
+   * Returns the given name in double quotes unless it is a plain identifier, so that a name which
+   * is not written as SQL, like that of a table or a column, reads as a single identifier. Plain
+   * identifiers are left unquoted so they match the names of existing tables and columns as the
+   * database folds their case.
+   */
+  private static String quoted(String name) {
+    if (PLAIN_IDENTIFIER.matcher(name).matches()) {
+      return name;
+    }
+    return '"' + name.replace("\"", "\"\"") + '"';
+  }
+
+  /** Binds the value in a row of a column to a parameter of a prepared statement */
+  @FunctionalInterface
+  private interface ValueBinder {
+    void bind(PreparedStatement statement, int index, int row) throws SQLException;
+  }
+
+  /**
+   * Returns a binder for the values of the given column, which binds missing values as null.
+   * Primitive values are bound with the matching setter, without boxing them.
+   */
+  private static ValueBinder valueBinder(Column<?> column) {
+    Integer sqlType = TABLESAW_TYPE_TO_SQL_TYPE.getOrDefault(column.type(), Types.OTHER);
+    ValueBinder binder = presentValueBinder(column);
+    return (statement, index, row) -> {
+      if (column.isMissing(row)) {
+        statement.setNull(index, sqlType);
+      } else {
+        binder.bind(statement, index, row);
+      }
+    };
+  }
+
+  /** Returns a binder for the values of the given column that are not missing */
+  private static ValueBinder presentValueBinder(Column<?> column) {
+    if (column instanceof ShortColumn) {
+      ShortColumn shorts = (ShortColumn) column;
+      return (statement, index, row) -> statement.setShort(index, shorts.getShort(row));
+    }
+    if (column instanceof IntColumn) {
+      IntColumn ints = (IntColumn) column;
+      return (statement, index, row) -> statement.setInt(index, ints.getInt(row));
+    }
+    if (column instanceof LongColumn) {
+      LongColumn longs = (LongColumn) column;
+      return (statement, index, row) -> statement.setLong(index, longs.getLong(row));
+    }
+    if (column instanceof FloatColumn) {
+      FloatColumn floats = (FloatColumn) column;
+      return (statement, index, row) -> statement.setFloat(index, floats.getFloat(row));
+    }
+    if (column instanceof DoubleColumn) {
+      DoubleColumn doubles = (DoubleColumn) column;
+      return (statement, index, row) -> statement.setDouble(index, doubles.getDouble(row));
+    }
+    if (column instanceof BooleanColumn) {
+      BooleanColumn booleans = (BooleanColumn) column;
+      return (statement, index, row) -> statement.setBoolean(index, booleans.getByte(row) == 1);
+    }
+    if (column instanceof DateColumn) {
+      DateColumn dates = (DateColumn) column;
+      return (statement, index, row) -> statement.setDate(index, Date.valueOf(dates.get(row)));
+    }
+    if (column instanceof TimeColumn) {
+      TimeColumn times = (TimeColumn) column;
+      return (statement, index, row) -> statement.setTime(index, Time.valueOf(times.get(row)));
+    }
+    if (column instanceof DateTimeColumn) {
+      DateTimeColumn dateTimes = (DateTimeColumn) column;
+      return (statement, index, row) ->
+          statement.setTimestamp(index, Timestamp.valueOf(dateTimes.get(row)));
+    }
+    if (column instanceof InstantColumn) {
+      InstantColumn instants = (InstantColumn) column;
+      return (statement, index, row) ->
+          statement.setTimestamp(index, Timestamp.from(instants.get(row)));
+    }
+    if (column.type() == ColumnType.STRING || column.type() == ColumnType.TEXT) {
+      return (statement, index, row) -> statement.setString(index, column.getString(row));
+    }
+    return (statement, index, row) -> statement.setObject(index, column.get(row));
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.jdbc;
+
+import com.google.common.base.Preconditions;
+
+/** Specifies options for writing a table to a database with {@link SqlTableWriter} */
+public class SqlWriteOptions {
+
+  private static final int DEFAULT_BATCH_SIZE = 1_000;
+
+  private String tableName;
+  private boolean createTable = false;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private boolean commitEachBatch = false;
+
+  public static SqlWriteOptions defaultOptions() {
+    return new SqlWriteOptions();
+  }
+
+  /**
+   * Sets the name of the database table to write to. The name goes into the SQL as it is given, so
+   * it may be qualified with a schema, as in "public.sales", and must be quoted by the caller if
+   * the database needs it to be. The default is the name of the table, quoted unless it is a plain
+   * identifier, so that a table read from "bush.csv" is written to a database table of that name
+   */
+  public SqlWriteOptions tableName(String tableName) {
+    this.tableName = tableName;
+    return this;
+  }
+
+  /**
+   * If true creates the database table before writing to it, with a column of the matching SQL type
+   * for each column of the table. Otherwise the database table must already exist, with columns of
+   * the same names
+   */
+  public SqlWriteOptions createTable(boolean createTable) {
+    this.createTable = createTable;
+    return this;
+  }
+
+  /** Sets the number of rows sent to the database in each batch of inserts */
+  public SqlWriteOptions batchSize(int batchSize) {
+    Preconditions.checkArgument(batchSize > 0);
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  /**
+   * If true commits after each batch of inserts, so the database need not hold every row in a
+   * single transaction. Auto-commit is turned off while writing and restored afterwards. Otherwise
+   * the rows are written in the connection's current transaction, and committing is left to the
+   * caller
+   */
+  public SqlWriteOptions commitEachBatch(boolean commitEachBatch) {
+    this.commitEachBatch = commitEachBatch;
+    return this;
+  }
+
+  public String getTableName() {
+    return tableName;
+  }
+
+  public boolean isCreateTable() {
+    return createTable;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public boolean isCommitEachBatch() {
+    return commitEachBatch;
+  }
+}
@@ -0,0 +1,214 @@
+package tech.tablesaw.joining;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.DateTimeColumnType;
+import tech.tablesaw.columns.instant.InstantColumnType;
+import tech.tablesaw.columns.numbers.IntColumnType;
+import tech.tablesaw.columns.numbers.LongColumnType;
+import tech.tablesaw.columns.times.PackedLocalTime;
+
+/**
+ * An as-of join, which pairs each left row with the right row that has the latest as-of value at or
+ * before the left row's as-of value, among the right rows whose other join columns are equal.
+ *
+ * <p>Both tables are walked once in as-of order, keeping only the latest right row seen for each
+ * distinct combination of the other join columns. Tables that are already in as-of order are walked
+ * in place; otherwise a sorted permutation of their row numbers is built first.
+ */
+final class AsOfJoin {
+
+  /** Marks a missing as-of value, which never matches anything */
+  private static final long MISSING = Long.MIN_VALUE;
+
+  private AsOfJoin() {}
+
+  /**
+   * Joins two tables. Every left row appears once in the result, in its original order, paired with
+   * a missing right row if nothing matches.
+   *
+   * @param columnIndexes1 the join columns in table1. The last one is the as-of column, and the
+   *     others must match exactly
+   * @param columnIndexes2 the corresponding join columns in table2
+   * @param tolerance the largest difference allowed between the left and right as-of values, in the
+   *     units of the as-of column: the value itself for int and long columns, and milliseconds for
+   *     date-time and instant columns
+   */
+  static RowIdPairs join(
+      Table table1,
+      List<Integer> columnIndexes1,
+      Table table2,
+      List<Integer> columnIndexes2,
+      long tolerance) {
+    if (columnIndexes1.size() != columnIndexes2.size()) {
+      throw new IllegalArgumentException(
+          "Cannot join using a different number of columns on each table: "
+              + columnIndexes1.size()
+              + " and "
+              + columnIndexes2.size());
+    }
+    if (tolerance < 0) {
+      throw new IllegalArgumentException("The as-of tolerance cannot be negative: " + tolerance);
+    }
+    int last = columnIndexes1.size() - 1;
+    Column<?> asOf1 = table1.column(columnIndexes1.get(last));
+    Column<?> asOf2 = table2.column(columnIndexes2.get(last));
+    if (asOf1.type() != asOf2.type()) {
+      throw new IllegalArgumentException(
+          "Cannot join column "
+              + asOf1.name()
+              + " of type "
+              + asOf1.type()
+              + " to column "
+              + asOf2.name()
+              + " of type "
+              + asOf2.type());
+    }
+    long[] leftValues = asOfValues(asOf1);
+    long[] rightValues = asOfValues(asOf2);
+
+    int leftRowCount = table1.rowCount();
+    int rightRowCount = table2.rowCount();
+    int[] leftGroups = new int[leftRowCount];
+    int[] rightGroups = new int[rightRowCount];
+    int groupCount = 1;
+    if (last > 0) {
+      JoinKeys byKeys =
+          JoinKeys.encode(
+              table1,
+              columnIndexes1.subList(0, last),
+              table2,
+              columnIndexes2.subList(0, last),
+              false);
+      HashJoin.KeyGroups groups = new HashJoin.KeyGroups(byKeys.right, rightRowCount);
+      rightGroups = groups.insertAll(rightRowCount);
+      leftGroups = groups.probe(byKeys.left, leftRowCount);
+      groupCount = groups.groupCount();
+    }
+    int[] matches = match(leftValues, leftGroups, rightValues, rightGroups, groupCount, tolerance);
+    return new RowIdPairs(IntStream.range(0, leftRowCount).toArray(), matches);
+  }
+
+  /**
+   * Returns the matching right row for every left row, or -1 where there is none, in a single merge
+   * pass over both tables in as-of order
+   */
+  private static int[] match(
+      long[] leftValues,
+      int[] leftGroups,
+      long[] rightValues,
+      int[] rightGroups,
+      int groupCount,
+      long tolerance) {
+    int[] leftOrder = sortOrder(leftValues);
+    int[] rightOrder = sortOrder(rightValues);
+    int[] latestRightRow = new int[groupCount];
+    Arrays.fill(latestRightRow, -1);
+    int[] matches = new int[leftValues.length];
+
+    int j = 0;
+    for (int i = 0; i < leftValues.length; i++) {
+      int leftRow = row(leftOrder, i);
+      long leftValue = leftValues[leftRow];
+      while (j < rightValues.length && rightValues[row(rightOrder, j)] <= leftValue) {
+        int rightRow = row(rightOrder, j);
+        if (rightValues[rightRow] != MISSING) {
+          latestRightRow[rightGroups[rightRow]] = rightRow;
+        }
+        j++;
+      }
+      int group = leftGroups[leftRow];
+      int match = leftValue == MISSING || group < 0 ? -1 : latestRightRow[group];
+      // Compares against the earliest value in tolerance, saturating rather than overflowing
+      long earliest =
+          leftValue < Long.MIN_VALUE + tolerance ? Long.MIN_VALUE : leftValue - tolerance;
+      if (match >= 0 && rightValues[match] < earliest) {
+        match = -1;
+      }
+      matches[leftRow] = match;
+    }
+    return matches;
+  }
+
+  /**
+   * Returns the row numbers in ascending order of the given values, or null if they are already in
+   * that order. Rows with equal values stay in ascending row order.
+   */
+  private static int[] sortOrder(long[] values) {
+    for (int row = 1; row < values.length; row++) {
+      if (values[row - 1] > values[row]) {
+        int[] order = IntStream.range(0, values.length).toArray();
+        IntArrays.mergeSort(order, (row1, row2) -> Long.compare(values[row1], values[row2]));
+        return order;
+      }
+    }
+    return null;
+  }
+
+  /** Returns the row at the given position of a sort order, where null means the identity */
+  private static int row(int[] order, int position) {
+    return order == null ? position : order[position];
+  }
+
+  /**
+   * Returns the values of an as-of column as longs in the units of the tolerance, with missing
+   * values as {@link #MISSING}
+   */
+  private static long[] asOfValues(Column<?> column) {
+    ColumnType type = column.type();
+    int size = column.size();
+    long[] values = new long[size];
+    if (type instanceof IntColumnType) {
+      IntColumn ints = (IntColumn) column;
+      for (int i = 0; i < size; i++) {
+        int value = ints.getInt(i);
+        values[i] = IntColumnType.valueIsMissing(value) ? MISSING : value;
+      }
+    } else if (type instanceof LongColumnType) {
+      LongColumn longs = (LongColumn) column;
+      for (int i = 0; i < size; i++) {
+        values[i] = longs.getLong(i);
+      }
+    } else if (type instanceof DateTimeColumnType) {
+      DateTimeColumn dateTimes = (DateTimeColumn) column;
+      for (int i = 0; i < size; i++) {
+        long packed = dateTimes.getLongInternal(i);
+        values[i] = DateTimeColumnType.valueIsMissing(packed) ? MISSING : epochMillis(packed);
+      }
+    } else if (type instanceof InstantColumnType) {
+      InstantColumn instants = (InstantColumn) column;
+      for (int i = 0; i < size; i++) {
+        long packed = instants.getLongInternal(i);
+        values[i] = InstantColumnType.valueIsMissing(packed) ? MISSING : epochMillis(packed);
+      }
+    } else {
+      throw new IllegalArgumentException(
+          "As-of joins are supported on int, long, date-time and instant columns. Column "
+              + column.name()
+              + " is of type "
+              + type);
+    }
+    return values;
+  }
+
+  /**
+   * Converts a packed date-time or instant to milliseconds since the epoch. Both share the same
+   * layout, with the packed date in the high int and the packed time in the low int.
+   */
+  private static long epochMillis(long packed) {
+    int date = (int) (packed >> 32);
+    int time = (int) packed;
+    return PackedLocalDate.toEpochDay(date) * 86_400_000L
+        + PackedLocalTime.getMillisecondOfDay(time);
+  }
+}
@@ -2,10 +2,12 @@ package tech.tablesaw.joining;
 
 import com.google.common.collect.Streams;
 import com.google.common.primitives.Ints;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import tech.tablesaw.api.*;
@@ -38,6 +40,9 @@ public class DataFrameJoiner {
   private final String[] joinColumnNames;
   private final List<Integer> joinColumnIndexes;
   private final AtomicInteger joinTableId = new AtomicInteger(2);
+  private JoinStrategy strategy = JoinStrategy.INDEX;
+  private int parallelism = 1;
+  private ForkJoinPool pool;
 
   /**
    * Constructor.
@@ -51,6 +56,49 @@ public class DataFrameJoiner {
     this.joinColumnIndexes = getJoinIndexes(table, joinColumnNames);
   }
 
+  /**
+   * Sets the algorithm used to match rows in the joins performed by this joiner. The default is
+   * {@link JoinStrategy#INDEX}.
+   *
+   * @param strategy The join algorithm to use
+   * @return this joiner
+   */
+  public DataFrameJoiner strategy(JoinStrategy strategy) {
+    this.strategy = strategy;
+    return this;
+  }
+
+  /**
+   * Sets the number of threads used by {@link JoinStrategy#HASH} joins. With more than one, both
+   * tables are partitioned on the hash of their join keys and the partitions are joined
+   * concurrently on a pool created for each join. The rows of the result are the same, in the same
+   * order, whatever the number of threads. The default is 1.
+   *
+   * @param parallelism The maximum number of threads to use
+   * @return this joiner
+   */
+  public DataFrameJoiner parallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException(
+          "The parallelism must be at least 1, but was " + parallelism);
+    }
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * Runs {@link JoinStrategy#HASH} joins on the given pool, using as many threads as its
+   * parallelism. This takes precedence over {@link #parallelism(int)}. The pool is not shut down by
+   * the joiner.
+   *
+   * @param pool The pool to run on, or null to go back to using {@link #parallelism(int)}
+   * @return this joiner
+   */
+  public DataFrameJoiner pool(ForkJoinPool pool) {
+    this.pool = pool;
+    return this;
+  }
+
   /**
    * Finds the index of the columns corresponding to the columnNames. E.G. The column named "ID" is
    * located at index 5 in table.
@@ -199,6 +247,15 @@ public class DataFrameJoiner {
       String... table2JoinColumnNames) {
 
     List<Integer> table2JoinColumnIndexes = getJoinIndexes(table2, table2JoinColumnNames);
+    if (strategy != JoinStrategy.INDEX) {
+      return joinOnRowPairs(
+          table1,
+          table2,
+          joinType,
+          allowDuplicates,
+          keepAllJoinKeyColumns,
+          table2JoinColumnIndexes);
+    }
     List<Index> table1Indexes = buildIndexesForJoinColumns(joinColumnIndexes, table1);
     List<Index> table2Indexes = buildIndexesForJoinColumns(table2JoinColumnIndexes, table2);
 
@@ -317,6 +374,106 @@ public class DataFrameJoiner {
     return result;
   }
 
+  /**
+   * Joins two tables by first computing the pairs of matching row numbers with the configured
+   * {@link JoinStrategy}, and then gathering the rows of each result column in one pass.
+   */
+  private Table joinOnRowPairs(
+      Table table1,
+      Table table2,
+      JoinType joinType,
+      boolean allowDuplicates,
+      boolean keepAllJoinKeyColumns,
+      List<Integer> table2JoinColumnIndexes) {
+
+    JoinKeys keys =
+        JoinKeys.encode(
+            table1,
+            joinColumnIndexes,
+            table2,
+            table2JoinColumnIndexes,
+            strategy == JoinStrategy.SORT_MERGE);
+    boolean keepUnmatchedLeft = joinType == JoinType.LEFT_OUTER || joinType == JoinType.FULL_OUTER;
+    boolean keepUnmatchedRight =
+        joinType == JoinType.RIGHT_OUTER || joinType == JoinType.FULL_OUTER;
+    RowIdPairs pairs;
+    if (strategy == JoinStrategy.SORT_MERGE) {
+      pairs =
+          SortMergeJoin.join(
+              keys, table1.rowCount(), table2.rowCount(), keepUnmatchedLeft, keepUnmatchedRight);
+    } else {
+      pairs =
+          hashJoin(
+              keys, table1.rowCount(), table2.rowCount(), keepUnmatchedLeft, keepUnmatchedRight);
+    }
+    return tableFromRowPairs(
+        table1,
+        table2,
+        pairs,
+        joinType,
+        allowDuplicates,
+        keepAllJoinKeyColumns,
+        table2JoinColumnIndexes);
+  }
+
+  /** Runs a hash join on the configured pool or number of threads */
+  private RowIdPairs hashJoin(
+      JoinKeys keys,
+      int leftRowCount,
+      int rightRowCount,
+      boolean keepUnmatchedLeft,
+      boolean keepUnmatchedRight) {
+    if (pool != null) {
+      return PartitionedHashJoin.join(
+          keys, leftRowCount, rightRowCount, keepUnmatchedLeft, keepUnmatchedRight, pool);
+    }
+    if (parallelism == 1
+        || (long) leftRowCount + rightRowCount < PartitionedHashJoin.MIN_PARALLEL_ROWS) {
+      return HashJoin.join(
+          keys, leftRowCount, rightRowCount, keepUnmatchedLeft, keepUnmatchedRight);
+    }
+    ForkJoinPool joinPool = new ForkJoinPool(parallelism);
+    try {
+      return PartitionedHashJoin.join(
+          keys, leftRowCount, rightRowCount, keepUnmatchedLeft, keepUnmatchedRight, joinPool);
+    } finally {
+      joinPool.shutdown();
+    }
+  }
+
+  /** Creates the joined table holding the rows given by the row pairs */
+  private Table tableFromRowPairs(
+      Table table1,
+      Table table2,
+      RowIdPairs pairs,
+      JoinType joinType,
+      boolean allowDuplicates,
+      boolean keepAllJoinKeyColumns,
+      List<Integer> table2JoinColumnIndexes) {
+    Table template = Table.create(table1.name());
+    Set<Integer> resultIgnoreColIndexes =
+        emptyTableFromColumns(
+            template,
+            table1,
+            table2,
+            joinType,
+            allowDuplicates,
+            table2JoinColumnIndexes,
+            keepAllJoinKeyColumns);
+    Table result = Table.create(table1.name());
+    gatherRows(
+        result,
+        template,
+        table1,
+        table2,
+        pairs,
+        joinType,
+        table2JoinColumnIndexes,
+        resultIgnoreColIndexes,
+        keepAllJoinKeyColumns);
+    return result;
+  }
+
   private void validateIndexes(List<Index> table1Indexes, List<Index> table2Indexes) {
     if (table1Indexes.size() != table2Indexes.size()) {
       throw new IllegalArgumentException(
@@ -757,6 +914,71 @@ public class DataFrameJoiner {
         col2Names);
   }
 
+  /**
+   * As-of joins the joiner to the table2, using the given columns for the second table. The last
+   * join column of each table is the as-of column, which must be an int, long, date-time or instant
+   * column. Any join columns before it must match exactly.
+   *
+   * <p>Each row of the joiner's table is matched with the row of table2 that has the latest as-of
+   * value at or before its own, like the latest quote at the time of a trade. Every row of the
+   * joiner's table appears once in the result, in its original order, with missing values in the
+   * table2 columns if no row of table2 matches.
+   *
+   * @param table2 The table to join with
+   * @param col2Names The columns to join on, with the as-of column last
+   * @return The resulting table
+   */
+  public Table asOf(Table table2, String... col2Names) {
+    return asOf(table2, false, false, Long.MAX_VALUE, col2Names);
+  }
+
+  /**
+   * As-of joins the joiner to the table2 as in {@link #asOf(Table, String...)}, ignoring matches
+   * that are further than the given tolerance before the row being matched.
+   *
+   * @param table2 The table to join with
+   * @param tolerance The largest difference allowed between the as-of values of matched rows
+   * @param col2Names The columns to join on, with the as-of column last
+   * @return The resulting table
+   */
+  public Table asOf(Table table2, Duration tolerance, String... col2Names) {
+    return asOf(table2, false, false, tolerance.toMillis(), col2Names);
+  }
+
+  /**
+   * As-of joins the joiner to the table2 as in {@link #asOf(Table, String...)}.
+   *
+   * @param table2 The table to join with
+   * @param allowDuplicateColumnNames if {@code false} the join will fail if any columns other than
+   *     the join column have the same name if {@code true} the join will succeed and duplicate
+   *     columns are renamed
+   * @param keepAllJoinKeyColumns if {@code false} the join will only keep join key columns in
+   *     table1 if {@code true} the join will return all join key columns in both table, so the
+   *     as-of value of the matched row can be seen
+   * @param tolerance The largest difference allowed between the as-of values of matched rows, in
+   *     milliseconds for date-time and instant columns. Use {@code Long.MAX_VALUE} for no limit
+   * @param col2Names The columns to join on, with the as-of column last
+   * @return The resulting table
+   */
+  public Table asOf(
+      Table table2,
+      boolean allowDuplicateColumnNames,
+      boolean keepAllJoinKeyColumns,
+      long tolerance,
+      String... col2Names) {
+    List<Integer> table2JoinColumnIndexes = getJoinIndexes(table2, col2Names);
+    RowIdPairs pairs =
+        AsOfJoin.join(table, joinColumnIndexes, table2, table2JoinColumnIndexes, tolerance);
+    return tableFromRowPairs(
+        table,
+        table2,
+        pairs,
+        JoinType.LEFT_OUTER,
+        allowDuplicateColumnNames,
+        keepAllJoinKeyColumns,
+        table2JoinColumnIndexes);
+  }
+
   /**
    * Adds empty columns to the destination table with the same type as columns in table1 and table2.
    *
@@ -943,4 +1165,47 @@ public class DataFrameJoiner {
       }
     }
   }
+
+  /**
+   * Gathers every result column from the row pairs produced by a join algorithm, naming it after
+   * the corresponding column of the template. Missing values are added where a row has no
+   * counterpart, except that in a full outer join the join columns of table1 take the key values of
+   * the unmatched table2 rows. Placeholder columns are skipped unless all join columns are kept.
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void gatherRows(
+      Table destination,
+      Table template,
+      Table table1,
+      Table table2,
+      RowIdPairs pairs,
+      JoinType joinType,
+      List<Integer> table2JoinColumnIndexes,
+      Set<Integer> ignoreColumns,
+      boolean keepTable2JoinKeyColumns) {
+    int[] leftRows = pairs.leftRows;
+    int[] rightRows = pairs.rightRows;
+    for (int c = 0; c < template.columnCount(); c++) {
+      if (!keepTable2JoinKeyColumns && ignoreColumns.contains(c)) {
+        continue;
+      }
+      Column taken;
+      if (c < table1.columnCount()) {
+        taken = table1.column(c).take(leftRows);
+        int keyIndex = joinColumnIndexes.indexOf(c);
+        if (joinType == JoinType.FULL_OUTER && !keepTable2JoinKeyColumns && keyIndex >= 0) {
+          // Right rows without a match take their key from table2
+          Column t2KeyCol = table2.column(table2JoinColumnIndexes.get(keyIndex));
+          for (int i = 0; i < leftRows.length; i++) {
+            if (leftRows[i] < 0) {
+              taken.set(i, t2KeyCol, rightRows[i]);
+            }
+          }
+        }
+      } else {
+        taken = table2.column(c - table1.columnCount()).take(rightRows);
+      }
+      destination.addColumns(taken.setName(template.column(c).name()));
+    }
+  }
 }
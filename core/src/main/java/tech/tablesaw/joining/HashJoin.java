@@ -0,0 +1,257 @@
+package tech.tablesaw.joining;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A build/probe hash join over encoded {@link JoinKeys}.
+ *
+ * <p>The distinct keys of the smaller table are inserted into an open-addressing hash table, and
+ * every row of the larger table is looked up in it once. Both tables end up described by a group id
+ * per row, from which the matching row pairs are emitted in left table order.
+ */
+final class HashJoin {
+
+  private HashJoin() {}
+
+  /**
+   * Joins the rows of two tables on their encoded keys
+   *
+   * @param keys the encoded join columns of both tables
+   * @param leftRowCount the number of rows in the left table
+   * @param rightRowCount the number of rows in the right table
+   * @param keepUnmatchedLeft if true, left rows without a match are paired with a missing row
+   * @param keepUnmatchedRight if true, right rows without a match are paired with a missing row
+   */
+  static RowIdPairs join(
+      JoinKeys keys,
+      int leftRowCount,
+      int rightRowCount,
+      boolean keepUnmatchedLeft,
+      boolean keepUnmatchedRight) {
+    int[] leftGroups;
+    int[] rightGroups;
+    int groupCount;
+    if (rightRowCount <= leftRowCount) {
+      KeyGroups build = new KeyGroups(keys.right, rightRowCount);
+      rightGroups = build.insertAll(rightRowCount);
+      leftGroups = build.probe(keys.left, leftRowCount);
+      groupCount = build.groupCount();
+    } else {
+      KeyGroups build = new KeyGroups(keys.left, leftRowCount);
+      leftGroups = build.insertAll(leftRowCount);
+      rightGroups = build.probe(keys.right, rightRowCount);
+      groupCount = build.groupCount();
+    }
+    return pairs(leftGroups, rightGroups, groupCount, keepUnmatchedLeft, keepUnmatchedRight);
+  }
+
+  /**
+   * Emits the row pairs for two tables whose rows have been assigned group ids from the same space,
+   * where equal group ids mean equal keys and a negative id matches nothing.
+   *
+   * <p>Each left row is followed by all its matching right rows in ascending order. Unmatched right
+   * rows, if kept, follow at the end in ascending order.
+   */
+  static RowIdPairs pairs(
+      int[] leftGroups,
+      int[] rightGroups,
+      int groupCount,
+      boolean keepUnmatchedLeft,
+      boolean keepUnmatchedRight) {
+    return pairs(leftGroups, rightGroups, groupCount, keepUnmatchedLeft, keepUnmatchedRight, null);
+  }
+
+  /**
+   * Emits the same row pairs as {@link #pairs(int[], int[], int, boolean, boolean)}, in the same
+   * order, sizing and filling consecutive ranges of left rows as separate tasks on the given pool
+   *
+   * @param pool the pool to run on, or null to run everything on the calling thread
+   */
+  static RowIdPairs pairs(
+      int[] leftGroups,
+      int[] rightGroups,
+      int groupCount,
+      boolean keepUnmatchedLeft,
+      boolean keepUnmatchedRight,
+      ForkJoinPool pool) {
+
+    // Bucket the right rows by group, keeping them in ascending order within each group
+    int[] offsets = new int[groupCount + 1];
+    for (int group : rightGroups) {
+      if (group >= 0) {
+        offsets[group + 1]++;
+      }
+    }
+    for (int g = 0; g < groupCount; g++) {
+      offsets[g + 1] += offsets[g];
+    }
+    int[] rightRowsByGroup = new int[offsets[groupCount]];
+    int[] next = Arrays.copyOf(offsets, groupCount);
+    for (int r2 = 0; r2 < rightGroups.length; r2++) {
+      int group = rightGroups[r2];
+      if (group >= 0) {
+        rightRowsByGroup[next[group]++] = r2;
+      }
+    }
+
+    // Size the output of each range of left rows exactly before filling it
+    int taskCount = PartitionedHashJoin.taskCount(leftGroups.length, pool);
+    boolean[] matched = new boolean[groupCount];
+    long[] firstPair = new long[taskCount + 1];
+    PartitionedHashJoin.forEachTask(
+        pool,
+        taskCount,
+        task -> {
+          long size = 0;
+          int end = PartitionedHashJoin.taskStart(task + 1, taskCount, leftGroups.length);
+          for (int r1 = PartitionedHashJoin.taskStart(task, taskCount, leftGroups.length);
+              r1 < end;
+              r1++) {
+            int group = leftGroups[r1];
+            int matches = group >= 0 ? offsets[group + 1] - offsets[group] : 0;
+            if (matches > 0) {
+              matched[group] = true;
+              size += matches;
+            } else if (keepUnmatchedLeft) {
+              size++;
+            }
+          }
+          firstPair[task + 1] = size;
+        });
+    for (int task = 0; task < taskCount; task++) {
+      firstPair[task + 1] += firstPair[task];
+    }
+    long size = firstPair[taskCount];
+    if (keepUnmatchedRight) {
+      for (int group : rightGroups) {
+        if (group < 0 || !matched[group]) {
+          size++;
+        }
+      }
+    }
+    if (size > Integer.MAX_VALUE) {
+      throw new IllegalStateException("The join result would have more than 2^31 - 1 rows");
+    }
+
+    int[] leftRows = new int[(int) size];
+    int[] rightRows = new int[(int) size];
+    PartitionedHashJoin.forEachTask(
+        pool,
+        taskCount,
+        task -> {
+          int i = (int) firstPair[task];
+          int end = PartitionedHashJoin.taskStart(task + 1, taskCount, leftGroups.length);
+          for (int r1 = PartitionedHashJoin.taskStart(task, taskCount, leftGroups.length);
+              r1 < end;
+              r1++) {
+            int group = leftGroups[r1];
+            int start = group >= 0 ? offsets[group] : 0;
+            int stop = group >= 0 ? offsets[group + 1] : 0;
+            if (start < stop) {
+              for (int j = start; j < stop; j++) {
+                leftRows[i] = r1;
+                rightRows[i] = rightRowsByGroup[j];
+                i++;
+              }
+            } else if (keepUnmatchedLeft) {
+              leftRows[i] = r1;
+              rightRows[i] = -1;
+              i++;
+            }
+          }
+        });
+    if (keepUnmatchedRight) {
+      int i = (int) firstPair[taskCount];
+      for (int r2 = 0; r2 < rightGroups.length; r2++) {
+        int group = rightGroups[r2];
+        if (group < 0 || !matched[group]) {
+          leftRows[i] = -1;
+          rightRows[i] = r2;
+          i++;
+        }
+      }
+    }
+    return new RowIdPairs(leftRows, rightRows);
+  }
+
+  /** An open-addressing hash table assigning a dense group id to each distinct key of a table */
+  static final class KeyGroups {
+
+    private final long[][] keys;
+    private final int[] slots;
+    private final int mask;
+    private final IntArrayList representatives = new IntArrayList();
+
+    /**
+     * Creates an empty table over the given build keys
+     *
+     * @param expectedRows the number of rows that will be inserted, used to size the table
+     */
+    KeyGroups(long[][] keys, int expectedRows) {
+      this.keys = keys;
+      this.slots = new int[HashCommon.arraySize(Math.max(expectedRows, 1), 0.5f)];
+      this.mask = slots.length - 1;
+    }
+
+    /** Inserts the first rowCount rows of the build keys, returning the group id of each row */
+    int[] insertAll(int rowCount) {
+      int[] groupOfRow = new int[rowCount];
+      for (int row = 0; row < rowCount; row++) {
+        groupOfRow[row] = insert(row);
+      }
+      return groupOfRow;
+    }
+
+    int groupCount() {
+      return representatives.size();
+    }
+
+    /** Returns the group id of the given row, creating a new group if its key is new */
+    int insert(int row) {
+      int slot = JoinKeys.hash(keys, row) & mask;
+      while (true) {
+        int entry = slots[slot];
+        if (entry == 0) {
+          int group = representatives.size();
+          representatives.add(row);
+          slots[slot] = group + 1;
+          return group;
+        }
+        if (JoinKeys.keysEqual(keys, representatives.getInt(entry - 1), keys, row)) {
+          return entry - 1;
+        }
+        slot = (slot + 1) & mask;
+      }
+    }
+
+    /**
+     * Looks up every row of another table, returning the group id per row or -1 for rows whose key
+     * is not in this table
+     */
+    int[] probe(long[][] probeKeys, int rowCount) {
+      int[] groups = new int[rowCount];
+      for (int row = 0; row < rowCount; row++) {
+        groups[row] = find(probeKeys, row);
+      }
+      return groups;
+    }
+
+    /** Returns the group id of the given row of another table, or -1 if its key is not present */
+    int find(long[][] probeKeys, int row) {
+      int slot = JoinKeys.hash(probeKeys, row) & mask;
+      while (true) {
+        int entry = slots[slot];
+        if (entry == 0) {
+          return -1;
+        }
+        if (JoinKeys.keysEqual(keys, representatives.getInt(entry - 1), probeKeys, row)) {
+          return entry - 1;
+        }
+        slot = (slot + 1) & mask;
+      }
+    }
+  }
+}
@@ -0,0 +1,309 @@
+package tech.tablesaw.joining;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.List;
+import java.util.stream.IntStream;
+import tech.tablesaw.api.*;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.booleans.BooleanColumnType;
+import tech.tablesaw.columns.dates.DateColumnType;
+import tech.tablesaw.columns.datetimes.DateTimeColumnType;
+import tech.tablesaw.columns.instant.InstantColumnType;
+import tech.tablesaw.columns.numbers.*;
+import tech.tablesaw.columns.strings.DictionaryMap;
+import tech.tablesaw.columns.strings.StringColumnType;
+import tech.tablesaw.columns.strings.TextColumnType;
+import tech.tablesaw.columns.times.TimeColumnType;
+
+/**
+ * The join columns of two tables, encoded as one primitive long per row and join column.
+ *
+ * <p>Two rows have equal keys exactly when the reverse indexes in {@link tech.tablesaw.index} would
+ * put them in the same entry, so joins built on these keys match the same rows as joins built on
+ * indexes. Strings are replaced by integer codes that are shared by both tables. For {@link
+ * StringColumn}s the codes are looked up once per dictionary key rather than once per row.
+ *
+ * <p>Non-string keys always compare in the natural order of their values. String codes only do so
+ * if the keys were encoded as ordered, which costs a sort of the distinct strings.
+ */
+final class JoinKeys {
+
+  /** The kinds of key a column can be encoded as. Columns can only be joined to the same kind */
+  private enum Kind {
+    INT,
+    LONG,
+    SHORT,
+    BYTE,
+    DOUBLE,
+    FLOAT,
+    STRING
+  }
+
+  /** The encoded keys of the left table, indexed by join column and then by row */
+  final long[][] left;
+
+  /** The encoded keys of the right table, indexed by join column and then by row */
+  final long[][] right;
+
+  private JoinKeys(long[][] left, long[][] right) {
+    this.left = left;
+    this.right = right;
+  }
+
+  /**
+   * Encodes the given join columns of both tables
+   *
+   * @param ordered if true, string codes are assigned in the sort order of the strings, so that all
+   *     keys can be compared with {@link #compare(long[][], int, long[][], int)}
+   * @throws IllegalArgumentException if the number of join columns differs between the tables, or
+   *     if two corresponding columns cannot be joined to each other
+   */
+  static JoinKeys encode(
+      Table table1,
+      List<Integer> columnIndexes1,
+      Table table2,
+      List<Integer> columnIndexes2,
+      boolean ordered) {
+    validate(table1, columnIndexes1, table2, columnIndexes2);
+    int keyCount = columnIndexes1.size();
+    long[][] left = new long[keyCount][];
+    long[][] right = new long[keyCount][];
+    for (int k = 0; k < keyCount; k++) {
+      Column<?> column1 = table1.column(columnIndexes1.get(k));
+      Column<?> column2 = table2.column(columnIndexes2.get(k));
+      if (kindOf(column1) == Kind.STRING) {
+        Object2IntOpenHashMap<String> codes = new Object2IntOpenHashMap<>();
+        codes.defaultReturnValue(-1);
+        left[k] = encodeStrings(column1, codes);
+        right[k] = encodeStrings(column2, codes);
+        if (ordered) {
+          int[] ranks = ranks(codes);
+          recode(left[k], ranks);
+          recode(right[k], ranks);
+        }
+      } else {
+        left[k] = encode(column1);
+        right[k] = encode(column2);
+      }
+    }
+    return new JoinKeys(left, right);
+  }
+
+  /** Returns a hash of all the key values of the given row in the given keys */
+  static int hash(long[][] keys, int row) {
+    long h = 0;
+    for (long[] key : keys) {
+      h = h * 31 + key[row];
+    }
+    return (int) HashCommon.mix(h);
+  }
+
+  /** Returns true if row1 in keys1 has the same key values as row2 in keys2 */
+  static boolean keysEqual(long[][] keys1, int row1, long[][] keys2, int row2) {
+    for (int k = 0; k < keys1.length; k++) {
+      if (keys1[k][row1] != keys2[k][row2]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compares the key values of row1 in keys1 with those of row2 in keys2, one join column after the
+   * other. The keys must have been encoded as ordered.
+   */
+  static int compare(long[][] keys1, int row1, long[][] keys2, int row2) {
+    for (int k = 0; k < keys1.length; k++) {
+      int result = Long.compare(keys1[k][row1], keys2[k][row2]);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
+
+  /** Returns true if the rows of the given keys are already in ascending key order */
+  static boolean isSorted(long[][] keys, int rowCount) {
+    for (int row = 1; row < rowCount; row++) {
+      if (compare(keys, row - 1, keys, row) > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void validate(
+      Table table1, List<Integer> columnIndexes1, Table table2, List<Integer> columnIndexes2) {
+    if (columnIndexes1.size() != columnIndexes2.size()) {
+      throw new IllegalArgumentException(
+          "Cannot join using a different number of columns on each table: "
+              + columnIndexes1.size()
+              + " and "
+              + columnIndexes2.size());
+    }
+    for (int i = 0; i < columnIndexes1.size(); i++) {
+      Column<?> column1 = table1.column(columnIndexes1.get(i));
+      Column<?> column2 = table2.column(columnIndexes2.get(i));
+      if (kindOf(column1) != kindOf(column2)) {
+        throw new IllegalArgumentException(
+            "Cannot join column "
+                + column1.name()
+                + " of type "
+                + column1.type()
+                + " to column "
+                + column2.name()
+                + " of type "
+                + column2.type());
+      }
+    }
+  }
+
+  private static Kind kindOf(Column<?> column) {
+    ColumnType type = column.type();
+    if (type instanceof DateColumnType
+        || type instanceof TimeColumnType
+        || type instanceof IntColumnType) {
+      return Kind.INT;
+    } else if (type instanceof DateTimeColumnType
+        || type instanceof InstantColumnType
+        || type instanceof LongColumnType) {
+      return Kind.LONG;
+    } else if (type instanceof StringColumnType || type instanceof TextColumnType) {
+      return Kind.STRING;
+    } else if (type instanceof ShortColumnType) {
+      return Kind.SHORT;
+    } else if (type instanceof BooleanColumnType) {
+      return Kind.BYTE;
+    } else if (type instanceof DoubleColumnType) {
+      return Kind.DOUBLE;
+    } else if (type instanceof FloatColumnType) {
+      return Kind.FLOAT;
+    }
+    throw new IllegalArgumentException("Joining attempted on unsupported column type " + type);
+  }
+
+  /**
+   * Encodes a non-string column. The encoding preserves the natural ordering of the values, so the
+   * keys can be sorted as well as hashed.
+   */
+  private static long[] encode(Column<?> column) {
+    ColumnType type = column.type();
+    int size = column.size();
+    long[] keys = new long[size];
+    if (type instanceof DateColumnType) {
+      DateColumn dates = (DateColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = dates.getIntInternal(i);
+      }
+    } else if (type instanceof TimeColumnType) {
+      TimeColumn times = (TimeColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = times.getIntInternal(i);
+      }
+    } else if (type instanceof DateTimeColumnType) {
+      DateTimeColumn dateTimes = (DateTimeColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = dateTimes.getLongInternal(i);
+      }
+    } else if (type instanceof InstantColumnType) {
+      InstantColumn instants = (InstantColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = instants.getLongInternal(i);
+      }
+    } else if (type instanceof IntColumnType) {
+      IntColumn ints = (IntColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = ints.getInt(i);
+      }
+    } else if (type instanceof LongColumnType) {
+      LongColumn longs = (LongColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = longs.getLong(i);
+      }
+    } else if (type instanceof ShortColumnType) {
+      ShortColumn shorts = (ShortColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = shorts.getShort(i);
+      }
+    } else if (type instanceof BooleanColumnType) {
+      BooleanColumn booleans = (BooleanColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = booleans.getByte(i);
+      }
+    } else if (type instanceof DoubleColumnType) {
+      DoubleColumn doubles = (DoubleColumn) column;
+      for (int i = 0; i < size; i++) {
+        long bits = Double.doubleToLongBits(doubles.getDouble(i));
+        keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+      }
+    } else if (type instanceof FloatColumnType) {
+      FloatColumn floats = (FloatColumn) column;
+      for (int i = 0; i < size; i++) {
+        int bits = Float.floatToIntBits(floats.getFloat(i));
+        keys[i] = bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+      }
+    } else {
+      throw new IllegalArgumentException("Joining attempted on unsupported column type " + type);
+    }
+    return keys;
+  }
+
+  /** Encodes a String or Text column, adding any values not yet seen to the shared codes */
+  private static long[] encodeStrings(Column<?> column, Object2IntOpenHashMap<String> codes) {
+    int size = column.size();
+    long[] keys = new long[size];
+    if (column instanceof StringColumn) {
+      DictionaryMap dictionary = ((StringColumn) column).getDictionary();
+      Int2IntOpenHashMap dictionaryKeyToCode = new Int2IntOpenHashMap();
+      dictionaryKeyToCode.defaultReturnValue(-1);
+      for (int i = 0; i < size; i++) {
+        int dictionaryKey = dictionary.getKeyForIndex(i);
+        int code = dictionaryKeyToCode.get(dictionaryKey);
+        if (code < 0) {
+          code = codeFor(dictionary.getValueForKey(dictionaryKey), codes);
+          dictionaryKeyToCode.put(dictionaryKey, code);
+        }
+        keys[i] = code;
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        keys[i] = codeFor((String) column.get(i), codes);
+      }
+    }
+    return keys;
+  }
+
+  private static int codeFor(String value, Object2IntOpenHashMap<String> codes) {
+    int code = codes.getInt(value);
+    if (code < 0) {
+      code = codes.size();
+      codes.put(value, code);
+    }
+    return code;
+  }
+
+  /** Returns, for every code, the rank of its string among all the strings in sorted order */
+  private static int[] ranks(Object2IntOpenHashMap<String> codes) {
+    String[] strings = new String[codes.size()];
+    for (Object2IntMap.Entry<String> entry : codes.object2IntEntrySet()) {
+      strings[entry.getIntValue()] = entry.getKey();
+    }
+    int[] byRank = IntStream.range(0, strings.length).toArray();
+    IntArrays.quickSort(byRank, (code1, code2) -> strings[code1].compareTo(strings[code2]));
+    int[] ranks = new int[strings.length];
+    for (int rank = 0; rank < byRank.length; rank++) {
+      ranks[byRank[rank]] = rank;
+    }
+    return ranks;
+  }
+
+  private static void recode(long[] keys, int[] ranks) {
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = ranks[(int) keys[i]];
+    }
+  }
+}
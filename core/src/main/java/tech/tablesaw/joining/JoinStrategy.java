@@ -0,0 +1,27 @@
+package tech.tablesaw.joining;
+
+/** The algorithms {@link DataFrameJoiner} can use to match the rows of two tables */
+public enum JoinStrategy {
+
+  /**
+   * Builds a reverse {@link tech.tablesaw.index.Index} for every join column and intersects the row
+   * selections for each distinct key. This is the default.
+   */
+  INDEX,
+
+  /**
+   * Builds a hash table over the join keys of the smaller table and probes it with the rows of the
+   * larger one. Rows in the result are ordered by the row number of the left table, with right
+   * table rows that have no match appended at the end. Large joins can be spread over several
+   * threads with {@link DataFrameJoiner#parallelism(int)}.
+   */
+  HASH,
+
+  /**
+   * Walks both tables in join key order and matches runs of equal keys. Tables that are already
+   * sorted on their join columns, for example by {@link tech.tablesaw.api.Table#sortOn(String...)},
+   * are used as they are; otherwise their row numbers are sorted first. Rows in the result are
+   * ordered by join key, with unmatched rows from either table in their key position.
+   */
+  SORT_MERGE
+}
@@ -0,0 +1,237 @@
+package tech.tablesaw.joining;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+/**
+ * A hash join that runs on several threads of a {@link ForkJoinPool}.
+ *
+ * <p>The rows of both tables are radix-partitioned on the high bits of the hash of their keys, so
+ * equal keys always land in the same partition. Each partition is then joined on its own, with its
+ * own {@link HashJoin.KeyGroups}, and the group ids of all partitions are shifted into one shared
+ * space. The row pairs are finally emitted exactly as {@link HashJoin} emits them, so the result
+ * does not depend on the number of threads or on the order in which the partitions finish.
+ */
+final class PartitionedHashJoin {
+
+  /** Joins with fewer rows than this in both tables together are run on the calling thread */
+  static final int MIN_PARALLEL_ROWS = 1 << 15;
+
+  /** The smallest number of rows worth handing to a separate task */
+  private static final int MIN_ROWS_PER_TASK = 1 << 12;
+
+  /** Splitting the work finer than the number of threads evens out differences between tasks */
+  private static final int TASKS_PER_THREAD = 4;
+
+  /** The most partitions a table is split into */
+  private static final int MAX_PARTITION_BITS = 10;
+
+  private PartitionedHashJoin() {}
+
+  /**
+   * Joins the rows of two tables on their encoded keys, returning the same pairs in the same order
+   * as {@link HashJoin#join(JoinKeys, int, int, boolean, boolean)}
+   *
+   * @param keys the encoded join columns of both tables
+   * @param leftRowCount the number of rows in the left table
+   * @param rightRowCount the number of rows in the right table
+   * @param keepUnmatchedLeft if true, left rows without a match are paired with a missing row
+   * @param keepUnmatchedRight if true, right rows without a match are paired with a missing row
+   * @param pool the pool to run the partitions on
+   */
+  static RowIdPairs join(
+      JoinKeys keys,
+      int leftRowCount,
+      int rightRowCount,
+      boolean keepUnmatchedLeft,
+      boolean keepUnmatchedRight,
+      ForkJoinPool pool) {
+    int parallelism = pool.getParallelism();
+    if (parallelism < 2 || (long) leftRowCount + rightRowCount < MIN_PARALLEL_ROWS) {
+      return HashJoin.join(
+          keys, leftRowCount, rightRowCount, keepUnmatchedLeft, keepUnmatchedRight);
+    }
+    int partitionBits =
+        Math.min(
+            MAX_PARTITION_BITS,
+            32 - Integer.numberOfLeadingZeros(parallelism * TASKS_PER_THREAD - 1));
+    int partitionCount = 1 << partitionBits;
+    Partitions left = Partitions.of(keys.left, leftRowCount, partitionBits, pool);
+    Partitions right = Partitions.of(keys.right, rightRowCount, partitionBits, pool);
+
+    int[] leftGroups = new int[leftRowCount];
+    int[] rightGroups = new int[rightRowCount];
+    int[] firstGroup = new int[partitionCount + 1];
+    forEachTask(
+        pool,
+        partitionCount,
+        p -> firstGroup[p + 1] = joinPartition(keys, left, right, p, leftGroups, rightGroups));
+    for (int p = 0; p < partitionCount; p++) {
+      firstGroup[p + 1] += firstGroup[p];
+    }
+    forEachTask(
+        pool,
+        partitionCount,
+        p -> {
+          left.shiftGroups(p, leftGroups, firstGroup[p]);
+          right.shiftGroups(p, rightGroups, firstGroup[p]);
+        });
+    return HashJoin.pairs(
+        leftGroups,
+        rightGroups,
+        firstGroup[partitionCount],
+        keepUnmatchedLeft,
+        keepUnmatchedRight,
+        pool);
+  }
+
+  /**
+   * Joins one partition, building on its smaller side. Writes group ids local to the partition into
+   * the given arrays, and returns the number of groups.
+   */
+  private static int joinPartition(
+      JoinKeys keys,
+      Partitions left,
+      Partitions right,
+      int partition,
+      int[] leftGroups,
+      int[] rightGroups) {
+    boolean buildRight = right.size(partition) <= left.size(partition);
+    Partitions build = buildRight ? right : left;
+    Partitions probe = buildRight ? left : right;
+    long[][] buildKeys = buildRight ? keys.right : keys.left;
+    long[][] probeKeys = buildRight ? keys.left : keys.right;
+    int[] buildGroups = buildRight ? rightGroups : leftGroups;
+    int[] probeGroups = buildRight ? leftGroups : rightGroups;
+
+    HashJoin.KeyGroups groups = new HashJoin.KeyGroups(buildKeys, build.size(partition));
+    for (int i = build.offsets[partition]; i < build.offsets[partition + 1]; i++) {
+      int row = build.rows[i];
+      buildGroups[row] = groups.insert(row);
+    }
+    for (int i = probe.offsets[partition]; i < probe.offsets[partition + 1]; i++) {
+      int row = probe.rows[i];
+      probeGroups[row] = groups.find(probeKeys, row);
+    }
+    return groups.groupCount();
+  }
+
+  /**
+   * Returns the number of tasks to split the given number of rows into, which is 1 if the pool is
+   * null
+   */
+  static int taskCount(int rowCount, ForkJoinPool pool) {
+    if (pool == null) {
+      return 1;
+    }
+    int byThreads = pool.getParallelism() * TASKS_PER_THREAD;
+    return Math.max(1, Math.min(byThreads, rowCount / MIN_ROWS_PER_TASK));
+  }
+
+  /** Returns the first row of the given task when rowCount rows are split into taskCount tasks */
+  static int taskStart(int task, int taskCount, int rowCount) {
+    return (int) ((long) rowCount * task / taskCount);
+  }
+
+  /**
+   * Runs the given task for every task number from 0 to taskCount - 1, on the given pool, and waits
+   * for all of them to finish. Runs them one after the other on the calling thread if the pool is
+   * null or there is only one.
+   */
+  static void forEachTask(ForkJoinPool pool, int taskCount, IntConsumer task) {
+    if (pool == null || taskCount == 1) {
+      for (int t = 0; t < taskCount; t++) {
+        task.accept(t);
+      }
+      return;
+    }
+    List<ForkJoinTask<?>> tasks = new ArrayList<>(taskCount);
+    for (int t = 0; t < taskCount; t++) {
+      int taskNumber = t;
+      tasks.add(ForkJoinTask.adapt(() -> task.accept(taskNumber)));
+    }
+    pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+  }
+
+  /** The row numbers of a table grouped by partition, ascending within each partition */
+  private static final class Partitions {
+
+    /** The row numbers of all partitions, one partition after the other */
+    private final int[] rows;
+
+    /** The position in rows where each partition starts, followed by the total row count */
+    private final int[] offsets;
+
+    private Partitions(int[] rows, int[] offsets) {
+      this.rows = rows;
+      this.offsets = offsets;
+    }
+
+    /**
+     * Partitions the rows of a table on the top partitionBits bits of the hash of their keys. Each
+     * task counts and then scatters its own range of rows, so no two tasks write the same slot.
+     */
+    static Partitions of(long[][] keys, int rowCount, int partitionBits, ForkJoinPool pool) {
+      int partitionCount = 1 << partitionBits;
+      int shift = 32 - partitionBits;
+      int taskCount = taskCount(rowCount, pool);
+      int[] partitionOfRow = new int[rowCount];
+      int[][] counts = new int[taskCount][partitionCount];
+      forEachTask(
+          pool,
+          taskCount,
+          task -> {
+            int[] taskCounts = counts[task];
+            int end = taskStart(task + 1, taskCount, rowCount);
+            for (int row = taskStart(task, taskCount, rowCount); row < end; row++) {
+              int partition = JoinKeys.hash(keys, row) >>> shift;
+              partitionOfRow[row] = partition;
+              taskCounts[partition]++;
+            }
+          });
+
+      // Turn the counts into the position where each task writes its first row of each partition
+      int[] offsets = new int[partitionCount + 1];
+      int position = 0;
+      for (int p = 0; p < partitionCount; p++) {
+        offsets[p] = position;
+        for (int task = 0; task < taskCount; task++) {
+          int count = counts[task][p];
+          counts[task][p] = position;
+          position += count;
+        }
+      }
+      offsets[partitionCount] = position;
+
+      int[] rows = new int[rowCount];
+      forEachTask(
+          pool,
+          taskCount,
+          task -> {
+            int[] next = counts[task];
+            int end = taskStart(task + 1, taskCount, rowCount);
+            for (int row = taskStart(task, taskCount, rowCount); row < end; row++) {
+              rows[next[partitionOfRow[row]]++] = row;
+            }
+          });
+      return new Partitions(rows, offsets);
+    }
+
+    int size(int partition) {
+      return offsets[partition + 1] - offsets[partition];
+    }
+
+    /** Adds the given amount to the non-negative group ids of the rows in the given partition */
+    void shiftGroups(int partition, int[] groups, int shift) {
+      for (int i = offsets[partition]; i < offsets[partition + 1]; i++) {
+        int row = rows[i];
+        if (groups[row] >= 0) {
+          groups[row] += shift;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package tech.tablesaw.joining;
+
+/**
+ * The output of a join algorithm: parallel arrays holding, for each row of the joined table, the
+ * row number in the left table and the row number in the right table. A negative row number means
+ * the row has no counterpart on that side, so its columns are filled with missing values.
+ */
+final class RowIdPairs {
+
+  final int[] leftRows;
+  final int[] rightRows;
+
+  RowIdPairs(int[] leftRows, int[] rightRows) {
+    this.leftRows = leftRows;
+    this.rightRows = rightRows;
+  }
+
+  /** Returns the number of rows in the joined table */
+  int size() {
+    return leftRows.length;
+  }
+}
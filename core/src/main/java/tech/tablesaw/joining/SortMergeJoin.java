@@ -0,0 +1,109 @@
+package tech.tablesaw.joining;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import java.util.stream.IntStream;
+
+/**
+ * A sort-merge join over ordered {@link JoinKeys}.
+ *
+ * <p>Both tables are walked with one cursor each, in key order. A table that is already sorted on
+ * its join columns is walked in place; otherwise a sorted permutation of its row numbers is built
+ * first. Apart from that permutation and the output, the only state is the current run of equal
+ * keys on each side.
+ */
+final class SortMergeJoin {
+
+  private SortMergeJoin() {}
+
+  /**
+   * Joins the rows of two tables on their ordered keys. The pairs are emitted in key order. Within
+   * a key, left rows and right rows each keep their original relative order.
+   *
+   * @param keys the ordered encoded join columns of both tables
+   * @param leftRowCount the number of rows in the left table
+   * @param rightRowCount the number of rows in the right table
+   * @param keepUnmatchedLeft if true, left rows without a match are paired with a missing row
+   * @param keepUnmatchedRight if true, right rows without a match are paired with a missing row
+   */
+  static RowIdPairs join(
+      JoinKeys keys,
+      int leftRowCount,
+      int rightRowCount,
+      boolean keepUnmatchedLeft,
+      boolean keepUnmatchedRight) {
+    long[][] left = keys.left;
+    long[][] right = keys.right;
+    int[] leftOrder = sortOrder(left, leftRowCount);
+    int[] rightOrder = sortOrder(right, rightRowCount);
+
+    IntArrayList leftRows = new IntArrayList(Math.max(leftRowCount, rightRowCount));
+    IntArrayList rightRows = new IntArrayList(Math.max(leftRowCount, rightRowCount));
+    int i = 0;
+    int j = 0;
+    while (i < leftRowCount || j < rightRowCount) {
+      int cmp;
+      if (j == rightRowCount) {
+        cmp = -1;
+      } else if (i == leftRowCount) {
+        cmp = 1;
+      } else {
+        cmp = JoinKeys.compare(left, row(leftOrder, i), right, row(rightOrder, j));
+      }
+      if (cmp < 0) {
+        if (keepUnmatchedLeft) {
+          leftRows.add(row(leftOrder, i));
+          rightRows.add(-1);
+        }
+        i++;
+      } else if (cmp > 0) {
+        if (keepUnmatchedRight) {
+          leftRows.add(-1);
+          rightRows.add(row(rightOrder, j));
+        }
+        j++;
+      } else {
+        int leftRunEnd = runEnd(left, leftOrder, i, leftRowCount);
+        int rightRunEnd = runEnd(right, rightOrder, j, rightRowCount);
+        for (int a = i; a < leftRunEnd; a++) {
+          int leftRow = row(leftOrder, a);
+          for (int b = j; b < rightRunEnd; b++) {
+            leftRows.add(leftRow);
+            rightRows.add(row(rightOrder, b));
+          }
+        }
+        i = leftRunEnd;
+        j = rightRunEnd;
+      }
+    }
+    return new RowIdPairs(leftRows.toIntArray(), rightRows.toIntArray());
+  }
+
+  /**
+   * Returns the row numbers of a table in key order, or null if the rows are already in key order.
+   * Rows with equal keys stay in ascending row order.
+   */
+  private static int[] sortOrder(long[][] keys, int rowCount) {
+    if (JoinKeys.isSorted(keys, rowCount)) {
+      return null;
+    }
+    int[] order = IntStream.range(0, rowCount).toArray();
+    IntArrays.mergeSort(order, (row1, row2) -> JoinKeys.compare(keys, row1, keys, row2));
+    return order;
+  }
+
+  /** Returns the row at the given position of a sort order, where null means the identity */
+  private static int row(int[] order, int position) {
+    return order == null ? position : order[position];
+  }
+
+  /** Returns the position just past the run of rows with the same key as the row at start */
+  private static int runEnd(long[][] keys, int[] order, int start, int rowCount) {
+    int startRow = row(order, start);
+    int end = start + 1;
+    while (end < rowCount && JoinKeys.compare(keys, startRow, keys, row(order, end)) == 0) {
+      end++;
+    }
+    return end;
+  }
+}
@@ -18,12 +18,19 @@ import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.IntIterator;
 import java.util.BitSet;
 import java.util.Random;
+import java.util.function.IntToLongFunction;
+import org.roaringbitmap.BitmapContainer;
+import org.roaringbitmap.Container;
 import org.roaringbitmap.RoaringBitmap;
 
 /** A Selection implemented using bitmaps */
 public class BitmapBackedSelection implements Selection {
 
   private static final Random random = new Random();
+
+  /** The number of rows covered by each container of a bitmap */
+  private static final int CONTAINER_ROWS = 1 << 16;
+
   private final RoaringBitmap bitmap;
 
   /**
@@ -218,6 +225,32 @@ public class BitmapBackedSelection implements Selection {
     return selection;
   }
 
+  /**
+   * Returns a Selection of rows from 0 (inclusive) to size (exclusive), given as one word for every
+   * 64 rows. Bit i of the word returned for a row is set if that row plus i is selected. The words
+   * for each 2^16 rows are stored as a single container of the bitmap, without adding rows one by
+   * one
+   */
+  protected static Selection fromWords(int size, IntToLongFunction words) {
+    RoaringBitmap bitmap = new RoaringBitmap();
+    for (int start = 0; start < size; start += CONTAINER_ROWS) {
+      int end = (int) Math.min((long) start + CONTAINER_ROWS, size);
+      long[] containerWords = new long[CONTAINER_ROWS / Long.SIZE];
+      boolean empty = true;
+      for (int row = start; row < end; row += Long.SIZE) {
+        long word = words.applyAsLong(row);
+        containerWords[(row - start) / Long.SIZE] = word;
+        empty &= word == 0;
+      }
+      if (!empty) {
+        // a cardinality of -1 is computed on repair, which also picks the best kind of container
+        Container container = new BitmapContainer(containerWords, -1).repairAfterLazy();
+        bitmap.append((char) (start >>> 16), container);
+      }
+    }
+    return new BitmapBackedSelection(bitmap);
+  }
+
   /**
    * Returns a Selection containing all values from totalRangeStart to totalRangeEnd, except for
    * those in the range from excludedRangeStart to excludedRangeEnd. Start values are inclusive, end
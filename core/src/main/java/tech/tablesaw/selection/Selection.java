@@ -15,6 +15,7 @@
 package tech.tablesaw.selection;
 
 import it.unimi.dsi.fastutil.ints.IntIterable;
+import java.util.function.IntToLongFunction;
 
 /**
  * A selection maintains an ordered set of ints that can be used to filter rows from a table or
@@ -105,6 +106,15 @@ public interface Selection extends IntIterable {
     return BitmapBackedSelection.withRange(start, end);
   }
 
+  /**
+   * Returns a Selection of rows from 0 (inclusive) to size (exclusive), given as one word for every
+   * 64 rows. Bit i of the word returned for a row is set if that row plus i is selected; bits for
+   * rows at or beyond size must be clear. This lets a column test its values 64 at a time
+   */
+  static Selection fromWords(int size, IntToLongFunction words) {
+    return BitmapBackedSelection.fromWords(size, words);
+  }
+
   /**
    * Returns a Selection containing all values from totalRangeStart to totalRangeEnd, except for
    * those in the range from excludedRangeStart to excludedRangeEnd. Start values are inclusive, end
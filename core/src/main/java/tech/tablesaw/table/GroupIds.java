@@ -0,0 +1,299 @@
+package tech.tablesaw.table;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.strings.DictionaryMap;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * Assigns a group id to every row of a table, so that two rows get the same id exactly when they
+ * hold equal values in all the grouping columns. Missing values are equal to each other. Ids are
+ * dense, starting at 0, and numbered in the order in which each group first appears in the table.
+ *
+ * <p>Each grouping column is first reduced to a dense int code per row. {@link StringColumn}s use
+ * their dictionary keys, and the other column types their primitive values, so no object is created
+ * per row. The codes of the columns are then combined one column at a time. Group names are only
+ * built when asked for, from a representative row of each group.
+ */
+public final class GroupIds {
+
+  /** Combinations of codes up to this many are numbered with an array rather than a hash map */
+  private static final int MAX_DIRECT_COMBINATIONS = 1 << 20;
+
+  private final List<Column<?>> columns;
+  private final int[] groupIds;
+  private final int[] representativeRows;
+
+  private GroupIds(List<Column<?>> columns, int[] groupIds, int[] representativeRows) {
+    this.columns = columns;
+    this.groupIds = groupIds;
+    this.representativeRows = representativeRows;
+  }
+
+  /** Groups the rows of the given table on the columns with the given names */
+  public static GroupIds of(Table table, String... columnNames) {
+    return of(table.rowCount(), table.columns(columnNames));
+  }
+
+  /**
+   * Groups rows on the given columns, which must all hold the given number of rows. With no columns
+   * every row is in the same group.
+   */
+  public static GroupIds of(int rowCount, List<Column<?>> columns) {
+    int[] groups = new int[rowCount];
+    int groupCount = rowCount == 0 ? 0 : 1;
+    int[] codes = new int[rowCount];
+    for (Column<?> column : columns) {
+      int codeCount = encode(column, rowCount, codes);
+      groupCount = combine(groups, groupCount, codes, codeCount);
+    }
+    int[] representativeRows = new int[groupCount];
+    Arrays.fill(representativeRows, -1);
+    for (int row = 0; row < rowCount; row++) {
+      if (representativeRows[groups[row]] < 0) {
+        representativeRows[groups[row]] = row;
+      }
+    }
+    return new GroupIds(new ArrayList<>(columns), groups, representativeRows);
+  }
+
+  /** Returns the number of groups */
+  public int groupCount() {
+    return representativeRows.length;
+  }
+
+  /**
+   * Returns the group id of every row. The array is shared with this object and must not be
+   * modified.
+   */
+  public int[] groupIds() {
+    return groupIds;
+  }
+
+  /** Returns the group id of the given row */
+  public int groupOf(int row) {
+    return groupIds[row];
+  }
+
+  /** Returns the first row of the given group */
+  public int representativeRow(int group) {
+    return representativeRows[group];
+  }
+
+  /**
+   * Returns the name of the given group, made of the string values of its grouping columns joined
+   * with the given separator
+   */
+  public String groupName(int group, String separator) {
+    int row = representativeRows[group];
+    StringBuilder name = new StringBuilder();
+    for (int c = 0; c < columns.size(); c++) {
+      if (c > 0) {
+        name.append(separator);
+      }
+      name.append(columns.get(c).getString(row));
+    }
+    return name.toString();
+  }
+
+  /** Returns the rows of every group, in ascending order, indexed by group id */
+  public List<Selection> selections() {
+    int groupCount = groupCount();
+    int[] offsets = new int[groupCount + 1];
+    for (int group : groupIds) {
+      offsets[group + 1]++;
+    }
+    for (int g = 0; g < groupCount; g++) {
+      offsets[g + 1] += offsets[g];
+    }
+    int[] rows = new int[groupIds.length];
+    int[] next = Arrays.copyOf(offsets, groupCount);
+    for (int row = 0; row < groupIds.length; row++) {
+      rows[next[groupIds[row]]++] = row;
+    }
+    List<Selection> selections = new ArrayList<>(groupCount);
+    for (int g = 0; g < groupCount; g++) {
+      selections.add(
+          new BitmapBackedSelection(Arrays.copyOfRange(rows, offsets[g], offsets[g + 1])));
+    }
+    return selections;
+  }
+
+  /**
+   * Refines the groups so far by the codes of one more column, renumbering the combined groups in
+   * order of first appearance. Returns the new number of groups.
+   */
+  private static int combine(int[] groups, int groupCount, int[] codes, int codeCount) {
+    long combinations = (long) groupCount * codeCount;
+    if (combinations <= MAX_DIRECT_COMBINATIONS) {
+      int[] ids = new int[(int) combinations];
+      Arrays.fill(ids, -1);
+      int next = 0;
+      for (int row = 0; row < groups.length; row++) {
+        int combination = groups[row] * codeCount + codes[row];
+        int id = ids[combination];
+        if (id < 0) {
+          id = next++;
+          ids[combination] = id;
+        }
+        groups[row] = id;
+      }
+      return next;
+    }
+    Long2IntOpenHashMap ids = new Long2IntOpenHashMap();
+    ids.defaultReturnValue(-1);
+    for (int row = 0; row < groups.length; row++) {
+      long combination = (long) groups[row] * codeCount + codes[row];
+      int id = ids.get(combination);
+      if (id < 0) {
+        id = ids.size();
+        ids.put(combination, id);
+      }
+      groups[row] = id;
+    }
+    return ids.size();
+  }
+
+  /**
+   * Writes a dense code for the value of every row of the given column into codes, numbered in
+   * order of first appearance, and returns the number of distinct codes
+   */
+  private static int encode(Column<?> column, int rowCount, int[] codes) {
+    if (column instanceof StringColumn) {
+      DictionaryMap dictionary = ((StringColumn) column).getDictionary();
+      int[] keys = new int[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        keys[i] = dictionary.getKeyForIndex(i);
+      }
+      return encodeInts(keys, codes);
+    } else if (column instanceof IntColumn) {
+      IntColumn ints = (IntColumn) column;
+      int[] values = new int[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = ints.getInt(i);
+      }
+      return encodeInts(values, codes);
+    } else if (column instanceof ShortColumn) {
+      ShortColumn shorts = (ShortColumn) column;
+      int[] values = new int[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = shorts.getShort(i);
+      }
+      return encodeInts(values, codes);
+    } else if (column instanceof BooleanColumn) {
+      BooleanColumn booleans = (BooleanColumn) column;
+      int[] values = new int[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = booleans.getByte(i);
+      }
+      return encodeInts(values, codes);
+    } else if (column instanceof DateColumn) {
+      DateColumn dates = (DateColumn) column;
+      int[] values = new int[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = dates.getIntInternal(i);
+      }
+      return encodeInts(values, codes);
+    } else if (column instanceof TimeColumn) {
+      TimeColumn times = (TimeColumn) column;
+      int[] values = new int[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = times.getIntInternal(i);
+      }
+      return encodeInts(values, codes);
+    } else if (column instanceof FloatColumn) {
+      FloatColumn floats = (FloatColumn) column;
+      int[] values = new int[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = Float.floatToIntBits(floats.getFloat(i));
+      }
+      return encodeInts(values, codes);
+    } else if (column instanceof LongColumn) {
+      LongColumn longs = (LongColumn) column;
+      long[] values = new long[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = longs.getLong(i);
+      }
+      return encodeLongs(values, codes);
+    } else if (column instanceof DateTimeColumn) {
+      DateTimeColumn dateTimes = (DateTimeColumn) column;
+      long[] values = new long[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = dateTimes.getLongInternal(i);
+      }
+      return encodeLongs(values, codes);
+    } else if (column instanceof InstantColumn) {
+      InstantColumn instants = (InstantColumn) column;
+      long[] values = new long[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = instants.getLongInternal(i);
+      }
+      return encodeLongs(values, codes);
+    } else if (column instanceof DoubleColumn) {
+      DoubleColumn doubles = (DoubleColumn) column;
+      long[] values = new long[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = Double.doubleToLongBits(doubles.getDouble(i));
+      }
+      return encodeLongs(values, codes);
+    }
+    Object2IntOpenHashMap<Object> valueCodes = new Object2IntOpenHashMap<>();
+    valueCodes.defaultReturnValue(-1);
+    for (int i = 0; i < rowCount; i++) {
+      Object value = column.get(i);
+      int code = valueCodes.getInt(value);
+      if (code < 0) {
+        code = valueCodes.size();
+        valueCodes.put(value, code);
+      }
+      codes[i] = code;
+    }
+    return valueCodes.size();
+  }
+
+  private static int encodeInts(int[] values, int[] codes) {
+    Int2IntOpenHashMap valueCodes = new Int2IntOpenHashMap();
+    valueCodes.defaultReturnValue(-1);
+    for (int i = 0; i < values.length; i++) {
+      int code = valueCodes.get(values[i]);
+      if (code < 0) {
+        code = valueCodes.size();
+        valueCodes.put(values[i], code);
+      }
+      codes[i] = code;
+    }
+    return valueCodes.size();
+  }
+
+  private static int encodeLongs(long[] values, int[] codes) {
+    Long2IntOpenHashMap valueCodes = new Long2IntOpenHashMap();
+    valueCodes.defaultReturnValue(-1);
+    for (int i = 0; i < values.length; i++) {
+      int code = valueCodes.get(values[i]);
+      if (code < 0) {
+        code = valueCodes.size();
+        valueCodes.put(values[i], code);
+      }
+      codes[i] = code;
+    }
+    return valueCodes.size();
+  }
+}
@@ -41,16 +41,8 @@ public final class Rows {
    * @deprecated Use the instance method {Table:where(Selection} instead
    */
   @Deprecated
-  @SuppressWarnings({"rawtypes", "unchecked"})
   public static void copyRowsToTable(Selection rows, Table oldTable, Table newTable) {
-    for (int columnIndex = 0; columnIndex < oldTable.columnCount(); columnIndex++) {
-      Column oldColumn = oldTable.column(columnIndex);
-      int r = 0;
-      for (int i : rows) {
-        newTable.column(columnIndex).set(r, oldColumn, i);
-        r++;
-      }
-    }
+    oldTable.copyRowsToTable(rows, newTable);
   }
 
   /**
@@ -59,16 +51,8 @@ public final class Rows {
    * @deprecated Use the instance method {@link Table:copyRowsToTable()} instead
    */
   @Deprecated
-  @SuppressWarnings({"rawtypes", "unchecked"})
   public static void copyRowsToTable(int[] rows, Table oldTable, Table newTable) {
-    for (int columnIndex = 0; columnIndex < oldTable.columnCount(); columnIndex++) {
-      Column oldColumn = oldTable.column(columnIndex);
-      int r = 0;
-      for (int i : rows) {
-        newTable.column(columnIndex).set(r, oldColumn, i);
-        r++;
-      }
-    }
+    oldTable.copyRowsToTable(rows, newTable);
   }
 
   /**
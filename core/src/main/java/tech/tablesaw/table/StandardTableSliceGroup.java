@@ -14,19 +14,9 @@
 
 package tech.tablesaw.table;
 
-import it.unimi.dsi.fastutil.bytes.ByteArrayList;
-import java.nio.ByteBuffer;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import tech.tablesaw.api.CategoricalColumn;
-import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.Table;
-import tech.tablesaw.columns.Column;
-import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 /** A group of tables formed by performing splitting operations on an original table */
@@ -70,87 +60,19 @@ public class StandardTableSliceGroup extends TableSliceGroup {
 
   /**
    * Splits the sourceTable table into sub-tables, grouping on the columns whose names are given in
-   * splitColumnNames
+   * splitColumnNames. Slices are named after their values in the split columns, but the names are
+   * only built when first asked for.
    */
   private void splitOn(String... splitColumnNames) {
-    Map<ByteArray, Selection> selectionMap = new LinkedHashMap<>();
-    Map<ByteArray, String> sliceNameMap = new HashMap<>();
-    List<Column<?>> splitColumns = getSourceTable().columns(splitColumnNames);
-
-    if (containsTextColumn(splitColumns)) {
-      for (int i = 0; i < getSourceTable().rowCount(); i++) {
-        ByteArrayList byteArrayList = new ByteArrayList();
-        StringBuilder stringKey = new StringBuilder();
-        int count = 0;
-        for (Column<?> col : splitColumns) {
-          stringKey.append(col.getString(i));
-          if (count < splitColumns.size() - 1) {
-            stringKey.append(SPLIT_STRING);
-          }
-          byteArrayList.addElements(byteArrayList.size(), col.asBytes(i));
-          count++;
-        }
-        // Add to the matching selection.
-        ByteArray byteArray = new ByteArray(byteArrayList.toByteArray());
-        Selection selection = selectionMap.getOrDefault(byteArray, new BitmapBackedSelection());
-        selection.add(i);
-        selectionMap.put(byteArray, selection);
-        sliceNameMap.put(byteArray, stringKey.toString());
-      }
-    } else { // handle the case where split is on non-text-columns
-      int byteSize = getByteSize(splitColumns);
-      for (int i = 0; i < getSourceTable().rowCount(); i++) {
-        StringBuilder stringKey = new StringBuilder();
-        ByteBuffer byteBuffer = ByteBuffer.allocate(byteSize);
-        int count = 0;
-        for (Column<?> col : splitColumns) {
-          stringKey.append(col.getString(i));
-          if (count < splitColumns.size() - 1) {
-            stringKey.append(SPLIT_STRING);
-          }
-          byteBuffer.put(col.asBytes(i));
-          count++;
-        }
-        // Add to the matching selection.
-        ByteArray byteArray = new ByteArray(byteBuffer.array());
-        Selection selection = selectionMap.getOrDefault(byteArray, new BitmapBackedSelection());
-        selection.add(i);
-        selectionMap.put(byteArray, selection);
-        sliceNameMap.put(byteArray, stringKey.toString());
-      }
-    }
-
-    // Construct slices for all the values in our maps
-    for (Entry<ByteArray, Selection> entry : selectionMap.entrySet()) {
-      TableSlice slice = new TableSlice(getSourceTable(), entry.getValue());
-      slice.setName(sliceNameMap.get(entry.getKey()));
+    Table source = getSourceTable();
+    GroupIds groups = GroupIds.of(source, splitColumnNames);
+    List<Selection> selections = groups.selections();
+    for (int g = 0; g < groups.groupCount(); g++) {
+      int group = g;
+      TableSlice slice = new TableSlice(source, selections.get(g));
+      slice.setName(() -> groups.groupName(group, SPLIT_STRING));
       addSlice(slice);
     }
-  }
-
-  private boolean containsTextColumn(List<Column<?>> splitColumns) {
-    return splitColumns.stream().anyMatch(objects -> objects.type().equals(ColumnType.TEXT));
-  }
-
-  /** Wrapper class for a byte[] that implements equals and hashcode. */
-  private static class ByteArray {
-    final byte[] bytes;
-
-    ByteArray(byte[] bytes) {
-      this.bytes = bytes;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-      if (this == o) return true;
-      if (o == null || getClass() != o.getClass()) return false;
-      ByteArray byteArray = (ByteArray) o;
-      return Arrays.equals(bytes, byteArray.bytes);
-    }
-
-    @Override
-    public int hashCode() {
-      return Arrays.hashCode(bytes);
-    }
+    setGroupIds(groups);
   }
 }
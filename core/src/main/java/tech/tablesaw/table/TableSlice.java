@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.PrimitiveIterator;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import javax.annotation.Nullable;
 import tech.tablesaw.aggregate.NumericAggregateFunction;
@@ -48,12 +49,18 @@ public class TableSlice extends Relation {
   /** The name of the slice */
   private String name;
 
+  /** Computes the name the first time it is asked for, if the slice was named lazily */
+  @Nullable private Supplier<String> nameSupplier;
+
   /** The Selection that defines which rows in the table are present in this slice */
   @Nullable private Selection selection;
 
   /** An array of row indices defining the presentation order of the slice */
   @Nullable private int[] sortOrder = null;
 
+  /** True once the rows of the slice have been cleared or its selection removed */
+  private boolean rowsChanged;
+
   /**
    * Returns a new View constructed from the given table, containing only the rows represented by
    * the bitmap
@@ -132,6 +139,10 @@ public class TableSlice extends Relation {
   /** {@inheritDoc} */
   @Override
   public String name() {
+    if (nameSupplier != null) {
+      name = nameSupplier.get();
+      nameSupplier = null;
+    }
     return name;
   }
 
@@ -145,6 +156,7 @@ public class TableSlice extends Relation {
   public void clear() {
     sortOrder = null;
     selection = Selection.with();
+    rowsChanged = true;
   }
 
   /** Removes the sort from this View. */
@@ -158,6 +170,7 @@ public class TableSlice extends Relation {
    */
   public void removeSelection() {
     this.selection = null;
+    rowsChanged = true;
   }
 
   /** {@inheritDoc} */
@@ -198,6 +211,16 @@ public class TableSlice extends Relation {
   @Override
   public TableSlice setName(String name) {
     this.name = name;
+    this.nameSupplier = null;
+    return this;
+  }
+
+  /**
+   * Sets the name of this slice to the result of the given supplier, which is only called the first
+   * time the name is asked for
+   */
+  TableSlice setName(Supplier<String> nameSupplier) {
+    this.nameSupplier = nameSupplier;
     return this;
   }
 
@@ -274,6 +297,11 @@ public class TableSlice extends Relation {
     return sortOrder != null;
   }
 
+  /** Returns true if the slice still holds the rows it was made with, in table order */
+  boolean hasOriginalRows() {
+    return !rowsChanged && !isSorted();
+  }
+
   /**
    * Maps the view row number to the row number on the underlying source table.
    *
@@ -23,6 +23,10 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import javax.annotation.Nullable;
+import tech.tablesaw.aggregate.Accumulator;
 import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.StringColumn;
@@ -47,6 +51,15 @@ public abstract class TableSliceGroup implements Iterable<TableSlice> {
    */
   private static final Splitter SPLITTER = Splitter.on(SPLIT_STRING);
 
+  /**
+   * The number of rows each accumulator is fed at a time, so that a block of a source column stays
+   * in cache while all the functions applied to it see the block
+   */
+  private static final int ACCUMULATE_BLOCK_ROWS = 1 << 12;
+
+  /** Each thread accumulates at least this many rows, so the cost of merging stays small */
+  private static final int MIN_ROWS_PER_TASK = 1 << 16;
+
   /** The list of slices or views over the source table that I contain */
   private final List<TableSlice> subTables = new ArrayList<>();
 
@@ -56,6 +69,9 @@ public abstract class TableSliceGroup implements Iterable<TableSlice> {
   // The table that underlies all the manipulations performed here
   private Table sourceTable;
 
+  /** The slice of every row of the source table, if every row is in exactly one slice */
+  private GroupIds groupIds;
+
   /**
    * Returns an instance for calculating a single summary for the given table, with no sub-groupings
    */
@@ -92,6 +108,14 @@ public abstract class TableSliceGroup implements Iterable<TableSlice> {
     subTables.add(slice);
   }
 
+  /**
+   * Records that the ith slice holds exactly the rows of the source table in group i of the given
+   * group ids, which lets {@link #aggregate(ListMultimap)} compute every slice in one pass
+   */
+  protected void setGroupIds(GroupIds groupIds) {
+    this.groupIds = groupIds;
+  }
+
   /** Returns the slices as a list */
   public List<TableSlice> getSlices() {
     return subTables;
@@ -159,8 +183,22 @@ public abstract class TableSliceGroup implements Iterable<TableSlice> {
    *
    * @param functions map from column name to aggregation to apply on that function
    */
-  @SuppressWarnings({"unchecked", "rawtypes"})
   public Table aggregate(ListMultimap<String, AggregateFunction<?, ?>> functions) {
+    return aggregate(functions, null);
+  }
+
+  /**
+   * Applies the given aggregations to the given columns, using the threads of the given pool. The
+   * rows of each column are split into contiguous ranges that are accumulated concurrently, each
+   * into its own partial results, and the partial results are then merged in row order. Functions
+   * without an {@link Accumulator} are applied slice by slice on the calling thread.
+   *
+   * @param functions map from column name to aggregation to apply on that function
+   * @param pool the pool to run on, or null to run everything on the calling thread
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public Table aggregate(
+      ListMultimap<String, AggregateFunction<?, ?>> functions, @Nullable ForkJoinPool pool) {
     Table groupTable = summaryTableName(sourceTable);
     StringColumn groupColumn = StringColumn.create("Group");
     groupTable.addColumns(groupColumn);
@@ -168,12 +206,19 @@ public abstract class TableSliceGroup implements Iterable<TableSlice> {
     for (Map.Entry<String, Collection<AggregateFunction<?, ?>>> entry :
         functions.asMap().entrySet()) {
       String columnName = entry.getKey();
+      List<Accumulator<?>> accumulators = accumulate(columnName, entry.getValue(), pool);
+      int functionIndex = 0;
       for (AggregateFunction function : entry.getValue()) {
         String colName = aggregateColumnName(columnName, function.functionName());
         ColumnType type = function.returnType();
         Column resultColumn = type.create(colName);
-        for (TableSlice subTable : getSlices()) {
-          Object result = function.summarize(subTable.column(columnName));
+        Accumulator<?> accumulator = accumulators.get(functionIndex++);
+        for (int i = 0; i < size(); i++) {
+          TableSlice subTable = get(i);
+          Object result =
+              accumulator == null
+                  ? function.summarize(subTable.column(columnName))
+                  : accumulator.result(i);
           if (firstFunction) {
             groupColumn.append(subTable.name());
           }
@@ -191,6 +236,100 @@ public abstract class TableSliceGroup implements Iterable<TableSlice> {
     return splitGroupingColumn(groupTable);
   }
 
+  /**
+   * Returns an accumulator holding the results for every slice of each of the given functions that
+   * has one, filled in a single pass over the named source column. The list has a null in place of
+   * the functions that must instead be applied slice by slice, and is all nulls unless the slices
+   * were made from group ids and still hold their original rows in table order.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private List<Accumulator<?>> accumulate(
+      String columnName,
+      Collection<AggregateFunction<?, ?>> functions,
+      @Nullable ForkJoinPool pool) {
+    boolean byGroupId =
+        groupIds != null
+            && groupIds.groupCount() == size()
+            && groupIds.groupIds().length == sourceTable.rowCount()
+            && subTables.stream().allMatch(TableSlice::hasOriginalRows);
+    List<Accumulator<?>> accumulators = newAccumulators(functions, byGroupId);
+    if (accumulators.stream().allMatch(accumulator -> accumulator == null)) {
+      return accumulators;
+    }
+    Column<?> column = sourceTable.column(columnName);
+    int[] ids = groupIds.groupIds();
+    int taskCount = taskCount(ids.length, pool);
+    if (taskCount == 1) {
+      accumulateRows(column, ids, accumulators, 0, ids.length);
+      return accumulators;
+    }
+    List<List<Accumulator<?>>> partials = new ArrayList<>(taskCount);
+    partials.add(accumulators);
+    for (int task = 1; task < taskCount; task++) {
+      partials.add(newAccumulators(functions, true));
+    }
+    List<ForkJoinTask<?>> tasks = new ArrayList<>(taskCount);
+    for (int task = 0; task < taskCount; task++) {
+      List<Accumulator<?>> partial = partials.get(task);
+      int from = taskStart(task, taskCount, ids.length);
+      int to = taskStart(task + 1, taskCount, ids.length);
+      tasks.add(ForkJoinTask.adapt(() -> accumulateRows(column, ids, partial, from, to)));
+    }
+    pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    for (int task = 1; task < taskCount; task++) {
+      List<Accumulator<?>> partial = partials.get(task);
+      for (int i = 0; i < accumulators.size(); i++) {
+        Accumulator accumulator = accumulators.get(i);
+        if (accumulator != null) {
+          accumulator.merge(partial.get(i));
+        }
+      }
+    }
+    return accumulators;
+  }
+
+  /**
+   * Returns a new accumulator over every slice for each of the given functions, or a null for those
+   * that have none. All are null unless byGroupId is true.
+   */
+  private List<Accumulator<?>> newAccumulators(
+      Collection<AggregateFunction<?, ?>> functions, boolean byGroupId) {
+    List<Accumulator<?>> accumulators = new ArrayList<>(functions.size());
+    for (AggregateFunction<?, ?> function : functions) {
+      accumulators.add(byGroupId ? function.accumulator(size()) : null);
+    }
+    return accumulators;
+  }
+
+  /**
+   * Feeds the rows from fromRow (inclusive) to toRow (exclusive) of the given column to each of the
+   * accumulators that is not null, a block of rows at a time
+   */
+  private static void accumulateRows(
+      Column<?> column, int[] groupIds, List<Accumulator<?>> accumulators, int fromRow, int toRow) {
+    for (int from = fromRow; from < toRow; from += ACCUMULATE_BLOCK_ROWS) {
+      int to = Math.min(toRow, from + ACCUMULATE_BLOCK_ROWS);
+      for (Accumulator<?> accumulator : accumulators) {
+        if (accumulator != null) {
+          accumulator.accumulate(column, groupIds, from, to);
+        }
+      }
+    }
+  }
+
+  /** Returns the number of ranges to split the given number of rows into to run on the pool */
+  private static int taskCount(int rowCount, @Nullable ForkJoinPool pool) {
+    if (pool == null) {
+      return 1;
+    }
+    return Math.max(1, Math.min(pool.getParallelism(), rowCount / MIN_ROWS_PER_TASK));
+  }
+
+  /** Returns the first row of the given range when rowCount rows are split into taskCount ranges */
+  private static int taskStart(int task, int taskCount, int rowCount) {
+    return (int) ((long) rowCount * task / taskCount);
+  }
+
   /** Returns the name of a summary table made by aggregating on the slices in this group */
   public static Table summaryTableName(Table source) {
     return Table.create(source.name() + " summary");
@@ -16,6 +16,7 @@ package tech.tablesaw.aggregate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.tablesaw.aggregate.AggregateFunctions.allTrue;
 import static tech.tablesaw.aggregate.AggregateFunctions.anyTrue;
@@ -25,8 +26,10 @@ import static tech.tablesaw.aggregate.AggregateFunctions.countTrue;
 import static tech.tablesaw.aggregate.AggregateFunctions.countUnique;
 import static tech.tablesaw.aggregate.AggregateFunctions.countWithMissing;
 import static tech.tablesaw.aggregate.AggregateFunctions.earliestDate;
+import static tech.tablesaw.aggregate.AggregateFunctions.first;
 import static tech.tablesaw.aggregate.AggregateFunctions.latestDate;
 import static tech.tablesaw.aggregate.AggregateFunctions.mean;
+import static tech.tablesaw.aggregate.AggregateFunctions.median;
 import static tech.tablesaw.aggregate.AggregateFunctions.noneTrue;
 import static tech.tablesaw.aggregate.AggregateFunctions.percentile90;
 import static tech.tablesaw.aggregate.AggregateFunctions.percentile95;
@@ -170,6 +173,40 @@ class AggregateFunctionsTest {
     assertEquals(13, result.rowCount());
   }
 
+  @Test
+  void testParallelSummarize() {
+    int rowCount = 300_000;
+    StringColumn region = StringColumn.create("region");
+    DoubleColumn values = DoubleColumn.create("values", rowCount);
+    for (int row = 0; row < rowCount; row++) {
+      region.append("r" + (row * 31 % 17));
+      values.set(row, row % 11 == 0 ? Double.NaN : Math.sin(row) * 1000);
+    }
+    Table data = Table.create("data", region, values);
+    AggregateFunction<?, ?>[] functions = {mean, sum, stdDev, first, median};
+
+    Table expected = data.summarize("values", functions).by("region");
+    Table result = data.summarize("values", functions).parallelism(4).by("region");
+
+    assertEquals(expected.rowCount(), result.rowCount());
+    assertEquals(expected.columnNames(), result.columnNames());
+    for (int col = 1; col < expected.columnCount(); col++) {
+      for (int row = 0; row < expected.rowCount(); row++) {
+        assertEquals(
+            expected.doubleColumn(col).getDouble(row),
+            result.doubleColumn(col).getDouble(row),
+            1e-6,
+            expected.column(col).name());
+      }
+    }
+  }
+
+  @Test
+  void testParallelismMustBePositive() {
+    assertThrows(
+        IllegalArgumentException.class, () -> table.summarize("approval", mean).parallelism(0));
+  }
+
   @Test
   void testBooleanAggregateFunctions() {
     boolean[] values = {true, false};
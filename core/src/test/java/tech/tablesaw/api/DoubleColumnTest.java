@@ -90,4 +90,15 @@ public class DoubleColumnTest {
     assertEquals(3, c.asSet().size());
     assertTrue(c.asSet().contains(4.0));
   }
+
+  @Test
+  void take() {
+    DoubleColumn column = DoubleColumn.create("d", 1.5, 2.5, 3.5);
+    DoubleColumn taken = column.take(new int[] {2, -1, 1, 2});
+    assertEquals(4, taken.size());
+    assertEquals(3.5, taken.getDouble(0));
+    assertTrue(taken.isMissing(1));
+    assertEquals(2.5, taken.getDouble(2));
+    assertEquals(3.5, taken.getDouble(3));
+  }
 }
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.columns.numbers.IntColumnType;
 import tech.tablesaw.columns.numbers.IntParser;
 import tech.tablesaw.selection.Selection;
 
@@ -38,4 +39,13 @@ class IntColumnTest {
     intColumn.appendCell("5");
     assertFalse(intColumn.isMissing(intColumn.size() - 1));
   }
+
+  @Test
+  void take() {
+    IntColumn taken = intColumn.take(new int[] {5, 0, -1, 0});
+    assertEquals("sc", taken.name());
+    assertArrayEquals(
+        new int[] {77, 4, IntColumnType.missingValueIndicator(), 4}, taken.asIntArray());
+    assertEquals(1, taken.countMissing());
+  }
 }
@@ -31,6 +31,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.TestDataUtil;
 import tech.tablesaw.columns.strings.StringColumnFormatter;
+import tech.tablesaw.columns.strings.StringFilters;
+import tech.tablesaw.columns.strings.StringMapFunctions;
 import tech.tablesaw.columns.strings.StringParser;
 import tech.tablesaw.selection.Selection;
 
@@ -66,6 +68,34 @@ class StringColumnTest {
     assertArrayEquals(sc.asList().toArray(), sc.asObjectArray());
   }
 
+  @Test
+  void appendStringColumnMergesDictionaries() {
+    StringColumn first = StringColumn.create("first");
+    StringColumn second = StringColumn.create("second");
+    for (int i = 0; i < 200; i++) {
+      first.append("a" + (i % 100));
+      second.append(i % 3 == 0 ? null : "b" + (i % 150));
+    }
+    List<String> expected = new ArrayList<>(first.asList());
+    expected.addAll(second.asList());
+
+    first.append(second);
+
+    assertEquals(expected, first.asList());
+    assertEquals(second.countMissing(), first.countMissing());
+    assertEquals(100 + second.countUnique(), first.countUnique());
+    assertEquals(2, first.countOccurrences("a7"));
+  }
+
+  @Test
+  void appendStringColumnToItself() {
+    column.append(column);
+    assertEquals(
+        Arrays.asList(
+            "Value 1", "Value 2", "Value 3", "Value 4", "Value 1", "Value 2", "Value 3", "Value 4"),
+        column.asList());
+  }
+
   @Test
   void appendAsterisk() {
     final StringColumn sc = StringColumn.create("sc");
@@ -228,6 +258,32 @@ class StringColumnTest {
     assertEquals("Texas", selection.get(1));
   }
 
+  @Test
+  void filtersOnDictionaryMatchRowByRowFilters() {
+    // enough distinct values to promote the dictionary past one byte per key
+    StringColumn column = StringColumn.create("values");
+    for (int i = 0; i < 3000; i++) {
+      column.append(i % 7 == 0 ? "" : (i % 2 == 0 ? "Item" : "item") + (i % 300));
+    }
+    TextColumn text = column.asTextColumn();
+
+    List<Function<StringFilters, Selection>> filters =
+        Arrays.asList(
+            c -> c.startsWith("Item1"),
+            c -> c.endsWith("9"),
+            c -> c.containsString("m2"),
+            c -> c.matchesRegex("item\\d{2}"),
+            c -> c.equalsIgnoreCase("ITEM42"),
+            c -> c.isShorterThan(6),
+            c -> c.lengthEquals(7),
+            c -> c.isMissing(),
+            c -> c.isLowerCase(),
+            c -> c.startsWith("none"));
+    for (Function<StringFilters, Selection> filter : filters) {
+      assertArrayEquals(filter.apply(text).toArray(), filter.apply(column).toArray());
+    }
+  }
+
   @Test
   void testFormattedPrinting() {
     StringColumn stringColumn = StringColumn.create("US States");
@@ -526,6 +582,35 @@ class StringColumnTest {
     assertEquals("run run run", result.get(1));
   }
 
+  @Test
+  void transformsOnDictionaryMatchRowByRowTransforms() {
+    // every key of a one byte dictionary is used, so a new value for the missing value needs more
+    StringColumn column = StringColumn.create("values");
+    for (int i = 0; i < 1000; i++) {
+      int value = i % 254;
+      column.append(i % 9 == 0 ? "" : (value % 2 == 0 ? " Item " : "item") + value);
+    }
+    TextColumn text = column.asTextColumn();
+
+    List<Function<StringMapFunctions, StringColumn>> transforms =
+        Arrays.asList(
+            StringMapFunctions::upperCase,
+            StringMapFunctions::lowerCase,
+            StringMapFunctions::trim,
+            c -> c.replaceAll("\\d", "#"),
+            c -> c.padStart(8, '*'),
+            c -> c.format("<%s>"),
+            c -> c.tokenizeAndSort());
+    for (Function<StringMapFunctions, StringColumn> transform : transforms) {
+      StringColumn expected = transform.apply(text);
+      StringColumn actual = transform.apply(column);
+      assertEquals(expected.name(), actual.name());
+      assertEquals(expected.asList(), actual.asList());
+      assertEquals(expected.countMissing(), actual.countMissing());
+      assertEquals(expected.countUnique(), actual.countUnique());
+    }
+  }
+
   @Test
   void testUpperCase() {
     String[] words = {"running", "run run run"};
@@ -815,4 +900,31 @@ class StringColumnTest {
     col1.append(col3);
     assertEquals(3, col1.size());
   }
+
+  @Test
+  void take() {
+    StringColumn taken = column.take(new int[] {3, 1, -1, 3});
+    assertEquals(Arrays.asList("Value 4", "Value 2", "", "Value 4"), taken.asList());
+    assertEquals(3, taken.countUnique());
+    assertEquals(1, taken.countMissing());
+    assertEquals(2, taken.countOccurrences("Value 4"));
+    assertEquals(0, taken.countOccurrences("Value 1"));
+
+    // The taken column stays independent of this one and can grow
+    taken.append("Value 5").set(1, "Value 1");
+    assertEquals(Arrays.asList("Value 4", "Value 1", "", "Value 4", "Value 5"), taken.asList());
+    assertEquals(Arrays.asList("Value 1", "Value 2", "Value 3", "Value 4"), column.asList());
+  }
+
+  @Test
+  void takeFromLargeDictionary() {
+    StringColumn large = StringColumn.create("large");
+    for (int i = 0; i < 1_000; i++) {
+      large.append("v" + i);
+    }
+    StringColumn taken = large.take(new int[] {999, 500, 999});
+    assertEquals(Arrays.asList("v999", "v500", "v999"), taken.asList());
+    assertEquals(2, taken.countUnique());
+    assertEquals(0, taken.countMissing());
+  }
 }
@@ -100,6 +100,17 @@ public class TableTest {
         result.where(result.stringColumn("state").isEqualTo("AL")).doubleColumn(1).get(0));
   }
 
+  @Test
+  void groupedMeanMatchesUngroupedMean() throws Exception {
+    Table table = Table.read().csv("../data/tornadoes_1950-2014.csv");
+    Table result = table.summarize("Injuries", "Length", mean).by("State");
+    for (Row row : result) {
+      Table state = table.where(table.stringColumn("State").isEqualTo(row.getString("State")));
+      assertEquals(state.numberColumn("Injuries").mean(), row.getDouble("Mean [Injuries]"));
+      assertEquals(state.numberColumn("Length").mean(), row.getDouble("Mean [Length]"));
+    }
+  }
+
   @Test
   void testColumn() {
     Column<?> column1 = table.column(0);
@@ -902,4 +913,45 @@ public class TableTest {
       fail("toString shouldn't throw " + e);
     }
   }
+
+  @Test
+  void take() {
+    Table t =
+        Table.create(
+            "t",
+            IntColumn.create("i", 1, 2, 3),
+            StringColumn.create("s", "a", "b", "c"),
+            DateColumn.create(
+                "d",
+                new LocalDate[] {
+                  LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 2), LocalDate.of(2020, 1, 3)
+                }));
+    Table taken = t.take(new int[] {2, -1, 0, 2});
+    assertEquals("t", taken.name());
+    assertEquals(t.columnNames(), taken.columnNames());
+    assertEquals(4, taken.rowCount());
+    assertEquals("[3, null, 1, 3]", taken.intColumn("i").asList().toString());
+    assertEquals("[c, , a, c]", taken.stringColumn("s").asList().toString());
+    assertEquals(LocalDate.of(2020, 1, 3), taken.dateColumn("d").get(0));
+    assertTrue(taken.dateColumn("d").isMissing(1));
+  }
+
+  @Test
+  void copyRowsToTableKeepsTargetColumnNames() {
+    Table target = bush.emptyCopy(2);
+    target.column(0).setName("renamed");
+    bush.copyRowsToTable(new int[] {1, 0}, target);
+    assertEquals("renamed", target.column(0).name());
+    assertEquals(bush.column(0).get(1), target.column(0).get(0));
+    assertEquals(bush.column(2).get(0), target.column(2).get(1));
+  }
+
+  @Test
+  void copyRowsToTableWritesIntoTargetColumns() {
+    Table target = bush.emptyCopy(2);
+    Column<?> first = target.column(0);
+    bush.copyRowsToTable(new int[] {1, 0}, target);
+    assertSame(first, target.column(0));
+    assertEquals(bush.column(0).get(1), first.get(0));
+  }
 }
@@ -578,4 +578,11 @@ public class TextColumnTest {
     col1.append(col3);
     assertEquals(3, col1.size());
   }
+
+  @Test
+  void take() {
+    TextColumn taken = column.take(new int[] {3, -1, 0});
+    assertEquals(Arrays.asList("Value 4", "", "Value 1"), taken.asList());
+    assertTrue(taken.isMissing(1));
+  }
 }
@@ -0,0 +1,182 @@
+package tech.tablesaw.columns;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tech.tablesaw.columns.BlockStatistics.BLOCK_ROWS;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.columns.BlockStatistics.Overlap;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+public class BlockStatisticsTest {
+
+  @Test
+  public void overlapOfBlocks() {
+    int[] values = new int[2 * BLOCK_ROWS + 10];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i < BLOCK_ROWS ? i : i < 2 * BLOCK_ROWS ? Integer.MIN_VALUE : 1_000_000;
+    }
+    BlockStatistics statistics =
+        new BlockStatistics(
+            () -> values.length, row -> values[row], row -> values[row] == Integer.MIN_VALUE);
+    assertEquals(3, statistics.update());
+    assertEquals(0, statistics.min(0));
+    assertEquals(BLOCK_ROWS - 1, statistics.max(0));
+    assertEquals(BLOCK_ROWS, statistics.missingCount(1));
+    assertEquals(10, statistics.rowCount(2));
+
+    assertEquals(Overlap.ALL, statistics.overlap(0, 0, BLOCK_ROWS, false));
+    assertEquals(Overlap.SOME, statistics.overlap(0, 1, BLOCK_ROWS, false));
+    assertEquals(Overlap.NONE, statistics.overlap(0, BLOCK_ROWS, Long.MAX_VALUE, false));
+    assertEquals(Overlap.NONE, statistics.overlap(1, 0, BLOCK_ROWS, false));
+    assertEquals(Overlap.ALL, statistics.overlap(1, 0, BLOCK_ROWS, true));
+    assertEquals(Overlap.ALL, statistics.overlap(2, 0, 1_000_000, true));
+    assertEquals(Overlap.ALL, statistics.overlap(2, 999_999.5, 1e6, key -> key));
+    assertEquals(Overlap.NONE, statistics.overlap(2, Double.NaN, 1e6, key -> key));
+
+    values[3] = -1;
+    statistics.invalidate(3);
+    statistics.update();
+    assertEquals(-1, statistics.min(0));
+  }
+
+  @Test
+  public void doubleKeysAreOrderedLikeDoubles() {
+    double[] ordered = {
+      Double.NEGATIVE_INFINITY, -1e300, -1, -Double.MIN_VALUE, -0.0, 0.0, 1e-300, 3, 1e300
+    };
+    for (int i = 1; i < ordered.length; i++) {
+      long key = BlockStatistics.doubleKey(ordered[i]);
+      assertEquals(1, Long.compare(key, BlockStatistics.doubleKey(ordered[i - 1])));
+      assertEquals(
+          Double.doubleToRawLongBits(ordered[i]),
+          Double.doubleToRawLongBits(BlockStatistics.doubleOfKey(key)));
+    }
+  }
+
+  @Test
+  public void numericRangesMatchRowByRowComparisons() {
+    // mostly ascending values over several blocks, with missing values and a block out of order
+    IntColumn ints = IntColumn.create("ints");
+    for (int i = 0; i < 4 * BLOCK_ROWS + 123; i++) {
+      if (i % 1000 == 7 || (i >= BLOCK_ROWS && i < BLOCK_ROWS + 500)) {
+        ints.appendMissing();
+      } else if (i / BLOCK_ROWS == 2) {
+        ints.append(i % 17);
+      } else {
+        ints.append(i / 4);
+      }
+    }
+    List<NumericColumn<?>> columns =
+        Arrays.asList(
+            ints,
+            ints.asShortColumn(),
+            ints.asLongColumn(),
+            ints.asFloatColumn(),
+            ints.asDoubleColumn());
+    double[][] ranges = {{0, 10}, {20_000, 50_000}, {-5, 1e9}, {16_384, 16_384}, {3.5, 16.5}};
+    for (NumericColumn<?> column : columns) {
+      for (double[] range : ranges) {
+        assertSameRows(
+            column.size(),
+            row -> !column.isMissing(row) && within(column.getDouble(row), range[0], range[1]),
+            column.isBetweenInclusive(range[0], range[1]));
+      }
+    }
+  }
+
+  @Test
+  public void statisticsFollowChangesToTheColumn() {
+    IntColumn ints = IntColumn.create("ints");
+    for (int i = 0; i < 2 * BLOCK_ROWS + 5; i++) {
+      ints.append(i);
+    }
+    assertMatches(ints, 0, 10);
+
+    for (int i = 0; i < BLOCK_ROWS; i++) {
+      ints.append(i);
+    }
+    assertMatches(ints, 0, 10);
+
+    ints.set(BLOCK_ROWS + 3, 5);
+    ints.setMissing(10);
+    assertMatches(ints, 0, 10);
+
+    ints.sortDescending();
+    assertMatches(ints, 0, 10);
+
+    ints.clear();
+    for (int i = 0; i < BLOCK_ROWS + 1; i++) {
+      ints.append(100 - i);
+    }
+    assertMatches(ints, 0, 10);
+  }
+
+  @Test
+  public void temporalRangesTreatMissingValuesAsSmallest() {
+    LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+    DateTimeColumn dateTimes = DateTimeColumn.create("dateTimes");
+    DateColumn dates = DateColumn.create("dates");
+    for (int i = 0; i < 3 * BLOCK_ROWS; i++) {
+      if (i % 5000 == 1) {
+        dateTimes.appendMissing();
+        dates.appendMissing();
+      } else {
+        dateTimes.append(start.plusMinutes(i));
+        dates.append(start.toLocalDate().plusDays(i / 100));
+      }
+    }
+    LocalDateTime cut = start.plusMinutes(BLOCK_ROWS + 17);
+    long packedCut = dateTimes.getLongInternal(BLOCK_ROWS + 17);
+    int size = dateTimes.size();
+    assertSameRows(size, row -> dateTimes.getLongInternal(row) > packedCut, dateTimes.isAfter(cut));
+    assertSameRows(
+        size, row -> dateTimes.getLongInternal(row) >= packedCut, dateTimes.isOnOrAfter(cut));
+    assertSameRows(
+        size, row -> dateTimes.getLongInternal(row) < packedCut, dateTimes.isBefore(cut));
+    assertSameRows(
+        size, row -> dateTimes.getLongInternal(row) <= packedCut, dateTimes.isOnOrBefore(cut));
+
+    LocalDate day = start.toLocalDate().plusDays(700);
+    int packedDay = dates.getIntInternal(70_000);
+    assertSameRows(size, row -> dates.getIntInternal(row) > packedDay, dates.isAfter(day));
+    assertSameRows(size, row -> dates.getIntInternal(row) < packedDay, dates.isBefore(day));
+    int packedEarlierDay = dates.getIntInternal(65_000);
+    assertSameRows(
+        size,
+        row ->
+            dates.getIntInternal(row) > packedEarlierDay && dates.getIntInternal(row) < packedDay,
+        dates.isBetweenExcluding(day.minusDays(50), day));
+  }
+
+  private static boolean within(double value, double low, double high) {
+    return value >= low && value <= high;
+  }
+
+  private static void assertMatches(IntColumn ints, int low, int high) {
+    assertSameRows(
+        ints.size(),
+        row -> !ints.isMissing(row) && within(ints.getInt(row), low, high),
+        ints.isBetweenInclusive(low, high));
+  }
+
+  private static void assertSameRows(int size, IntPredicate expected, Selection actual) {
+    Selection rows = new BitmapBackedSelection();
+    for (int row = 0; row < size; row++) {
+      if (expected.test(row)) {
+        rows.add(row);
+      }
+    }
+    assertArrayEquals(rows.toArray(), actual.toArray());
+  }
+}
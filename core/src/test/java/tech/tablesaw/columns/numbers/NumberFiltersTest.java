@@ -4,12 +4,20 @@ import static java.lang.Double.NaN;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.FloatColumn;
 import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.io.csv.CsvReadOptions;
+import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 public class NumberFiltersTest {
@@ -230,4 +238,56 @@ public class NumberFiltersTest {
     Table result = bush.where(bush.numberColumn("approval").isBetweenInclusive(0, 49));
     assertEquals(10, result.rowCount());
   }
+
+  @Test
+  public void columnKernelsMatchPredicates() {
+    // more than one bitmap container, with a partial last word and missing values
+    IntColumn ints = IntColumn.create("ints");
+    for (int i = 0; i < 70_001; i++) {
+      if (i % 11 == 0) {
+        ints.appendMissing();
+      } else {
+        ints.append(i % 200 - 100);
+      }
+    }
+    DoubleColumn doubles = ints.asDoubleColumn();
+    List<NumericColumn<?>> columns =
+        Arrays.asList(
+            ints, ints.asShortColumn(), ints.asLongColumn(), ints.asFloatColumn(), doubles);
+
+    Map<Function<NumericColumn<?>, Selection>, DoublePredicate> filters = new LinkedHashMap<>();
+    filters.put(c -> c.isEqualTo(7), d -> d == 7);
+    filters.put(c -> c.isEqualTo(7.5), d -> d == 7.5);
+    filters.put(c -> c.isNotEqualTo(7), d -> d != 7);
+    filters.put(c -> c.isGreaterThan(-3.5), d -> d > -3.5);
+    filters.put(c -> c.isGreaterThan(Double.POSITIVE_INFINITY), d -> false);
+    filters.put(c -> c.isGreaterThanOrEqualTo(99), d -> d >= 99);
+    filters.put(c -> c.isLessThan(-99), d -> d < -99);
+    filters.put(c -> c.isLessThan(Double.NEGATIVE_INFINITY), d -> false);
+    filters.put(c -> c.isLessThanOrEqualTo(NaN), d -> false);
+    filters.put(c -> c.isBetweenExclusive(-10, 10), d -> d > -10 && d < 10);
+    filters.put(c -> c.isBetweenInclusive(-10.5, 10), d -> d >= -10.5 && d <= 10);
+    filters.put(NumberFilters::isZero, d -> d == 0);
+    filters.put(NumberFilters::isNegative, d -> d < 0);
+    filters.put(NumberFilters::isNonNegative, d -> d >= 0);
+    filters.put(c -> c.isCloseTo(5, 2), d -> d > 3 && d < 7);
+    filters.put(c -> c.eval(d -> d % 3 == 0), d -> d % 3 == 0);
+    filters.put(
+        c -> c.isIn(Arrays.asList(1, 2.0, -50L, NaN)),
+        d -> d == 1 || d == 2 || d == -50 || Double.isNaN(d));
+
+    for (Map.Entry<Function<NumericColumn<?>, Selection>, DoublePredicate> filter :
+        filters.entrySet()) {
+      Selection expected = new BitmapBackedSelection();
+      for (int i = 0; i < doubles.size(); i++) {
+        if (filter.getValue().test(doubles.getDouble(i))) {
+          expected.add(i);
+        }
+      }
+      for (NumericColumn<?> column : columns) {
+        assertArrayEquals(
+            expected.toArray(), filter.getKey().apply(column).toArray(), column.type().name());
+      }
+    }
+  }
 }
@@ -3,11 +3,18 @@ package tech.tablesaw.filtering;
 import static org.junit.jupiter.api.Assertions.*;
 import static tech.tablesaw.api.QuerySupport.*;
 
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
 import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
 
 class DeferredColumnTest {
 
@@ -173,4 +180,77 @@ class DeferredColumnTest {
     assertTrue(t.where(notAll(booleanColumn("A").isTrue())).intColumn(0).contains(6));
     assertTrue(t.where(notAll(booleanColumn("A").isTrue())).intColumn(0).contains(8));
   }
+
+  @Test
+  void nestedFiltersMatchEagerSelections() {
+    Random random = new Random(7);
+    int rowCount = 20_000;
+    IntColumn ints = IntColumn.create("i");
+    DoubleColumn doubles = DoubleColumn.create("d");
+    StringColumn strings = StringColumn.create("s");
+    TextColumn texts = TextColumn.create("t");
+    for (int row = 0; row < rowCount; row++) {
+      ints.append(random.nextInt(1000));
+      if (row % 97 == 0) {
+        doubles.appendMissing();
+      } else {
+        doubles.append(random.nextGaussian());
+      }
+      String value = Integer.toString(random.nextInt(500), 36);
+      strings.append(value);
+      texts.append(value.toUpperCase());
+    }
+    Table t = Table.create("t", ints, doubles, strings, texts);
+
+    assertSameRows(
+        ints.isLessThan(10).and(strings.startsWith("a")),
+        t,
+        and(stringColumn("s").startsWith("a"), numberColumn("i").isLessThan(10)));
+    assertSameRows(
+        ints.isEqualTo(3).and(doubles.isPositive()).and(texts.matchesRegex("[A-F].*")),
+        t,
+        and(
+            textColumn("t").matchesRegex("[A-F].*"),
+            numberColumn("i").isEqualTo(3),
+            numberColumn("d").isPositive()));
+    assertSameRows(
+        ints.isIn(1, 2, 3).or(ints.isGreaterThan(995)).and(doubles.isNotMissing()),
+        t,
+        and(
+            or(
+                numberColumn("i").isIn(Arrays.<Number>asList(1, 2, 3)),
+                numberColumn("i").isGreaterThan(995)),
+            numberColumn("d").isNotMissing()));
+    assertSameRows(
+        ints.isLessThan(20).andNot(strings.isIn("a", "b", "c").or(doubles.isNegative())),
+        t,
+        and(
+            numberColumn("i").isLessThan(20),
+            not(or(stringColumn("s").isIn("a", "b", "c"), numberColumn("d").isNegative()))));
+    assertSameRows(
+        ints.isBetweenInclusive(100, 101).and(strings.isNotEqualTo("b").or(texts.isEmptyString())),
+        t,
+        and(
+            or(stringColumn("s").isNotEqualTo("b"), textColumn("t").isEmptyString()),
+            numberColumn("i").isBetweenInclusive(100, 101)));
+  }
+
+  @Test
+  void logicalOperatorsStopWhenTheOutcomeIsKnown() {
+    Table t = Table.create("t", IntColumn.indexColumn("index", 100, 0));
+    Function<Table, Selection> unreachable =
+        table -> {
+          throw new AssertionError("applied a filter whose result could not matter");
+        };
+
+    assertTrue(t.where(and(numberColumn("index").isNegative(), unreachable)).isEmpty());
+    assertEquals(100, t.where(or(numberColumn("index").isNonNegative(), unreachable)).rowCount());
+    assertEquals(
+        0, t.where(not(or(numberColumn("index").isNonNegative(), unreachable))).rowCount());
+  }
+
+  private static void assertSameRows(
+      Selection expected, Table table, Function<Table, Selection> filter) {
+    assertArrayEquals(expected.toArray(), filter.apply(table).toArray());
+  }
 }
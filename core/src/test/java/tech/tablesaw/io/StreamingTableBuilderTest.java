@@ -0,0 +1,96 @@
+package tech.tablesaw.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.tablesaw.api.ColumnType.DOUBLE;
+import static tech.tablesaw.api.ColumnType.INTEGER;
+import static tech.tablesaw.api.ColumnType.LONG;
+import static tech.tablesaw.api.ColumnType.SKIP;
+import static tech.tablesaw.api.ColumnType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.Table;
+
+class StreamingTableBuilderTest {
+
+  private static void addRow(StreamingTableBuilder builder, String... namesAndValues) {
+    for (int i = 0; i < namesAndValues.length; i += 2) {
+      builder.set(builder.column(namesAndValues[i]), namesAndValues[i + 1]);
+    }
+    builder.endRow();
+  }
+
+  @Test
+  void detectsTypesFromTheFirstRowsAndWidens() {
+    StreamingTableBuilder builder =
+        new StreamingTableBuilder(new ReadOptions.Builder().tableName("t").build(), 2);
+    addRow(builder, "a", "1", "b", "x");
+    addRow(builder, "a", "2", "b", "y");
+    addRow(builder, "a", "3000000000", "b", "z");
+    Table table = builder.build();
+    assertEquals("t", table.name());
+    assertEquals(LONG, table.column("a").type());
+    assertEquals(Arrays.asList(1L, 2L, 3_000_000_000L), table.column("a").asList());
+    assertEquals(STRING, table.column("b").type());
+  }
+
+  @Test
+  void keepsTheTextOfTheFirstRowsWhenWideningToString() {
+    StreamingTableBuilder builder = new StreamingTableBuilder(new ReadOptions.Builder().build(), 2);
+    addRow(builder, "d", "1/2/2020", "n", "1.50");
+    addRow(builder, "d", "1/3/2020", "n", "2.25");
+    addRow(builder, "d", "later", "n", "x");
+    Table table = builder.build();
+    assertEquals(Arrays.asList("1/2/2020", "1/3/2020", "later"), table.column("d").asList());
+    assertEquals(Arrays.asList("1.50", "2.25", "x"), table.column("n").asList());
+  }
+
+  @Test
+  void addsColumnsThatAppearLater() {
+    StreamingTableBuilder builder = new StreamingTableBuilder(new ReadOptions.Builder().build(), 2);
+    addRow(builder, "a", "1", "c", null);
+    addRow(builder, "a", "2");
+    addRow(builder, "a", "3", "b", "2.5", "c", "7");
+    addRow(builder, "b", "3.5");
+    Table table = builder.build();
+    assertEquals(Arrays.asList("a", "c", "b"), table.columnNames());
+    assertEquals(4, table.rowCount());
+    assertEquals(DOUBLE, table.column("b").type());
+    assertEquals(Arrays.asList(null, null, 2.5, 3.5), table.column("b").asList());
+    assertEquals(INTEGER, table.column("c").type());
+    assertEquals(Arrays.asList(null, null, 7, null), table.column("c").asList());
+    assertTrue(table.column("a").isMissing(3));
+  }
+
+  @Test
+  void usesTheGivenTypes() {
+    StreamingTableBuilder builder =
+        new StreamingTableBuilder(
+            new ReadOptions.Builder()
+                .columnTypesPartial(ImmutableMap.of("a", STRING, "b", SKIP, "c", INTEGER))
+                .build(),
+            0);
+    addRow(builder, "a", "1", "b", "2");
+    addRow(builder, "a", "3", "b", "4", "c", "5");
+    Table table = builder.build();
+    assertEquals(Arrays.asList("a", "c"), table.columnNames());
+    assertEquals(STRING, table.column("a").type());
+    assertEquals(INTEGER, table.column("c").type());
+
+    StreamingTableBuilder failing =
+        new StreamingTableBuilder(
+            new ReadOptions.Builder().columnTypesPartial(ImmutableMap.of("a", INTEGER)).build(), 1);
+    addRow(failing, "a", "1");
+    assertThrows(AddCellToColumnException.class, () -> addRow(failing, "a", "x"));
+  }
+
+  @Test
+  void noRows() {
+    StreamingTableBuilder builder = new StreamingTableBuilder(new ReadOptions.Builder().build(), 0);
+    builder.column("a");
+    assertEquals(0, builder.build().columnCount());
+  }
+}
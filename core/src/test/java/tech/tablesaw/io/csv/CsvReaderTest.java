@@ -14,6 +14,7 @@
 
 package tech.tablesaw.io.csv;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -25,15 +26,18 @@ import static tech.tablesaw.api.ColumnType.*;
 
 import com.google.common.collect.ImmutableMap;
 import com.univocity.parsers.common.TextParsingException;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileReader;
+import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
@@ -46,6 +50,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.api.DateTimeColumn;
@@ -998,4 +1003,71 @@ public class CsvReaderTest {
 
     assertArrayEquals(new ColumnType[] {SHORT, STRING}, columnTypes);
   }
+
+  @Test
+  public void testParallelRead(@TempDir Path directory) throws IOException {
+    File file = directory.resolve("parallel.csv").toFile();
+    try (Writer writer = new FileWriter(file)) {
+      writer.write("id,name,note,value\n");
+      for (int row = 0; row < 150_000; row++) {
+        String note = row % 7 == 0 ? "\"line one\nline \"\"two\"\", " + row + "\"" : "plain";
+        writer.write(row + ",name" + (row % 300) + "," + note + "," + (row * 0.5) + "\n");
+      }
+    }
+
+    Table expected = Table.read().csv(CsvReadOptions.builder(file));
+    Table result = Table.read().csv(CsvReadOptions.builder(file).parallelism(4));
+
+    assertEquals(150_000, result.rowCount());
+    assertEquals(expected.columnNames(), result.columnNames());
+    assertEquals(expected.types(), result.types());
+    for (int col = 0; col < expected.columnCount(); col++) {
+      assertEquals(expected.column(col).asList(), result.column(col).asList());
+    }
+    assertEquals("line one\nline \"two\", 7", result.stringColumn("note").get(7));
+  }
+
+  @Test
+  public void testParallelismMustBePositive() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> CsvReadOptions.builder("../data/bus_stop_test.csv").parallelism(0));
+  }
+
+  @Test
+  public void testTypeDetectionFromFirstRowsWidensColumns() {
+    String csv = "a,b,c\n1,1,2020-01-01\n2,2,2020-01-02\n3000000000,x,\n4.5,4,soon\n";
+    Table table =
+        Table.read()
+            .csv(
+                CsvReadOptions.builder(new ByteArrayInputStream(csv.getBytes(UTF_8)))
+                    .typeDetectionRows(2));
+
+    assertEquals(Arrays.asList(DOUBLE, STRING, STRING), table.types());
+    assertEquals(Arrays.asList(1.0, 2.0, 3e9, 4.5), table.doubleColumn("a").asList());
+    assertEquals(Arrays.asList("1", "2", "x", "4"), table.stringColumn("b").asList());
+    assertEquals(
+        Arrays.asList("2020-01-01", "2020-01-02", "", "soon"), table.stringColumn("c").asList());
+  }
+
+  @Test
+  public void testTypeDetectionFromFirstRowsKeepsTextWhenWideningToString() {
+    String csv = "d,n,b\n1/2/2020,1.50,Y\n1/3/2020,2.25,N\nlater,x,maybe\n";
+    Table table = Table.read().csv(CsvReadOptions.builderFromString(csv).typeDetectionRows(2));
+
+    assertEquals(Arrays.asList(STRING, STRING, STRING), table.types());
+    assertEquals(Arrays.asList("1/2/2020", "1/3/2020", "later"), table.stringColumn("d").asList());
+    assertEquals(Arrays.asList("1.50", "2.25", "x"), table.stringColumn("n").asList());
+    assertEquals(Arrays.asList("Y", "N", "maybe"), table.stringColumn("b").asList());
+  }
+
+  @Test
+  public void testTypeDetectionFromFirstRowsKeepsConfiguredTypes() {
+    String csv = "a,b\n1,1\n2,2\n3,x\n";
+    CsvReadOptions.Builder options =
+        CsvReadOptions.builderFromString(csv)
+            .columnTypesPartial(ImmutableMap.of("b", INTEGER))
+            .typeDetectionRows(1);
+    assertThrows(AddCellToColumnException.class, () -> Table.read().csv(options));
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.jdbc;
+
+import com.google.common.base.Stopwatch;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import tech.tablesaw.api.Table;
+
+/** Times reading a large H2 result set into a table, whole and in batches */
+public class SqlResultSetReaderPerformanceTest {
+
+  private static final int ROWS = 2_000_000;
+
+  public static void main(String[] args) throws SQLException {
+    try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:PerformanceDB");
+        Statement stmt = conn.createStatement()) {
+      stmt.execute(
+          "CREATE TABLE Readings AS SELECT X AS Id, CAST(MOD(X, 1000) AS INTEGER) AS Sensor,"
+              + " RAND() AS Reading, MOD(X, 7) = 0 AS Alarm FROM SYSTEM_RANGE(1, "
+              + ROWS
+              + ")");
+
+      for (int run = 0; run < 3; run++) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        try (ResultSet rs = stmt.executeQuery("SELECT * FROM Readings")) {
+          Table table = SqlResultSetReader.read(rs);
+          stopwatch.stop();
+          System.out.println(
+              "read "
+                  + table.rowCount()
+                  + " rows: "
+                  + stopwatch.elapsed(TimeUnit.MILLISECONDS)
+                  + " ms");
+        }
+
+        stopwatch = Stopwatch.createStarted();
+        try (ResultSet rs = stmt.executeQuery("SELECT * FROM Readings")) {
+          long rows =
+              SqlResultSetReader.readBatches(
+                      rs, SqlReadOptions.defaultOptions().fetchSize(10_000).batchSize(100_000))
+                  .mapToLong(Table::rowCount)
+                  .sum();
+          stopwatch.stop();
+          System.out.println(
+              "read "
+                  + rows
+                  + " rows in batches: "
+                  + stopwatch.elapsed(TimeUnit.MILLISECONDS)
+                  + " ms");
+        }
+      }
+    }
+  }
+}
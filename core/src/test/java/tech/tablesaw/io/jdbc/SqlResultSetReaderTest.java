@@ -22,6 +22,10 @@ import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.Table;
@@ -127,4 +131,87 @@ public class SqlResultSetReaderTest {
   public void invalidPrecision() {
     assertEquals(ColumnType.DOUBLE, SqlResultSetReader.getColumnType(Types.NUMERIC, 0, 0));
   }
+
+  private static Connection numbersDb() throws Exception {
+    Connection conn = DriverManager.getConnection("jdbc:h2:mem:BatchDB");
+    try (Statement stmt = conn.createStatement()) {
+      stmt.execute("DROP TABLE IF EXISTS Series");
+      stmt.execute(
+          "CREATE TABLE Series (Id INTEGER, Amount DOUBLE, Flag BOOLEAN, Label VARCHAR(10))");
+      stmt.execute(
+          "INSERT INTO Series SELECT X, X / 2.0, MOD(X, 2) = 0, 'row' || X"
+              + " FROM SYSTEM_RANGE(1, 25)");
+      stmt.execute("UPDATE Series SET Amount = NULL, Flag = NULL WHERE Id = 3");
+    }
+    return conn;
+  }
+
+  @Test
+  public void readWithOptions() throws Exception {
+    try (Connection conn = numbersDb();
+        Statement stmt = conn.createStatement();
+        ResultSet rs = stmt.executeQuery("SELECT * FROM Series ORDER BY Id")) {
+      Table table =
+          SqlResultSetReader.read(rs, SqlReadOptions.defaultOptions().fetchSize(5).maxRows(10));
+      assertEquals(10, table.rowCount());
+      assertEquals(10, table.intColumn("Id").get(9));
+      assertEquals(2.5, table.doubleColumn("Amount").get(4));
+      assertTrue(table.doubleColumn("Amount").isMissing(2));
+      assertTrue(table.booleanColumn("Flag").isMissing(2));
+      assertEquals(true, table.booleanColumn("Flag").get(1));
+      assertEquals("row7", table.stringColumn("Label").get(6));
+    }
+  }
+
+  @Test
+  public void readQuerySetsFetchSizeOnStatement() throws Exception {
+    try (Connection conn = numbersDb();
+        Statement stmt = conn.createStatement()) {
+      SqlReadOptions options = SqlReadOptions.defaultOptions().fetchSize(7).batchSize(10);
+      Table table = SqlResultSetReader.read(stmt, "SELECT * FROM Series ORDER BY Id", options);
+      assertEquals(7, stmt.getFetchSize());
+      assertEquals(25, table.rowCount());
+      assertEquals("row25", table.stringColumn("Label").get(24));
+
+      ResultSet rs;
+      try (Stream<Table> batches =
+          SqlResultSetReader.readBatches(stmt, "SELECT * FROM Series ORDER BY Id", options)) {
+        rs = stmt.getResultSet();
+        assertEquals(
+            Arrays.asList(10, 10, 5), batches.map(Table::rowCount).collect(Collectors.toList()));
+      }
+      assertTrue(rs.isClosed());
+    }
+  }
+
+  @Test
+  public void readBatches() throws Exception {
+    try (Connection conn = numbersDb();
+        Statement stmt = conn.createStatement()) {
+      try (ResultSet rs = stmt.executeQuery("SELECT * FROM Series ORDER BY Id")) {
+        List<Table> batches =
+            SqlResultSetReader.readBatches(rs, SqlReadOptions.defaultOptions().batchSize(10))
+                .collect(Collectors.toList());
+        assertEquals(3, batches.size());
+        assertEquals(10, batches.get(0).rowCount());
+        assertEquals(5, batches.get(2).rowCount());
+        assertEquals(4, batches.get(2).columnCount());
+        assertEquals(21, batches.get(2).intColumn("Id").get(0));
+        assertEquals("row25", batches.get(2).stringColumn("Label").get(4));
+      }
+      try (ResultSet rs = stmt.executeQuery("SELECT * FROM Series ORDER BY Id")) {
+        List<Integer> sizes =
+            SqlResultSetReader.readBatches(
+                    rs, SqlReadOptions.defaultOptions().batchSize(5).maxRows(12))
+                .map(Table::rowCount)
+                .collect(Collectors.toList());
+        assertEquals(3, sizes.size());
+        assertEquals(2, (int) sizes.get(2));
+      }
+      try (ResultSet rs = stmt.executeQuery("SELECT * FROM Series WHERE Id > 100")) {
+        assertEquals(
+            0, SqlResultSetReader.readBatches(rs, SqlReadOptions.defaultOptions()).count());
+      }
+    }
+  }
 }
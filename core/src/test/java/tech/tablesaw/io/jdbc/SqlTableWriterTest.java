@@ -0,0 +1,201 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
+
+/** Tests for writing Tables to a database using SqlTableWriter */
+public class SqlTableWriterTest {
+
+  private static Table allTypes() {
+    Table table =
+        Table.create(
+            "Readings",
+            ShortColumn.create("S", new short[] {1, 2, 3}),
+            IntColumn.create("I", new int[] {10, 20, 30}),
+            LongColumn.create("L", new long[] {3_000_000_000L, -1, 0}),
+            FloatColumn.create("F", new float[] {1.25f, 2.5f, 0}),
+            DoubleColumn.create("D", new double[] {-2.144, 1e10, 0}),
+            BooleanColumn.create("B", new boolean[] {true, false, true}),
+            StringColumn.create("STR", new String[] {"x'y", "long value", ""}),
+            DateColumn.create(
+                "DAY",
+                new LocalDate[] {LocalDate.of(2020, 1, 2), LocalDate.of(1999, 12, 31), null}),
+            TimeColumn.create(
+                "AT", new LocalTime[] {LocalTime.of(10, 15), LocalTime.of(23, 59, 59), null}),
+            DateTimeColumn.create(
+                "Date Time",
+                new LocalDateTime[] {
+                  LocalDateTime.of(2020, 1, 2, 10, 15),
+                  LocalDateTime.of(2020, 1, 2, 10, 15, 0, 5_000_000),
+                  null
+                }),
+            InstantColumn.create(
+                "INST", new Instant[] {Instant.parse("2020-01-02T10:15:30.123Z"), null, null}));
+    table.intColumn("I").setMissing(1);
+    table.doubleColumn("D").setMissing(2);
+    table.booleanColumn("B").setMissing(2);
+    return table;
+  }
+
+  @Test
+  public void createAndWrite() throws Exception {
+    Table table = allTypes();
+    try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:WriterDB");
+        Statement stmt = conn.createStatement()) {
+      stmt.execute("DROP TABLE IF EXISTS Readings");
+      table.write().db(conn, SqlWriteOptions.defaultOptions().createTable(true).batchSize(2));
+
+      try (ResultSet rs = stmt.executeQuery("SELECT * FROM Readings")) {
+        Table read = SqlResultSetReader.read(rs);
+        assertEquals(table.columnNames(), read.columnNames());
+        assertEquals(3, read.rowCount());
+        assertEquals(table.shortColumn("S").asList(), read.shortColumn("S").asList());
+        assertEquals(table.longColumn("L").asList(), read.longColumn("L").asList());
+        assertEquals(table.floatColumn("F").asList(), read.floatColumn("F").asList());
+        assertEquals(30, read.intColumn("I").get(2));
+        assertTrue(read.intColumn("I").isMissing(1));
+        assertEquals(-2.144, read.doubleColumn("D").get(0));
+        assertTrue(read.doubleColumn("D").isMissing(2));
+        assertEquals(false, read.booleanColumn("B").get(1));
+        assertTrue(read.booleanColumn("B").isMissing(2));
+        assertEquals("x'y", read.stringColumn("STR").get(0));
+        assertTrue(read.stringColumn("STR").isMissing(2));
+        assertEquals(table.dateColumn("DAY").asList(), read.dateColumn("DAY").asList());
+        assertEquals(table.timeColumn("AT").asList(), read.timeColumn("AT").asList());
+        assertEquals(table.instantColumn("INST").asList(), read.instantColumn("INST").asList());
+      }
+    }
+  }
+
+  @Test
+  public void writeToExistingTableCommittingEachBatch() throws Exception {
+    Table table =
+        Table.create(
+            "t",
+            IntColumn.indexColumn("Id", 25, 1),
+            StringColumn.create("Name", Collections.nCopies(25, "n")));
+    try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:WriterDB");
+        Statement stmt = conn.createStatement()) {
+      stmt.execute("DROP TABLE IF EXISTS People");
+      stmt.execute("CREATE TABLE People (Id INTEGER, Name VARCHAR(20))");
+      SqlTableWriter.write(
+          table,
+          conn,
+          SqlWriteOptions.defaultOptions().tableName("People").batchSize(10).commitEachBatch(true));
+      assertTrue(conn.getAutoCommit());
+
+      try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*), SUM(Id) FROM People")) {
+        rs.next();
+        assertEquals(25, rs.getInt(1));
+        assertEquals(325, rs.getInt(2));
+      }
+    }
+  }
+
+  @Test
+  public void failedBatchIsRolledBack() throws Exception {
+    Table table = Table.create("t", IntColumn.create("Id", new int[] {1, 2, 3, 4, 1, 6}));
+    try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:WriterDB");
+        Statement stmt = conn.createStatement()) {
+      stmt.execute("DROP TABLE IF EXISTS Keyed");
+      stmt.execute("CREATE TABLE Keyed (Id INTEGER PRIMARY KEY)");
+      SqlWriteOptions options =
+          SqlWriteOptions.defaultOptions().tableName("Keyed").batchSize(2).commitEachBatch(true);
+      assertThrows(SQLException.class, () -> SqlTableWriter.write(table, conn, options));
+      assertTrue(conn.getAutoCommit());
+
+      try (ResultSet rs = stmt.executeQuery("SELECT Id FROM Keyed ORDER BY Id")) {
+        assertEquals(
+            Arrays.asList(1, 2, 3, 4), SqlResultSetReader.read(rs).intColumn("ID").asList());
+      }
+    }
+  }
+
+  @Test
+  public void writeToSchemaQualifiedTable() throws Exception {
+    Table table =
+        Table.create(
+            "totals.csv",
+            IntColumn.create("Id", new int[] {1, 2}),
+            DoubleColumn.create("Total Sales", new double[] {2.5, 4}));
+    try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:WriterDB");
+        Statement stmt = conn.createStatement()) {
+      stmt.execute("CREATE SCHEMA IF NOT EXISTS Sales");
+      stmt.execute("DROP TABLE IF EXISTS Sales.Totals");
+      SqlTableWriter.write(
+          table,
+          conn,
+          SqlWriteOptions.defaultOptions().tableName("Sales.Totals").createTable(true));
+
+      try (ResultSet rs = stmt.executeQuery("SELECT * FROM Sales.Totals ORDER BY Id")) {
+        Table read = SqlResultSetReader.read(rs);
+        assertEquals(Arrays.asList("ID", "Total Sales"), read.columnNames());
+        assertEquals(Arrays.asList(2.5, 4.0), read.doubleColumn("Total Sales").asList());
+      }
+    }
+  }
+
+  @Test
+  public void defaultTableNameIsQuoted() throws Exception {
+    Table table = Table.create("bush.csv", IntColumn.create("Id", new int[] {1, 2}));
+    try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:WriterDB");
+        Statement stmt = conn.createStatement()) {
+      stmt.execute("DROP TABLE IF EXISTS \"bush.csv\"");
+      table.write().db(conn, SqlWriteOptions.defaultOptions().createTable(true));
+
+      try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM \"bush.csv\"")) {
+        rs.next();
+        assertEquals(2, rs.getInt(1));
+      }
+    }
+  }
+
+  @Test
+  public void createTableSql() {
+    assertEquals(
+        "CREATE TABLE Readings (S SMALLINT, I INTEGER, L BIGINT, F REAL, D DOUBLE PRECISION,"
+            + " B BOOLEAN, STR VARCHAR(10), DAY DATE, AT TIME, \"Date Time\" TIMESTAMP,"
+            + " INST TIMESTAMP)",
+        SqlTableWriter.createTableSql(allTypes(), "Readings"));
+  }
+}
@@ -1,5 +1,6 @@
 package tech.tablesaw.joining;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTimeout;
 
 import java.time.Duration;
@@ -86,4 +87,48 @@ public class DataFrameJoinerPerformanceTest {
 
     assertTimeout(Duration.ofSeconds(1), () -> customers.joinOn("customerId").fullOuter(orders));
   }
+
+  @Test
+  public void innerJoinCustomersFirstWithHashStrategy() {
+    int numberOrders = 10_000;
+    int numberCustomers = 1_000;
+    Table customers = createCustomersTable(numberCustomers);
+    addFillerColumn(customers, 5, "customer");
+    Table orders = createOrdersTable(numberOrders, numberCustomers);
+    addFillerColumn(orders, 5, "order");
+
+    assertTimeout(
+        Duration.ofSeconds(1),
+        () -> customers.joinOn("customerId").strategy(JoinStrategy.HASH).inner(orders));
+  }
+
+  @Test
+  public void fullOuterJoinWithHashStrategy() {
+    int numberOrders = 10_000;
+    int numberCustomers = 1_000;
+    Table customers = createCustomersTable(numberCustomers);
+    addFillerColumn(customers, 5, "customer");
+    Table orders = createOrdersTable(numberOrders, 2_000);
+    addFillerColumn(orders, 5, "order");
+
+    assertTimeout(
+        Duration.ofSeconds(1),
+        () -> customers.joinOn("customerId").strategy(JoinStrategy.HASH).fullOuter(orders));
+  }
+
+  @Test
+  public void leftOuterJoinLargeTablesWithHashStrategy() {
+    int numberOrders = 1_000_000;
+    int numberCustomers = 100_000;
+    Table customers = createCustomersTable(numberCustomers);
+    addFillerColumn(customers, 5, "customer");
+    Table orders = createOrdersTable(numberOrders, 2 * numberCustomers);
+    addFillerColumn(orders, 5, "order");
+
+    Table joined =
+        assertTimeout(
+            Duration.ofSeconds(5),
+            () -> orders.joinOn("customerId").strategy(JoinStrategy.HASH).leftOuter(customers));
+    assertEquals(numberOrders, joined.rowCount());
+  }
 }
@@ -4,15 +4,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.base.Joiner;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.api.TextColumn;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.numbers.IntColumnType;
 import tech.tablesaw.selection.Selection;
 
 public class DataFrameJoinerTest {
@@ -1632,4 +1637,107 @@ public class DataFrameJoinerTest {
       assertEquals(0, column.size());
     }
   }
+
+  private static Table createTRADES() {
+    return Table.read()
+        .csv(
+            Joiner.on(System.lineSeparator())
+                .join(
+                    "Symbol,Time,Quantity",
+                    "MSFT,2016-05-25T13:30:00.023,75",
+                    "MSFT,2016-05-25T13:30:00.038,155",
+                    "GOOG,2016-05-25T13:30:00.048,100",
+                    "GOOG,2016-05-25T13:30:00.048,100",
+                    "AAPL,2016-05-25T13:30:00.048,100",
+                    "MSFT,2016-05-25T13:30:00.010,20"),
+            "Trades");
+  }
+
+  private static Table createQUOTES() {
+    return Table.read()
+        .csv(
+            Joiner.on(System.lineSeparator())
+                .join(
+                    "Symbol,QuoteTime,Bid",
+                    "GOOG,2016-05-25T13:30:00.023,720.50",
+                    "MSFT,2016-05-25T13:30:00.023,51.95",
+                    "MSFT,2016-05-25T13:30:00.030,51.97",
+                    "GOOG,2016-05-25T13:30:00.041,720.49",
+                    "MSFT,2016-05-25T13:30:00.041,51.99",
+                    "GOOG,2016-05-25T13:30:00.072,720.50"),
+            "Quotes");
+  }
+
+  @Test
+  public void asOfJoinOnDateTimeWithByColumn() {
+    Table joined =
+        createTRADES().joinOn("Symbol", "Time").asOf(createQUOTES(), "Symbol", "QuoteTime");
+    assertEquals(4, joined.columnCount());
+    assertEquals(6, joined.rowCount());
+    assertEquals(
+        "[51.95, 51.97, 720.49, 720.49, null, null]",
+        joined.doubleColumn("Bid").asList().toString());
+  }
+
+  @Test
+  public void asOfJoinWithTolerance() {
+    Table joined =
+        createTRADES()
+            .joinOn("Symbol", "Time")
+            .asOf(createQUOTES(), Duration.ofMillis(5), "Symbol", "QuoteTime");
+    assertEquals(
+        "[51.95, null, null, null, null, null]", joined.doubleColumn("Bid").asList().toString());
+  }
+
+  @Test
+  public void asOfJoinKeepingJoinColumns() {
+    Table joined =
+        createTRADES()
+            .joinOn("Symbol", "Time")
+            .asOf(createQUOTES(), true, true, Long.MAX_VALUE, "Symbol", "QuoteTime");
+    assertEquals(6, joined.columnCount());
+    assertEquals(
+        LocalDateTime.of(2016, 5, 25, 13, 30, 0, 30_000_000),
+        joined.dateTimeColumn("QuoteTime").get(1));
+    assertTrue(joined.dateTimeColumn("QuoteTime").isMissing(5));
+  }
+
+  @Test
+  public void asOfJoinOnUnsortedIntColumns() {
+    Table left = Table.create("left", IntColumn.create("t", 7, 1, 3, 10, 0));
+    Table right =
+        Table.create(
+            "right",
+            IntColumn.create("t", 5, 2, 9, 2, IntColumnType.missingValueIndicator()),
+            StringColumn.create("v", "five", "two", "nine", "two again", "missing"));
+    Table joined = left.joinOn("t").asOf(right, "t");
+    assertEquals("[five, , two again, nine, ]", joined.stringColumn("v").asList().toString());
+
+    Table withinTwo = left.joinOn("t").asOf(right, false, false, 2, "t");
+    assertEquals("[five, , two again, nine, ]", withinTwo.stringColumn("v").asList().toString());
+    Table withinOne = left.joinOn("t").asOf(right, false, false, 1, "t");
+    assertEquals("[, , two again, nine, ]", withinOne.stringColumn("v").asList().toString());
+  }
+
+  @Test
+  public void asOfJoinToleranceDoesNotOverflow() {
+    Table left = Table.create("left", LongColumn.create("t", Long.MAX_VALUE, -5));
+    Table right =
+        Table.create(
+            "right",
+            LongColumn.create("t", Long.MIN_VALUE + 1),
+            StringColumn.create("v", "earliest"));
+    Table joined = left.joinOn("t").asOf(right, false, false, 10, "t");
+    assertEquals("[, ]", joined.stringColumn("v").asList().toString());
+
+    Table unbounded = left.joinOn("t").asOf(right, false, false, Long.MAX_VALUE, "t");
+    assertEquals("[, earliest]", unbounded.stringColumn("v").asList().toString());
+  }
+
+  @Test
+  public void asOfJoinRejectsUnsupportedColumnType() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> ANIMAL_NAMES.joinOn("Animal").asOf(ANIMAL_FEED, "Animal"));
+  }
 }
@@ -0,0 +1,257 @@
+package tech.tablesaw.joining;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.base.Joiner;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.io.csv.CsvReadOptions;
+
+public class JoinStrategyTest {
+
+  private static Table houses() {
+    return Table.read()
+        .csv(
+            Joiner.on(System.lineSeparator())
+                .join(
+                    "Style,Bedrooms,BuildDate,Owner,Price",
+                    "Colonial,3,1976-06-02,Smith,1.5",
+                    "Gambrel,4,1982-11-18,Jones,2.0",
+                    "Contemporary,5,1980-03-24,White,2.5",
+                    "Ranch,4,1982-11-18,Black,",
+                    "Victorian,5,1980-03-24,White,3.5",
+                    "Split,,1970-09-30,Brown,1.0",
+                    "Cape,3,1976-06-02,Smith,1.5"),
+            "House");
+  }
+
+  private static Table boats() {
+    return Table.read()
+        .csv(
+            Joiner.on(System.lineSeparator())
+                .join(
+                    "Type,Bedrooms,SoldDate,Owner,Price",
+                    "Yacht,2,1970-02-03,Jones,2.0",
+                    "Dinghy,0,1988-12-12,White,0.1",
+                    "HouseBoat,3,1981-04-21,Smith,1.5",
+                    "Contemporary,5,1980-05-17,White,2.5",
+                    "Paddleboat,3,1981-04-21,Smith,",
+                    "Rowboat,5,1980-05-17,White,0.5",
+                    "Sailboat,4,1980-05-17,Black,1.0",
+                    "Canoe,,1980-05-17,Brown,0.2",
+                    "Cruise,200,1989-01-23,Brown,9.9"),
+            "Boat");
+  }
+
+  private static Table withTextOwner(Table table) {
+    Table copy = table.copy();
+    TextColumn owner = copy.stringColumn("Owner").asTextColumn();
+    copy.replaceColumn("Owner", owner.setName("Owner"));
+    return copy;
+  }
+
+  private enum Join {
+    INNER((joiner, other) -> joiner.inner(true, other)),
+    LEFT_OUTER((joiner, other) -> joiner.leftOuter(true, other)),
+    RIGHT_OUTER((joiner, other) -> joiner.rightOuter(true, other)),
+    FULL_OUTER((joiner, other) -> joiner.fullOuter(true, other));
+
+    private final BiFunction<DataFrameJoiner, Table, Table> operation;
+
+    Join(BiFunction<DataFrameJoiner, Table, Table> operation) {
+      this.operation = operation;
+    }
+  }
+
+  /** Asserts that the tables have the same columns, and the same rows in any order */
+  private static void assertSameRows(Table expected, Table actual) {
+    assertEquals(expected.columnNames(), actual.columnNames());
+    assertEquals(expected.rowCount(), actual.rowCount());
+    assertEquals(sortedRows(expected), sortedRows(actual));
+  }
+
+  private static List<String> sortedRows(Table table) {
+    List<String> rows = new ArrayList<>();
+    for (int r = 0; r < table.rowCount(); r++) {
+      StringBuilder row = new StringBuilder();
+      for (Column<?> column : table.columns()) {
+        row.append(column.getString(r)).append('|');
+      }
+      rows.add(row.toString());
+    }
+    rows.sort(String::compareTo);
+    return rows;
+  }
+
+  /** Asserts that every strategy gives the same rows as the default index join */
+  private static void assertMatchesIndexJoin(
+      Join join, Table left, Table right, String... columns) {
+    Table expected = join.operation.apply(left.joinOn(columns), right);
+    for (JoinStrategy strategy : JoinStrategy.values()) {
+      Table actual = join.operation.apply(left.joinOn(columns).strategy(strategy), right);
+      assertSameRows(expected, actual);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(Join.class)
+  public void joinOnOneIntColumn(Join join) {
+    assertMatchesIndexJoin(join, houses(), boats(), "Bedrooms");
+    assertMatchesIndexJoin(join, boats(), houses(), "Bedrooms");
+  }
+
+  @ParameterizedTest
+  @EnumSource(Join.class)
+  public void joinOnStringAndIntColumns(Join join) {
+    assertMatchesIndexJoin(join, houses(), boats(), "Bedrooms", "Owner");
+    assertMatchesIndexJoin(join, boats(), houses(), "Owner", "Bedrooms");
+  }
+
+  @ParameterizedTest
+  @EnumSource(Join.class)
+  public void joinOnTextColumn(Join join) {
+    assertMatchesIndexJoin(join, withTextOwner(houses()), withTextOwner(boats()), "Owner");
+  }
+
+  @ParameterizedTest
+  @EnumSource(Join.class)
+  public void joinOnDoubleColumnWithMissingValues(Join join) {
+    assertMatchesIndexJoin(join, houses(), boats(), "Price");
+  }
+
+  @ParameterizedTest
+  @EnumSource(Join.class)
+  public void joinOnDateColumn(Join join) {
+    Table soldHouses = houses();
+    soldHouses.column("BuildDate").setName("SoldDate");
+    assertMatchesIndexJoin(join, soldHouses, boats(), "SoldDate", "Owner");
+  }
+
+  @Test
+  public void hashJoinRowsFollowLeftTableOrder() {
+    Table left = Table.create("left", IntColumn.create("id", 3, 1, 2, 1));
+    Table right =
+        Table.create(
+            "right",
+            IntColumn.create("id", 1, 4, 1, 3),
+            StringColumn.create("name", "a", "b", "c", "d"));
+    Table joined = left.joinOn("id").strategy(JoinStrategy.HASH).fullOuter(right);
+    assertEquals("[3, 1, 1, 2, 1, 1, 4]", joined.intColumn("id").asList().toString());
+    assertEquals("[d, a, c, , a, c, b]", joined.stringColumn("name").asList().toString());
+  }
+
+  @Test
+  public void sortMergeJoinRowsFollowKeyOrder() {
+    Table left = Table.create("left", IntColumn.create("id", 3, 1, 2, 1));
+    Table right =
+        Table.create(
+            "right",
+            IntColumn.create("id", 1, 4, 1, 3),
+            StringColumn.create("name", "a", "b", "c", "d"));
+    Table joined = left.joinOn("id").strategy(JoinStrategy.SORT_MERGE).fullOuter(right);
+    assertEquals("[1, 1, 1, 1, 2, 3, 4]", joined.intColumn("id").asList().toString());
+    assertEquals("[a, c, a, c, , d, b]", joined.stringColumn("name").asList().toString());
+  }
+
+  @Test
+  public void sortMergeJoinOnPresortedStringColumns() {
+    Table left = houses().sortOn("Owner", "Bedrooms");
+    Table right = boats().sortOn("Owner", "Bedrooms");
+    Table joined =
+        left.joinOn("Owner", "Bedrooms").strategy(JoinStrategy.SORT_MERGE).inner(true, right);
+    assertSameRows(left.joinOn("Owner", "Bedrooms").inner(true, right), joined);
+    assertEquals(
+        "[Black, Brown, Smith, Smith, Smith, Smith, White, White, White, White]",
+        joined.stringColumn("Owner").asList().toString());
+  }
+
+  @Test
+  public void hashJoinWithEmptyLeftTable() {
+    Table left = Table.create("left", IntColumn.create("id"));
+    Table right = Table.create("right", IntColumn.create("id", 1, 2));
+    assertEquals(0, left.joinOn("id").strategy(JoinStrategy.HASH).inner(right).rowCount());
+    assertEquals(2, left.joinOn("id").strategy(JoinStrategy.HASH).fullOuter(right).rowCount());
+  }
+
+  @Test
+  public void hashJoinRejectsDifferentColumnTypes() {
+    Table left = Table.create("left", StringColumn.create("id", "1"));
+    Table right =
+        Table.read()
+            .csv(
+                CsvReadOptions.builderFromString("id\n1")
+                    .columnTypes(new ColumnType[] {ColumnType.DOUBLE}));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> left.joinOn("id").strategy(JoinStrategy.HASH).inner(right));
+  }
+
+  /** Returns a table with a key column drawn from the given range, including some missing values */
+  private static Table randomKeys(String name, int rowCount, int keyRange, long seed) {
+    Random random = new Random(seed);
+    IntColumn id = IntColumn.create("id");
+    StringColumn group = StringColumn.create("group");
+    IntColumn row = IntColumn.create(name + "Row");
+    for (int i = 0; i < rowCount; i++) {
+      if (random.nextInt(100) == 0) {
+        id.appendMissing();
+      } else {
+        id.append(random.nextInt(keyRange));
+      }
+      group.append("g" + random.nextInt(3));
+      row.append(i);
+    }
+    return Table.create(name, id, group, row);
+  }
+
+  @ParameterizedTest
+  @EnumSource(Join.class)
+  public void parallelHashJoinMatchesSingleThreadedHashJoin(Join join) {
+    Table left = randomKeys("left", 60_000, 50_000, 1);
+    Table right = randomKeys("right", 40_000, 80_000, 2);
+    Table expected =
+        join.operation.apply(left.joinOn("id", "group").strategy(JoinStrategy.HASH), right);
+    Table actual =
+        join.operation.apply(
+            left.joinOn("id", "group").strategy(JoinStrategy.HASH).parallelism(4), right);
+    assertEquals(expected.columnNames(), actual.columnNames());
+    for (int c = 0; c < expected.columnCount(); c++) {
+      assertEquals(expected.column(c).asList(), actual.column(c).asList());
+    }
+  }
+
+  @Test
+  public void hashJoinOnSharedPool() {
+    Table left = randomKeys("left", 30_000, 10_000, 3);
+    Table right = randomKeys("right", 30_000, 10_000, 4);
+    Table expected = left.joinOn("id").strategy(JoinStrategy.HASH).leftOuter(true, right);
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      Table actual =
+          left.joinOn("id").strategy(JoinStrategy.HASH).pool(pool).leftOuter(true, right);
+      assertEquals(expected.intColumn("leftRow").asList(), actual.intColumn("leftRow").asList());
+      assertEquals(expected.intColumn("rightRow").asList(), actual.intColumn("rightRow").asList());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void parallelismMustBePositive() {
+    Table left = Table.create("left", IntColumn.create("id", 1));
+    assertThrows(IllegalArgumentException.class, () -> left.joinOn("id").parallelism(0));
+  }
+}
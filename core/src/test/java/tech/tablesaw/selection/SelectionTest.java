@@ -51,6 +51,30 @@ class SelectionTest {
     assertArrayEquals(expected, selection.toArray());
   }
 
+  @Test
+  void fromWords() {
+    // a dense container, a sparse one, an empty one, and a partial last word
+    int size = 3 * 65536 + 10;
+    Selection selection =
+        Selection.fromWords(
+            size,
+            from -> {
+              if (from < 65536) {
+                return 0xAAAAAAAAAAAAAAAAL;
+              }
+              if (from < 2 * 65536) {
+                return from % 4096 == 0 ? 1L : 0L;
+              }
+              return from < 3 * 65536 ? 0L : 0x201L;
+            });
+    assertEquals(32768 + 16 + 2, selection.size());
+    assertTrue(selection.contains(1));
+    assertFalse(selection.contains(2));
+    assertTrue(selection.contains(65536 + 4096));
+    assertFalse(selection.contains(65536 + 4097));
+    assertTrue(selection.contains(3 * 65536 + 9));
+  }
+
   @Test
   void add() {
     Selection selection = Selection.with(42, 53, 111);
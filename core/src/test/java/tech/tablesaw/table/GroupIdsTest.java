@@ -0,0 +1,85 @@
+package tech.tablesaw.table;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.selection.Selection;
+
+public class GroupIdsTest {
+
+  private final Table table =
+      Table.create(
+          "t",
+          StringColumn.create("s", "a", "b", "a", "", "b", "", "a"),
+          IntColumn.create("i", 1, 1, 1, 2, 1, 2, 2),
+          TextColumn.create("t", "x", "y", "x", "z", "y", "z", "x"));
+
+  @Test
+  public void groupsInOrderOfFirstAppearance() {
+    GroupIds groups = GroupIds.of(table, "s", "i");
+    assertEquals(4, groups.groupCount());
+    assertArrayEquals(new int[] {0, 1, 0, 2, 1, 2, 3}, groups.groupIds());
+    assertEquals(3, groups.representativeRow(2));
+    assertEquals(6, groups.representativeRow(3));
+  }
+
+  @Test
+  public void missingValuesFormOneGroup() {
+    DoubleColumn d = DoubleColumn.create("d", 1.0, Double.NaN, 1.0, Double.NaN);
+    GroupIds groups = GroupIds.of(4, Collections.singletonList(d));
+    assertArrayEquals(new int[] {0, 1, 0, 1}, groups.groupIds());
+  }
+
+  @Test
+  public void groupOnTextColumn() {
+    GroupIds groups = GroupIds.of(table, "t", "s");
+    assertArrayEquals(new int[] {0, 1, 0, 2, 1, 2, 0}, groups.groupIds());
+  }
+
+  @Test
+  public void groupNames() {
+    GroupIds groups = GroupIds.of(table, "s", "i");
+    assertEquals("a~1", groups.groupName(0, "~"));
+    assertEquals("~2", groups.groupName(2, "~"));
+  }
+
+  @Test
+  public void selections() {
+    List<Selection> selections = GroupIds.of(table, "s").selections();
+    assertEquals(3, selections.size());
+    assertArrayEquals(new int[] {0, 2, 6}, selections.get(0).toArray());
+    assertArrayEquals(new int[] {1, 4}, selections.get(1).toArray());
+    assertArrayEquals(new int[] {3, 5}, selections.get(2).toArray());
+  }
+
+  @Test
+  public void noColumnsMakeOneGroup() {
+    GroupIds groups = GroupIds.of(table.rowCount(), Collections.emptyList());
+    assertEquals(1, groups.groupCount());
+    assertEquals(0, GroupIds.of(0, Collections.emptyList()).groupCount());
+  }
+
+  @Test
+  public void manyCombinations() {
+    int rowCount = 5_000;
+    IntColumn a = IntColumn.create("a");
+    IntColumn b = IntColumn.create("b");
+    for (int row = 0; row < rowCount; row++) {
+      a.append(row);
+      b.append(row % 2 == 0 ? row : row - 1);
+    }
+    Table t = Table.create("t", a, b);
+    GroupIds groups = GroupIds.of(t, "b", "a");
+    assertEquals(rowCount, groups.groupCount());
+    assertEquals(rowCount - 1, groups.groupOf(rowCount - 1));
+    assertEquals(rowCount / 2, GroupIds.of(t, "b").groupCount());
+  }
+}
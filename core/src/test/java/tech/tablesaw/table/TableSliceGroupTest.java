@@ -15,9 +15,27 @@
 package tech.tablesaw.table;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.tablesaw.aggregate.AggregateFunctions.countMissing;
+import static tech.tablesaw.aggregate.AggregateFunctions.countNonMissing;
+import static tech.tablesaw.aggregate.AggregateFunctions.countWithMissing;
+import static tech.tablesaw.aggregate.AggregateFunctions.first;
+import static tech.tablesaw.aggregate.AggregateFunctions.last;
+import static tech.tablesaw.aggregate.AggregateFunctions.max;
+import static tech.tablesaw.aggregate.AggregateFunctions.mean;
+import static tech.tablesaw.aggregate.AggregateFunctions.min;
+import static tech.tablesaw.aggregate.AggregateFunctions.populationVariance;
+import static tech.tablesaw.aggregate.AggregateFunctions.range;
+import static tech.tablesaw.aggregate.AggregateFunctions.stdDev;
+import static tech.tablesaw.aggregate.AggregateFunctions.sum;
+import static tech.tablesaw.aggregate.AggregateFunctions.sumOfSquares;
+import static tech.tablesaw.aggregate.AggregateFunctions.variance;
 
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ListMultimap;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -25,12 +43,17 @@ import java.util.stream.IntStream;
 import org.apache.commons.math3.stat.StatUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.aggregate.Accumulator;
+import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.aggregate.NumericAggregateFunction;
+import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.columns.Column;
 import tech.tablesaw.io.csv.CsvReadOptions;
+import tech.tablesaw.sorting.Sort;
 
 public class TableSliceGroupTest {
 
@@ -165,4 +188,96 @@ public class TableSliceGroupTest {
     assertEquals(0, aggregated.rowCount(), "result should be empty");
     assertEquals(3, aggregated.columnCount()); // 2 original columns + the aggregation column
   }
+
+  @Test
+  public void aggregateWithAccumulatorsMatchesSummarize() {
+    DoubleColumn approval = table.intColumn("approval").asDoubleColumn().setName("approval");
+    for (int row = 0; row < approval.size(); row += 7) {
+      approval.setMissing(row);
+    }
+    table.replaceColumn("approval", approval);
+    TableSliceGroup group = StandardTableSliceGroup.create(table, "who");
+    List<AggregateFunction<?, ?>> functions =
+        Arrays.asList(
+            sum,
+            mean,
+            min,
+            max,
+            range,
+            variance,
+            stdDev,
+            populationVariance,
+            sumOfSquares,
+            first,
+            last,
+            countNonMissing,
+            countMissing,
+            countWithMissing);
+
+    ListMultimap<String, AggregateFunction<?, ?>> byColumn = ArrayListMultimap.create();
+    byColumn.putAll("approval", functions);
+    Table aggregated = group.aggregate(byColumn);
+
+    for (AggregateFunction<?, ?> function : functions) {
+      assertNotNull(function.accumulator(group.size()), function.functionName());
+      DoubleColumn results =
+          aggregated.doubleColumn(
+              TableSliceGroup.aggregateColumnName("approval", function.functionName()));
+      for (int i = 0; i < group.size(); i++) {
+        Column<?> slice = group.get(i).column("approval");
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Number expected = (Number) ((AggregateFunction) function).summarize(slice);
+        assertEquals(expected.doubleValue(), results.getDouble(i), 1e-9, function.functionName());
+      }
+    }
+  }
+
+  @Test
+  public void sumsOfAllMissingGroupAreZero() {
+    Table t =
+        Table.create(
+            "t",
+            StringColumn.create("g", "a", "b", "a", "b"),
+            DoubleColumn.create("v", 1.5, Double.NaN, 2.0, Double.NaN));
+    Table summary = t.summarize("v", sum, sumOfSquares).by("g");
+    assertEquals(Arrays.asList(3.5, 0.0), summary.doubleColumn("Sum [v]").asList());
+    assertEquals(Arrays.asList(6.25, 0.0), summary.doubleColumn("Sum of Squares [v]").asList());
+    assertEquals(0.0, sum.summarize(t.where(t.stringColumn("g").isEqualTo("b")).numberColumn("v")));
+  }
+
+  @Test
+  public void aggregateSortedSlice() {
+    TableSliceGroup group = StandardTableSliceGroup.create(table, "who");
+    TableSlice slice = group.get(0);
+    slice.sortOn(Sort.on("approval", Sort.Order.DESCEND));
+    Table aggregated = group.aggregate("approval", first);
+    assertEquals(
+        ((NumericColumn<?>) slice.column("approval")).getDouble(0),
+        aggregated.doubleColumn(1).getDouble(0));
+  }
+
+  @Test
+  public void accumulatorsMerge() {
+    Column<?> approval = table.column("approval");
+    int[] groupIds = GroupIds.of(table, "who").groupIds();
+    int split = approval.size() / 3;
+    for (AggregateFunction<?, ?> function : Arrays.asList(mean, variance, min, first, last)) {
+      Accumulator<?> whole = function.accumulator(6);
+      whole.accumulate(approval, groupIds);
+      @SuppressWarnings("unchecked")
+      Accumulator<Object> head = (Accumulator<Object>) function.accumulator(6);
+      @SuppressWarnings("unchecked")
+      Accumulator<Object> tail = (Accumulator<Object>) function.accumulator(6);
+      head.accumulate(approval, groupIds, 0, split);
+      tail.accumulate(approval, groupIds, split, approval.size());
+      head.merge(tail);
+      for (int g = 0; g < 6; g++) {
+        assertEquals(
+            ((Number) whole.result(g)).doubleValue(),
+            ((Number) head.result(g)).doubleValue(),
+            1e-9,
+            function.functionName());
+      }
+    }
+  }
 }
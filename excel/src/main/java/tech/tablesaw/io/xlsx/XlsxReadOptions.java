@@ -19,9 +19,14 @@ public class XlsxReadOptions extends ReadOptions {
   /** The sheet to read. Null means no specific index was set. First sheet has index 0. */
   protected Integer sheetIndex;
 
+  protected final boolean streaming;
+  protected final int typeDetectionRows;
+
   protected XlsxReadOptions(Builder builder) {
     super(builder);
     sheetIndex = builder.sheetIndex;
+    streaming = builder.streaming;
+    typeDetectionRows = builder.typeDetectionRows;
   }
 
   public static Builder builder(Source source) {
@@ -52,9 +57,19 @@ public class XlsxReadOptions extends ReadOptions {
     return sheetIndex;
   }
 
+  public boolean streaming() {
+    return streaming;
+  }
+
+  public int typeDetectionRows() {
+    return typeDetectionRows;
+  }
+
   public static class Builder extends ReadOptions.Builder {
 
     protected Integer sheetIndex;
+    protected boolean streaming = false;
+    protected int typeDetectionRows = 1000;
 
     protected Builder(Source source) {
       super(source);
@@ -163,6 +178,33 @@ public class XlsxReadOptions extends ReadOptions {
       return this;
     }
 
+    /**
+     * Reads the sheets as streams of XML events rather than loading the whole workbook, so that
+     * large workbooks can be read in little more memory than the tables take. The column types are
+     * detected from the first rows of each table only, as set by {@link #typeDetectionRows(int)}.
+     */
+    public Builder streaming(boolean streaming) {
+      this.streaming = streaming;
+      return this;
+    }
+
+    /**
+     * When {@link #streaming(boolean) streaming}, detects the types of the columns not given in the
+     * options from the given number of first rows of each table, which are held in memory while the
+     * sheet is read, or from all the rows if it is 0. A column that later meets a value its type
+     * can't hold is widened to a type that can. The default is 1000 rows.
+     *
+     * @param rowCount The number of rows to detect the column types from
+     */
+    public Builder typeDetectionRows(int rowCount) {
+      if (rowCount < 0) {
+        throw new IllegalArgumentException(
+            "The number of type detection rows can't be negative, but was " + rowCount);
+      }
+      this.typeDetectionRows = rowCount;
+      return this;
+    }
+
     @Override
     public Builder columnTypes(ColumnType[] columnTypes) {
       super.columnTypes(columnTypes);
@@ -113,6 +113,9 @@ public class XlsxReader implements DataReader<XlsxReadOptions> {
    */
   protected List<Table> readMultiple(XlsxReadOptions options, boolean includeNulls)
       throws IOException {
+    if (options.streaming()) {
+      return XlsxStreamingReader.readMultiple(options, includeNulls);
+    }
     byte[] bytes = null;
     InputStream input = getInputStream(options, bytes);
     List<Table> tables = new ArrayList<>();
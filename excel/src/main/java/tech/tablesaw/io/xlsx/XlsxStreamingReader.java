@@ -0,0 +1,388 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.xlsx;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.io.RuntimeIOException;
+import tech.tablesaw.io.StreamingTableBuilder;
+
+/**
+ * Reads the sheets of a workbook as streams of XML events, rather than as the object model of
+ * {@link org.apache.poi.xssf.usermodel.XSSFWorkbook}, appending each cell of the table on a sheet
+ * to its column as it is read. Only the shared strings, the styles and the rows held to detect the
+ * column types are kept in memory besides the tables.
+ *
+ * <p>The table on a sheet starts at its first row with a value, unless that row is followed by a
+ * blank row, as a title would be. Its columns are those from the first to the last value of that
+ * row, with no blank cell between, and it ends at the next blank row. Cells are read as the values
+ * they hold rather than as they are displayed, with numbers in date formats read as date-times.
+ * Columns without values are left out unless the options give their types.
+ */
+final class XlsxStreamingReader {
+
+  private XlsxStreamingReader() {}
+
+  /**
+   * Reads at most a table from every sheet.
+   *
+   * @param includeNulls include nulls for sheets without a table
+   * @return a list of tables, at most one for every sheet
+   */
+  static List<Table> readMultiple(XlsxReadOptions options, boolean includeNulls)
+      throws IOException {
+    OPCPackage pkg = open(options);
+    try {
+      XSSFReader reader = new XSSFReader(pkg);
+      ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+      StylesTable styles = reader.getStylesTable();
+      XMLReader xmlReader = newXmlReader();
+      List<Table> tables = new ArrayList<>();
+      XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+      while (sheets.hasNext()) {
+        try (InputStream sheet = sheets.next()) {
+          StreamingTableBuilder builder =
+              new StreamingTableBuilder(options, options.typeDetectionRows());
+          SheetHandler handler = new SheetHandler(builder, strings, styles);
+          xmlReader.setContentHandler(handler);
+          try {
+            xmlReader.parse(new InputSource(sheet));
+          } catch (TableEndException e) {
+            // the rest of the sheet is not part of the table
+          }
+          if (handler.hasTable()) {
+            Table table = builder.build();
+            removeEmptyColumns(table, builder.columnNames(), options);
+            table.setName(options.tableName() + "#" + sheets.getSheetName());
+            tables.add(table);
+          } else if (includeNulls) {
+            tables.add(null);
+          }
+        }
+      }
+      return tables;
+    } catch (OpenXML4JException | SAXException e) {
+      throw new IOException(e);
+    } finally {
+      // closes the package without saving it
+      pkg.revert();
+    }
+  }
+
+  /** Removes the columns without values, unless the options give their types */
+  private static void removeEmptyColumns(Table table, List<String> names, XlsxReadOptions options) {
+    for (Column<?> column : new ArrayList<>(table.columns())) {
+      if (column.countMissing() == column.size()
+          && !options
+              .columnTypeReadOptions()
+              .columnType(names.indexOf(column.name()), column.name())
+              .isPresent()) {
+        table.removeColumns(column);
+      }
+    }
+  }
+
+  private static OPCPackage open(XlsxReadOptions options) throws IOException {
+    try {
+      if (options.source().file() != null) {
+        return OPCPackage.open(options.source().file(), PackageAccess.READ);
+      }
+      try (InputStream input = options.source().inputStream()) {
+        return OPCPackage.open(input);
+      }
+    } catch (OpenXML4JException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static XMLReader newXmlReader() throws SAXException {
+    try {
+      SAXParserFactory factory = SAXParserFactory.newInstance();
+      factory.setNamespaceAware(true);
+      factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+      return factory.newSAXParser().getXMLReader();
+    } catch (ParserConfigurationException e) {
+      throw new RuntimeIOException(new IOException(e));
+    }
+  }
+
+  /** Thrown to stop parsing a sheet once the end of its table is found */
+  private static final class TableEndException extends SAXException {
+    private static final long serialVersionUID = 1L;
+  }
+
+  /** A cell of the candidate first row of a table, held until the table is known to start there */
+  private static final class HeldCell {
+    private final int column;
+    private final String value;
+    private final boolean text;
+
+    private HeldCell(int column, String value, boolean text) {
+      this.column = column;
+      this.value = value;
+      this.text = text;
+    }
+  }
+
+  /** Finds the table on a sheet from its cell events, and gives its rows to a table builder */
+  private static final class SheetHandler extends DefaultHandler {
+
+    private final StreamingTableBuilder builder;
+    private final ReadOnlySharedStringsTable strings;
+    private final StylesTable styles;
+
+    /** The cells of the first row with a value, until the next row shows whether it starts */
+    private List<HeldCell> firstRow;
+
+    private int firstRowNumber = -1;
+
+    /** The range of sheet columns of the table, once it has started */
+    private int startColumn = -1;
+
+    private int endColumn = -1;
+
+    /** The sheet row number of the last row read as part of the table */
+    private int lastRowNumber = -1;
+
+    /** The cells with values of the row being read, held until the table starts */
+    private final List<HeldCell> rowCells = new ArrayList<>();
+
+    private boolean rowHasValue;
+    private int rowNumber = -1;
+
+    // the cell being read
+    private int cellColumn;
+    private String cellType;
+    private int cellStyle;
+    private final StringBuilder cellText = new StringBuilder();
+    private boolean inValue;
+
+    private SheetHandler(
+        StreamingTableBuilder builder, ReadOnlySharedStringsTable strings, StylesTable styles) {
+      this.builder = builder;
+      this.strings = strings;
+      this.styles = styles;
+    }
+
+    private boolean hasTable() {
+      return startColumn >= 0;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes)
+        throws SAXException {
+      switch (localName) {
+        case "row":
+          String r = attributes.getValue("r");
+          rowNumber = r == null ? rowNumber + 1 : Integer.parseInt(r) - 1;
+          if (hasTable() && rowNumber != lastRowNumber + 1) {
+            throw new TableEndException();
+          }
+          rowCells.clear();
+          rowHasValue = false;
+          cellColumn = 0;
+          break;
+        case "c":
+          cellColumn = columnIndex(attributes.getValue("r"), cellColumn);
+          cellType = attributes.getValue("t");
+          String s = attributes.getValue("s");
+          cellStyle = s == null ? -1 : Integer.parseInt(s);
+          cellText.setLength(0);
+          break;
+        case "v":
+        case "t":
+          inValue = true;
+          break;
+        default:
+          break;
+      }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+      if (inValue) {
+        cellText.append(ch, start, length);
+      }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+      switch (localName) {
+        case "v":
+        case "t":
+          inValue = false;
+          break;
+        case "c":
+          String value = cellValue();
+          if (value != null && !value.isEmpty()) {
+            rowHasValue = true;
+            if (!hasTable()) {
+              rowCells.add(new HeldCell(cellColumn, value, isText()));
+            } else if (cellColumn >= startColumn && cellColumn <= endColumn) {
+              builder.set(cellColumn - startColumn, value);
+            }
+          }
+          cellColumn++;
+          break;
+        case "row":
+          endRow();
+          break;
+        default:
+          break;
+      }
+    }
+
+    @Override
+    public void endDocument() {
+      if (!hasTable() && firstRow != null) {
+        // a single row is a table of its own when nothing follows it
+        startTable(null);
+      }
+    }
+
+    private void endRow() throws SAXException {
+      if (hasTable()) {
+        if (!rowHasValue) {
+          throw new TableEndException();
+        }
+        builder.endRow();
+        lastRowNumber = rowNumber;
+      } else if (firstRow == null || rowNumber != firstRowNumber + 1) {
+        // a row after a gap starts over, leaving out a first row that stood alone like a title
+        firstRow = rowCells.isEmpty() ? null : new ArrayList<>(rowCells);
+        firstRowNumber = rowNumber;
+      } else if (rowCells.isEmpty()) {
+        firstRow = null;
+      } else {
+        startTable(rowCells);
+        lastRowNumber = rowNumber;
+      }
+    }
+
+    /** Starts the table at the first row held, and appends the given second row if any */
+    private void startTable(List<HeldCell> secondRow) {
+      List<HeldCell> first = firstRow;
+      firstRow = null;
+      startColumn = first.get(0).column;
+      endColumn = startColumn;
+      for (int i = 1; i < first.size() && first.get(i).column == endColumn + 1; i++) {
+        endColumn++;
+      }
+      boolean header = true;
+      for (HeldCell cell : first) {
+        header &= cell.text || cell.column > endColumn;
+      }
+      for (int column = startColumn; column <= endColumn; column++) {
+        String name = header ? first.get(column - startColumn).value : "col" + column;
+        builder.column(name);
+      }
+      if (!header) {
+        appendRow(first);
+      }
+      if (secondRow != null) {
+        appendRow(secondRow);
+      }
+    }
+
+    private void appendRow(List<HeldCell> cells) {
+      for (HeldCell cell : cells) {
+        if (cell.column >= startColumn && cell.column <= endColumn) {
+          builder.set(cell.column - startColumn, cell.value);
+        }
+      }
+      builder.endRow();
+    }
+
+    private boolean isText() {
+      return "s".equals(cellType) || "inlineStr".equals(cellType) || "str".equals(cellType);
+    }
+
+    /** Returns the value of the cell just read, or null if it is an error */
+    private String cellValue() {
+      String text = cellText.toString();
+      if (cellType == null || "n".equals(cellType)) {
+        return text.isEmpty() ? null : number(Double.parseDouble(text));
+      }
+      switch (cellType) {
+        case "s":
+          return strings.getItemAt(Integer.parseInt(text)).getString();
+        case "b":
+          return "1".equals(text) ? "true" : "false";
+        case "inlineStr":
+        case "str":
+          return text;
+        default:
+          return null;
+      }
+    }
+
+    /** Returns a number as a string, or as a date-time if the cell is formatted as a date */
+    private String number(double value) {
+      if (cellStyle >= 0 && DateUtil.isValidExcelDate(value)) {
+        XSSFCellStyle style = styles.getStyleAt(cellStyle);
+        if (style != null
+            && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString())) {
+          // This will return inconsistent results across time zones, but that matches Excel's
+          // behavior
+          return DateUtil.getJavaDate(value)
+              .toInstant()
+              .atZone(ZoneId.systemDefault())
+              .toLocalDateTime()
+              .toString();
+        }
+      }
+      if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+        return Long.toString((long) value);
+      }
+      return Double.toString(value);
+    }
+
+    /** Returns the index of the column of a cell reference such as "B7", or the default if none */
+    private static int columnIndex(String reference, int defaultIndex) {
+      if (reference == null) {
+        return defaultIndex;
+      }
+      int column = 0;
+      for (int i = 0; i < reference.length(); i++) {
+        char c = reference.charAt(i);
+        if (c < 'A' || c > 'Z') {
+          break;
+        }
+        column = column * 26 + (c - 'A' + 1);
+      }
+      return column - 1;
+    }
+  }
+}
@@ -285,4 +285,99 @@ public class XlsxReaderTest {
     assertEquals(table.column("mixed2").asList(), Lists.newArrayList("abc", "123", ""));
     assertEquals(table.column("intcol2").asList(), Lists.newArrayList("", "1234", "1234"));
   }
+
+  private Table readStreaming(String name, XlsxReadOptions.Builder builder) {
+    try {
+      List<Table> tables = new XlsxReader().readMultiple(builder.streaming(true).build());
+      assertEquals(1, tables.size(), "Wrong number of tables in " + name);
+      return tables.get(0);
+    } catch (final IOException e) {
+      fail(e.getMessage());
+    }
+    return null;
+  }
+
+  @Test
+  public void testColumnsStreaming() {
+    Table table = readStreaming("columns", XlsxReadOptions.builder("../data/columns.xlsx"));
+    assertEquals(
+        Arrays.asList(
+            "stringcol",
+            "shortcol",
+            "intcol",
+            "longcol",
+            "doublecol",
+            "booleancol",
+            "datecol",
+            "formulacol",
+            "mixed",
+            "mixed2",
+            "intcol2"),
+        table.columnNames());
+    assertColumnValues(table.stringColumn("stringcol"), "Hallvard", "Marit", "Quentin");
+    assertColumnValues(table.intColumn("shortcol"), 123, 124, 125);
+    assertColumnValues(table.longColumn("longcol"), 12345678900L, 12345678901L, 12345678901L);
+    assertColumnValues(table.doubleColumn("doublecol"), 12.34, 13.35, 13.35);
+    assertColumnValues(table.booleanColumn("booleancol"), true, false, false);
+    assertColumnValues(
+        table.dateTimeColumn("datecol"),
+        LocalDateTime.of(2019, 2, 22, 20, 54, 9),
+        LocalDateTime.of(2020, 3, 23, 21, 55, 10),
+        LocalDateTime.of(2020, 3, 23, 21, 55, 10));
+    assertColumnValues(table.doubleColumn("formulacol"), 135.34, 137.35, 138.35);
+    // numbers are read as the values they hold, not as they are displayed
+    assertEquals(Lists.newArrayList("123", "abc", ""), table.column("mixed").asList());
+    assertEquals(Lists.newArrayList("abc", "123", ""), table.column("mixed2").asList());
+    assertEquals(Lists.newArrayList(null, 1234, 1234), table.column("intcol2").asList());
+  }
+
+  @Test
+  public void testColumnsWithMissingValuesStreaming() {
+    Table table =
+        readStreaming(
+            "columns-with-missing-values",
+            XlsxReadOptions.builder("../data/columns-with-missing-values.xlsx"));
+    assertEquals(2, table.rowCount());
+    assertColumnValues(table.stringColumn("stringcol"), "Hallvard", null);
+    assertColumnValues(table.intColumn("shortcol"), null, 124);
+    assertColumnValues(table.longColumn("longcol"), 12345678900L, null);
+    assertColumnValues(table.booleanColumn("booleancol"), true, null);
+    assertColumnValues(table.doubleColumn("formulacol"), null, 137.35);
+  }
+
+  @Test
+  public void testStreamingTypesDetectedFromFirstRows() {
+    Table table =
+        readStreaming(
+            "columns",
+            XlsxReadOptions.builder("../data/columns.xlsx")
+                .typeDetectionRows(1)
+                .columnTypesPartial(ImmutableMap.of("formulacol", FLOAT)));
+    // mixed starts as an integer column, and is widened when it meets text
+    assertEquals(STRING, table.column("mixed").type());
+    assertEquals(Lists.newArrayList("123", "abc", ""), table.column("mixed").asList());
+    assertEquals(FLOAT, table.column("formulacol").type());
+  }
+
+  @Test
+  public void testSheetIndexStreaming() {
+    Table table =
+        new XlsxReader()
+            .read(
+                XlsxReadOptions.builder("../data/multiplesheets.xlsx")
+                    .streaming(true)
+                    .sheetIndex(1)
+                    .build());
+    assertColumnValues(table.stringColumn("stringcol"), "John", "Doe");
+    assertEquals("multiplesheets.xlsx#Sheet2", table.name(), "table name is different");
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new XlsxReader()
+                .read(
+                    XlsxReadOptions.builder("../data/multiplesheets.xlsx")
+                        .streaming(true)
+                        .sheetIndex(0)
+                        .build()));
+  }
 }
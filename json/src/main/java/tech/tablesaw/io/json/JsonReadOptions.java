@@ -18,10 +18,14 @@ import tech.tablesaw.io.Source;
 public class JsonReadOptions extends ReadOptions {
 
   private final String path;
+  private final boolean lineDelimited;
+  private final int typeDetectionRows;
 
   protected JsonReadOptions(Builder builder) {
     super(builder);
     this.path = builder.path;
+    this.lineDelimited = builder.lineDelimited;
+    this.typeDetectionRows = builder.typeDetectionRows;
   }
 
   public static Builder builder(Source source) {
@@ -78,9 +82,19 @@ public class JsonReadOptions extends ReadOptions {
     return path;
   }
 
+  public boolean lineDelimited() {
+    return lineDelimited;
+  }
+
+  public int typeDetectionRows() {
+    return typeDetectionRows;
+  }
+
   public static class Builder extends ReadOptions.Builder {
 
     private String path;
+    private boolean lineDelimited = false;
+    private int typeDetectionRows = 1000;
 
     protected Builder(Source source) {
       super(source);
@@ -190,6 +204,33 @@ public class JsonReadOptions extends ReadOptions {
       return this;
     }
 
+    /**
+     * Reads newline-delimited JSON, which holds an array or object for each row on a line of its
+     * own, rather than a single array. The path is not used.
+     */
+    public Builder lineDelimited(boolean lineDelimited) {
+      this.lineDelimited = lineDelimited;
+      return this;
+    }
+
+    /**
+     * Detects the types of the columns not given in the options from the first rows of the input
+     * only, which are the only rows held in memory while the input is read. A column that later
+     * meets a value its detected type can't hold is widened, for example from INTEGER to LONG or
+     * DOUBLE, or to STRING. The default is 1000 rows. 0 detects the types from all the rows, which
+     * are then all held until the end of the input.
+     *
+     * @param rowCount The number of rows to detect the column types from
+     */
+    public Builder typeDetectionRows(int rowCount) {
+      if (rowCount < 0) {
+        throw new IllegalArgumentException(
+            "The number of type detection rows can't be negative, but was " + rowCount);
+      }
+      this.typeDetectionRows = rowCount;
+      return this;
+    }
+
     @Override
     public Builder columnTypes(ColumnType[] columnTypes) {
       super.columnTypes(columnTypes);
@@ -1,22 +1,29 @@
 package tech.tablesaw.io.json;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.wnameless.json.flattener.JsonFlattener;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.io.*;
 
+/**
+ * Reads a table from a JSON array that holds an array or an object for each row, or from
+ * newline-delimited JSON that holds one on each line. The input is read as a stream of tokens, and
+ * the values of each row go to the columns as the row is read, so that only the first rows, which
+ * the column types are detected from, are held at any time.
+ *
+ * <p>Nested objects are flattened, so that the value of b in {"a": {"b": 1}} goes to a column named
+ * a.b, and the value of b in {"a": [{"b": 1}]} to a column named a[0].b. A column is added when its
+ * name first appears, and is missing in the rows before.
+ */
 public class JsonReader implements DataReader<JsonReadOptions> {
 
   private static final JsonReader INSTANCE = new JsonReader();
-  private static final ObjectMapper mapper = new ObjectMapper();
+  private static final JsonFactory factory = new JsonFactory();
 
   static {
     register(Table.defaultReaderRegistry);
@@ -30,102 +37,186 @@ public class JsonReader implements DataReader<JsonReadOptions> {
 
   @Override
   public Table read(JsonReadOptions options) {
-    JsonNode jsonObj = null;
-    try {
-      jsonObj = mapper.readTree(options.source().createReader(null));
+    StreamingTableBuilder builder = new StreamingTableBuilder(options, options.typeDetectionRows());
+    try (JsonParser parser = factory.createParser(options.source().createReader(null))) {
+      if (options.lineDelimited()) {
+        readRows(parser, builder, false);
+      } else {
+        JsonToken token = options.path() == null ? parser.nextToken() : moveTo(parser, options);
+        if (token != JsonToken.START_ARRAY) {
+          throw new IllegalStateException(
+              "Only reading a JSON array is currently supported. The array must hold an array or object for each row.");
+        }
+        readRows(parser, builder, true);
+      }
     } catch (IOException e) {
       throw new RuntimeIOException(e);
     }
-    if (options.path() != null) {
-      jsonObj = jsonObj.at(options.path());
-    }
-    if (!jsonObj.isArray()) {
-      throw new IllegalStateException(
-          "Only reading a JSON array is currently supported. The array must hold an array or object for each row.");
-    }
-    if (jsonObj.size() == 0) {
-      return Table.create(options.tableName());
+    return builder.build();
+  }
+
+  /**
+   * Moves the parser to the start of the value at the path of the given options, and returns its
+   * first token, or null if there is no such value
+   */
+  private JsonToken moveTo(JsonParser parser, JsonReadOptions options) throws IOException {
+    JsonToken token = parser.nextToken();
+    for (JsonPointer pointer = JsonPointer.compile(options.path());
+        !pointer.matches();
+        pointer = pointer.tail()) {
+      if (token == JsonToken.START_OBJECT) {
+        String property = pointer.getMatchingProperty();
+        token = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String name = parser.getCurrentName();
+          JsonToken value = parser.nextToken();
+          if (name.equals(property)) {
+            token = value;
+            break;
+          }
+          parser.skipChildren();
+        }
+      } else if (token == JsonToken.START_ARRAY && pointer.getMatchingIndex() >= 0) {
+        token = parser.nextToken();
+        for (int i = 0; i < pointer.getMatchingIndex() && token != JsonToken.END_ARRAY; i++) {
+          parser.skipChildren();
+          token = parser.nextToken();
+        }
+        if (token == JsonToken.END_ARRAY) {
+          token = null;
+        }
+      } else {
+        token = null;
+      }
+      if (token == null) {
+        return null;
+      }
     }
+    return token;
+  }
 
-    JsonNode firstNode = jsonObj.get(0);
-    if (firstNode.isArray()) {
-      return convertArrayOfArrays(jsonObj, options);
+  /**
+   * Reads the rows, each of which is an array or an object like the first, up to the end of the
+   * array the parser is in, or of the input if inArray is false
+   */
+  private void readRows(JsonParser parser, StreamingTableBuilder builder, boolean inArray)
+      throws IOException {
+    JsonToken first = nextRow(parser, inArray);
+    if (first == JsonToken.START_ARRAY) {
+      readArrayRows(parser, builder, inArray);
+    } else if (first != null) {
+      for (JsonToken token = first; token != null; token = nextRow(parser, inArray)) {
+        if (token != JsonToken.START_OBJECT) {
+          throw new IllegalStateException(
+              "Each row must be an object like the first, but found " + token);
+        }
+        readObject(parser, "", builder);
+        builder.endRow();
+      }
     }
-    return convertArrayOfObjects(jsonObj, options);
   }
 
-  private Table convertArrayOfArrays(JsonNode jsonObj, ReadOptions options) {
-    JsonNode firstNode = jsonObj.get(0);
+  /** Returns the first token of the next row, or null if there are no more rows */
+  private JsonToken nextRow(JsonParser parser, boolean inArray) throws IOException {
+    JsonToken token = parser.nextToken();
+    return inArray && token == JsonToken.END_ARRAY ? null : token;
+  }
+
+  /**
+   * Reads rows that are arrays, the parser being at the start of the first. The first row is the
+   * header if all its values are strings
+   */
+  private void readArrayRows(JsonParser parser, StreamingTableBuilder builder, boolean inArray)
+      throws IOException {
+    List<String> firstRow = new ArrayList<>();
     boolean firstRowAllStrings = true;
-    List<String> columnNames = new ArrayList<>();
-    for (JsonNode n : firstNode) {
-      if (!n.isTextual()) {
-        firstRowAllStrings = false;
-      }
+    for (JsonToken token = parser.nextToken();
+        token != JsonToken.END_ARRAY;
+        token = parser.nextToken()) {
+      firstRowAllStrings &= token == JsonToken.VALUE_STRING;
+      firstRow.add(scalarText(parser));
     }
-    boolean hasHeader = firstRowAllStrings;
-    for (int i = 0; i < firstNode.size(); i++) {
-      columnNames.add(hasHeader ? firstNode.get(i).textValue() : "Column " + i);
+    List<Integer> columns = new ArrayList<>();
+    for (int i = 0; i < firstRow.size(); i++) {
+      columns.add(builder.column(firstRowAllStrings ? firstRow.get(i) : "Column " + i));
     }
-    List<String[]> dataRows = new ArrayList<>();
-    for (int i = hasHeader ? 1 : 0; i < jsonObj.size(); i++) {
-      JsonNode arr = jsonObj.get(i);
-      String[] row = new String[arr.size()];
-      for (int j = 0; j < arr.size(); j++) {
-        row[j] = arr.get(j).asText();
+    if (!firstRowAllStrings) {
+      for (int i = 0; i < firstRow.size(); i++) {
+        builder.set(columns.get(i), firstRow.get(i));
       }
-      dataRows.add(row);
+      builder.endRow();
     }
-    return TableBuildingUtils.build(columnNames, dataRows, options);
-  }
-
-  private Table convertArrayOfObjects(JsonNode jsonObj, ReadOptions options) {
-    // flatten each object inside the array
-    StringBuilder result = new StringBuilder("[");
-    for (int i = 0; i < jsonObj.size(); i++) {
-      JsonNode rowObj = jsonObj.get(i);
-      String flattenedRow = null;
-      try {
-        flattenedRow = JsonFlattener.flatten(mapper.writeValueAsString(rowObj));
-      } catch (JsonProcessingException e) {
-        throw new RuntimeIOException(e);
+    for (JsonToken token = nextRow(parser, inArray);
+        token != null;
+        token = nextRow(parser, inArray)) {
+      if (token != JsonToken.START_ARRAY) {
+        throw new IllegalStateException(
+            "Each row must be an array like the first, but found " + token);
       }
-      if (i != 0) {
-        result.append(",");
+      int i = 0;
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        if (i == columns.size()) {
+          columns.add(builder.column("Column " + i));
+        }
+        builder.set(columns.get(i++), scalarText(parser));
       }
-      result.append(flattenedRow);
-    }
-    String flattenedJsonString = result.append("]").toString();
-    JsonNode flattenedJsonObj = null;
-    try {
-      flattenedJsonObj = mapper.readTree(flattenedJsonString);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeIOException(e);
+      builder.endRow();
     }
+  }
 
-    Set<String> colNames = new HashSet<>();
-    for (JsonNode row : flattenedJsonObj) {
-      Iterator<String> fieldNames = row.fieldNames();
-      while (fieldNames.hasNext()) {
-        colNames.add(fieldNames.next());
-      }
+  /**
+   * Reads the fields of an object, the parser being at its start, into the columns named by the
+   * given prefix followed by the field names
+   */
+  private void readObject(JsonParser parser, String prefix, StreamingTableBuilder builder)
+      throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = prefix + parser.getCurrentName();
+      parser.nextToken();
+      readValue(parser, name, builder);
     }
+  }
 
-    List<String> columnNames = new ArrayList<>(colNames);
-    List<String[]> dataRows = new ArrayList<>();
-    for (JsonNode node : flattenedJsonObj) {
-      String[] arr = new String[columnNames.size()];
-      for (int i = 0; i < columnNames.size(); i++) {
-        if (node.has(columnNames.get(i))) {
-          arr[i] = node.get(columnNames.get(i)).asText();
-        } else {
-          arr[i] = null;
+  /** Reads the value the parser is at into the named column, flattening objects and arrays */
+  private void readValue(JsonParser parser, String name, StreamingTableBuilder builder)
+      throws IOException {
+    switch (parser.currentToken()) {
+      case START_OBJECT:
+        if (parser.nextToken() == JsonToken.END_OBJECT) {
+          builder.column(name);
+          return;
         }
-      }
-      dataRows.add(arr);
+        do {
+          String fieldName = name + "." + parser.getCurrentName();
+          parser.nextToken();
+          readValue(parser, fieldName, builder);
+        } while (parser.nextToken() == JsonToken.FIELD_NAME);
+        return;
+      case START_ARRAY:
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          readValue(parser, name + "[" + index++ + "]", builder);
+        }
+        if (index == 0) {
+          builder.column(name);
+        }
+        return;
+      case VALUE_NULL:
+        builder.column(name);
+        return;
+      default:
+        builder.set(builder.column(name), parser.getText());
     }
+  }
 
-    return TableBuildingUtils.build(columnNames, dataRows, options);
+  /** Returns the text of the scalar value the parser is at, or null for null and for containers */
+  private String scalarText(JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token.isStructStart()) {
+      parser.skipChildren();
+      return null;
+    }
+    return token == JsonToken.VALUE_NULL ? null : parser.getText();
   }
 
   @Override
@@ -8,11 +8,13 @@ public class JsonWriteOptions extends WriteOptions {
 
   private final boolean asObjects;
   private final boolean header;
+  private final boolean lineDelimited;
 
   private JsonWriteOptions(Builder builder) {
     super(builder);
     this.asObjects = builder.asObjects;
     this.header = builder.header;
+    this.lineDelimited = builder.lineDelimited;
   }
 
   public boolean asObjects() {
@@ -23,6 +25,10 @@ public class JsonWriteOptions extends WriteOptions {
     return header;
   }
 
+  public boolean lineDelimited() {
+    return lineDelimited;
+  }
+
   public static Builder builder(Writer writer) {
     return new Builder(new Destination(writer));
   }
@@ -35,6 +41,7 @@ public class JsonWriteOptions extends WriteOptions {
 
     private boolean asObjects = true;
     private boolean header = false;
+    private boolean lineDelimited = false;
 
     protected Builder(Destination destination) {
       super(destination);
@@ -52,6 +59,15 @@ public class JsonWriteOptions extends WriteOptions {
       return this;
     }
 
+    /**
+     * If true writes newline-delimited JSON, with each row on a line of its own rather than in a
+     * single array. The output of several tables written this way may be concatenated.
+     */
+    public JsonWriteOptions.Builder lineDelimited(boolean lineDelimited) {
+      this.lineDelimited = lineDelimited;
+      return this;
+    }
+
     public JsonWriteOptions build() {
       return new JsonWriteOptions(this);
     }
@@ -14,19 +14,44 @@
 
 package tech.tablesaw.io.json;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
 import java.io.Writer;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.columns.times.PackedLocalTime;
 import tech.tablesaw.io.DataWriter;
 import tech.tablesaw.io.Destination;
 import tech.tablesaw.io.RuntimeIOException;
 import tech.tablesaw.io.WriterRegistry;
 
+/**
+ * Writes a table as a JSON array that holds an object or an array for each row, or as
+ * newline-delimited JSON that holds one on each line. The rows are written to the destination as a
+ * stream of tokens, each value by a writer for the type of its column, so the document is never
+ * held in memory.
+ *
+ * <p>Dates, times and date-times are written as arrays of their fields, and instants as decimal
+ * seconds since the epoch, as Jackson writes the java.time values they stand for.
+ */
 public class JsonWriter implements DataWriter<JsonWriteOptions> {
 
   private static final JsonWriter INSTANCE = new JsonWriter();
@@ -42,40 +67,233 @@ public class JsonWriter implements DataWriter<JsonWriteOptions> {
     registry.registerOptions(JsonWriteOptions.class, INSTANCE);
   }
 
+  /** Writes the value in a row of a column */
+  @FunctionalInterface
+  private interface ValueWriter {
+    void write(JsonGenerator generator, int row) throws IOException;
+  }
+
   public void write(Table table, JsonWriteOptions options) {
-    ArrayNode output = mapper.createArrayNode();
-    if (options.asObjects()) {
-      for (int r = 0; r < table.rowCount(); r++) {
-        ObjectNode row = mapper.createObjectNode();
-        for (int c = 0; c < table.columnCount(); c++) {
-          row.set(table.column(c).name(), mapper.convertValue(table.get(r, c), JsonNode.class));
-        }
-        output.add(row);
+    int columnCount = table.columnCount();
+    ValueWriter[] writers = new ValueWriter[columnCount];
+    SerializedString[] names = new SerializedString[columnCount];
+    for (int c = 0; c < columnCount; c++) {
+      writers[c] = valueWriter(table.column(c));
+      names[c] = new SerializedString(table.column(c).name());
+    }
+    boolean lineDelimited = options.lineDelimited();
+    try (Writer writer = options.destination().createWriter();
+        JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+      generator.setRootValueSeparator(null);
+      if (!lineDelimited) {
+        generator.writeStartArray();
       }
-    } else {
-      if (options.header()) {
-        ArrayNode row = mapper.createArrayNode();
-        for (int c = 0; c < table.columnCount(); c++) {
-          row.add(mapper.convertValue(table.column(c).name(), JsonNode.class));
+      if (!options.asObjects() && options.header()) {
+        generator.writeStartArray();
+        for (int c = 0; c < columnCount; c++) {
+          generator.writeString(names[c]);
         }
-        output.add(row);
+        generator.writeEndArray();
+        endRow(generator, lineDelimited);
       }
       for (int r = 0; r < table.rowCount(); r++) {
-        ArrayNode row = mapper.createArrayNode();
-        for (int c = 0; c < table.columnCount(); c++) {
-          row.add(mapper.convertValue(table.get(r, c), JsonNode.class));
+        if (options.asObjects()) {
+          generator.writeStartObject();
+          for (int c = 0; c < columnCount; c++) {
+            generator.writeFieldName(names[c]);
+            writers[c].write(generator, r);
+          }
+          generator.writeEndObject();
+        } else {
+          generator.writeStartArray();
+          for (int c = 0; c < columnCount; c++) {
+            writers[c].write(generator, r);
+          }
+          generator.writeEndArray();
         }
-        output.add(row);
+        endRow(generator, lineDelimited);
+      }
+      if (!lineDelimited) {
+        generator.writeEndArray();
       }
-    }
-    try (Writer writer = options.destination().createWriter()) {
-      String str = mapper.writeValueAsString(output);
-      writer.write(str);
     } catch (IOException e) {
       throw new RuntimeIOException(e);
     }
   }
 
+  /** Ends each row of newline-delimited JSON with a newline */
+  private void endRow(JsonGenerator generator, boolean lineDelimited) throws IOException {
+    if (lineDelimited) {
+      generator.writeRaw('\n');
+    }
+  }
+
+  /** Returns a writer for the values of the given column, which writes missing values as null */
+  private ValueWriter valueWriter(Column<?> column) {
+    ColumnType type = column.type();
+    if (type == ColumnType.SHORT) {
+      ShortColumn shorts = (ShortColumn) column;
+      return (generator, row) -> {
+        if (shorts.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeNumber(shorts.getShort(row));
+        }
+      };
+    }
+    if (type == ColumnType.INTEGER) {
+      IntColumn ints = (IntColumn) column;
+      return (generator, row) -> {
+        if (ints.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeNumber(ints.getInt(row));
+        }
+      };
+    }
+    if (type == ColumnType.LONG) {
+      LongColumn longs = (LongColumn) column;
+      return (generator, row) -> {
+        if (longs.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeNumber(longs.getLong(row));
+        }
+      };
+    }
+    if (type == ColumnType.FLOAT) {
+      FloatColumn floats = (FloatColumn) column;
+      return (generator, row) -> {
+        if (floats.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeNumber(floats.getFloat(row));
+        }
+      };
+    }
+    if (type == ColumnType.DOUBLE) {
+      DoubleColumn doubles = (DoubleColumn) column;
+      return (generator, row) -> {
+        if (doubles.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeNumber(doubles.getDouble(row));
+        }
+      };
+    }
+    if (type == ColumnType.BOOLEAN) {
+      BooleanColumn booleans = (BooleanColumn) column;
+      return (generator, row) -> {
+        if (booleans.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeBoolean(booleans.get(row));
+        }
+      };
+    }
+    if (type == ColumnType.LOCAL_DATE) {
+      DateColumn dates = (DateColumn) column;
+      return (generator, row) -> {
+        if (dates.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeStartArray();
+          writeDate(generator, dates.getIntInternal(row));
+          generator.writeEndArray();
+        }
+      };
+    }
+    if (type == ColumnType.LOCAL_TIME) {
+      TimeColumn times = (TimeColumn) column;
+      return (generator, row) -> {
+        if (times.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeStartArray();
+          writeTime(generator, times.getIntInternal(row));
+          generator.writeEndArray();
+        }
+      };
+    }
+    if (type == ColumnType.LOCAL_DATE_TIME) {
+      DateTimeColumn dateTimes = (DateTimeColumn) column;
+      return (generator, row) -> {
+        if (dateTimes.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          long dateTime = dateTimes.getLongInternal(row);
+          generator.writeStartArray();
+          writeDate(generator, PackedLocalDateTime.date(dateTime));
+          writeTime(generator, PackedLocalDateTime.time(dateTime));
+          generator.writeEndArray();
+        }
+      };
+    }
+    if (type == ColumnType.INSTANT) {
+      InstantColumn instants = (InstantColumn) column;
+      return (generator, row) -> {
+        if (instants.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          writeInstant(generator, instants.getLongInternal(row));
+        }
+      };
+    }
+    if (type == ColumnType.STRING) {
+      return (generator, row) -> generator.writeString(column.getString(row));
+    }
+    if (type == ColumnType.TEXT) {
+      TextColumn texts = (TextColumn) column;
+      return (generator, row) -> generator.writeString(texts.get(row));
+    }
+    return (generator, row) -> generator.writeObject(column.get(row));
+  }
+
+  private static void writeDate(JsonGenerator generator, int date) throws IOException {
+    generator.writeNumber(PackedLocalDate.getYear(date));
+    generator.writeNumber(PackedLocalDate.getMonthValue(date));
+    generator.writeNumber(PackedLocalDate.getDayOfMonth(date));
+  }
+
+  /** Writes the fields of a time, leaving out the seconds and nanoseconds when they are 0 */
+  private static void writeTime(JsonGenerator generator, int time) throws IOException {
+    generator.writeNumber(PackedLocalTime.getHour(time));
+    generator.writeNumber(PackedLocalTime.getMinute(time));
+    int second = PackedLocalTime.getSecond(time);
+    int nano = PackedLocalTime.getNano(time);
+    if (second > 0 || nano > 0) {
+      generator.writeNumber(second);
+      if (nano > 0) {
+        generator.writeNumber(nano);
+      }
+    }
+  }
+
+  /** Writes an instant as seconds since the epoch, with as many decimals as it needs */
+  private static void writeInstant(JsonGenerator generator, long instant) throws IOException {
+    int date = PackedInstant.date(instant);
+    int time = PackedInstant.time(instant);
+    long seconds = PackedLocalDate.toEpochDay(date) * 86_400 + PackedLocalTime.getSecondOfDay(time);
+    int nano = PackedLocalTime.getNano(time);
+    if (nano == 0) {
+      generator.writeNumber(seconds);
+      return;
+    }
+    String sign = "";
+    if (seconds < 0) {
+      // the nanoseconds count forward from a negative second, so take them from the next one
+      sign = "-";
+      seconds = -(seconds + 1);
+      nano = 1_000_000_000 - nano;
+    }
+    String fraction = String.valueOf(1_000_000_000 + nano).substring(1);
+    int end = fraction.length();
+    while (fraction.charAt(end - 1) == '0') {
+      end--;
+    }
+    generator.writeNumber(sign + seconds + "." + fraction.substring(0, end));
+  }
+
   @Override
   public void write(Table table, Destination dest) {
     write(table, JsonWriteOptions.builder(dest).build());
@@ -16,12 +16,15 @@ package tech.tablesaw.io.json;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.tablesaw.api.ColumnType.DOUBLE;
 import static tech.tablesaw.api.ColumnType.INSTANT;
 import static tech.tablesaw.api.ColumnType.STRING;
 
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.IntColumn;
@@ -110,4 +113,73 @@ public class JsonReaderTest {
 
     assertArrayEquals(columnTypes, new ColumnType[] {STRING, STRING});
   }
+
+  @Test
+  public void arrayOfNestedArraysAndObjects() {
+    String json =
+        "[{\"a\":1,\"b\":[{\"c\":\"p\"},{\"c\":\"q\"}],\"d\":null},"
+            + "{\"a\":2,\"b\":[{\"c\":\"r\"}],\"e\":{\"f\":true}}]";
+    Table table = Table.read().string(json, "json");
+    assertEquals(Arrays.asList("a", "b[0].c", "b[1].c", "d", "e.f"), table.columnNames());
+    assertEquals(Arrays.asList("p", "r"), table.column("b[0].c").asList());
+    assertEquals("q", table.getString(0, "b[1].c"));
+    assertTrue(table.column("b[1].c").isMissing(1));
+    assertEquals(ColumnType.BOOLEAN, table.column("e.f").type());
+    assertTrue(table.column("e.f").isMissing(0));
+  }
+
+  @Test
+  public void path() {
+    String json =
+        "{\"meta\":{\"rows\":[[0]]},\"data\":{\"skipped\":[1,2],\"rows\":"
+            + "[{\"a\":1},{\"a\":2}]}}";
+    Table table =
+        new JsonReader().read(JsonReadOptions.builderFromString(json).path("/data/rows").build());
+    assertEquals(Arrays.asList(1, 2), table.column("a").asList());
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            new JsonReader()
+                .read(JsonReadOptions.builderFromString(json).path("/data/none").build()));
+  }
+
+  @Test
+  public void lineDelimited() {
+    String json = "{\"a\":1,\"b\":\"x\"}\n{\"a\":2}\n\n{\"a\":3000000000,\"c\":2.5}\n";
+    Table table =
+        new JsonReader()
+            .read(
+                JsonReadOptions.builderFromString(json)
+                    .lineDelimited(true)
+                    .typeDetectionRows(1)
+                    .build());
+    assertEquals(Arrays.asList("a", "b", "c"), table.columnNames());
+    assertEquals(ColumnType.LONG, table.column("a").type());
+    assertEquals(Arrays.asList(1L, 2L, 3_000_000_000L), table.column("a").asList());
+    assertEquals(ColumnType.DOUBLE, table.column("c").type());
+    assertEquals(3, table.rowCount());
+
+    Table arrays =
+        new JsonReader()
+            .read(
+                JsonReadOptions.builderFromString("[\"x\",\"y\"]\n[1,2]\n[3,4]")
+                    .lineDelimited(true)
+                    .build());
+    assertEquals(Arrays.asList("x", "y"), arrays.columnNames());
+    assertEquals(Arrays.asList(1, 3), arrays.column("x").asList());
+  }
+
+  @Test
+  public void detectsTypesFromABoundedPrefixByDefault() {
+    assertEquals(1000, JsonReadOptions.builderFromString("[]").build().typeDetectionRows());
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < 1000; i++) {
+      json.append("{\"a\":").append(i).append("},");
+    }
+    json.append("{\"a\":\"many\"}]");
+    Table table = new JsonReader().read(JsonReadOptions.builderFromString(json.toString()).build());
+    assertEquals(ColumnType.STRING, table.column("a").type());
+    assertEquals("999", table.getString(999, "a"));
+    assertEquals("many", table.getString(1000, "a"));
+  }
 }
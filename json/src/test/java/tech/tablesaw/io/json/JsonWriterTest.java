@@ -18,8 +18,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.api.TimeColumn;
 
 public class JsonWriterTest {
 
@@ -54,4 +70,90 @@ public class JsonWriterTest {
     String output = table.write().toString("json");
     assertEquals(json, output);
   }
+
+  private static Table allTypes() {
+    Table table =
+        Table.create(
+            "t",
+            ShortColumn.create("s", new short[] {1, Short.MIN_VALUE}),
+            IntColumn.create("i", new int[] {1, Integer.MIN_VALUE}),
+            LongColumn.create("l", new long[] {3_000_000_000L, Long.MIN_VALUE}),
+            FloatColumn.create("f", new float[] {1.25f, Float.NaN}),
+            DoubleColumn.create("d", new double[] {-2.144, Double.NaN}),
+            BooleanColumn.create("b", new boolean[] {true, false}),
+            StringColumn.create("str", new String[] {"x\"y", ""}),
+            TextColumn.create("txt", new String[] {"t", null}),
+            DateColumn.create("date", new LocalDate[] {LocalDate.of(2020, 1, 2), null}),
+            TimeColumn.create(
+                "time",
+                new LocalTime[] {LocalTime.of(10, 15), LocalTime.of(10, 15, 30, 123_000_000)}),
+            DateTimeColumn.create(
+                "dt",
+                new LocalDateTime[] {
+                  LocalDateTime.of(2020, 1, 2, 10, 15),
+                  LocalDateTime.of(2020, 1, 2, 10, 15, 0, 5_000_000)
+                }),
+            InstantColumn.create(
+                "inst", new Instant[] {Instant.parse("2020-01-02T10:15:30.123Z"), null}));
+    table.booleanColumn("b").setMissing(1);
+    return table;
+  }
+
+  @Test
+  public void allColumnTypes() {
+    StringWriter writer = new StringWriter();
+    allTypes().write().usingOptions(JsonWriteOptions.builder(writer).build());
+    assertEquals(
+        "[{\"s\":1,\"i\":1,\"l\":3000000000,\"f\":1.25,\"d\":-2.144,\"b\":true,\"str\":\"x\\\"y\","
+            + "\"txt\":\"t\",\"date\":[2020,1,2],\"time\":[10,15],\"dt\":[2020,1,2,10,15],"
+            + "\"inst\":1577960130.123},"
+            + "{\"s\":null,\"i\":null,\"l\":null,\"f\":null,\"d\":null,\"b\":null,\"str\":\"\","
+            + "\"txt\":null,\"date\":null,\"time\":[10,15,30,123000000],"
+            + "\"dt\":[2020,1,2,10,15,0,5000000],\"inst\":null}]",
+        writer.toString());
+  }
+
+  @Test
+  public void instantsAndFloatingPoint() {
+    Table table =
+        Table.create(
+            "t",
+            InstantColumn.create(
+                "inst",
+                new Instant[] {
+                  Instant.ofEpochSecond(1577960130),
+                  Instant.EPOCH,
+                  Instant.parse("1960-01-02T10:15:29.500Z")
+                }),
+            DoubleColumn.create("d", new double[] {1.0E20, 0.1, Double.POSITIVE_INFINITY}));
+    assertEquals(
+        "[{\"inst\":1577960130,\"d\":1.0E20},{\"inst\":0,\"d\":0.1},"
+            + "{\"inst\":-315495870.5,\"d\":\"Infinity\"}]",
+        table.write().toString("json"));
+  }
+
+  @Test
+  public void lineDelimited() {
+    Table table = allTypes().selectColumns("i", "str");
+    StringWriter writer = new StringWriter();
+    table.write().usingOptions(JsonWriteOptions.builder(writer).lineDelimited(true).build());
+    assertEquals("{\"i\":1,\"str\":\"x\\\"y\"}\n{\"i\":null,\"str\":\"\"}\n", writer.toString());
+
+    writer = new StringWriter();
+    table
+        .write()
+        .usingOptions(
+            JsonWriteOptions.builder(writer)
+                .lineDelimited(true)
+                .asObjects(false)
+                .header(true)
+                .build());
+    assertEquals("[\"i\",\"str\"]\n[1,\"x\\\"y\"]\n[null,\"\"]\n", writer.toString());
+
+    Table read =
+        Table.read()
+            .usingOptions(
+                JsonReadOptions.builderFromString(writer.toString()).lineDelimited(true).build());
+    assertEquals(2, read.rowCount());
+  }
 }
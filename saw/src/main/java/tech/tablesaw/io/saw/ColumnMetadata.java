@@ -14,9 +14,33 @@
 
 package tech.tablesaw.io.saw;
 
+import static tech.tablesaw.io.saw.SawUtils.BOOLEAN;
+import static tech.tablesaw.io.saw.SawUtils.DOUBLE;
+import static tech.tablesaw.io.saw.SawUtils.FLOAT;
+import static tech.tablesaw.io.saw.SawUtils.INSTANT;
+import static tech.tablesaw.io.saw.SawUtils.INTEGER;
+import static tech.tablesaw.io.saw.SawUtils.LOCAL_DATE;
+import static tech.tablesaw.io.saw.SawUtils.LOCAL_DATE_TIME;
+import static tech.tablesaw.io.saw.SawUtils.LOCAL_TIME;
+import static tech.tablesaw.io.saw.SawUtils.LONG;
+import static tech.tablesaw.io.saw.SawUtils.SHORT;
+import static tech.tablesaw.io.saw.SawUtils.STRING;
+
 import com.google.common.annotations.Beta;
 import com.google.common.base.Objects;
+import java.util.function.IntToLongFunction;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
 import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.BlockStatistics;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.strings.ByteDictionaryMap;
 import tech.tablesaw.columns.strings.DictionaryMap;
@@ -38,10 +62,31 @@ public class ColumnMetadata {
   private String stringColumnKeySize;
   private int nextStringKey;
 
-  ColumnMetadata(Column<?> column) {
+  // how the integers that hold the values are written, see IntegerEncoding. Columns written before
+  // there were encodings have none, and are read as plain
+  private String encoding;
+
+  // how the dictionary and row groups of the column are compressed. Columns written before each
+  // column had its own compression have none, and are compressed as the table is
+  private CompressionType compressionType;
+
+  // the position in the column file where each row group starts, followed by the end of the last
+  // one. For string columns the dictionary comes before the first group
+  private long[] rowGroupOffsets;
+
+  // the smallest and largest key and the number of missing values in each row group, for the
+  // columns that have keys (see keys()). The smallest key is larger than the largest if all the
+  // values in a group are missing
+  private long[] rowGroupMin;
+  private long[] rowGroupMax;
+  private int[] rowGroupMissingCount;
+
+  ColumnMetadata(Column<?> column, WriteOptions options) {
     this.id = SawUtils.makeName(column.name());
     this.name = column.name();
     this.type = column.type().name();
+    this.compressionType = options.getCompressionType(column.name());
+    int rowGroupSize = options.getRowGroupSize();
     if (column instanceof StringColumn) {
       StringColumn stringColumn = (StringColumn) column;
       cardinality = stringColumn.countUnique();
@@ -59,6 +104,91 @@ public class ColumnMetadata {
     } else {
       stringColumnKeySize = "";
     }
+    IntToLongFunction keys = keys(column);
+    if (keys != null) {
+      setStatistics(column, keys, rowGroupSize);
+    }
+    IntToLongFunction integers = integers(column);
+    if (integers != null) {
+      encoding =
+          IntegerEncoding.choose(integers, column.size(), rowGroupSize, integerBytes()).name();
+    }
+  }
+
+  /** Computes the statistics of the row groups of the given column from the given keys */
+  private void setStatistics(Column<?> column, IntToLongFunction keys, int rowGroupSize) {
+    int groups = (column.size() + rowGroupSize - 1) / rowGroupSize;
+    rowGroupMin = new long[groups];
+    rowGroupMax = new long[groups];
+    rowGroupMissingCount = new int[groups];
+    for (int group = 0; group < groups; group++) {
+      long min = Long.MAX_VALUE;
+      long max = Long.MIN_VALUE;
+      int missing = 0;
+      int end = (int) Math.min((long) (group + 1) * rowGroupSize, column.size());
+      for (int row = group * rowGroupSize; row < end; row++) {
+        if (column.isMissing(row)) {
+          missing++;
+        } else {
+          long key = keys.applyAsLong(row);
+          min = Math.min(min, key);
+          max = Math.max(max, key);
+        }
+      }
+      rowGroupMin[group] = min;
+      rowGroupMax[group] = max;
+      rowGroupMissingCount[group] = missing;
+    }
+  }
+
+  /**
+   * Returns the integers that hold the values of the given column, or null if its values are not
+   * held in integers. Booleans are held in bytes, and strings in the keys of their dictionary.
+   */
+  static IntToLongFunction integers(Column<?> column) {
+    switch (column.type().name()) {
+      case FLOAT:
+      case DOUBLE:
+        return null;
+      case BOOLEAN:
+        return ((BooleanColumn) column)::getByte;
+      case STRING:
+        return ((StringColumn) column).getDictionary()::getKeyForIndex;
+      default:
+        return keys(column);
+    }
+  }
+
+  /**
+   * Returns the keys of the values in the given column, ordered like the values, or null if the
+   * column type has no row group statistics. Floating point values are keyed by {@link
+   * BlockStatistics#doubleKey(double)}, and temporal values by their packed form.
+   */
+  static IntToLongFunction keys(Column<?> column) {
+    switch (column.type().name()) {
+      case SHORT:
+        return ((ShortColumn) column)::getShort;
+      case INTEGER:
+        return ((IntColumn) column)::getInt;
+      case LONG:
+        return ((LongColumn) column)::getLong;
+      case FLOAT:
+        FloatColumn floats = (FloatColumn) column;
+        return row -> BlockStatistics.doubleKey(floats.getFloat(row));
+      case DOUBLE:
+        DoubleColumn doubles = (DoubleColumn) column;
+        return row -> BlockStatistics.doubleKey(doubles.getDouble(row));
+      case LOCAL_DATE:
+        return ((DateColumn) column)::getIntInternal;
+      case LOCAL_TIME:
+        return ((TimeColumn) column)::getIntInternal;
+      case LOCAL_DATE_TIME:
+        return ((DateTimeColumn) column)::getLongInternal;
+      case INSTANT:
+        return ((InstantColumn) column)::getLongInternal;
+      default:
+        return null;
+    }
   }
 
   /**
@@ -122,4 +252,77 @@ public class ColumnMetadata {
   public int getCardinality() {
     return cardinality;
   }
+
+  public String getEncoding() {
+    return encoding;
+  }
+
+  /**
+   * Returns the compression of the column's dictionary and row groups, or null if the column was
+   * written before columns had their own and is compressed as the table is
+   */
+  public CompressionType getCompressionType() {
+    return compressionType;
+  }
+
+  /** Returns the encoding of the integers that hold the values of the column */
+  IntegerEncoding integerEncoding() {
+    return encoding == null ? IntegerEncoding.PLAIN : IntegerEncoding.valueOf(encoding);
+  }
+
+  /**
+   * Returns the number of bytes that an integer holding a value of the column takes when written as
+   * it is, or 0 if the values of the column are not held in integers
+   */
+  int integerBytes() {
+    switch (type) {
+      case BOOLEAN:
+        return Byte.BYTES;
+      case SHORT:
+        return Short.BYTES;
+      case INTEGER:
+      case LOCAL_DATE:
+      case LOCAL_TIME:
+        return Integer.BYTES;
+      case LONG:
+      case LOCAL_DATE_TIME:
+      case INSTANT:
+        return Long.BYTES;
+      case STRING:
+        if (stringColumnKeySize.equals(Byte.class.getSimpleName())) {
+          return Byte.BYTES;
+        }
+        if (stringColumnKeySize.equals(Short.class.getSimpleName())) {
+          return Short.BYTES;
+        }
+        return Integer.BYTES;
+      default:
+        return 0;
+    }
+  }
+
+  public long[] getRowGroupOffsets() {
+    return rowGroupOffsets;
+  }
+
+  void setRowGroupOffsets(long[] rowGroupOffsets) {
+    this.rowGroupOffsets = rowGroupOffsets;
+  }
+
+  public long[] getRowGroupMin() {
+    return rowGroupMin;
+  }
+
+  public long[] getRowGroupMax() {
+    return rowGroupMax;
+  }
+
+  public int[] getRowGroupMissingCount() {
+    return rowGroupMissingCount;
+  }
+
+  /** Returns true if the smallest and largest key of each row group of the column is known */
+  public boolean hasRowGroupStatistics() {
+    return rowGroupMin != null;
+  }
 }
@@ -0,0 +1,137 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.saw;
+
+import static tech.tablesaw.io.saw.SawUtils.DOUBLE;
+import static tech.tablesaw.io.saw.SawUtils.FLOAT;
+import static tech.tablesaw.io.saw.SawUtils.INTEGER;
+import static tech.tablesaw.io.saw.SawUtils.LONG;
+import static tech.tablesaw.io.saw.SawUtils.SHORT;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.BlockStatistics;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * The rows whose value in a column is between a low and a high value inclusive. Missing values are
+ * never in the range. Readers compare the range with the smallest and largest value of each row
+ * group to skip the groups where no row can be in it.
+ */
+final class ColumnRange {
+
+  private static final Set<String> NUMERIC_TYPES =
+      ImmutableSet.of(SHORT, INTEGER, LONG, FLOAT, DOUBLE);
+
+  private final String columnName;
+
+  // the type the column must have, or null for any numeric type
+  private final String type;
+
+  // the bounds of a numeric range
+  private final double low;
+  private final double high;
+
+  // the bounds of a temporal range, as packed values
+  private final long lowKey;
+  private final long highKey;
+
+  private ColumnRange(
+      String columnName, String type, double low, double high, long lowKey, long highKey) {
+    this.columnName = columnName;
+    this.type = type;
+    this.low = low;
+    this.high = high;
+    this.lowKey = lowKey;
+    this.highKey = highKey;
+  }
+
+  /** Returns a range of the values of a numeric column */
+  static ColumnRange numeric(String columnName, double low, double high) {
+    return new ColumnRange(columnName, null, low, high, 0, 0);
+  }
+
+  /** Returns a range of the packed values of a temporal column of the given type */
+  static ColumnRange temporal(String columnName, String type, long lowKey, long highKey) {
+    return new ColumnRange(columnName, type, 0, 0, lowKey, highKey);
+  }
+
+  String getColumnName() {
+    return columnName;
+  }
+
+  /**
+   * Returns false if the statistics of the given row group show that none of its rows is in the
+   * range
+   */
+  boolean mayMatch(ColumnMetadata metadata, int group) {
+    checkType(metadata.getType());
+    if (!metadata.hasRowGroupStatistics()) {
+      return true;
+    }
+    long min = metadata.getRowGroupMin()[group];
+    long max = metadata.getRowGroupMax()[group];
+    if (min > max) {
+      // all the values are missing
+      return false;
+    }
+    if (type == null) {
+      return value(metadata.getType(), max) >= low && value(metadata.getType(), min) <= high;
+    }
+    return max >= lowKey && min <= highKey;
+  }
+
+  /** Returns the rows of the given column that are in the range */
+  Selection select(Column<?> column) {
+    checkType(column.type().name());
+    Selection selection;
+    if (type == null) {
+      selection = ((NumericColumn<?>) column).isBetweenInclusive(low, high);
+    } else if (column instanceof DateColumn) {
+      selection = ((DateColumn) column).isBetweenIncluding((int) lowKey, (int) highKey);
+    } else if (column instanceof TimeColumn) {
+      TimeColumn times = (TimeColumn) column;
+      selection = times.isOnOrAfter((int) lowKey).and(times.isOnOrBefore((int) highKey));
+    } else if (column instanceof DateTimeColumn) {
+      selection = ((DateTimeColumn) column).isBetweenIncluding(lowKey, highKey);
+    } else {
+      selection = ((InstantColumn) column).isBetweenIncluding(lowKey, highKey);
+    }
+    return selection.andNot(column.isMissing());
+  }
+
+  /** Returns the value of a key made by {@link ColumnMetadata#keys} for a numeric column */
+  private static double value(String columnType, long key) {
+    if (columnType.equals(FLOAT) || columnType.equals(DOUBLE)) {
+      return BlockStatistics.doubleOfKey(key);
+    }
+    return key;
+  }
+
+  private void checkType(String columnType) {
+    Preconditions.checkArgument(
+        type == null ? NUMERIC_TYPES.contains(columnType) : type.equals(columnType),
+        "The range for column %s does not fit its type %s",
+        columnName,
+        columnType);
+  }
+}
@@ -1,7 +1,93 @@
 package tech.tablesaw.io.saw;
 
-/** What compression algorithm was applied, or should be applied in reading/writing a Saw File */
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import org.iq80.snappy.SnappyFramedInputStream;
+import org.iq80.snappy.SnappyFramedOutputStream;
+
+/**
+ * What compression algorithm was applied, or should be applied in reading/writing a Saw File. It
+ * may be chosen for the whole table and for each column, see {@link
+ * WriteOptions#compressionType(String, CompressionType)}
+ */
 public enum CompressionType {
-  SNAPPY, // Google's Snappy compression algorithm
-  NONE
+  /** Google's Snappy compression algorithm, which is fast and compresses moderately */
+  SNAPPY {
+    @Override
+    OutputStream compress(OutputStream out) throws IOException {
+      return new SnappyFramedOutputStream(out);
+    }
+
+    @Override
+    InputStream decompress(InputStream in) throws IOException {
+      return new SnappyFramedInputStream(in, true);
+    }
+  },
+
+  NONE {
+    @Override
+    OutputStream compress(OutputStream out) {
+      return out;
+    }
+
+    @Override
+    InputStream decompress(InputStream in) {
+      return in;
+    }
+  },
+
+  /** The LZ4 frame format, which decompresses faster than Snappy, for tables that are read often */
+  LZ4 {
+    @Override
+    OutputStream compress(OutputStream out) throws IOException {
+      return new LZ4FrameOutputStream(out);
+    }
+
+    @Override
+    InputStream decompress(InputStream in) throws IOException {
+      return new LZ4FrameInputStream(in);
+    }
+  },
+
+  /**
+   * Zstandard, which compresses much better than Snappy and LZ4 while still decompressing quickly,
+   * for tables that are kept long
+   */
+  ZSTD {
+    @Override
+    OutputStream compress(OutputStream out) throws IOException {
+      return new ZstdOutputStream(out);
+    }
+
+    @Override
+    InputStream decompress(InputStream in) throws IOException {
+      return new ZstdInputStream(in);
+    }
+  },
+
+  /** The Deflate algorithm of zip files, which needs no library beyond the JDK */
+  DEFLATE {
+    @Override
+    OutputStream compress(OutputStream out) {
+      return new DeflaterOutputStream(out);
+    }
+
+    @Override
+    InputStream decompress(InputStream in) {
+      return new InflaterInputStream(in);
+    }
+  };
+
+  /** Returns a stream that compresses what is written to it into the given stream */
+  abstract OutputStream compress(OutputStream out) throws IOException;
+
+  /** Returns a stream that decompresses what it reads from the given stream */
+  abstract InputStream decompress(InputStream in) throws IOException;
 }
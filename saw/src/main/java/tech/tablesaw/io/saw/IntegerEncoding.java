@@ -0,0 +1,372 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.saw;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+/**
+ * The ways of writing the integers that hold the values of a row group of a column. Integer, date,
+ * time, date-time and instant columns are written this way, and so are the bytes of boolean columns
+ * and the dictionary keys of String columns. Each value takes a given number of bytes when it is
+ * written as it is.
+ */
+enum IntegerEncoding {
+
+  /** Each value in as many bytes as it takes */
+  PLAIN {
+    @Override
+    long size(long[] values, int count, int bytes) {
+      return (long) count * bytes;
+    }
+
+    @Override
+    void encode(DataOutputStream dos, long[] values, int count, int bytes) throws IOException {
+      for (int i = 0; i < count; i++) {
+        writePlain(dos, values[i], bytes);
+      }
+    }
+
+    @Override
+    void readLongs(DataInputStream dis, long[] data, int position, int count, int bytes)
+        throws IOException {
+      for (int i = position; i < position + count; i++) {
+        data[i] = readPlain(dis, bytes);
+      }
+    }
+  },
+
+  /**
+   * The smallest value, followed by the difference between each value and the smallest, packed in
+   * as few bits as the largest difference needs (frame of reference)
+   */
+  BIT_PACKED {
+    @Override
+    long size(long[] values, int count, int bytes) {
+      long min = min(values, 0, count);
+      return Long.BYTES + 1 + packedSize(count, width(values, 0, count, min));
+    }
+
+    @Override
+    void encode(DataOutputStream dos, long[] values, int count, int bytes) throws IOException {
+      long min = min(values, 0, count);
+      int width = width(values, 0, count, min);
+      dos.writeLong(min);
+      dos.writeByte(width);
+      pack(dos, values, 0, count, min, width);
+    }
+
+    @Override
+    void readLongs(DataInputStream dis, long[] data, int position, int count, int bytes)
+        throws IOException {
+      long min = dis.readLong();
+      int width = dis.readByte();
+      unpack(dis, data, position, count, min, width);
+    }
+  },
+
+  /**
+   * The first value, followed by the differences between consecutive values, bit-packed as by
+   * {@link #BIT_PACKED}. This suits ordered values such as ids and timestamps.
+   */
+  DELTA {
+    @Override
+    long size(long[] values, int count, int bytes) {
+      if (count == 0) {
+        return 0;
+      }
+      long[] deltas = deltas(values, count);
+      long min = min(deltas, 0, count - 1);
+      return 2 * Long.BYTES + 1 + packedSize(count - 1, width(deltas, 0, count - 1, min));
+    }
+
+    @Override
+    void encode(DataOutputStream dos, long[] values, int count, int bytes) throws IOException {
+      if (count == 0) {
+        return;
+      }
+      long[] deltas = deltas(values, count);
+      long min = min(deltas, 0, count - 1);
+      int width = width(deltas, 0, count - 1, min);
+      dos.writeLong(values[0]);
+      dos.writeLong(min);
+      dos.writeByte(width);
+      pack(dos, deltas, 0, count - 1, min, width);
+    }
+
+    @Override
+    void readLongs(DataInputStream dis, long[] data, int position, int count, int bytes)
+        throws IOException {
+      if (count == 0) {
+        return;
+      }
+      data[position] = dis.readLong();
+      long min = dis.readLong();
+      int width = dis.readByte();
+      unpack(dis, data, position + 1, count - 1, min, width);
+      for (int i = position + 1; i < position + count; i++) {
+        data[i] += data[i - 1];
+      }
+    }
+
+    /** Returns the differences between each value and the one before it */
+    private long[] deltas(long[] values, int count) {
+      long[] deltas = new long[count - 1];
+      for (int i = 1; i < count; i++) {
+        deltas[i - 1] = values[i] - values[i - 1];
+      }
+      return deltas;
+    }
+  },
+
+  /**
+   * The number of runs of equal values, followed by the value and the length of each run. This
+   * suits booleans and the keys of sorted String columns.
+   */
+  RUN_LENGTH {
+    @Override
+    long size(long[] values, int count, int bytes) {
+      int runs = 0;
+      for (int i = 0; i < count; i++) {
+        if (i == 0 || values[i] != values[i - 1]) {
+          runs++;
+        }
+      }
+      return Integer.BYTES + (long) runs * (bytes + Integer.BYTES);
+    }
+
+    @Override
+    void encode(DataOutputStream dos, long[] values, int count, int bytes) throws IOException {
+      int runs = 0;
+      int[] runEnds = new int[count];
+      for (int i = 1; i <= count; i++) {
+        if (i == count || values[i] != values[i - 1]) {
+          runEnds[runs++] = i;
+        }
+      }
+      dos.writeInt(runs);
+      int start = 0;
+      for (int run = 0; run < runs; run++) {
+        writePlain(dos, values[start], bytes);
+        dos.writeInt(runEnds[run] - start);
+        start = runEnds[run];
+      }
+    }
+
+    @Override
+    void readLongs(DataInputStream dis, long[] data, int position, int count, int bytes)
+        throws IOException {
+      int runs = dis.readInt();
+      int start = position;
+      for (int run = 0; run < runs; run++) {
+        long value = readPlain(dis, bytes);
+        int length = dis.readInt();
+        Arrays.fill(data, start, start + length, value);
+        start += length;
+      }
+    }
+  };
+
+  /** Returns the number of bytes that the given values take in this encoding */
+  abstract long size(long[] values, int count, int bytes);
+
+  /** Writes the given values in this encoding */
+  abstract void encode(DataOutputStream dos, long[] values, int count, int bytes)
+      throws IOException;
+
+  /** Reads count values in this encoding, which go to the data from the given position on */
+  abstract void readLongs(DataInputStream dis, long[] data, int position, int count, int bytes)
+      throws IOException;
+
+  /** Writes the values of the rows from start (inclusive) to end (exclusive) in this encoding */
+  void write(DataOutputStream dos, IntToLongFunction values, int start, int end, int bytes)
+      throws IOException {
+    encode(dos, values(values, start, end), end - start, bytes);
+  }
+
+  /** Reads count values in this encoding, which go to the data from the given position on */
+  void readInts(DataInputStream dis, int[] data, int position, int count, int bytes)
+      throws IOException {
+    long[] values = new long[count];
+    readLongs(dis, values, 0, count, bytes);
+    for (int i = 0; i < count; i++) {
+      data[position + i] = (int) values[i];
+    }
+  }
+
+  /** Reads count values in this encoding, which go to the data from the given position on */
+  void readShorts(DataInputStream dis, short[] data, int position, int count, int bytes)
+      throws IOException {
+    long[] values = new long[count];
+    readLongs(dis, values, 0, count, bytes);
+    for (int i = 0; i < count; i++) {
+      data[position + i] = (short) values[i];
+    }
+  }
+
+  /** Reads count values in this encoding, which go to the data from the given position on */
+  void readBytes(DataInputStream dis, byte[] data, int position, int count, int bytes)
+      throws IOException {
+    long[] values = new long[count];
+    readLongs(dis, values, 0, count, bytes);
+    for (int i = 0; i < count; i++) {
+      data[position + i] = (byte) values[i];
+    }
+  }
+
+  /**
+   * Returns the encoding in which the values of the rows of a column take the fewest bytes, when
+   * each row group of the given size is encoded on its own. Ties go to the simpler encoding.
+   */
+  static IntegerEncoding choose(IntToLongFunction values, int size, int rowGroupSize, int bytes) {
+    IntegerEncoding[] encodings = values();
+    long[] sizes = new long[encodings.length];
+    for (int start = 0; start < size; start += rowGroupSize) {
+      int end = (int) Math.min((long) start + rowGroupSize, size);
+      long[] group = values(values, start, end);
+      for (int i = 0; i < encodings.length; i++) {
+        sizes[i] += encodings[i].size(group, end - start, bytes);
+      }
+    }
+    int best = 0;
+    for (int i = 1; i < encodings.length; i++) {
+      if (sizes[i] < sizes[best]) {
+        best = i;
+      }
+    }
+    return encodings[best];
+  }
+
+  private static long[] values(IntToLongFunction values, int start, int end) {
+    long[] group = new long[end - start];
+    for (int row = start; row < end; row++) {
+      group[row - start] = values.applyAsLong(row);
+    }
+    return group;
+  }
+
+  private static void writePlain(DataOutputStream dos, long value, int bytes) throws IOException {
+    switch (bytes) {
+      case Byte.BYTES:
+        dos.writeByte((int) value);
+        break;
+      case Short.BYTES:
+        dos.writeShort((int) value);
+        break;
+      case Integer.BYTES:
+        dos.writeInt((int) value);
+        break;
+      default:
+        dos.writeLong(value);
+    }
+  }
+
+  private static long readPlain(DataInputStream dis, int bytes) throws IOException {
+    switch (bytes) {
+      case Byte.BYTES:
+        return dis.readByte();
+      case Short.BYTES:
+        return dis.readShort();
+      case Integer.BYTES:
+        return dis.readInt();
+      default:
+        return dis.readLong();
+    }
+  }
+
+  private static long min(long[] values, int from, int count) {
+    long min = Long.MAX_VALUE;
+    for (int i = from; i < from + count; i++) {
+      min = Math.min(min, values[i]);
+    }
+    return min;
+  }
+
+  /**
+   * Returns the number of bits needed for the differences between the given values and the base,
+   * taken as unsigned numbers
+   */
+  private static int width(long[] values, int from, int count, long base) {
+    long bits = 0;
+    for (int i = from; i < from + count; i++) {
+      bits |= values[i] - base;
+    }
+    return Long.SIZE - Long.numberOfLeadingZeros(bits);
+  }
+
+  /** Returns the number of bytes that count values of the given width take when packed */
+  private static long packedSize(int count, int width) {
+    return ((long) count * width + Long.SIZE - 1) / Long.SIZE * Long.BYTES;
+  }
+
+  /**
+   * Writes the differences between the given values and the base in the given number of bits each,
+   * packed into longs from the lowest bit up
+   */
+  private static void pack(
+      DataOutputStream dos, long[] values, int from, int count, long base, int width)
+      throws IOException {
+    if (width == 0) {
+      return;
+    }
+    long word = 0;
+    int used = 0;
+    for (int i = from; i < from + count; i++) {
+      long value = values[i] - base;
+      word |= value << used;
+      used += width;
+      if (used >= Long.SIZE) {
+        dos.writeLong(word);
+        int written = width - (used - Long.SIZE);
+        word = written == Long.SIZE ? 0 : value >>> written;
+        used -= Long.SIZE;
+      }
+    }
+    if (used > 0) {
+      dos.writeLong(word);
+    }
+  }
+
+  /** Reads count values written by {@link #pack}, which go to the data from position on */
+  private static void unpack(
+      DataInputStream dis, long[] data, int position, int count, long base, int width)
+      throws IOException {
+    if (width == 0) {
+      Arrays.fill(data, position, position + count, base);
+      return;
+    }
+    long mask = width == Long.SIZE ? -1L : (1L << width) - 1;
+    long word = 0;
+    int available = 0;
+    for (int i = position; i < position + count; i++) {
+      long value;
+      if (available >= width) {
+        value = word & mask;
+        word = width == Long.SIZE ? 0 : word >>> width;
+        available -= width;
+      } else {
+        long next = dis.readLong();
+        value = (word | (next << available)) & mask;
+        int taken = width - available;
+        word = taken == Long.SIZE ? 0 : next >>> taken;
+        available = Long.SIZE - taken;
+      }
+      data[i] = base + value;
+    }
+  }
+}
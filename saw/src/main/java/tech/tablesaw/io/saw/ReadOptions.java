@@ -1,9 +1,25 @@
 package tech.tablesaw.io.saw;
 
+import static tech.tablesaw.io.saw.SawUtils.INSTANT;
+import static tech.tablesaw.io.saw.SawUtils.LOCAL_DATE;
+import static tech.tablesaw.io.saw.SawUtils.LOCAL_DATE_TIME;
+import static tech.tablesaw.io.saw.SawUtils.LOCAL_TIME;
+
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.columns.times.PackedLocalTime;
+import tech.tablesaw.selection.Selection;
 
 /**
  * Specifies options for reading a table from Saw storage
@@ -17,6 +33,10 @@ public class ReadOptions {
 
   private List<String> selectedColumns = new ArrayList<>();
   private int threadPoolSize = READER_POOL_SIZE;
+  private final List<ColumnRange> ranges = new ArrayList<>();
+  private Function<Table, Selection> rowFilter;
+  private List<String> rowFilterColumns = new ArrayList<>();
+  private boolean memoryMapped = false;
 
   public static ReadOptions defaultOptions() {
     return new ReadOptions();
@@ -38,6 +58,77 @@ public class ReadOptions {
     return this;
   }
 
+  /**
+   * Reads only the rows whose value in the named numeric column is between low and high inclusive.
+   * Row groups whose smallest and largest values lie outside the range are not read at all
+   */
+  public ReadOptions range(String columnName, double low, double high) {
+    ranges.add(ColumnRange.numeric(columnName, low, high));
+    return this;
+  }
+
+  /** Reads only the rows whose date in the named column is between low and high inclusive */
+  public ReadOptions range(String columnName, LocalDate low, LocalDate high) {
+    ranges.add(
+        ColumnRange.temporal(
+            columnName, LOCAL_DATE, PackedLocalDate.pack(low), PackedLocalDate.pack(high)));
+    return this;
+  }
+
+  /** Reads only the rows whose date-time in the named column is between low and high inclusive */
+  public ReadOptions range(String columnName, LocalDateTime low, LocalDateTime high) {
+    ranges.add(
+        ColumnRange.temporal(
+            columnName,
+            LOCAL_DATE_TIME,
+            PackedLocalDateTime.pack(low),
+            PackedLocalDateTime.pack(high)));
+    return this;
+  }
+
+  /** Reads only the rows whose instant in the named column is between low and high inclusive */
+  public ReadOptions range(String columnName, Instant low, Instant high) {
+    ranges.add(
+        ColumnRange.temporal(
+            columnName, INSTANT, PackedInstant.pack(low), PackedInstant.pack(high)));
+    return this;
+  }
+
+  /** Reads only the rows whose time in the named column is between low and high inclusive */
+  public ReadOptions range(String columnName, LocalTime low, LocalTime high) {
+    ranges.add(
+        ColumnRange.temporal(
+            columnName, LOCAL_TIME, PackedLocalTime.pack(low), PackedLocalTime.pack(high)));
+    return this;
+  }
+
+  /**
+   * Reads only the rows that pass the given filter, such as one made with the deferred columns of
+   * {@link tech.tablesaw.api.QuerySupport}. The filter is applied to a table holding the named
+   * columns, or all the selected columns if none are named, read from the row groups that the
+   * {@link #range ranges} leave. The other selected columns are then read only from the row groups
+   * in which some row passes the filter. The filter must decide on each row by the row's own
+   * values.
+   */
+  public ReadOptions rowFilter(Function<Table, Selection> filter, String... columnNames) {
+    this.rowFilter = filter;
+    this.rowFilterColumns = Lists.newArrayList(columnNames);
+    return this;
+  }
+
+  /**
+   * Reads the row groups of columns written with {@link CompressionType#NONE} through memory maps
+   * of their files, rather than streams. The values of float and double columns, and of the other
+   * columns whose row groups the writer stored as plain values rather than packed, are then copied
+   * straight from the operating system's page cache into the columns, in bulk. This has no effect
+   * on compressed columns. Mapped files may stay open until the maps are garbage collected, which
+   * on some platforms keeps them from being deleted or overwritten meanwhile.
+   */
+  public ReadOptions memoryMapped(boolean memoryMapped) {
+    this.memoryMapped = memoryMapped;
+    return this;
+  }
+
   public List<String> getSelectedColumns() {
     return selectedColumns;
   }
@@ -45,4 +136,20 @@ public class ReadOptions {
   public int getThreadPoolSize() {
     return threadPoolSize;
   }
+
+  List<ColumnRange> getRanges() {
+    return ranges;
+  }
+
+  public Function<Table, Selection> getRowFilter() {
+    return rowFilter;
+  }
+
+  public List<String> getRowFilterColumns() {
+    return rowFilterColumns;
+  }
+
+  public boolean isMemoryMapped() {
+    return memoryMapped;
+  }
 }
@@ -18,8 +18,13 @@ public class SawMetadata {
   // The name of the file that this data is written to
   static final String METADATA_FILE_NAME = "Metadata.json";
 
-  // The version of the Saw Storage system used to write the file
-  private static final int SAW_VERSION = 2;
+  // The version of the Saw Storage system used to write the file. Version 4 encodes the integers
+  // that hold the values of most columns, see IntegerEncoding. Version 5 may compress each column
+  // differently, see ColumnMetadata.getCompressionType()
+  private static final int SAW_VERSION = 5;
+
+  // The first version that splits the columns into row groups
+  private static final int ROW_GROUP_VERSION = 3;
 
   private static final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -28,6 +33,9 @@ public class SawMetadata {
   private CompressionType compressionType;
   private EncryptionType encryptionType;
 
+  // The number of rows in each row group but the last
+  private int rowGroupSize;
+
   /**
    * Returns a SawMetadata instance derived from the json-formatted Metadata.json file in the
    * directory specified by sawPath
@@ -48,8 +56,9 @@ public class SawMetadata {
   }
 
   public SawMetadata(Table table, WriteOptions options) {
-    this.tableMetadata = new TableMetadata(table);
+    this.tableMetadata = new TableMetadata(table, options);
     this.version = SAW_VERSION;
+    this.rowGroupSize = options.getRowGroupSize();
     this.compressionType = options.getCompressionType();
     this.encryptionType = options.getEncryptionType();
   }
@@ -100,6 +109,39 @@ public class SawMetadata {
     return encryptionType;
   }
 
+  /** Returns the number of rows in each row group but the last, or 0 for files without groups */
+  public int getRowGroupSize() {
+    return rowGroupSize;
+  }
+
+  /**
+   * Returns true if the columns are split into row groups. Files written before version 3 are read
+   * as if they had a single group holding all the rows
+   */
+  boolean hasRowGroups() {
+    return version >= ROW_GROUP_VERSION;
+  }
+
+  /** Returns the number of row groups */
+  int rowGroupCount() {
+    int rowCount = getRowCount();
+    return rowCount == 0 ? 0 : (rowCount - 1) / rowsPerGroup() + 1;
+  }
+
+  /** Returns the index of the first row in the given row group */
+  int rowGroupStart(int group) {
+    return group * rowsPerGroup();
+  }
+
+  /** Returns the number of rows in the given row group */
+  int rowGroupRowCount(int group) {
+    return Math.min(rowsPerGroup(), getRowCount() - rowGroupStart(group));
+  }
+
+  private int rowsPerGroup() {
+    return hasRowGroups() ? rowGroupSize : Math.max(1, getRowCount());
+  }
+
   @JsonIgnore
   public List<ColumnMetadata> getColumnMetadataList() {
     return tableMetadata.getColumnMetadataList();
@@ -140,11 +182,13 @@ public class SawMetadata {
     SawMetadata that = (SawMetadata) o;
     return getVersion() == that.getVersion()
         && Objects.equal(getTableMetadata(), that.getTableMetadata())
-        && getCompressionType() == that.getCompressionType();
+        && getCompressionType() == that.getCompressionType()
+        && getRowGroupSize() == that.getRowGroupSize();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(getTableMetadata(), getVersion(), getCompressionType());
+    return Objects.hashCode(
+        getTableMetadata(), getVersion(), getCompressionType(), getRowGroupSize());
   }
 }
@@ -16,37 +16,45 @@ import static tech.tablesaw.io.saw.SawUtils.TEXT;
 import com.google.common.annotations.Beta;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
 import it.unimi.dsi.fastutil.bytes.Byte2IntOpenHashMap;
 import it.unimi.dsi.fastutil.bytes.Byte2ObjectMap;
 import it.unimi.dsi.fastutil.bytes.Byte2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.objects.Object2ByteOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ShortOpenHashMap;
 import it.unimi.dsi.fastutil.shorts.Short2IntOpenHashMap;
 import it.unimi.dsi.fastutil.shorts.Short2ObjectMap;
 import it.unimi.dsi.fastutil.shorts.Short2ObjectOpenHashMap;
+import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.iq80.snappy.SnappyFramedInputStream;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.api.DateTimeColumn;
@@ -64,6 +72,9 @@ import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.strings.ByteDictionaryMap;
 import tech.tablesaw.columns.strings.IntDictionaryMap;
 import tech.tablesaw.columns.strings.ShortDictionaryMap;
+import tech.tablesaw.filtering.RowFilter;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
 
 @Beta
 public class SawReader {
@@ -136,6 +147,20 @@ public class SawReader {
   }
 
   public Table read() {
+    return read(0, sawMetadata.getRowCount());
+  }
+
+  /**
+   * Reads the rows from rowStart (inclusive) to rowEnd (exclusive), decoding only the row groups
+   * that hold them
+   */
+  public Table read(int rowStart, int rowEnd) {
+    Preconditions.checkArgument(
+        0 <= rowStart && rowStart <= rowEnd && rowEnd <= sawMetadata.getRowCount(),
+        "The rows from %s to %s are not in a table of %s rows",
+        rowStart,
+        rowEnd,
+        sawMetadata.getRowCount());
 
     final ExecutorService executor = Executors.newFixedThreadPool(readOptions.getThreadPoolSize());
     // The column names to filter for, if we don't want the whole table
@@ -147,20 +172,18 @@ public class SawReader {
 
     // Note: We do some extra work with the hash map to ensure that the columns are returned
     // to the table in original order
-    List<Callable<Column<?>>> callables = new ArrayList<>();
-    Map<String, Column<?>> columns = new ConcurrentHashMap<>();
     try {
-      for (ColumnMetadata column : columnMetadata) {
-        callables.add(
-            () -> {
-              Path columnPath = sawPath.resolve(column.getId());
-              return readColumn(columnPath.toString(), sawMetadata, column);
-            });
-      }
-      List<Future<Column<?>>> futures = executor.invokeAll(callables);
-      for (Future<Column<?>> future : futures) {
-        Column<?> column = future.get();
-        columns.put(column.name(), column);
+      int[] groups = rowGroups(rowStart, rowEnd);
+      Map<String, Column<?>> columns;
+      if (readOptions.getRanges().isEmpty() && readOptions.getRowFilter() == null) {
+        columns = readColumns(executor, columnMetadata, groups);
+        int offset = groups.length == 0 ? 0 : rowStart - sawMetadata.rowGroupStart(groups[0]);
+        if (rowEnd - rowStart < rowCount(groups)) {
+          Selection rows = Selection.withRange(offset, offset + rowEnd - rowStart);
+          columns.replaceAll((name, column) -> column.where(rows));
+        }
+      } else {
+        columns = readFiltered(executor, columnMetadata, groups, rowStart, rowEnd);
       }
       for (ColumnMetadata metadata : columnMetadata) {
         table.internalAddWithoutValidation(columns.get(metadata.getName()));
@@ -176,6 +199,182 @@ public class SawReader {
     return table;
   }
 
+  /**
+   * Reads the given row groups of the given columns. Each row group of each column is decoded by a
+   * task of its own, so that even a table with a single long column is read on many threads
+   */
+  private Map<String, Column<?>> readColumns(
+      ExecutorService executor, List<ColumnMetadata> columnMetadata, int[] groups)
+      throws InterruptedException, ExecutionException {
+    int rowcount = rowCount(groups);
+    int[] positions = new int[groups.length];
+    for (int i = 1; i < groups.length; i++) {
+      positions[i] = positions[i - 1] + sawMetadata.rowGroupRowCount(groups[i - 1]);
+    }
+
+    List<Callable<Void>> groupReads = new ArrayList<>();
+    List<Callable<Column<?>>> columnBuilds = new ArrayList<>();
+    for (ColumnMetadata column : columnMetadata) {
+      String fileName = sawPath.resolve(column.getId()).toString();
+      ColumnDecoder decoder = decoder(fileName, column, rowcount);
+      for (int i = 0; i < groups.length; i++) {
+        int group = groups[i];
+        int position = positions[i];
+        groupReads.add(
+            () -> {
+              int count = sawMetadata.rowGroupRowCount(group);
+              if (decoder.bufferReader != null && mapsRowGroups(column)) {
+                decoder.bufferReader.read(mapRowGroup(fileName, column, group), position, count);
+                return null;
+              }
+              try (DataInputStream dis = groupInputStream(fileName, column, group)) {
+                decoder.reader.read(dis, position, count);
+              }
+              return null;
+            });
+      }
+      columnBuilds.add(decoder.builder);
+    }
+    for (Future<Void> future : executor.invokeAll(groupReads)) {
+      future.get();
+    }
+    Map<String, Column<?>> columns = new HashMap<>();
+    for (Future<Column<?>> future : executor.invokeAll(columnBuilds)) {
+      Column<?> column = future.get();
+      columns.put(column.name(), column);
+    }
+    return columns;
+  }
+
+  /**
+   * Reads the rows from rowStart to rowEnd in the given row groups that pass the ranges and the row
+   * filter of the read options. The columns that the filters need are read first, from the groups
+   * that the ranges leave, and the other columns only from the groups in which some rows pass
+   */
+  private Map<String, Column<?>> readFiltered(
+      ExecutorService executor,
+      List<ColumnMetadata> columnMetadata,
+      int[] groups,
+      int rowStart,
+      int rowEnd)
+      throws InterruptedException, ExecutionException {
+
+    List<ColumnRange> ranges = readOptions.getRanges();
+    Function<Table, Selection> rowFilter = readOptions.getRowFilter();
+    Set<String> filterColumnNames = new LinkedHashSet<>();
+    for (ColumnRange range : ranges) {
+      filterColumnNames.add(range.getColumnName());
+    }
+    if (rowFilter != null) {
+      if (readOptions.getRowFilterColumns().isEmpty()) {
+        columnMetadata.forEach(metadata -> filterColumnNames.add(metadata.getName()));
+      } else {
+        filterColumnNames.addAll(readOptions.getRowFilterColumns());
+      }
+    }
+    List<ColumnMetadata> filterMetadata = new ArrayList<>();
+    for (String name : filterColumnNames) {
+      filterMetadata.add(getMetadata(name));
+    }
+
+    int[] candidates = candidateRowGroups(groups, ranges);
+    Map<String, Column<?>> filterColumns = readColumns(executor, filterMetadata, candidates);
+    Table filterTable = Table.create(sawMetadata.getTableName());
+    for (ColumnMetadata metadata : filterMetadata) {
+      filterTable.internalAddWithoutValidation(filterColumns.get(metadata.getName()));
+    }
+    Selection rows = new BitmapBackedSelection();
+    int position = 0;
+    for (int group : candidates) {
+      int groupStart = sawMetadata.rowGroupStart(group);
+      int groupEnd = groupStart + sawMetadata.rowGroupRowCount(group);
+      rows.addRange(
+          position + Math.max(rowStart, groupStart) - groupStart,
+          position + Math.min(rowEnd, groupEnd) - groupStart);
+      position += groupEnd - groupStart;
+    }
+    for (ColumnRange range : ranges) {
+      rows.and(range.select(filterTable.column(range.getColumnName())));
+    }
+    if (rowFilter != null) {
+      rows = RowFilter.apply(rowFilter, filterTable, rows);
+    }
+
+    // find the groups that have passing rows, and where those rows are among the rows of the
+    // groups
+    int[] passing = rows.toArray();
+    int[] keptPositions = new int[passing.length];
+    IntArrayList kept = new IntArrayList();
+    int candidate = -1;
+    int groupStart = 0;
+    int groupEnd = 0;
+    int keptGroupStart = 0;
+    for (int i = 0; i < passing.length; i++) {
+      int row = passing[i];
+      if (row >= groupEnd) {
+        keptGroupStart += kept.isEmpty() ? 0 : sawMetadata.rowGroupRowCount(kept.topInt());
+        do {
+          candidate++;
+          groupStart = groupEnd;
+          groupEnd += sawMetadata.rowGroupRowCount(candidates[candidate]);
+        } while (row >= groupEnd);
+        kept.add(candidates[candidate]);
+      }
+      keptPositions[i] = keptGroupStart + row - groupStart;
+    }
+
+    List<ColumnMetadata> otherMetadata = new ArrayList<>();
+    for (ColumnMetadata metadata : columnMetadata) {
+      if (!filterColumnNames.contains(metadata.getName())) {
+        otherMetadata.add(metadata);
+      }
+    }
+    Map<String, Column<?>> columns = new HashMap<>();
+    for (Column<?> column : readColumns(executor, otherMetadata, kept.toIntArray()).values()) {
+      columns.put(column.name(), column.where(new BitmapBackedSelection(keptPositions)));
+    }
+    for (Column<?> column : filterColumns.values()) {
+      columns.put(column.name(), column.where(rows));
+    }
+    return columns;
+  }
+
+  /** Returns those of the given row groups in which some rows may be in all the given ranges */
+  private int[] candidateRowGroups(int[] groups, List<ColumnRange> ranges) {
+    IntArrayList candidates = new IntArrayList();
+    for (int group : groups) {
+      boolean mayMatch = true;
+      for (ColumnRange range : ranges) {
+        mayMatch = mayMatch && range.mayMatch(getMetadata(range.getColumnName()), group);
+      }
+      if (mayMatch) {
+        candidates.add(group);
+      }
+    }
+    return candidates.toIntArray();
+  }
+
+  /** Returns the row groups that hold some of the rows from rowStart to rowEnd */
+  private int[] rowGroups(int rowStart, int rowEnd) {
+    IntArrayList groups = new IntArrayList();
+    for (int group = 0; group < sawMetadata.rowGroupCount(); group++) {
+      int groupStart = sawMetadata.rowGroupStart(group);
+      if (groupStart < rowEnd && groupStart + sawMetadata.rowGroupRowCount(group) > rowStart) {
+        groups.add(group);
+      }
+    }
+    return groups.toIntArray();
+  }
+
+  /** Returns the number of rows in the given row groups */
+  private int rowCount(int[] groups) {
+    int rowCount = 0;
+    for (int group : groups) {
+      rowCount += sawMetadata.rowGroupRowCount(group);
+    }
+    return rowCount;
+  }
+
   private List<ColumnMetadata> getMetadata(Set<String> selectedColumns) {
     if (selectedColumns.isEmpty()) {
       return ImmutableList.copyOf(sawMetadata.getColumnMetadataList());
@@ -186,167 +385,342 @@ public class SawReader {
             .collect(Collectors.toList()));
   }
 
-  private Column<?> readColumn(
-      String fileName, SawMetadata sawMetadata, ColumnMetadata columnMetadata) throws IOException {
+  private ColumnMetadata getMetadata(String columnName) {
+    for (ColumnMetadata metadata : sawMetadata.getColumnMetadataList()) {
+      if (metadata.getName().equals(columnName)) {
+        return metadata;
+      }
+    }
+    throw new IllegalArgumentException("There is no column named " + columnName);
+  }
+
+  /** Reads the values of some rows of a column from a stream */
+  @FunctionalInterface
+  private interface GroupReader {
+
+    /** Reads count values, which go to the rows read from the given position on */
+    void read(DataInputStream dis, int position, int count) throws IOException;
+  }
+
+  /** Reads the values of some rows of a column from a buffer that holds them as they are */
+  @FunctionalInterface
+  private interface BufferReader {
+
+    /** Reads count values, which go to the rows read from the given position on */
+    void read(ByteBuffer buffer, int position, int count);
+  }
+
+  /**
+   * Decodes row groups of a column into arrays that hold all the rows being read, and makes the
+   * column from the arrays once every group is in. The readers may be called for different groups
+   * at the same time. The buffer reader, if there is one, copies plain values in bulk from a
+   * memory-mapped row group
+   */
+  private static final class ColumnDecoder {
+
+    private final GroupReader reader;
+    private final BufferReader bufferReader;
+    private final Callable<Column<?>> builder;
+
+    private ColumnDecoder(GroupReader reader, Callable<Column<?>> builder) {
+      this(reader, null, builder);
+    }
+
+    private ColumnDecoder(
+        GroupReader reader, BufferReader bufferReader, Callable<Column<?>> builder) {
+      this.reader = reader;
+      this.bufferReader = bufferReader;
+      this.builder = builder;
+    }
+  }
+
+  private ColumnDecoder decoder(String fileName, ColumnMetadata columnMetadata, int rowcount) {
 
     final String typeString = columnMetadata.getType();
-    final int rowcount = sawMetadata.getRowCount();
+    final String name = columnMetadata.getName();
     switch (typeString) {
       case FLOAT:
-        return readFloatColumn(fileName, columnMetadata, rowcount);
+        float[] floats = new float[rowcount];
+        return new ColumnDecoder(
+            (dis, position, count) -> {
+              for (int i = position; i < position + count; i++) {
+                floats[i] = dis.readFloat();
+              }
+            },
+            (buffer, position, count) -> buffer.asFloatBuffer().get(floats, position, count),
+            () -> FloatColumn.create(name, floats));
       case DOUBLE:
-        return readDoubleColumn(fileName, columnMetadata, rowcount);
+        double[] doubles = new double[rowcount];
+        return new ColumnDecoder(
+            (dis, position, count) -> {
+              for (int i = position; i < position + count; i++) {
+                doubles[i] = dis.readDouble();
+              }
+            },
+            (buffer, position, count) -> buffer.asDoubleBuffer().get(doubles, position, count),
+            () -> DoubleColumn.create(name, doubles));
       case INTEGER:
-        return readIntColumn(fileName, columnMetadata, rowcount);
+        int[] ints = new int[rowcount];
+        return new ColumnDecoder(
+            intReader(ints, columnMetadata),
+            intBufferReader(ints, columnMetadata),
+            () -> IntColumn.create(name, ints));
       case BOOLEAN:
-        return readBooleanColumn(fileName, columnMetadata, rowcount);
+        byte[] booleans = new byte[rowcount];
+        return new ColumnDecoder(
+            byteReader(booleans, columnMetadata),
+            byteBufferReader(booleans, columnMetadata),
+            () -> {
+              BooleanColumn column = BooleanColumn.create(name);
+              for (byte b : booleans) {
+                column.append(b);
+              }
+              return column;
+            });
       case LOCAL_DATE:
-        return readLocalDateColumn(fileName, columnMetadata, rowcount);
+        int[] dates = new int[rowcount];
+        return new ColumnDecoder(
+            intReader(dates, columnMetadata),
+            intBufferReader(dates, columnMetadata),
+            () -> DateColumn.createInternal(name, dates));
       case LOCAL_TIME:
-        return readLocalTimeColumn(fileName, columnMetadata, rowcount);
+        int[] times = new int[rowcount];
+        return new ColumnDecoder(
+            intReader(times, columnMetadata),
+            intBufferReader(times, columnMetadata),
+            () -> TimeColumn.createInternal(name, times));
       case LOCAL_DATE_TIME:
-        return readLocalDateTimeColumn(fileName, columnMetadata, rowcount);
+        long[] dateTimes = new long[rowcount];
+        return new ColumnDecoder(
+            longReader(dateTimes, columnMetadata),
+            longBufferReader(dateTimes, columnMetadata),
+            () -> DateTimeColumn.createInternal(name, dateTimes));
       case INSTANT:
-        return readInstantColumn(fileName, columnMetadata, rowcount);
+        long[] instants = new long[rowcount];
+        return new ColumnDecoder(
+            longReader(instants, columnMetadata),
+            longBufferReader(instants, columnMetadata),
+            () -> InstantColumn.createInternal(name, instants));
       case STRING:
-        return readStringColumn(fileName, columnMetadata, rowcount);
+        return stringDecoder(fileName, columnMetadata, rowcount);
       case TEXT:
-        return readTextColumn(fileName, columnMetadata, rowcount);
+        String[] texts = new String[rowcount];
+        return new ColumnDecoder(
+            (dis, position, count) -> {
+              for (int j = position; j < position + count; j++) {
+                texts[j] = dis.readUTF();
+              }
+            },
+            () -> TextColumn.create(name, texts));
       case SHORT:
-        return readShortColumn(fileName, columnMetadata, rowcount);
+        short[] shorts = new short[rowcount];
+        return new ColumnDecoder(
+            shortReader(shorts, columnMetadata),
+            shortBufferReader(shorts, columnMetadata),
+            () -> ShortColumn.create(name, shorts));
       case LONG:
-        return readLongColumn(fileName, columnMetadata, rowcount);
+        long[] longs = new long[rowcount];
+        return new ColumnDecoder(
+            longReader(longs, columnMetadata),
+            longBufferReader(longs, columnMetadata),
+            () -> LongColumn.create(name, longs));
       default:
         throw new IllegalStateException("Unhandled column type writing columns: " + typeString);
     }
   }
 
-  /**
-   * Returns a data input stream for reading from a file with the given name
-   *
-   * @throws IOException if anything goes wrong
-   */
-  private DataInputStream inputStream(String fileName) throws IOException {
-    FileInputStream fis = new FileInputStream(fileName);
-    if (sawMetadata.getCompressionType().equals(CompressionType.NONE)) {
-      return new DataInputStream(fis);
-    } else {
-      SnappyFramedInputStream sis = new SnappyFramedInputStream(fis, true);
-      return new DataInputStream(sis);
+  private BufferReader longBufferReader(long[] data, ColumnMetadata metadata) {
+    if (metadata.integerEncoding() != IntegerEncoding.PLAIN) {
+      return null;
     }
+    return (buffer, position, count) -> buffer.asLongBuffer().get(data, position, count);
   }
 
-  private FloatColumn readFloatColumn(String fileName, ColumnMetadata metadata, int rowcount)
-      throws IOException {
-    float[] data = new float[rowcount];
-    try (DataInputStream dis = inputStream(fileName)) {
-      for (int i = 0; i < rowcount; i++) {
-        data[i] = dis.readFloat();
-      }
+  private BufferReader intBufferReader(int[] data, ColumnMetadata metadata) {
+    if (metadata.integerEncoding() != IntegerEncoding.PLAIN) {
+      return null;
     }
-    return FloatColumn.create(metadata.getName(), data);
+    return (buffer, position, count) -> buffer.asIntBuffer().get(data, position, count);
   }
 
-  private DoubleColumn readDoubleColumn(String fileName, ColumnMetadata metadata, int rowcount)
-      throws IOException {
-    double[] data = new double[rowcount];
-    try (DataInputStream dis = inputStream(fileName)) {
-      for (int i = 0; i < rowcount; i++) {
-        data[i] = dis.readDouble();
-      }
+  private BufferReader shortBufferReader(short[] data, ColumnMetadata metadata) {
+    if (metadata.integerEncoding() != IntegerEncoding.PLAIN) {
+      return null;
     }
-    return DoubleColumn.create(metadata.getName(), data);
+    return (buffer, position, count) -> buffer.asShortBuffer().get(data, position, count);
   }
 
-  private IntColumn readIntColumn(String fileName, ColumnMetadata metadata, int rowcount)
-      throws IOException {
-    return IntColumn.create(metadata.getName(), readIntValues(fileName, rowcount));
+  private BufferReader byteBufferReader(byte[] data, ColumnMetadata metadata) {
+    if (metadata.integerEncoding() != IntegerEncoding.PLAIN) {
+      return null;
+    }
+    return (buffer, position, count) -> buffer.get(data, position, count);
   }
 
-  private ShortColumn readShortColumn(String fileName, ColumnMetadata metadata, int rowcount)
-      throws IOException {
-    short[] data = new short[rowcount];
-    try (DataInputStream dis = inputStream(fileName)) {
-      for (int i = 0; i < rowcount; i++) {
-        data[i] = dis.readShort();
-      }
-    }
-    return ShortColumn.create(metadata.getName(), data);
+  private GroupReader longReader(long[] data, ColumnMetadata metadata) {
+    IntegerEncoding encoding = metadata.integerEncoding();
+    int bytes = metadata.integerBytes();
+    return (dis, position, count) -> encoding.readLongs(dis, data, position, count, bytes);
   }
 
-  private LongColumn readLongColumn(String fileName, ColumnMetadata metadata, int rowcount)
-      throws IOException {
-    return LongColumn.create(metadata.getName(), readLongValues(fileName, rowcount));
+  private GroupReader intReader(int[] data, ColumnMetadata metadata) {
+    IntegerEncoding encoding = metadata.integerEncoding();
+    int bytes = metadata.integerBytes();
+    return (dis, position, count) -> encoding.readInts(dis, data, position, count, bytes);
   }
 
-  private DateColumn readLocalDateColumn(String fileName, ColumnMetadata metadata, int rowcount)
-      throws IOException {
-    return DateColumn.createInternal(metadata.getName(), readIntValues(fileName, rowcount));
+  private GroupReader shortReader(short[] data, ColumnMetadata metadata) {
+    IntegerEncoding encoding = metadata.integerEncoding();
+    int bytes = metadata.integerBytes();
+    return (dis, position, count) -> encoding.readShorts(dis, data, position, count, bytes);
   }
 
-  private int[] readIntValues(String fileName, int rowcount) throws IOException {
-    int[] data = new int[rowcount];
-    try (DataInputStream dis = inputStream(fileName)) {
-      for (int i = 0; i < rowcount; i++) {
-        data[i] = dis.readInt();
-      }
+  private GroupReader byteReader(byte[] data, ColumnMetadata metadata) {
+    IntegerEncoding encoding = metadata.integerEncoding();
+    int bytes = metadata.integerBytes();
+    return (dis, position, count) -> encoding.readBytes(dis, data, position, count, bytes);
+  }
+
+  /**
+   * Returns a decoder for an encoded StringColumn, which reads the keys of the rows into the
+   * column's data and then the dictionary, saving time by building the dictionary directly
+   */
+  private ColumnDecoder stringDecoder(
+      String fileName, ColumnMetadata columnMetadata, int rowcount) {
+    String name = columnMetadata.getName();
+    if (columnMetadata.getStringColumnKeySize().equals(Byte.class.getSimpleName())) {
+      byte[] data = new byte[rowcount];
+      return new ColumnDecoder(
+          byteReader(data, columnMetadata),
+          byteBufferReader(data, columnMetadata),
+          () -> {
+            try (DataInputStream dis = dictionaryInputStream(fileName, columnMetadata)) {
+              return StringColumn.createInternal(name, getByteMap(dis, columnMetadata, data));
+            }
+          });
     }
-    return data;
+    if (columnMetadata.getStringColumnKeySize().equals(Integer.class.getSimpleName())) {
+      int[] data = new int[rowcount];
+      return new ColumnDecoder(
+          intReader(data, columnMetadata),
+          intBufferReader(data, columnMetadata),
+          () -> {
+            try (DataInputStream dis = dictionaryInputStream(fileName, columnMetadata)) {
+              return StringColumn.createInternal(name, getIntMap(dis, columnMetadata, data));
+            }
+          });
+    }
+    short[] data = new short[rowcount];
+    return new ColumnDecoder(
+        shortReader(data, columnMetadata),
+        shortBufferReader(data, columnMetadata),
+        () -> {
+          try (DataInputStream dis = dictionaryInputStream(fileName, columnMetadata)) {
+            return StringColumn.createInternal(name, getShortMap(dis, columnMetadata, data));
+          }
+        });
   }
 
-  private DateTimeColumn readLocalDateTimeColumn(
-      String fileName, ColumnMetadata metadata, int rowcount) throws IOException {
-    long[] data = readLongValues(fileName, rowcount);
-    return DateTimeColumn.createInternal(metadata.getName(), data);
+  /**
+   * Returns a data input stream for reading from a file with the given name
+   *
+   * @throws IOException if anything goes wrong
+   */
+  private DataInputStream inputStream(String fileName) throws IOException {
+    FileInputStream fis = new FileInputStream(fileName);
+    return new DataInputStream(sawMetadata.getCompressionType().decompress(fis));
   }
 
-  private long[] readLongValues(String fileName, int rowcount) throws IOException {
-    long[] data = new long[rowcount];
-    try (DataInputStream dis = inputStream(fileName)) {
-      for (int i = 0; i < rowcount; i++) {
-        data[i] = dis.readLong();
-      }
-    }
-    return data;
+  /**
+   * Returns a data input stream for reading the given number of bytes from the given position of a
+   * column file, which were compressed on their own
+   */
+  private DataInputStream segmentInputStream(
+      String fileName, ColumnMetadata metadata, long offset, long length) throws IOException {
+    FileInputStream fis = new FileInputStream(fileName);
+    fis.getChannel().position(offset);
+    InputStream segment = ByteStreams.limit(new BufferedInputStream(fis), length);
+    return new DataInputStream(compressionType(metadata).decompress(segment));
   }
 
-  private InstantColumn readInstantColumn(String fileName, ColumnMetadata metadata, int rowcount)
-      throws IOException {
-    return InstantColumn.createInternal(metadata.getName(), readLongValues(fileName, rowcount));
+  /** Returns the compression of the given column */
+  private CompressionType compressionType(ColumnMetadata metadata) {
+    CompressionType compressionType = metadata.getCompressionType();
+    return compressionType == null ? sawMetadata.getCompressionType() : compressionType;
   }
 
-  private TimeColumn readLocalTimeColumn(String fileName, ColumnMetadata metadata, int rowcount)
+  /**
+   * Returns a stream for reading the given row group of a column. Files without row groups hold a
+   * single stream, in which the keys of a String column follow its dictionary
+   */
+  private DataInputStream groupInputStream(String fileName, ColumnMetadata metadata, int group)
       throws IOException {
-    return TimeColumn.createInternal(metadata.getName(), readIntValues(fileName, rowcount));
+    if (!sawMetadata.hasRowGroups()) {
+      DataInputStream dis = inputStream(fileName);
+      if (metadata.getType().equals(STRING)) {
+        skipDictionary(dis, metadata);
+      }
+      return dis;
+    }
+    long[] offsets = metadata.getRowGroupOffsets();
+    return segmentInputStream(
+        fileName, metadata, offsets[group], offsets[group + 1] - offsets[group]);
+  }
+
+  /**
+   * Returns true if the row groups of the given column are to be read from memory maps of its file,
+   * which holds them uncompressed
+   */
+  private boolean mapsRowGroups(ColumnMetadata metadata) {
+    return readOptions.isMemoryMapped()
+        && sawMetadata.hasRowGroups()
+        && compressionType(metadata).equals(CompressionType.NONE);
   }
 
   /**
-   * Reads the encoded StringColumn from the given file and stuffs it into a new StringColumn,
-   * saving time by updating the dictionary directly and just writing ints to the column's data
+   * Returns a read-only memory map of the given row group of a column. The map stays valid after
+   * the channel it came from is closed
    */
-  private StringColumn readStringColumn(
-      String fileName, ColumnMetadata columnMetadata, int rowcount) throws IOException {
+  private ByteBuffer mapRowGroup(String fileName, ColumnMetadata metadata, int group)
+      throws IOException {
+    long[] offsets = metadata.getRowGroupOffsets();
+    try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+      return channel.map(
+          FileChannel.MapMode.READ_ONLY, offsets[group], offsets[group + 1] - offsets[group]);
+    }
+  }
 
-    try (DataInputStream dis = inputStream(fileName)) {
+  /** Returns a stream for reading the dictionary of a String column */
+  private DataInputStream dictionaryInputStream(String fileName, ColumnMetadata metadata)
+      throws IOException {
+    if (!sawMetadata.hasRowGroups()) {
+      return inputStream(fileName);
+    }
+    return segmentInputStream(fileName, metadata, 0, metadata.getRowGroupOffsets()[0]);
+  }
 
-      if (columnMetadata.getStringColumnKeySize().equals(Byte.class.getSimpleName())) {
-        return StringColumn.createInternal(
-            columnMetadata.getName(), getByteMap(dis, columnMetadata, rowcount));
-      }
-      if (columnMetadata.getStringColumnKeySize().equals(Integer.class.getSimpleName())) {
-        return StringColumn.createInternal(
-            columnMetadata.getName(), getIntMap(dis, columnMetadata, rowcount));
-      }
-      return StringColumn.createInternal(
-          columnMetadata.getName(), getShortMap(dis, columnMetadata, rowcount));
+  /** Reads past the dictionary of a String column, to the keys that follow it */
+  private void skipDictionary(DataInputStream dis, ColumnMetadata metadata) throws IOException {
+    int cardinality = metadata.getCardinality();
+    int keySize;
+    if (metadata.getStringColumnKeySize().equals(Byte.class.getSimpleName())) {
+      keySize = Byte.BYTES;
+    } else if (metadata.getStringColumnKeySize().equals(Integer.class.getSimpleName())) {
+      keySize = Integer.BYTES;
+    } else {
+      keySize = Short.BYTES;
     }
+    ByteStreams.skipFully(dis, (long) cardinality * keySize);
+    for (int k = 0; k < cardinality; k++) {
+      dis.readUTF();
+    }
+    ByteStreams.skipFully(dis, (long) cardinality * (keySize + Integer.BYTES));
   }
 
-  private ByteDictionaryMap getByteMap(DataInputStream dis, ColumnMetadata metaData, int rowcount)
+  private ByteDictionaryMap getByteMap(DataInputStream dis, ColumnMetadata metaData, byte[] data)
       throws IOException {
 
     int cardinality = metaData.getCardinality();
-    byte[] data = new byte[rowcount];
     byte[] keys = new byte[cardinality];
     byte[] countKeys = new byte[cardinality];
     String[] values = new String[cardinality];
@@ -367,14 +741,22 @@ public class SawReader {
       counts[k] = dis.readInt();
     }
 
-    // get the column entries
-    for (int i = 0; i < rowcount; i++) {
-      data[i] = dis.readByte();
-    }
-
     Object2ByteOpenHashMap<String> valueToKey = new Object2ByteOpenHashMap<>(values, keys);
     Byte2ObjectMap<String> keyToValue = new Byte2ObjectOpenHashMap<>(keys, values);
     Byte2IntOpenHashMap keyToCount = new Byte2IntOpenHashMap(countKeys, counts);
+    if (data.length < sawMetadata.getRowCount()) {
+      // only some of the rows were read, so the dictionary keeps only the values they hold
+      keyToCount.clear();
+      for (byte key : data) {
+        keyToCount.addTo(key, 1);
+      }
+      for (int k = 0; k < cardinality; k++) {
+        if (!keyToCount.containsKey(keys[k])) {
+          keyToValue.remove(keys[k]);
+          valueToKey.removeByte(values[k]);
+        }
+      }
+    }
 
     return new ByteDictionaryMap.ByteDictionaryBuilder()
         .setValues(data)
@@ -385,11 +767,10 @@ public class SawReader {
         .build();
   }
 
-  private ShortDictionaryMap getShortMap(DataInputStream dis, ColumnMetadata metaData, int rowcount)
+  private ShortDictionaryMap getShortMap(DataInputStream dis, ColumnMetadata metaData, short[] data)
       throws IOException {
 
     int cardinality = metaData.getCardinality();
-    short[] data = new short[rowcount];
     short[] keys = new short[cardinality];
     short[] countKeys = new short[cardinality];
     String[] values = new String[cardinality];
@@ -410,14 +791,22 @@ public class SawReader {
       counts[k] = dis.readInt();
     }
 
-    // get the column entries
-    for (int i = 0; i < rowcount; i++) {
-      data[i] = dis.readShort();
-    }
-
     Object2ShortOpenHashMap<String> valueToKey = new Object2ShortOpenHashMap<>(values, keys);
     Short2ObjectMap<String> keyToValue = new Short2ObjectOpenHashMap<>(keys, values);
     Short2IntOpenHashMap keyToCount = new Short2IntOpenHashMap(countKeys, counts);
+    if (data.length < sawMetadata.getRowCount()) {
+      // only some of the rows were read, so the dictionary keeps only the values they hold
+      keyToCount.clear();
+      for (short key : data) {
+        keyToCount.addTo(key, 1);
+      }
+      for (int k = 0; k < cardinality; k++) {
+        if (!keyToCount.containsKey(keys[k])) {
+          keyToValue.remove(keys[k]);
+          valueToKey.removeShort(values[k]);
+        }
+      }
+    }
 
     return new ShortDictionaryMap.ShortDictionaryBuilder()
         .setValues(data)
@@ -428,11 +817,10 @@ public class SawReader {
         .build();
   }
 
-  private IntDictionaryMap getIntMap(DataInputStream dis, ColumnMetadata metaData, int rowcount)
+  private IntDictionaryMap getIntMap(DataInputStream dis, ColumnMetadata metaData, int[] data)
       throws IOException {
 
     int cardinality = metaData.getCardinality();
-    int[] data = new int[rowcount];
     int[] keys = new int[cardinality];
     int[] countKeys = new int[cardinality];
     String[] values = new String[cardinality];
@@ -453,14 +841,22 @@ public class SawReader {
       counts[k] = dis.readInt();
     }
 
-    // get the column entries
-    for (int i = 0; i < rowcount; i++) {
-      data[i] = dis.readInt();
-    }
-
     Object2IntOpenHashMap<String> valueToKey = new Object2IntOpenHashMap<>(values, keys);
     Int2ObjectMap<String> keyToValue = new Int2ObjectOpenHashMap<>(keys, values);
     Int2IntOpenHashMap keyToCount = new Int2IntOpenHashMap(countKeys, counts);
+    if (data.length < sawMetadata.getRowCount()) {
+      // only some of the rows were read, so the dictionary keeps only the values they hold
+      keyToCount.clear();
+      for (int key : data) {
+        keyToCount.addTo(key, 1);
+      }
+      for (int k = 0; k < cardinality; k++) {
+        if (!keyToCount.containsKey(keys[k])) {
+          keyToValue.remove(keys[k]);
+          valueToKey.removeInt(values[k]);
+        }
+      }
+    }
 
     return new IntDictionaryMap.IntDictionaryBuilder()
         .setValues(data)
@@ -470,29 +866,4 @@ public class SawReader {
         .setNextIndex(metaData.getNextStringKey())
         .build();
   }
-
-  /** Reads the TextColumn data from the given file and stuffs it into a new TextColumn */
-  private TextColumn readTextColumn(String fileName, ColumnMetadata columnMetadata, int rowcount)
-      throws IOException {
-
-    TextColumn textColumn = TextColumn.create(columnMetadata.getName(), rowcount);
-    try (DataInputStream dis = inputStream(fileName)) {
-      for (int j = 0; j < rowcount; j++) {
-        textColumn.set(j, dis.readUTF());
-      }
-    }
-    return textColumn;
-  }
-
-  private BooleanColumn readBooleanColumn(String fileName, ColumnMetadata metadata, int rowcount)
-      throws IOException {
-
-    BooleanColumn column = BooleanColumn.create(metadata.getName());
-    try (DataInputStream dis = inputStream(fileName)) {
-      for (int i = 0; i < rowcount; i++) {
-        column.append(dis.readByte());
-      }
-    }
-    return column;
-  }
 }
@@ -18,20 +18,17 @@ import com.google.common.annotations.Beta;
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.bytes.Byte2IntMap;
 import it.unimi.dsi.fastutil.bytes.Byte2ObjectMap;
-import it.unimi.dsi.fastutil.bytes.ByteIterator;
-import it.unimi.dsi.fastutil.floats.FloatIterator;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.IntIterator;
-import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.objects.ObjectSet;
 import it.unimi.dsi.fastutil.shorts.Short2IntMap;
 import it.unimi.dsi.fastutil.shorts.Short2ObjectMap;
-import it.unimi.dsi.fastutil.shorts.ShortIterator;
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
 import java.nio.file.FileAlreadyExistsException;
@@ -46,21 +43,13 @@ import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.function.IntToLongFunction;
 import java.util.stream.Stream;
-import org.iq80.snappy.SnappyFramedOutputStream;
-import tech.tablesaw.api.BooleanColumn;
-import tech.tablesaw.api.DateColumn;
-import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.FloatColumn;
-import tech.tablesaw.api.InstantColumn;
-import tech.tablesaw.api.IntColumn;
-import tech.tablesaw.api.LongColumn;
-import tech.tablesaw.api.ShortColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.api.TextColumn;
-import tech.tablesaw.api.TimeColumn;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.strings.ByteDictionaryMap;
 import tech.tablesaw.columns.strings.DictionaryMap;
@@ -70,9 +59,6 @@ import tech.tablesaw.columns.strings.ShortDictionaryMap;
 @Beta
 public class SawWriter {
 
-  // We flush the output stream repeatedly to ensure it doesn't grow without bounds for big files
-  private static final int FLUSH_AFTER_ITERATIONS = 20_000;
-
   private final SawMetadata sawMetadata;
   private final Table table;
   private final WriteOptions writeOptions;
@@ -170,18 +156,17 @@ public class SawWriter {
       }
     }
     Files.createDirectories(filePath);
-    writeTableMetadata(filePath, sawMetadata);
 
     try {
       List<Column<?>> columns = table.columns();
       for (int i = 0; i < columns.size(); i++) {
         Column<?> column = columns.get(i);
-        String pathString = sawMetadata.getColumnMetadataList().get(i).getId();
+        ColumnMetadata columnMetadata = sawMetadata.getColumnMetadataList().get(i);
 
         writerCompletionService.submit(
             () -> {
-              Path columnPath = filePath.resolve(pathString);
-              writeColumn(columnPath.toString(), column);
+              Path columnPath = filePath.resolve(columnMetadata.getId());
+              writeColumn(columnPath.toString(), column, columnMetadata);
               return null;
             });
       }
@@ -189,6 +174,8 @@ public class SawWriter {
         Future<Void> future = writerCompletionService.take();
         future.get();
       }
+      // the metadata is written last, as it holds the positions of the row groups in the files
+      writeTableMetadata(filePath, sawMetadata);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new IllegalStateException(e);
@@ -210,104 +197,118 @@ public class SawWriter {
     }
   }
 
-  private void writeColumn(String fileName, Column<?> column) {
-    try {
-      final String typeName = column.type().name();
-      switch (typeName) {
-        case FLOAT:
-          writeColumn(fileName, (FloatColumn) column);
-          break;
-        case DOUBLE:
-          writeColumn(fileName, (DoubleColumn) column);
-          break;
-        case INTEGER:
-          writeColumn(fileName, (IntColumn) column);
-          break;
-        case BOOLEAN:
-          writeColumn(fileName, (BooleanColumn) column);
-          break;
-        case LOCAL_DATE:
-          writeColumn(fileName, (DateColumn) column);
-          break;
-        case LOCAL_TIME:
-          writeColumn(fileName, (TimeColumn) column);
-          break;
-        case LOCAL_DATE_TIME:
-          writeColumn(fileName, (DateTimeColumn) column);
-          break;
-        case STRING:
-          writeColumn(fileName, (StringColumn) column);
-          break;
-        case TEXT:
-          writeColumn(fileName, (TextColumn) column);
-          break;
-        case INSTANT:
-          writeColumn(fileName, (InstantColumn) column);
-          break;
-        case SHORT:
-          writeColumn(fileName, (ShortColumn) column);
-          break;
-        case LONG:
-          writeColumn(fileName, (LongColumn) column);
-          break;
-        default:
-          throw new IllegalArgumentException("Unhandled column type writing columns");
+  /**
+   * Writes the column to a file as a series of row groups, each of which is compressed on its own,
+   * and records where the groups start in the column's metadata
+   */
+  private void writeColumn(String fileName, Column<?> column, ColumnMetadata metadata) {
+    int groups = sawMetadata.rowGroupCount();
+    long[] offsets = new long[groups + 1];
+    try (FileOutputStream fos = new FileOutputStream(fileName)) {
+      long position = 0;
+      if (column instanceof StringColumn) {
+        DictionaryMap lookupTable = ((StringColumn) column).getDictionary();
+        position += writeSegment(fos, metadata, dos -> writeDictionary(lookupTable, dos));
+      }
+      RowWriter rowWriter = rowWriter(column, metadata);
+      for (int group = 0; group < groups; group++) {
+        offsets[group] = position;
+        int start = sawMetadata.rowGroupStart(group);
+        int end = start + sawMetadata.rowGroupRowCount(group);
+        position += writeSegment(fos, metadata, dos -> rowWriter.write(dos, start, end));
       }
+      offsets[groups] = position;
     } catch (IOException e) {
       throw new UncheckedIOException("IOException writing to file", e);
     }
+    metadata.setRowGroupOffsets(offsets);
   }
 
-  private void writeColumn(String fileName, FloatColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      int i = 0;
-      FloatIterator iterator = (FloatIterator) column.iterator();
-      while (iterator.hasNext()) {
-        dos.writeFloat(iterator.nextFloat());
-        i++;
-        if (i == FLUSH_AFTER_ITERATIONS) {
-          dos.flush();
-          i = 0;
-        }
-      }
-      dos.flush();
+  /** Writes something to a data output stream */
+  @FunctionalInterface
+  private interface SegmentWriter {
+    void write(DataOutputStream dos) throws IOException;
+  }
+
+  /** Writes the values of the rows of a column from start (inclusive) to end (exclusive) */
+  @FunctionalInterface
+  private interface RowWriter {
+    void write(DataOutputStream dos, int start, int end) throws IOException;
+  }
+
+  /**
+   * Writes what the given writer writes, compressed as the column's metadata says, to the given
+   * file and returns the number of bytes written
+   */
+  private long writeSegment(FileOutputStream fos, ColumnMetadata metadata, SegmentWriter writer)
+      throws IOException {
+    ByteArrayOutputStream segment = new ByteArrayOutputStream();
+    try (DataOutputStream dos = segmentOutputStream(segment, metadata.getCompressionType())) {
+      writer.write(dos);
     }
+    segment.writeTo(fos);
+    return segment.size();
   }
 
-  private void writeColumn(String fileName, DoubleColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      int i = 0;
-      for (double d : column) {
-        dos.writeDouble(d);
-        i++;
-        if (i == FLUSH_AFTER_ITERATIONS) {
-          dos.flush();
-          i = 0;
-        }
-      }
-      dos.flush();
+  DataOutputStream segmentOutputStream(OutputStream out, CompressionType compressionType)
+      throws IOException {
+    return new DataOutputStream(compressionType.compress(out));
+  }
+
+  private RowWriter rowWriter(Column<?> column, ColumnMetadata metadata) {
+    final String typeName = column.type().name();
+    switch (typeName) {
+      case FLOAT:
+        FloatColumn floats = (FloatColumn) column;
+        return (dos, start, end) -> {
+          for (int row = start; row < end; row++) {
+            dos.writeFloat(floats.getFloat(row));
+          }
+        };
+      case DOUBLE:
+        DoubleColumn doubles = (DoubleColumn) column;
+        return (dos, start, end) -> {
+          for (int row = start; row < end; row++) {
+            dos.writeDouble(doubles.getDouble(row));
+          }
+        };
+      case TEXT:
+        TextColumn texts = (TextColumn) column;
+        return (dos, start, end) -> {
+          for (int row = start; row < end; row++) {
+            dos.writeUTF(texts.get(row));
+          }
+        };
+      case INTEGER:
+      case SHORT:
+      case LONG:
+      case BOOLEAN:
+      case LOCAL_DATE:
+      case LOCAL_TIME:
+      case LOCAL_DATE_TIME:
+      case INSTANT:
+      case STRING:
+        // the values, or the keys that encode the strings, in column order including repeats
+        IntToLongFunction integers = ColumnMetadata.integers(column);
+        IntegerEncoding encoding = metadata.integerEncoding();
+        int bytes = metadata.integerBytes();
+        return (dos, start, end) -> encoding.write(dos, integers, start, end, bytes);
+      default:
+        throw new IllegalArgumentException("Unhandled column type writing columns");
     }
   }
 
   /**
-   * Writes out the values of the String column encoded as ints to minimize the time required for
-   * subsequent reads
-   *
-   * <p>The files are written Strings first, then the ints that encode them so they can be read in
-   * the opposite order
+   * Writes out the dictionary of a String column. The rows are written separately, as the keys that
+   * encode them, to minimize the time required for subsequent reads
    */
-  private void writeColumn(String fileName, StringColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-
-      // write the strings
-      DictionaryMap lookupTable = column.getDictionary();
-      if (lookupTable.getClass().equals(ByteDictionaryMap.class)) {
-        writeToStream((ByteDictionaryMap) lookupTable, dos);
-      } else if (lookupTable.getClass().equals(ShortDictionaryMap.class)) {
-        writeToStream((ShortDictionaryMap) lookupTable, dos);
-      } else {
-        writeToStream((IntDictionaryMap) lookupTable, dos);
-      }
+  private void writeDictionary(DictionaryMap lookupTable, DataOutputStream dos) {
+    if (lookupTable.getClass().equals(ByteDictionaryMap.class)) {
+      writeToStream((ByteDictionaryMap) lookupTable, dos);
+    } else if (lookupTable.getClass().equals(ShortDictionaryMap.class)) {
+      writeToStream((ShortDictionaryMap) lookupTable, dos);
+    } else {
+      writeToStream((IntDictionaryMap) lookupTable, dos);
     }
   }
 
@@ -342,10 +343,6 @@ public class SawWriter {
         dos.writeInt(count.getIntValue());
       }
 
-      // write the values in column order, including repeats
-      for (byte d : dictionary.values()) {
-        dos.writeByte(d);
-      }
       dos.flush();
     } catch (IOException exception) {
       throw new UncheckedIOException(exception);
@@ -384,10 +381,6 @@ public class SawWriter {
         dos.writeInt(count.getIntValue());
       }
 
-      // write the values in column order, including repeats
-      for (short d : dictionary.values()) {
-        dos.writeShort(d);
-      }
       dos.flush();
     } catch (IOException exception) {
       throw new UncheckedIOException(exception);
@@ -426,141 +419,12 @@ public class SawWriter {
         dos.writeInt(count.getIntValue());
       }
 
-      // write the values in column order, including repeats
-      for (int d : dictionary.values()) {
-        dos.writeInt(d);
-      }
       dos.flush();
     } catch (IOException exception) {
       throw new UncheckedIOException(exception);
     }
   }
 
-  DataOutputStream columnOutputStream(String fileName) throws IOException {
-    FileOutputStream fos = new FileOutputStream(fileName);
-    if (sawMetadata.getCompressionType().equals(CompressionType.NONE)) {
-      return new DataOutputStream(fos);
-    } else {
-      SnappyFramedOutputStream sos = new SnappyFramedOutputStream(fos);
-      return new DataOutputStream(sos);
-    }
-  }
-
-  /** Writes out the values of the TextColumn */
-  private void writeColumn(String fileName, TextColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      int i = 0;
-      for (String s : column) {
-        dos.writeUTF(s);
-        i++;
-        if (i == FLUSH_AFTER_ITERATIONS) {
-          dos.flush();
-          i = 0;
-        }
-      }
-      dos.flush();
-    }
-  }
-
-  private void writeColumn(String fileName, IntColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      writeIntStream(dos, column.intIterator());
-      dos.flush();
-    }
-  }
-
-  // TODO(lwhite): save the column using integer compression?
-  private void writeIntStream(DataOutputStream dos, IntIterator iterator) throws IOException {
-    int i = 0;
-    while (iterator.hasNext()) {
-      dos.writeInt(iterator.nextInt());
-      i++;
-      if (i == FLUSH_AFTER_ITERATIONS) {
-        dos.flush();
-        i = 0;
-      }
-    }
-  }
-
-  private void writeLongStream(DataOutputStream dos, LongIterator iterator) throws IOException {
-    int i = 0;
-    while (iterator.hasNext()) {
-      dos.writeLong(iterator.nextLong());
-      i++;
-      if (i == FLUSH_AFTER_ITERATIONS) {
-        dos.flush();
-        i = 0;
-      }
-    }
-  }
-
-  private void writeColumn(String fileName, ShortColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      int i = 0;
-      ShortIterator iterator = (ShortIterator) column.iterator();
-      while (iterator.hasNext()) {
-        dos.writeShort(iterator.nextShort());
-        i++;
-        if (i == FLUSH_AFTER_ITERATIONS) {
-          dos.flush();
-          i = 0;
-        }
-      }
-      dos.flush();
-    }
-  }
-
-  private void writeColumn(String fileName, LongColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      writeLongStream(dos, column.longIterator());
-      dos.flush();
-    }
-  }
-
-  private void writeColumn(String fileName, DateColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      writeIntStream(dos, column.intIterator());
-      dos.flush();
-    }
-  }
-
-  private void writeColumn(String fileName, DateTimeColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      writeLongStream(dos, column.longIterator());
-      dos.flush();
-    }
-  }
-
-  private void writeColumn(String fileName, InstantColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      writeLongStream(dos, column.longIterator());
-    }
-  }
-
-  private void writeColumn(String fileName, TimeColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      writeIntStream(dos, column.intIterator());
-      dos.flush();
-    }
-  }
-
-  // TODO(lwhite): save the column using compressed bitmap?
-  private void writeColumn(String fileName, BooleanColumn column) throws IOException {
-    try (DataOutputStream dos = columnOutputStream(fileName)) {
-      int i = 0;
-      ByteIterator iterator = column.byteIterator();
-      while (iterator.hasNext()) {
-        dos.writeByte(iterator.nextByte());
-        i++;
-        if (i == FLUSH_AFTER_ITERATIONS) {
-          dos.flush();
-          i = 0;
-        }
-      }
-      dos.flush();
-    }
-  }
-
   /**
    * Writes out a json-formatted representation of the given {@code table}'s metadata to the given
    * {@code file}
@@ -40,12 +40,12 @@ public class TableMetadata {
   // The number of rows in the table
   private int rowCount;
 
-  TableMetadata(Relation table) {
+  TableMetadata(Relation table, WriteOptions options) {
     this.name = table.name();
     this.rowCount = table.rowCount();
 
     for (Column<?> column : table.columns()) {
-      ColumnMetadata metadata = new ColumnMetadata(column);
+      ColumnMetadata metadata = new ColumnMetadata(column, options);
       columnMetadataList.add(metadata);
     }
   }
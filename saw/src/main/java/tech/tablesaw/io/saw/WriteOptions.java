@@ -1,14 +1,20 @@
 package tech.tablesaw.io.saw;
 
 import com.google.common.base.Preconditions;
+import java.util.HashMap;
+import java.util.Map;
+import tech.tablesaw.columns.BlockStatistics;
 
 public class WriteOptions {
 
   private static final int DEFAULT_POOL_SIZE = 10;
+  private static final int DEFAULT_ROW_GROUP_SIZE = BlockStatistics.BLOCK_ROWS;
 
   private int threadPoolSize = DEFAULT_POOL_SIZE;
   private CompressionType compressionType = CompressionType.SNAPPY;
   private EncryptionType encryptionType = EncryptionType.NONE;
+  private int rowGroupSize = DEFAULT_ROW_GROUP_SIZE;
+  private final Map<String, CompressionType> columnCompressionTypes = new HashMap<>();
 
   public static WriteOptions defaultOptions() {
     return new WriteOptions();
@@ -25,6 +31,16 @@ public class WriteOptions {
     return this;
   }
 
+  /**
+   * Sets the compression type for the named column, in place of the one for the table. Columns that
+   * are read often may use a codec that decompresses quickly, and the others one that compresses
+   * well
+   */
+  public WriteOptions compressionType(String columnName, CompressionType compressionType) {
+    columnCompressionTypes.put(columnName, compressionType);
+    return this;
+  }
+
   /**
    * Sets the encryption type for the storage NOTE: This is a placeholder-only, to allow for adding
    * encryption support later without changing the format of the metadata file
@@ -34,6 +50,17 @@ public class WriteOptions {
     return this;
   }
 
+  /**
+   * Sets the number of rows in each row group. The values of a row group are compressed together,
+   * and readers skip the groups whose smallest and largest values show that none of their rows can
+   * pass a filter
+   */
+  public WriteOptions rowGroupSize(int size) {
+    Preconditions.checkArgument(size > 0);
+    this.rowGroupSize = size;
+    return this;
+  }
+
   public int getThreadPoolSize() {
     return threadPoolSize;
   }
@@ -42,7 +69,16 @@ public class WriteOptions {
     return compressionType;
   }
 
+  /** Returns the compression type for the named column */
+  public CompressionType getCompressionType(String columnName) {
+    return columnCompressionTypes.getOrDefault(columnName, compressionType);
+  }
+
   public EncryptionType getEncryptionType() {
     return encryptionType;
   }
+
+  public int getRowGroupSize() {
+    return rowGroupSize;
+  }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.saw;
+
+import com.google.common.base.Stopwatch;
+import java.io.File;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+
+/**
+ * Compares the compression types on each of Tablesaw's common column types: the size each column
+ * takes on disk, and the time it takes to write and to read back
+ */
+public class CompressionPerformanceTest {
+
+  private static final int ROWS = 5_000_000;
+  private static final int RUNS = 5;
+
+  public static void main(String[] args) {
+    Table table = testTable();
+    System.out.println(table.structure());
+    System.out.println();
+    System.out.printf(
+        "%-10s %-12s %14s %10s %10s%n", "codec", "column", "bytes", "write ms", "read ms");
+
+    for (CompressionType compressionType : CompressionType.values()) {
+      for (Column<?> column : table.columns()) {
+        Table oneColumn = Table.create(table.name(), column);
+        WriteOptions options = new WriteOptions().compressionType(compressionType);
+
+        String path = null;
+        Stopwatch writing = Stopwatch.createUnstarted();
+        Stopwatch reading = Stopwatch.createUnstarted();
+        for (int run = 0; run < RUNS; run++) {
+          writing.start();
+          path = new SawWriter("../testoutput/compression", oneColumn, options).write();
+          writing.stop();
+          reading.start();
+          new SawReader(path).read();
+          reading.stop();
+        }
+        ColumnMetadata metadata =
+            SawMetadata.readMetadata(new File(path).toPath()).getColumnMetadataList().get(0);
+        System.out.printf(
+            "%-10s %-12s %14d %10d %10d%n",
+            compressionType,
+            column.name(),
+            new File(path, metadata.getId()).length(),
+            writing.elapsed(TimeUnit.MILLISECONDS) / RUNS,
+            reading.elapsed(TimeUnit.MILLISECONDS) / RUNS);
+      }
+    }
+  }
+
+  /** Returns a table of timestamped readings, with a column of each common type */
+  private static Table testTable() {
+    Random random = new Random(42);
+    IntColumn id = IntColumn.create("id");
+    LongColumn counter = LongColumn.create("counter");
+    DoubleColumn value = DoubleColumn.create("value");
+    DateColumn date = DateColumn.create("date");
+    InstantColumn instant = InstantColumn.create("instant");
+    StringColumn sensor = StringColumn.create("sensor");
+    BooleanColumn alarm = BooleanColumn.create("alarm");
+    LocalDate start = LocalDate.of(2020, 1, 1);
+    Instant epoch = Instant.parse("2020-01-01T00:00:00Z");
+    long total = 0;
+    for (int i = 0; i < ROWS; i++) {
+      id.append(i);
+      total += random.nextInt(100);
+      counter.append(total);
+      value.append(Math.round(random.nextGaussian() * 10_000) / 100.0);
+      date.append(start.plusDays(i / 10_000));
+      instant.append(epoch.plusMillis(i * 250L + random.nextInt(50)));
+      sensor.append("sensor-" + random.nextInt(200));
+      alarm.append(random.nextInt(50) == 0);
+    }
+    return Table.create("readings", id, counter, value, date, instant, sensor, alarm);
+  }
+}
@@ -0,0 +1,80 @@
+package tech.tablesaw.io.saw;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IntegerEncodingTest {
+
+  private static long[] roundTrip(IntegerEncoding encoding, long[] values, int bytes)
+      throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (DataOutputStream dos = new DataOutputStream(out)) {
+      encoding.write(dos, row -> values[row], 0, values.length, bytes);
+    }
+    assertEquals(encoding.size(values, values.length, bytes), out.size());
+    long[] data = new long[values.length + 2];
+    try (DataInputStream dis = new DataInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      encoding.readLongs(dis, data, 1, values.length, bytes);
+      assertEquals(-1, dis.read());
+    }
+    long[] read = new long[values.length];
+    System.arraycopy(data, 1, read, 0, values.length);
+    return read;
+  }
+
+  @Test
+  void encodingsRestoreTheValues() throws IOException {
+    Random random = new Random(42);
+    long[][] samples = {
+      {7},
+      {Long.MIN_VALUE, Long.MAX_VALUE, 0, -1, Long.MIN_VALUE},
+      random.longs(1000).toArray(),
+      random.longs(1000, -5, 5).toArray(),
+      random.longs(777, 1_000_000, 1_000_000 + (1L << 33)).sorted().toArray(),
+      {3, 3, 3, 3, 3, 3},
+    };
+    for (long[] values : samples) {
+      for (IntegerEncoding encoding : IntegerEncoding.values()) {
+        assertArrayEquals(values, roundTrip(encoding, values, Long.BYTES));
+      }
+    }
+    int[] ints = random.ints(5000, Integer.MIN_VALUE, Integer.MAX_VALUE).toArray();
+    long[] values = new long[ints.length];
+    for (int i = 0; i < ints.length; i++) {
+      values[i] = ints[i];
+    }
+    for (IntegerEncoding encoding : IntegerEncoding.values()) {
+      assertArrayEquals(values, roundTrip(encoding, values, Integer.BYTES));
+    }
+    for (int width = 0; width <= Long.SIZE; width++) {
+      long[] packed = random.longs(129).map(value -> value >>> 1).toArray();
+      for (int i = 0; i < packed.length; i++) {
+        packed[i] = width == Long.SIZE ? packed[i] << 1 | i % 2 : packed[i] >>> (63 - width);
+      }
+      assertArrayEquals(packed, roundTrip(IntegerEncoding.BIT_PACKED, packed, Long.BYTES));
+    }
+  }
+
+  @Test
+  void chooseTheSmallestEncoding() {
+    assertEquals(
+        IntegerEncoding.DELTA,
+        IntegerEncoding.choose(row -> 1_000_000L + 3L * row, 10_000, 1000, 8));
+    assertEquals(
+        IntegerEncoding.BIT_PACKED,
+        IntegerEncoding.choose(row -> row * 7919 % 100, 10_000, 1000, 4));
+    assertEquals(
+        IntegerEncoding.RUN_LENGTH, IntegerEncoding.choose(row -> row / 2500, 10_000, 1000, 1));
+    Random random = new Random(7);
+    long[] values = random.longs(1000).toArray();
+    assertEquals(IntegerEncoding.PLAIN, IntegerEncoding.choose(row -> values[row], 1000, 100, 8));
+  }
+}
@@ -16,25 +16,38 @@ package tech.tablesaw.io.saw;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.tablesaw.api.ColumnType.INSTANT;
 import static tech.tablesaw.api.ColumnType.TEXT;
 
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.FloatColumn;
 import tech.tablesaw.api.InstantColumn;
 import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.selection.Selection;
 
 /** Tests for reading and writing saw files */
 class SawStorageTest {
@@ -325,4 +338,300 @@ class SawStorageTest {
         wines.stringColumn("index2").getDictionary(),
         table1.stringColumn("index2").getDictionary());
   }
+
+  /** Returns a table of readings ordered by date, with 100 readings a day */
+  private static Table readings() {
+    DateColumn date = DateColumn.create("date");
+    IntColumn id = IntColumn.create("id");
+    DoubleColumn value = DoubleColumn.create("value");
+    StringColumn name = StringColumn.create("name");
+    BooleanColumn flag = BooleanColumn.create("flag");
+    LocalDate start = LocalDate.of(2020, 1, 1);
+    for (int i = 0; i < 36_500; i++) {
+      date.append(start.plusDays(i / 100));
+      id.append(i);
+      if (i % 37 == 0) {
+        value.appendMissing();
+      } else {
+        value.append(i % 1000 / 10.0);
+      }
+      name.append("name " + (i / 5000) + "-" + (i % 3));
+      flag.append(i % 2 == 0);
+    }
+    return Table.create("readings", date, id, value, name, flag);
+  }
+
+  private static void assertSameRows(Table expected, Table actual) {
+    assertEquals(expected.columnNames(), actual.columnNames());
+    assertEquals(expected.rowCount(), actual.rowCount());
+    for (int i = 0; i < expected.columnCount(); i++) {
+      assertEquals(expected.column(i).asList(), actual.column(i).asList());
+    }
+  }
+
+  @Test
+  void readRange() {
+    Table readings = readings();
+    String path =
+        new SawWriter("../testoutput/readings", readings, new WriteOptions().rowGroupSize(1000))
+            .write();
+    LocalDate day = LocalDate.of(2020, 6, 30);
+    Table table = new SawReader(path, new ReadOptions().range("date", day, day)).read();
+    assertSameRows(readings.where(readings.dateColumn("date").isEqualTo(day)), table);
+    assertEquals(3, table.stringColumn("name").countUnique());
+
+    table =
+        new SawReader(
+                path,
+                new ReadOptions()
+                    .selectedColumns("id", "name")
+                    .range("date", day, day.plusDays(30))
+                    .range("value", 10, 20.5))
+            .read();
+    Selection expected =
+        readings
+            .dateColumn("date")
+            .isBetweenIncluding(day, day.plusDays(30))
+            .and(readings.doubleColumn("value").isBetweenInclusive(10, 20.5));
+    assertSameRows(readings.where(expected).selectColumns("id", "name"), table);
+
+    assertEquals(0, new SawReader(path, new ReadOptions().range("id", -10, -1)).read().rowCount());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new SawReader(path, new ReadOptions().range("id", day, day)).read());
+  }
+
+  @Test
+  void readRowFilter() {
+    Table readings = readings();
+    String path =
+        new SawWriter("../testoutput/readings", readings, new WriteOptions().rowGroupSize(1000))
+            .write();
+    Table table =
+        new SawReader(
+                path,
+                new ReadOptions()
+                    .selectedColumns("date", "value", "flag")
+                    .range("id", 5_000, 20_000)
+                    .rowFilter(t -> t.stringColumn("name").startsWith("name 2"), "name"))
+            .read();
+    Selection expected =
+        readings
+            .intColumn("id")
+            .isBetweenInclusive(5_000, 20_000)
+            .and(readings.stringColumn("name").startsWith("name 2"));
+    assertSameRows(readings.where(expected).selectColumns("date", "value", "flag"), table);
+
+    table =
+        new SawReader(path, new ReadOptions().rowFilter(t -> t.booleanColumn("flag").isFalse()))
+            .read();
+    assertSameRows(readings.where(readings.booleanColumn("flag").isFalse()), table);
+  }
+
+  @Test
+  void rangeSkipsRowGroups() throws IOException {
+    Table readings = readings();
+    String path =
+        new SawWriter("../testoutput/readings", readings, new WriteOptions().rowGroupSize(1000))
+            .write();
+
+    // spoil the first row group of the values, which no read of a later date needs
+    SawMetadata metadata = SawMetadata.readMetadata(Paths.get(path));
+    ColumnMetadata values = metadata.getColumnMetadataList().get(2);
+    long[] offsets = values.getRowGroupOffsets();
+    byte[] garbage = new byte[(int) (offsets[1] - offsets[0])];
+    Arrays.fill(garbage, (byte) -1);
+    try (RandomAccessFile file =
+        new RandomAccessFile(Paths.get(path).resolve(values.getId()).toFile(), "rw")) {
+      file.seek(offsets[0]);
+      file.write(garbage);
+    }
+
+    LocalDate day = LocalDate.of(2020, 3, 1);
+    Table table = new SawReader(path, new ReadOptions().range("date", day, day)).read();
+    assertSameRows(readings.where(readings.dateColumn("date").isEqualTo(day)), table);
+    assertThrows(IllegalStateException.class, () -> new SawReader(path).read());
+  }
+
+  @Test
+  void readRowRange() {
+    Table readings = readings();
+    String path =
+        new SawWriter("../testoutput/readings", readings, new WriteOptions().rowGroupSize(1000))
+            .write();
+    SawReader reader = new SawReader(path);
+    assertSameRows(readings.inRange(2_500, 7_250), reader.read(2_500, 7_250));
+    assertSameRows(readings.inRange(1_000, 2_000), reader.read(1_000, 2_000));
+    assertSameRows(readings.inRange(36_000, 36_500), reader.read(36_000, 36_500));
+    assertEquals(0, reader.read(300, 300).rowCount());
+    assertThrows(IllegalArgumentException.class, () -> reader.read(0, 36_501));
+
+    Table table =
+        new SawReader(path, new ReadOptions().selectedColumns("id").range("value", 0, 5))
+            .read(2_500, 7_250);
+    Table expected = readings.inRange(2_500, 7_250);
+    assertSameRows(
+        expected.where(expected.doubleColumn("value").isBetweenInclusive(0, 5)).selectColumns("id"),
+        table);
+  }
+
+  @Test
+  void readLongColumnOnManyThreads() {
+    LongColumn values = LongColumn.create("values");
+    for (long i = 0; i < 1_000_000; i++) {
+      values.append(i * i % 7919);
+    }
+    Table longs = Table.create("longs", values);
+    String path =
+        new SawWriter("../testoutput/longs", longs, new WriteOptions().rowGroupSize(10_000))
+            .write();
+    Table table = new SawReader(path, new ReadOptions().threadPoolSize(4)).read();
+    assertSameRows(longs, table);
+  }
+
+  @Test
+  void readMemoryMapped() {
+    Table readings = readings();
+    Random random = new Random(11);
+    LongColumn noise = LongColumn.create("noise", random.longs(readings.rowCount()).toArray());
+    FloatColumn ratio = FloatColumn.create("ratio");
+    for (int i = 0; i < readings.rowCount(); i++) {
+      ratio.append(random.nextFloat());
+    }
+    readings.addColumns(noise, ratio);
+    String path =
+        new SawWriter(
+                "../testoutput/readings",
+                readings,
+                new WriteOptions().rowGroupSize(1000).compressionType(CompressionType.NONE))
+            .write();
+    assertEquals(
+        IntegerEncoding.PLAIN,
+        SawMetadata.readMetadata(Paths.get(path)).getColumnMetadataList().get(5).integerEncoding());
+
+    SawReader reader = new SawReader(path, new ReadOptions().memoryMapped(true));
+    assertSameRows(readings, reader.read());
+    assertSameRows(readings.inRange(2_500, 7_250), reader.read(2_500, 7_250));
+    Table table =
+        new SawReader(path, new ReadOptions().memoryMapped(true).range("value", 0, 5)).read();
+    assertSameRows(readings.where(readings.doubleColumn("value").isBetweenInclusive(0, 5)), table);
+  }
+
+  @Test
+  void compressionTypes() {
+    Table readings = readings();
+    for (CompressionType compressionType : CompressionType.values()) {
+      String path =
+          new SawWriter(
+                  "../testoutput/readings",
+                  readings,
+                  new WriteOptions().rowGroupSize(1000).compressionType(compressionType))
+              .write();
+      assertSameRows(readings, new SawReader(path).read());
+    }
+  }
+
+  @Test
+  void compressionTypePerColumn() {
+    Table readings = readings();
+    String path =
+        new SawWriter(
+                "../testoutput/readings",
+                readings,
+                new WriteOptions()
+                    .rowGroupSize(1000)
+                    .compressionType(CompressionType.NONE)
+                    .compressionType("name", CompressionType.ZSTD)
+                    .compressionType("value", CompressionType.LZ4))
+            .write();
+    SawMetadata metadata = SawMetadata.readMetadata(Paths.get(path));
+    assertEquals(
+        CompressionType.NONE, metadata.getColumnMetadataList().get(0).getCompressionType());
+    assertEquals(CompressionType.LZ4, metadata.getColumnMetadataList().get(2).getCompressionType());
+    assertEquals(
+        CompressionType.ZSTD, metadata.getColumnMetadataList().get(3).getCompressionType());
+    assertSameRows(readings, new SawReader(path).read());
+    assertSameRows(readings, new SawReader(path, new ReadOptions().memoryMapped(true)).read());
+  }
+
+  /** Returns the table that the files in src/test/resources/version2 were written from */
+  private static Table version2Table() {
+    Table table =
+        Table.create(
+            "version2",
+            ShortColumn.create("short"),
+            IntColumn.create("int"),
+            LongColumn.create("long"),
+            FloatColumn.create("float"),
+            DoubleColumn.create("double"),
+            BooleanColumn.create("bool"),
+            StringColumn.create("string"),
+            TextColumn.create("text"),
+            DateColumn.create("date"),
+            TimeColumn.create("time"),
+            DateTimeColumn.create("dateTime"),
+            InstantColumn.create("instant"));
+    for (int i = 0; i < 500; i++) {
+      if (i % 7 == 3) {
+        for (int c = 0; c < table.columnCount(); c++) {
+          table.column(c).appendMissing();
+        }
+        continue;
+      }
+      table.shortColumn("short").append((short) (i - 250));
+      table.intColumn("int").append(i * 1_000_003);
+      table.longColumn("long").append(i * 3_000_000_019L - 100);
+      table.floatColumn("float").append(i / 4f);
+      table.doubleColumn("double").append(Math.sqrt(i));
+      table.booleanColumn("bool").append(i % 3 == 0);
+      table.stringColumn("string").append("category" + i % 5);
+      table.textColumn("text").append("text " + i);
+      table.dateColumn("date").append(LocalDate.of(2000, 1, 1).plusDays(i * 13));
+      table.timeColumn("time").append(LocalTime.of(0, 0).plusSeconds(i * 173L));
+      table
+          .dateTimeColumn("dateTime")
+          .append(LocalDateTime.of(2000, 1, 1, 0, 0).plusMinutes(i * 997L));
+      table.instantColumn("instant").append(Instant.ofEpochSecond(946_684_800L + i * 86_413L));
+    }
+    return table;
+  }
+
+  @Test
+  void readVersion2Files() {
+    Table expected = version2Table();
+    for (String compression : new String[] {"snappy", "none"}) {
+      String path = "src/test/resources/version2/" + compression + "/version2.saw";
+      SawMetadata metadata = SawMetadata.readMetadata(Paths.get(path));
+      assertEquals(2, metadata.getVersion());
+      assertSameRows(expected, new SawReader(path).read());
+      assertSameRows(expected, new SawReader(path, new ReadOptions().memoryMapped(true)).read());
+      assertSameRows(
+          expected.where(expected.intColumn("int").isBetweenInclusive(0, 100_000_000)),
+          new SawReader(path, new ReadOptions().range("int", 0, 100_000_000)).read());
+    }
+  }
+
+  @Test
+  void rangesLeaveOutMissingValues() {
+    Table table = version2Table();
+    String path = new SawWriter("../testoutput/version2", table).write();
+    int present = table.rowCount() - table.intColumn("int").countMissing();
+    ReadOptions[] ranges = {
+      new ReadOptions().range("int", Integer.MIN_VALUE, Integer.MAX_VALUE),
+      new ReadOptions().range("short", Short.MIN_VALUE, Short.MAX_VALUE),
+      new ReadOptions().range("date", LocalDate.of(1000, 1, 1), LocalDate.of(3000, 1, 1)),
+      new ReadOptions().range("time", LocalTime.MIN, LocalTime.MAX),
+      new ReadOptions()
+          .range(
+              "dateTime", LocalDateTime.of(1000, 1, 1, 0, 0), LocalDateTime.of(3000, 1, 1, 0, 0)),
+      new ReadOptions()
+          .range(
+              "instant",
+              Instant.parse("1000-01-01T00:00:00Z"),
+              Instant.parse("3000-01-01T00:00:00Z"))
+    };
+    for (ReadOptions options : ranges) {
+      assertEquals(present, new SawReader(path, options).read().rowCount());
+    }
+  }
 }